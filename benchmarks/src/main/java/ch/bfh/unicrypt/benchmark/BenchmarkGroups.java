@@ -0,0 +1,131 @@
+/*
+ * UniCrypt
+ *
+ *  UniCrypt(tm): Cryptographical framework allowing the implementation of cryptographic protocols e.g. e-voting
+ *  Copyright (c) 2016 Bern University of Applied Sciences (BFH), Research Institute for
+ *  Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *  Quellgasse 21, CH-2501 Biel, Switzerland
+ *
+ *  Licensed under Dual License consisting of:
+ *  1. GNU Affero General Public License (AGPL) v3
+ *  and
+ *  2. Commercial license
+ *
+ *
+ *  1. This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ *  2. Licensees holding valid commercial licenses for UniCrypt may use this file in
+ *   accordance with the commercial license agreement provided with the
+ *   Software or, alternatively, in accordance with the terms contained in
+ *   a written agreement between you and Bern University of Applied Sciences (BFH), Research Institute for
+ *   Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *   Quellgasse 21, CH-2501 Biel, Switzerland.
+ *
+ *
+ *   For further information contact <e-mail: unicrypt@bfh.ch>
+ *
+ *
+ * Redistributions of files must retain the above copyright notice.
+ */
+package ch.bfh.unicrypt.benchmark;
+
+import ch.bfh.unicrypt.math.algebra.additive.classes.ECZModPrime;
+import ch.bfh.unicrypt.math.algebra.additive.parameters.ECZModPrimeParameters;
+import ch.bfh.unicrypt.math.algebra.general.interfaces.CyclicGroup;
+import ch.bfh.unicrypt.math.algebra.multiplicative.classes.GStarModSafePrime;
+import java.math.BigInteger;
+
+/**
+ * This class provides the cyclic groups used as benchmark parameters. The groups are identified by their names, which
+ * are either {@code MODP1024}, {@code MODP2048}, {@code MODP3072} for the subgroups of quadratic residues modulo the
+ * corresponding safe primes of RFC 2409 and RFC 3526, or the name of one of the elliptic curves bundled in
+ * {@link ECZModPrimeParameters} such as {@code SECP256r1}.
+ * <p>
+ * @author R. Haenni
+ * @version 2.0
+ */
+public final class BenchmarkGroups {
+
+	// 1024-bit MODP group 2 of RFC 2409
+	private static final String MODP1024
+		   = "FFFFFFFFFFFFFFFFC90FDAA22168C234C4C6628B80DC1CD129024E088A67CC74020BBEA63B139B22514A08798E3404DD"
+		   + "EF9519B3CD3A431B302B0A6DF25F14374FE1356D6D51C245E485B576625E7EC6F44C42E9A637ED6B0BFF5CB6F406B7ED"
+		   + "EE386BFB5A899FA5AE9F24117C4B1FE649286651ECE65381FFFFFFFFFFFFFFFF";
+
+	// 2048-bit MODP group 14 of RFC 3526
+	private static final String MODP2048
+		   = "FFFFFFFFFFFFFFFFC90FDAA22168C234C4C6628B80DC1CD129024E088A67CC74020BBEA63B139B22514A08798E3404DD"
+		   + "EF9519B3CD3A431B302B0A6DF25F14374FE1356D6D51C245E485B576625E7EC6F44C42E9A637ED6B0BFF5CB6F406B7ED"
+		   + "EE386BFB5A899FA5AE9F24117C4B1FE649286651ECE45B3DC2007CB8A163BF0598DA48361C55D39A69163FA8FD24CF5F"
+		   + "83655D23DCA3AD961C62F356208552BB9ED529077096966D670C354E4ABC9804F1746C08CA18217C32905E462E36CE3B"
+		   + "E39E772C180E86039B2783A2EC07A28FB5C55DF06F4C52C9DE2BCBF6955817183995497CEA956AE515D2261898FA0510"
+		   + "15728E5A8AACAA68FFFFFFFFFFFFFFFF";
+
+	// 3072-bit MODP group 15 of RFC 3526
+	private static final String MODP3072
+		   = "FFFFFFFFFFFFFFFFC90FDAA22168C234C4C6628B80DC1CD129024E088A67CC74020BBEA63B139B22514A08798E3404DD"
+		   + "EF9519B3CD3A431B302B0A6DF25F14374FE1356D6D51C245E485B576625E7EC6F44C42E9A637ED6B0BFF5CB6F406B7ED"
+		   + "EE386BFB5A899FA5AE9F24117C4B1FE649286651ECE45B3DC2007CB8A163BF0598DA48361C55D39A69163FA8FD24CF5F"
+		   + "83655D23DCA3AD961C62F356208552BB9ED529077096966D670C354E4ABC9804F1746C08CA18217C32905E462E36CE3B"
+		   + "E39E772C180E86039B2783A2EC07A28FB5C55DF06F4C52C9DE2BCBF6955817183995497CEA956AE515D2261898FA0510"
+		   + "15728E5A8AAAC42DAD33170D04507A33A85521ABDF1CBA64ECFB850458DBEF0A8AEA71575D060C7DB3970F85A6E1E4C7"
+		   + "ABF5AE8CDB0933D71E8C94E04A25619DCEE3D2261AD2EE6BF12FFA06D98A0864D87602733EC86A64521F2B18177B200C"
+		   + "BBE117577A615D6C770988C0BAD946E208E24FA074E5AB3143DB5BFCE0FD108E4B82D120A93AD2CAFFFFFFFFFFFFFFFF";
+
+	private BenchmarkGroups() {
+	}
+
+	/**
+	 * Returns the cyclic group of a given name.
+	 * <p>
+	 * @param name The name of the cyclic group
+	 * @return The cyclic group
+	 */
+	public static CyclicGroup getCyclicGroup(final String name) {
+		switch (name) {
+			case "MODP1024":
+				return GStarModSafePrime.getInstance(new BigInteger(MODP1024, 16));
+			case "MODP2048":
+				return GStarModSafePrime.getInstance(new BigInteger(MODP2048, 16));
+			case "MODP3072":
+				return GStarModSafePrime.getInstance(new BigInteger(MODP3072, 16));
+			default:
+				try {
+					ECZModPrimeParameters parameters
+						   = (ECZModPrimeParameters) ECZModPrimeParameters.class.getField(name).get(null);
+					return ECZModPrime.getInstance(parameters);
+				} catch (NoSuchFieldException | IllegalAccessException exception) {
+					throw new IllegalArgumentException(name);
+				}
+		}
+	}
+
+	/**
+	 * Returns an array of random exponents for a given cyclic group. The exponents are uniformly distributed over
+	 * {@code [0,q-1]}, where {@code q} denotes the order of the group.
+	 * <p>
+	 * @param cyclicGroup The cyclic group
+	 * @param length      The number of exponents
+	 * @return The array of random exponents
+	 */
+	public static BigInteger[] getRandomExponents(final CyclicGroup cyclicGroup, final int length) {
+		final BigInteger[] exponents = new BigInteger[length];
+		for (int i = 0; i < length; i++) {
+			exponents[i] = cyclicGroup.getZModOrder().getRandomElement().getValue();
+		}
+		return exponents;
+	}
+
+}
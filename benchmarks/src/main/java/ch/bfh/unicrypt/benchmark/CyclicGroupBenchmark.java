@@ -0,0 +1,136 @@
+/*
+ * UniCrypt
+ *
+ *  UniCrypt(tm): Cryptographical framework allowing the implementation of cryptographic protocols e.g. e-voting
+ *  Copyright (c) 2016 Bern University of Applied Sciences (BFH), Research Institute for
+ *  Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *  Quellgasse 21, CH-2501 Biel, Switzerland
+ *
+ *  Licensed under Dual License consisting of:
+ *  1. GNU Affero General Public License (AGPL) v3
+ *  and
+ *  2. Commercial license
+ *
+ *
+ *  1. This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ *  2. Licensees holding valid commercial licenses for UniCrypt may use this file in
+ *   accordance with the commercial license agreement provided with the
+ *   Software or, alternatively, in accordance with the terms contained in
+ *   a written agreement between you and Bern University of Applied Sciences (BFH), Research Institute for
+ *   Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *   Quellgasse 21, CH-2501 Biel, Switzerland.
+ *
+ *
+ *   For further information contact <e-mail: unicrypt@bfh.ch>
+ *
+ *
+ * Redistributions of files must retain the above copyright notice.
+ */
+package ch.bfh.unicrypt.benchmark;
+
+import ch.bfh.unicrypt.math.algebra.general.classes.PrecomputedBase;
+import ch.bfh.unicrypt.math.algebra.general.interfaces.CyclicGroup;
+import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the exponentiation (or scalar multiplication) in multiplicative groups of quadratic residues modulo
+ * a safe prime and in elliptic curves over prime fields. This includes plain exponentiations, exponentiations with
+ * precomputed tables for a fixed base (public exponents only), and multi-exponentiations of a given batch size
+ * with secret and with public exponents.
+ * <p>
+ * @author R. Haenni
+ * @version 2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CyclicGroupBenchmark {
+
+	@Param({"MODP1024", "MODP2048", "MODP3072", "SECP256r1", "SECP384r1", "SECP521r1"})
+	public String group;
+
+	private CyclicGroup cyclicGroup;
+	private Element base;
+	private Element fixedBase;
+	private PrecomputedBase precomputedBase;
+	private BigInteger exponent;
+
+	@Setup
+	public void setup() {
+		this.cyclicGroup = BenchmarkGroups.getCyclicGroup(this.group);
+		this.base = this.cyclicGroup.getRandomElement();
+		this.fixedBase = this.cyclicGroup.getDefaultGenerator();
+		this.precomputedBase = this.cyclicGroup.precompute(this.fixedBase);
+		this.exponent = BenchmarkGroups.getRandomExponents(this.cyclicGroup, 1)[0];
+	}
+
+	@Benchmark
+	public Element selfApply() {
+		return this.base.selfApply(this.exponent);
+	}
+
+	@Benchmark
+	public Element precomputedSelfApply() {
+		return this.precomputedBase.selfApplyPublic(this.exponent);
+	}
+
+	@Benchmark
+	public Element multiSelfApply(final Batch batch) {
+		return this.cyclicGroup.multiSelfApply(batch.bases, batch.exponents);
+	}
+
+	@Benchmark
+	public Element multiSelfApplyPublic(final Batch batch) {
+		return this.cyclicGroup.multiSelfApplyPublic(batch.bases, batch.exponents);
+	}
+
+	@State(Scope.Benchmark)
+	public static class Batch {
+
+		@Param({"10", "100", "1000"})
+		public int batchSize;
+
+		private Element[] bases;
+		private BigInteger[] exponents;
+
+		@Setup
+		public void setup(final CyclicGroupBenchmark benchmark) {
+			this.bases = new Element[this.batchSize];
+			for (int i = 0; i < this.batchSize; i++) {
+				this.bases[i] = benchmark.cyclicGroup.getRandomElement();
+			}
+			this.exponents = BenchmarkGroups.getRandomExponents(benchmark.cyclicGroup, this.batchSize);
+		}
+
+	}
+
+}
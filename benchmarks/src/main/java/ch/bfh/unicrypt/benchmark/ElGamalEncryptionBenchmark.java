@@ -0,0 +1,110 @@
+/*
+ * UniCrypt
+ *
+ *  UniCrypt(tm): Cryptographical framework allowing the implementation of cryptographic protocols e.g. e-voting
+ *  Copyright (c) 2016 Bern University of Applied Sciences (BFH), Research Institute for
+ *  Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *  Quellgasse 21, CH-2501 Biel, Switzerland
+ *
+ *  Licensed under Dual License consisting of:
+ *  1. GNU Affero General Public License (AGPL) v3
+ *  and
+ *  2. Commercial license
+ *
+ *
+ *  1. This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ *  2. Licensees holding valid commercial licenses for UniCrypt may use this file in
+ *   accordance with the commercial license agreement provided with the
+ *   Software or, alternatively, in accordance with the terms contained in
+ *   a written agreement between you and Bern University of Applied Sciences (BFH), Research Institute for
+ *   Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *   Quellgasse 21, CH-2501 Biel, Switzerland.
+ *
+ *
+ *   For further information contact <e-mail: unicrypt@bfh.ch>
+ *
+ *
+ * Redistributions of files must retain the above copyright notice.
+ */
+package ch.bfh.unicrypt.benchmark;
+
+import ch.bfh.unicrypt.crypto.schemes.encryption.classes.ElGamalEncryptionScheme;
+import ch.bfh.unicrypt.math.algebra.general.classes.Pair;
+import ch.bfh.unicrypt.math.algebra.general.interfaces.CyclicGroup;
+import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the encryption, re-encryption, and decryption of {@link ElGamalEncryptionScheme}.
+ * <p>
+ * @author R. Haenni
+ * @version 2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ElGamalEncryptionBenchmark {
+
+	@Param({"MODP1024", "MODP2048", "MODP3072", "SECP256r1", "SECP384r1", "SECP521r1"})
+	public String group;
+
+	private ElGamalEncryptionScheme elGamal;
+	private Element privateKey;
+	private Element publicKey;
+	private Element message;
+	private Pair ciphertext;
+
+	@Setup
+	public void setup() {
+		CyclicGroup cyclicGroup = BenchmarkGroups.getCyclicGroup(this.group);
+		this.elGamal = ElGamalEncryptionScheme.getInstance(cyclicGroup.getRandomGenerator());
+		Pair keyPair = this.elGamal.getKeyPairGenerator().generateKeyPair();
+		this.privateKey = keyPair.getFirst();
+		this.publicKey = keyPair.getSecond();
+		this.message = this.elGamal.getMessageSpace().getRandomElement();
+		this.ciphertext = this.elGamal.encrypt(this.publicKey, this.message);
+	}
+
+	@Benchmark
+	public Pair encrypt() {
+		return this.elGamal.encrypt(this.publicKey, this.message);
+	}
+
+	@Benchmark
+	public Pair reEncrypt() {
+		return this.elGamal.reEncrypt(this.publicKey, this.ciphertext);
+	}
+
+	@Benchmark
+	public Element decrypt() {
+		return this.elGamal.decrypt(this.privateKey, this.ciphertext);
+	}
+
+}
@@ -0,0 +1,137 @@
+/*
+ * UniCrypt
+ *
+ *  UniCrypt(tm): Cryptographical framework allowing the implementation of cryptographic protocols e.g. e-voting
+ *  Copyright (c) 2016 Bern University of Applied Sciences (BFH), Research Institute for
+ *  Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *  Quellgasse 21, CH-2501 Biel, Switzerland
+ *
+ *  Licensed under Dual License consisting of:
+ *  1. GNU Affero General Public License (AGPL) v3
+ *  and
+ *  2. Commercial license
+ *
+ *
+ *  1. This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ *  2. Licensees holding valid commercial licenses for UniCrypt may use this file in
+ *   accordance with the commercial license agreement provided with the
+ *   Software or, alternatively, in accordance with the terms contained in
+ *   a written agreement between you and Bern University of Applied Sciences (BFH), Research Institute for
+ *   Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *   Quellgasse 21, CH-2501 Biel, Switzerland.
+ *
+ *
+ *   For further information contact <e-mail: unicrypt@bfh.ch>
+ *
+ *
+ * Redistributions of files must retain the above copyright notice.
+ */
+package ch.bfh.unicrypt.benchmark;
+
+import ch.bfh.unicrypt.crypto.mixer.classes.ReEncryptionMixer;
+import ch.bfh.unicrypt.crypto.proofsystem.classes.ReEncryptionShuffleProofSystem;
+import ch.bfh.unicrypt.crypto.schemes.commitment.classes.PermutationCommitmentScheme;
+import ch.bfh.unicrypt.crypto.schemes.encryption.classes.ElGamalEncryptionScheme;
+import ch.bfh.unicrypt.math.algebra.general.classes.PermutationElement;
+import ch.bfh.unicrypt.math.algebra.general.classes.Tuple;
+import ch.bfh.unicrypt.math.algebra.general.interfaces.CyclicGroup;
+import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for shuffling a list of ElGamal ciphertexts using {@link ReEncryptionMixer} and for generating and
+ * verifying the corresponding shuffle proofs using {@link ReEncryptionShuffleProofSystem}.
+ * <p>
+ * @author R. Haenni
+ * @version 2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class ShuffleBenchmark {
+
+	@Param({"MODP2048", "SECP256r1"})
+	public String group;
+
+	@Param({"10", "100", "1000"})
+	public int size;
+
+	private ReEncryptionMixer mixer;
+	private ReEncryptionShuffleProofSystem proofSystem;
+	private Tuple ciphertexts;
+	private Tuple privateInput;
+	private Tuple publicInput;
+	private Tuple proof;
+
+	@Setup
+	public void setup() {
+		CyclicGroup cyclicGroup = BenchmarkGroups.getCyclicGroup(this.group);
+		ElGamalEncryptionScheme elGamal = ElGamalEncryptionScheme.getInstance(cyclicGroup.getDefaultGenerator());
+		Element publicKey = elGamal.getKeyPairGenerator().generateKeyPair().getSecond();
+		Element[] elements = new Element[this.size];
+		for (int i = 0; i < this.size; i++) {
+			elements[i] = elGamal.encrypt(publicKey, elGamal.getMessageSpace().getRandomElement());
+		}
+		this.ciphertexts = Tuple.getInstance(elements);
+		this.mixer = ReEncryptionMixer.getInstance(elGamal, publicKey, this.size);
+		this.proofSystem = ReEncryptionShuffleProofSystem.getInstance(this.size, elGamal, publicKey);
+
+		// shuffle the ciphertexts and commit to the permutation
+		PermutationElement permutation = this.mixer.getPermutationGroup().getRandomElement();
+		Tuple randomizations = this.mixer.generateRandomizations();
+		Tuple shuffledCiphertexts = this.mixer.shuffle(this.ciphertexts, permutation, randomizations);
+		PermutationCommitmentScheme commitmentScheme = PermutationCommitmentScheme.getInstance(cyclicGroup, this.size);
+		Tuple commitmentRandomizations = commitmentScheme.getRandomizationSpace().getRandomElement();
+		Tuple permutationCommitment = commitmentScheme.commit(permutation, commitmentRandomizations);
+
+		this.privateInput = Tuple.getInstance(permutation, commitmentRandomizations, randomizations);
+		this.publicInput = Tuple.getInstance(permutationCommitment, this.ciphertexts, shuffledCiphertexts);
+		this.proof = this.proofSystem.generate(this.privateInput, this.publicInput);
+		if (!this.proofSystem.verify(this.proof, this.publicInput)) {
+			throw new IllegalStateException();
+		}
+	}
+
+	@Benchmark
+	public Tuple shuffle() {
+		return this.mixer.shuffle(this.ciphertexts);
+	}
+
+	@Benchmark
+	public Tuple generateProof() {
+		return this.proofSystem.generate(this.privateInput, this.publicInput);
+	}
+
+	@Benchmark
+	public boolean verifyProof() {
+		return this.proofSystem.verify(this.proof, this.publicInput);
+	}
+
+}
@@ -0,0 +1,117 @@
+/*
+ * UniCrypt
+ *
+ *  UniCrypt(tm): Cryptographical framework allowing the implementation of cryptographic protocols e.g. e-voting
+ *  Copyright (c) 2016 Bern University of Applied Sciences (BFH), Research Institute for
+ *  Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *  Quellgasse 21, CH-2501 Biel, Switzerland
+ *
+ *  Licensed under Dual License consisting of:
+ *  1. GNU Affero General Public License (AGPL) v3
+ *  and
+ *  2. Commercial license
+ *
+ *
+ *  1. This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ *  2. Licensees holding valid commercial licenses for UniCrypt may use this file in
+ *   accordance with the commercial license agreement provided with the
+ *   Software or, alternatively, in accordance with the terms contained in
+ *   a written agreement between you and Bern University of Applied Sciences (BFH), Research Institute for
+ *   Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *   Quellgasse 21, CH-2501 Biel, Switzerland.
+ *
+ *
+ *   For further information contact <e-mail: unicrypt@bfh.ch>
+ *
+ *
+ * Redistributions of files must retain the above copyright notice.
+ */
+package ch.bfh.unicrypt.benchmark;
+
+import ch.bfh.unicrypt.crypto.proofsystem.classes.PlainPreimageProofSystem;
+import ch.bfh.unicrypt.math.algebra.general.interfaces.CyclicGroup;
+import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
+import ch.bfh.unicrypt.math.function.classes.GeneratorFunction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for verifying a batch of discrete logarithm proofs generated by {@link PlainPreimageProofSystem}, either
+ * one by one or using batch verification.
+ * <p>
+ * @author R. Haenni
+ * @version 2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SigmaProofBenchmark {
+
+	@Param({"MODP2048", "SECP256r1"})
+	public String group;
+
+	@Param({"10", "100", "1000"})
+	public int batchSize;
+
+	private PlainPreimageProofSystem proofSystem;
+	private List<Element> proofs;
+	private List<Element> publicInputs;
+
+	@Setup
+	public void setup() {
+		CyclicGroup cyclicGroup = BenchmarkGroups.getCyclicGroup(this.group);
+		GeneratorFunction function = GeneratorFunction.getInstance(cyclicGroup.getDefaultGenerator());
+		this.proofSystem = PlainPreimageProofSystem.getInstance(function);
+		this.proofs = new ArrayList<>();
+		this.publicInputs = new ArrayList<>();
+		for (int i = 0; i < this.batchSize; i++) {
+			Element privateInput = function.getDomain().getRandomElement();
+			Element publicInput = function.apply(privateInput);
+			this.proofs.add(this.proofSystem.generate(privateInput, publicInput));
+			this.publicInputs.add(publicInput);
+		}
+	}
+
+	@Benchmark
+	public boolean verify() {
+		boolean result = true;
+		for (int i = 0; i < this.batchSize; i++) {
+			result = result && this.proofSystem.verify(this.proofs.get(i), this.publicInputs.get(i));
+		}
+		return result;
+	}
+
+	@Benchmark
+	public boolean verifyBatch() {
+		return this.proofSystem.verifyBatch(this.proofs, this.publicInputs);
+	}
+
+}
@@ -43,8 +43,13 @@ package ch.bfh.unicrypt.crypto.mixer.abstracts;
 
 import ch.bfh.unicrypt.crypto.mixer.interfaces.Mixer;
 import ch.bfh.unicrypt.helper.array.interfaces.ImmutableArray;
+import ch.bfh.unicrypt.helper.concurrent.Parallel;
+import ch.bfh.unicrypt.helper.math.Permutation;
 import ch.bfh.unicrypt.helper.random.RandomByteSequence;
 import ch.bfh.unicrypt.helper.random.hybrid.HybridRandomByteSequence;
+import ch.bfh.unicrypt.helper.sequence.Sequence;
+import ch.bfh.unicrypt.helper.sequence.SequenceIterator;
+import ch.bfh.unicrypt.math.algebra.general.classes.MappedElementArray;
 import ch.bfh.unicrypt.math.algebra.general.classes.PermutationElement;
 import ch.bfh.unicrypt.math.algebra.general.classes.PermutationGroup;
 import ch.bfh.unicrypt.math.algebra.general.classes.ProductSet;
@@ -53,6 +58,11 @@ import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Set;
 import ch.bfh.unicrypt.math.function.classes.PermutationFunction;
 import ch.bfh.unicrypt.math.function.interfaces.Function;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Executor;
 
 /**
  *
@@ -63,6 +73,9 @@ import ch.bfh.unicrypt.math.function.interfaces.Function;
 public abstract class AbstractMixer<C extends Set, R extends Set>
 	   implements Mixer {
 
+	// the number of shuffled elements computed in parallel before writing them to a file
+	private static final int CHUNK_SIZE = 1 << 12;
+
 	final private int size;
 
 	private Function shuffleFunction;
@@ -129,6 +142,91 @@ public abstract class AbstractMixer<C extends Set, R extends Set>
 		return this.getPermutationFunction().apply(Tuple.getInstance(elementsPrime), permutation);
 	}
 
+	@Override
+	public final Tuple shuffle(final Tuple elements, final RandomByteSequence randomByteSequence,
+		   final Executor executor) {
+		// the permutation and the randomizations are generated sequentially to obtain deterministic results
+		PermutationElement permutation
+			   = PermutationGroup.getInstance(this.getSize()).getRandomElement(randomByteSequence);
+		Tuple randomizations = this.generateRandomizations(randomByteSequence);
+		return this.shuffle(elements, permutation, randomizations, executor);
+	}
+
+	@Override
+	public final Tuple shuffle(final Tuple elements, final PermutationElement permutation, final Tuple randomizations,
+		   final Executor executor) {
+		if (!this.getShufflesSpace().contains(elements) || !this.getRandomizationsSpace().contains(randomizations)
+			   || permutation == null || permutation.getValue().getSize() != this.getSize() || executor == null) {
+			throw new IllegalArgumentException();
+		}
+		final Function shuffleFunction = this.getShuffleFunction();
+		final Element[] elementsPrime = new Element[this.getSize()];
+		Parallel.forEach(this.getSize(), i -> {
+			elementsPrime[i] = shuffleFunction.apply(elements.getAt(i), randomizations.getAt(i));
+		}, executor);
+		return this.getPermutationFunction().apply(Tuple.getInstance(elementsPrime), permutation);
+	}
+
+	@Override
+	public final Tuple shuffle(final Tuple elements, final PermutationElement permutation, final Tuple randomizations,
+		   final Path path, final Executor executor) throws IOException {
+		if (!this.getShufflesSpace().contains(elements) || !this.getRandomizationsSpace().contains(randomizations)
+			   || permutation == null || permutation.getValue().getSize() != this.getSize() || path == null
+			   || executor == null) {
+			throw new IllegalArgumentException();
+		}
+		// writing to the file of a mapped input would truncate it while it is still being read
+		if (AbstractMixer.isMappedTo(elements, path) || AbstractMixer.isMappedTo(randomizations, path)) {
+			throw new IllegalArgumentException();
+		}
+		final Function shuffleFunction = this.getShuffleFunction();
+		final Permutation permutationValue = permutation.getValue();
+		final int size = this.getSize();
+		// the shuffled elements are computed chunk by chunk while writing them to the file
+		Sequence<Element> shuffledElements = new Sequence<Element>(BigInteger.valueOf(size)) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public SequenceIterator<Element> iterator() {
+				return new SequenceIterator<Element>() {
+
+					private final Element[] chunk = new Element[Math.min(CHUNK_SIZE, size)];
+					private int currentIndex = 0;
+					private int chunkEnd = 0;
+
+					@Override
+					public boolean hasNext() {
+						return this.currentIndex < size;
+					}
+
+					@Override
+					public Element abstractNext() {
+						if (this.currentIndex == this.chunkEnd) {
+							final int chunkStart = this.currentIndex;
+							this.chunkEnd = Math.min(size, chunkStart + CHUNK_SIZE);
+							Parallel.forEach(this.chunkEnd - chunkStart, i -> {
+								int index = permutationValue.permute(chunkStart + i);
+								chunk[i] = shuffleFunction.apply(elements.getAt(index), randomizations.getAt(index));
+							}, executor);
+						}
+						return this.chunk[this.currentIndex++ % CHUNK_SIZE];
+					}
+				};
+			}
+
+		};
+		return Tuple.getInstance(MappedElementArray.getInstance(this.getShuffleSpace(), path, shuffledElements));
+	}
+
+	private static boolean isMappedTo(final Tuple tuple, final Path path) throws IOException {
+		if (tuple.getValue() instanceof MappedElementArray) {
+			Path mappedPath = ((MappedElementArray) tuple.getValue()).getPath();
+			return Files.exists(path) && Files.isSameFile(path, mappedPath);
+		}
+		return false;
+	}
+
 	@Override
 	public final Tuple generateRandomizations() {
 		return this.generateRandomizations(HybridRandomByteSequence.getInstance());
@@ -48,6 +48,9 @@ import ch.bfh.unicrypt.math.algebra.general.classes.Tuple;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Set;
 import ch.bfh.unicrypt.math.function.classes.PermutationFunction;
 import ch.bfh.unicrypt.math.function.interfaces.Function;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.Executor;
 
 public interface Mixer {
 
@@ -69,6 +72,18 @@ public interface Mixer {
 
 	public Tuple shuffle(Tuple elements, PermutationElement permutation, Tuple randomizations);
 
+	// the shuffle function is applied in parallel, the result is the same as in the sequential case
+	public Tuple shuffle(Tuple elements, RandomByteSequence randomByteSequence, Executor executor);
+
+	// the shuffle function is applied in parallel, the result is the same as in the sequential case
+	public Tuple shuffle(Tuple elements, PermutationElement permutation, Tuple randomizations, Executor executor);
+
+	// the shuffled elements are computed in parallel chunks and written to the given file, the result is a tuple backed
+	// by the file (see MappedElementArray) and the same as in the sequential case; note that only the shuffle itself is
+	// file-backed, the shuffle proof systems accept such tuples, but they keep their intermediate vectors in the heap
+	public Tuple shuffle(Tuple elements, PermutationElement permutation, Tuple randomizations, Path path,
+		   Executor executor) throws IOException;
+
 	public Tuple generateRandomizations();
 
 	public Tuple generateRandomizations(RandomByteSequence randomByteSequence);
@@ -45,12 +45,15 @@ import ch.bfh.unicrypt.crypto.proofsystem.challengegenerator.interfaces.SigmaCha
 import ch.bfh.unicrypt.crypto.proofsystem.interfaces.PreimageProofSystem;
 import ch.bfh.unicrypt.helper.random.RandomByteSequence;
 import ch.bfh.unicrypt.math.algebra.dualistic.classes.ZMod;
+import ch.bfh.unicrypt.math.algebra.dualistic.classes.ZModElement;
 import ch.bfh.unicrypt.math.algebra.general.classes.ProductSet;
 import ch.bfh.unicrypt.math.algebra.general.classes.Triple;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.SemiGroup;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Set;
 import ch.bfh.unicrypt.math.function.interfaces.Function;
+import java.math.BigInteger;
+import java.util.List;
 
 /**
  * The abstract implementation of the {@link PreimageProofSystem}. It is a full implementation of the proof system.
@@ -147,6 +150,39 @@ public abstract class AbstractPreimageProofSystem<PRS extends SemiGroup, PRE ext
 		return left.isEquivalent(right);
 	}
 
+	@Override
+	protected final boolean abstractVerifyBatch(final List<Triple> proofs, final List<PUE> publicInputs,
+		   final RandomByteSequence randomByteSequence) {
+
+		// Combining the equations is only sound in groups of prime order
+		if (!hasPrimeOrder(this.getPublicInputSpace())) {
+			return super.abstractVerifyBatch(proofs, publicInputs, randomByteSequence);
+		}
+
+		// Combine the equations f(s_i)=t_i*y_i^c_i into f(sum r_i*s_i)=prod t_i^r_i*y_i^(r_i*c_i) for random exponents
+		// r_i, which is possible since the proof function is a homomorphism. All values involved are public or chosen by
+		// the verifier after receiving the proofs, so the faster multi-exponentiation for public amounts can be used.
+		final int length = proofs.size();
+		final BigInteger[] exponents = this.getBatchExponents(length, randomByteSequence);
+		final Element[] responses = new Element[length];
+		final Element[] elements = new Element[2 * length];
+		final BigInteger[] amounts = new BigInteger[2 * length];
+		for (int i = 0; i < length; i++) {
+			final Triple proof = proofs.get(i);
+			final Element publicInput = publicInputs.get(i);
+			final ZModElement challenge = this.getChallengeGenerator().generate(publicInput, proof.getFirst());
+			responses[i] = proof.getThird();
+			elements[2 * i] = proof.getFirst();
+			amounts[2 * i] = exponents[i];
+			elements[2 * i + 1] = publicInput;
+			amounts[2 * i + 1] = exponents[i].multiply(challenge.getValue());
+		}
+		final Element left = this.getPreimageProofFunction()
+			   .apply(this.getPrivateInputSpace().multiSelfApplyPublic(responses, exponents));
+		final Element right = this.getPublicInputSpace().multiSelfApplyPublic(elements, amounts);
+		return left.isEquivalent(right);
+	}
+
 	/**
 	 * Checks whether the challenge space of the challenge generator does match the domain of the proof function.
 	 * <p>
@@ -47,6 +47,7 @@ import ch.bfh.unicrypt.helper.random.RandomByteSequence;
 import ch.bfh.unicrypt.helper.random.hybrid.HybridRandomByteSequence;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Set;
+import java.util.concurrent.Executor;
 
 /**
  * The abstract implementation of the {@link ProofSystem}. Most method calls are routed directly to the abstract-method
@@ -79,6 +80,16 @@ public abstract class AbstractProofSystem<PRS extends Set, PRE extends Element,
 		return this.abstractGenerate((PRE) privateInput, (PUE) publicInput, randomByteSequence);
 	}
 
+	@Override
+	public final PE generate(final Element privateInput, final Element publicInput,
+		   final RandomByteSequence randomByteSequence, final Executor executor) {
+		if (!this.getPrivateInputSpace().contains(privateInput) || !this.getPublicInputSpace().contains(publicInput)
+			   || randomByteSequence == null || executor == null) {
+			throw new IllegalArgumentException();
+		}
+		return this.abstractGenerate((PRE) privateInput, (PUE) publicInput, randomByteSequence, executor);
+	}
+
 	@Override
 	public final boolean verify(Element proof, Element publicInput) {
 		if (!this.getProofSpace().contains(proof) || !this.getPublicInputSpace().contains(publicInput)) {
@@ -87,6 +98,15 @@ public abstract class AbstractProofSystem<PRS extends Set, PRE extends Element,
 		return this.abstractVerify((PE) proof, (PUE) publicInput);
 	}
 
+	@Override
+	public final boolean verify(Element proof, Element publicInput, Executor executor) {
+		if (!this.getProofSpace().contains(proof) || !this.getPublicInputSpace().contains(publicInput)
+			   || executor == null) {
+			throw new IllegalArgumentException();
+		}
+		return this.abstractVerify((PE) proof, (PUE) publicInput, executor);
+	}
+
 	@Override
 	public final PRS getPrivateInputSpace() {
 		return this.abstractGetPrivateInputSpace();
@@ -106,6 +126,17 @@ public abstract class AbstractProofSystem<PRS extends Set, PRE extends Element,
 
 	protected abstract boolean abstractVerify(PE proof, PUE publicInput);
 
+	// this method is overriden in proof systems supporting parallel proof generation
+	protected PE abstractGenerate(PRE secretInput, PUE publicInput, RandomByteSequence randomByteSequence,
+		   Executor executor) {
+		return this.abstractGenerate(secretInput, publicInput, randomByteSequence);
+	}
+
+	// this method is overriden in proof systems supporting parallel proof verification
+	protected boolean abstractVerify(PE proof, PUE publicInput, Executor executor) {
+		return this.abstractVerify(proof, publicInput);
+	}
+
 	protected abstract PRS abstractGetPrivateInputSpace();
 
 	protected abstract PUS abstractGetPublicInputSpace();
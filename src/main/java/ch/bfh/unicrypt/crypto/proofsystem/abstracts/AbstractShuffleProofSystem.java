@@ -51,6 +51,7 @@ import ch.bfh.unicrypt.helper.array.interfaces.ImmutableArray;
 import ch.bfh.unicrypt.helper.converter.classes.ConvertMethod;
 import ch.bfh.unicrypt.helper.converter.classes.biginteger.ByteArrayToBigInteger;
 import ch.bfh.unicrypt.helper.converter.classes.bytearray.BigIntegerToByteArray;
+import ch.bfh.unicrypt.helper.concurrent.Parallel;
 import ch.bfh.unicrypt.helper.converter.interfaces.Converter;
 import ch.bfh.unicrypt.helper.hash.HashMethod;
 import ch.bfh.unicrypt.helper.math.MathUtil;
@@ -64,6 +65,7 @@ import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Monoid;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Set;
 import java.math.BigInteger;
+import java.util.concurrent.Executor;
 
 /**
  * This class is an abstract base implementation for shuffle proof systems according to Wikström (@see Wik09, TW10). It
@@ -229,14 +231,27 @@ public abstract class AbstractShuffleProofSystem
 	// - Additive:       Sum(t1_i*t2_i)
 	// - Multiplicative: Prod(t1_i^(t2_i))
 	protected static Element computeInnerProduct(Tuple t1, Tuple t2) {
+		return computeInnerProduct(t1, t2, null);
+	}
+
+	// Same as above, but the multi-exponentiation is split into one chunk per thread of the given executor, see
+	// Parallel.multiSelfApply. If the executor is null, everything is computed in the calling thread.
+	protected static Element computeInnerProduct(Tuple t1, Tuple t2, Executor executor) {
+		return computeInnerProduct(t1, t2, false, executor);
+	}
+
+	// Same as above, but the faster multi-exponentiation for public exponents is used if publicAmounts is true
+	protected static Element computeInnerProduct(Tuple t1, Tuple t2, boolean publicAmounts, Executor executor) {
 		if (!t1.getSet().isGroup() || t1.getArity() < 1) {
 			throw new IllegalArgumentException();
 		}
-		Element innerProduct = ((Monoid) t1.getSet().getAt(0)).getIdentityElement();
-		for (int i = 0; i < t1.getArity(); i++) {
-			innerProduct = innerProduct.apply(t1.getAt(i).selfApply(t2.getAt(i)));
+		final Element[] elements = new Element[t1.getArity()];
+		final BigInteger[] amounts = new BigInteger[t1.getArity()];
+		for (int i = 0; i < elements.length; i++) {
+			elements[i] = t1.getAt(i);
+			amounts[i] = ((Element<BigInteger>) t2.getAt(i)).getValue();
 		}
-		return innerProduct;
+		return Parallel.multiSelfApply((Monoid) t1.getSet().getAt(0), elements, amounts, publicAmounts, executor);
 	}
 
 	//===================================================================================
@@ -43,10 +43,21 @@ package ch.bfh.unicrypt.crypto.proofsystem.abstracts;
 
 import ch.bfh.unicrypt.crypto.proofsystem.challengegenerator.interfaces.SigmaChallengeGenerator;
 import ch.bfh.unicrypt.crypto.proofsystem.interfaces.SigmaProofSystem;
+import ch.bfh.unicrypt.helper.math.MathUtil;
+import ch.bfh.unicrypt.helper.random.RandomByteSequence;
+import ch.bfh.unicrypt.helper.random.hybrid.HybridRandomByteSequence;
+import ch.bfh.unicrypt.math.algebra.additive.classes.ECPolynomialField;
+import ch.bfh.unicrypt.math.algebra.additive.classes.ECZModPrime;
+import ch.bfh.unicrypt.math.algebra.dualistic.classes.ZModPrime;
 import ch.bfh.unicrypt.math.algebra.general.classes.ProductSet;
 import ch.bfh.unicrypt.math.algebra.general.classes.Triple;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Set;
+import ch.bfh.unicrypt.math.algebra.multiplicative.classes.GStarMod;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 
 /**
  * The abstract implementation of the {@link SigmaProofSystem}. It fixes the proof space to a {@link ProductSet} and the
@@ -62,6 +73,11 @@ public abstract class AbstractSigmaProofSystem<PRS extends Set, PRE extends Elem
 	   extends AbstractProofSystem<PRS, PRE, PUS, PUE, ProductSet, Triple>
 	   implements SigmaProofSystem {
 
+	/**
+	 * The bit length of the random exponents used for combining the verification equations in a batch verification.
+	 */
+	public static final int BATCH_EXPONENT_BIT_LENGTH = 64;
+
 	private final SigmaChallengeGenerator challengeGenerator;
 
 	protected AbstractSigmaProofSystem(final SigmaChallengeGenerator challengeGenerator) {
@@ -97,4 +113,109 @@ public abstract class AbstractSigmaProofSystem<PRS extends Set, PRE extends Elem
 		return proof.getThird();
 	}
 
+	@Override
+	public final boolean verifyBatch(final List<Element> proofs, final List<Element> publicInputs) {
+		return this.verifyBatch(proofs, publicInputs, HybridRandomByteSequence.getInstance());
+	}
+
+	@Override
+	public final boolean verifyBatch(final List<Element> proofs, final List<Element> publicInputs,
+		   final RandomByteSequence randomByteSequence) {
+		if (proofs == null || publicInputs == null || proofs.size() != publicInputs.size()
+			   || randomByteSequence == null) {
+			throw new IllegalArgumentException();
+		}
+		final List<Triple> triples = new ArrayList<>(proofs.size());
+		final List<PUE> inputs = new ArrayList<>(publicInputs.size());
+		for (int i = 0; i < proofs.size(); i++) {
+			if (!this.getProofSpace().contains(proofs.get(i))
+				   || !this.getPublicInputSpace().contains(publicInputs.get(i))) {
+				throw new IllegalArgumentException();
+			}
+			triples.add((Triple) proofs.get(i));
+			inputs.add((PUE) publicInputs.get(i));
+		}
+		if (triples.isEmpty()) {
+			return true;
+		}
+		return this.abstractVerifyBatch(triples, inputs, randomByteSequence);
+	}
+
+	@Override
+	public final List<Integer> getInvalidProofs(final List<Element> proofs, final List<Element> publicInputs) {
+		final List<Integer> indices = new ArrayList<>();
+		if (this.verifyBatch(proofs, publicInputs)) {
+			return indices;
+		}
+		for (int i = 0; i < proofs.size(); i++) {
+			if (!this.abstractVerify((Triple) proofs.get(i), (PUE) publicInputs.get(i))) {
+				indices.add(i);
+			}
+		}
+		return indices;
+	}
+
+	// this method is overriden in AbstractPreimageProofSystem, AbstractValidityProofSystem, and OrProofSystem
+	protected boolean abstractVerifyBatch(final List<Triple> proofs, final List<PUE> publicInputs,
+		   final RandomByteSequence randomByteSequence) {
+		for (int i = 0; i < proofs.size(); i++) {
+			if (!this.abstractVerify(proofs.get(i), publicInputs.get(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns an array of non-zero random exponents for combining the verification equations of a batch of proofs.
+	 * The exponents are smaller than {@code 2^BATCH_EXPONENT_BIT_LENGTH}.
+	 * <p>
+	 * @param length             The number of exponents
+	 * @param randomByteSequence The given random byte sequence
+	 * @return The array of random exponents
+	 */
+	protected final BigInteger[] getBatchExponents(final int length, final RandomByteSequence randomByteSequence) {
+		final BigInteger maxValue = MathUtil.powerOfTwo(BATCH_EXPONENT_BIT_LENGTH).subtract(MathUtil.ONE);
+		final Iterator<BigInteger> iterator
+			   = randomByteSequence.getRandomBigIntegerSequence(MathUtil.ONE, maxValue).iterator();
+		final BigInteger[] exponents = new BigInteger[length];
+		for (int i = 0; i < length; i++) {
+			exponents[i] = iterator.next();
+		}
+		return exponents;
+	}
+
+	/**
+	 * Checks if the verification equations of a batch of proofs can be combined using small random exponents in the
+	 * given set. This is only the case for groups of prime order and for products of such groups. In a group of
+	 * composite order, an invalid proof whose error lies in a small subgroup passes the combined equation with
+	 * non-negligible probability. To avoid an expensive primality test, only groups whose order is known to be prime
+	 * by construction are accepted.
+	 * <p>
+	 * @param set The given set
+	 * @return {@code true} if the verification equations can be combined, {@code false} otherwise
+	 */
+	protected static boolean hasPrimeOrder(final Set set) {
+		if (set.isProduct()) {
+			final ProductSet productSet = (ProductSet) set;
+			if (productSet.isEmpty()) {
+				return false;
+			}
+			if (productSet.isUniform()) {
+				return hasPrimeOrder(productSet.getFirst());
+			}
+			for (final Set component : productSet) {
+				if (!hasPrimeOrder(component)) {
+					return false;
+				}
+			}
+			return true;
+		}
+		if (set instanceof GStarMod) {
+			return ((GStarMod) set).getOrderFactorization().isPrime();
+		}
+		// the constructors of these classes reject non-prime (sub-)group orders
+		return set instanceof ZModPrime || set instanceof ECZModPrime || set instanceof ECPolynomialField;
+	}
+
 }
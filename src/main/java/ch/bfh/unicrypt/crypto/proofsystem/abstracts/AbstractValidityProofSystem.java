@@ -60,6 +60,8 @@ import ch.bfh.unicrypt.math.function.classes.ProductFunction;
 import ch.bfh.unicrypt.math.function.classes.SelectionFunction;
 import ch.bfh.unicrypt.math.function.classes.SharedDomainFunction;
 import ch.bfh.unicrypt.math.function.interfaces.Function;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * This class is an abstract base implementation for validity proof systems. A validity proof system is used to proof
@@ -167,6 +169,16 @@ public abstract class AbstractValidityProofSystem<PUS extends SemiGroup, PUE ext
 		return this.getOrProofGenerator().verify(proof, this.createProofImages(publicInput));
 	}
 
+	@Override
+	protected boolean abstractVerifyBatch(List<Triple> proofs, List<PUE> publicInputs,
+		   RandomByteSequence randomByteSequence) {
+		final List<Element> proofImages = new ArrayList<>(publicInputs.size());
+		for (PUE publicInput : publicInputs) {
+			proofImages.add(this.createProofImages(publicInput));
+		}
+		return this.getOrProofGenerator().verifyBatch(new ArrayList<>(proofs), proofImages, randomByteSequence);
+	}
+
 	public Pair createPrivateInput(Element secret, int index) {
 		return this.getOrProofGenerator().createPrivateInput(secret, index);
 	}
@@ -191,12 +191,12 @@ public class IdentityShuffleProofSystem
 		final Tuple eV = (Tuple) this.getEValuesGenerator().generate(publicInput);
 
 		// Compute u                                                                    [N]
-		final Element u = computeInnerProduct(uV, eV);
+		final Element u = computeInnerProduct(uV, eV, true, null);
 
 		// Compute image of preimage proof
 		final Element[] ps = new Element[3];
 		// - p_1 == c_pi^e                                                              [N]
-		ps[0] = computeInnerProduct(cPiV, eV);
+		ps[0] = computeInnerProduct(cPiV, eV, true, null);
 		// - p_2 = 1
 		ps[1] = this.identityGroup.getIdentityElement();
 		// - p_3 = g_k
@@ -54,9 +54,12 @@ import ch.bfh.unicrypt.math.algebra.general.classes.ProductSet;
 import ch.bfh.unicrypt.math.algebra.general.classes.Triple;
 import ch.bfh.unicrypt.math.algebra.general.classes.Tuple;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
+import ch.bfh.unicrypt.math.algebra.general.interfaces.SemiGroup;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Set;
 import ch.bfh.unicrypt.math.function.classes.ProductFunction;
 import ch.bfh.unicrypt.math.function.interfaces.Function;
+import java.math.BigInteger;
+import java.util.List;
 
 /**
  * This class covers the OR-composition of preimage proofs: ZKP[(x0,...xN) : y0=f0(x0) V...V yN=fN(xN)]. Neither the
@@ -249,4 +252,56 @@ public class OrProofSystem
 		return true;
 	}
 
+	@Override
+	protected boolean abstractVerifyBatch(List<Triple> proofs, List<Tuple> publicInputs,
+		   RandomByteSequence randomByteSequence) {
+
+		// Combining the equations is only sound in groups of prime order
+		if (!hasPrimeOrder(this.getPublicInputSpace())) {
+			return super.abstractVerifyBatch(proofs, publicInputs, randomByteSequence);
+		}
+
+		// 1. Check for each proof whether challenges sum up to the overall challenge
+		final int length = proofs.size();
+		for (int i = 0; i < length; i++) {
+			final Tuple commitments = (Tuple) proofs.get(i).getFirst();
+			final Tuple challenges = (Tuple) proofs.get(i).getSecond();
+			final ZModElement challenge = this.getChallengeGenerator().generate(publicInputs.get(i), commitments);
+			ZModElement sumOfChallenges = this.getChallengeSpace().getIdentityElement();
+			for (int j = 0; j < challenges.getArity(); j++) {
+				sumOfChallenges = sumOfChallenges.add(challenges.getAt(j));
+			}
+			if (!challenge.isEquivalent(sumOfChallenges)) {
+				return false;
+			}
+		}
+
+		// 2. Verify all subproofs of the same index together by combining their equations using random exponents
+		final BigInteger[] exponents = this.getBatchExponents(length, randomByteSequence);
+		for (int j = 0; j < this.getProofFunction().getArity(); j++) {
+			final Function function = this.getProofFunction().getAt(j);
+			final Element[] responses = new Element[length];
+			final Element[] elements = new Element[2 * length];
+			final BigInteger[] amounts = new BigInteger[2 * length];
+			for (int i = 0; i < length; i++) {
+				final Triple proof = proofs.get(i);
+				final ZModElement challenge = (ZModElement) ((Tuple) proof.getSecond()).getAt(j);
+				responses[i] = ((Tuple) proof.getThird()).getAt(j);
+				elements[2 * i] = ((Tuple) proof.getFirst()).getAt(j);
+				amounts[2 * i] = exponents[i];
+				elements[2 * i + 1] = publicInputs.get(i).getAt(j);
+				amounts[2 * i + 1] = exponents[i].multiply(challenge.getValue());
+			}
+			final Element a = function.apply(((SemiGroup) function.getDomain())
+				   .multiSelfApplyPublic(responses, exponents));
+			final Element b = ((SemiGroup) function.getCoDomain()).multiSelfApplyPublic(elements, amounts);
+			if (!a.isEquivalent(b)) {
+				return false;
+			}
+		}
+
+		// Proofs are valid!
+		return true;
+	}
+
 }
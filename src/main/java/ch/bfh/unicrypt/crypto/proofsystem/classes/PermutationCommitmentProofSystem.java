@@ -53,6 +53,7 @@ import ch.bfh.unicrypt.helper.array.interfaces.ImmutableArray;
 import ch.bfh.unicrypt.helper.converter.classes.ConvertMethod;
 import ch.bfh.unicrypt.helper.converter.classes.biginteger.ByteArrayToBigInteger;
 import ch.bfh.unicrypt.helper.converter.classes.bytearray.BigIntegerToByteArray;
+import ch.bfh.unicrypt.helper.concurrent.Parallel;
 import ch.bfh.unicrypt.helper.converter.interfaces.Converter;
 import ch.bfh.unicrypt.helper.hash.HashMethod;
 import ch.bfh.unicrypt.helper.math.MathUtil;
@@ -76,6 +77,7 @@ import ch.bfh.unicrypt.math.function.classes.ConvertFunction;
 import ch.bfh.unicrypt.math.function.classes.PermutationFunction;
 import ch.bfh.unicrypt.math.function.classes.ProductFunction;
 import java.math.BigInteger;
+import java.util.concurrent.Executor;
 
 //
 // @see [TW10] Protocol 1: Permutation Matrix
@@ -198,6 +200,12 @@ public class PermutationCommitmentProofSystem
 	//
 	@Override
 	protected Tuple abstractGenerate(Pair privateInput, Tuple publicInput, RandomByteSequence randomByteSequence) {
+		return this.abstractGenerate(privateInput, publicInput, randomByteSequence, null);
+	}
+
+	@Override
+	protected Tuple abstractGenerate(Pair privateInput, Tuple publicInput, RandomByteSequence randomByteSequence,
+		   Executor executor) {
 
 		// Unfold privat and public input
 		final PermutationElement pi = (PermutationElement) privateInput.getFirst();
@@ -208,7 +216,7 @@ public class PermutationCommitmentProofSystem
 		// v = <1,sV> = sum(sV)
 		final Element v = this.cyclicGroup.getZModOrder().add(sV);
 		// w = <sV,eV>
-		final Element w = computeInnerProduct(sV, eV);
+		final Element w = computeInnerProduct(sV, eV, false, executor);
 		final Tuple rV
 			   = ProductGroup.getInstance(this.cyclicGroup.getZModOrder(), this.size)
 					  .getRandomElement(randomByteSequence);
@@ -221,12 +229,31 @@ public class PermutationCommitmentProofSystem
 		final Element[] cs = new Element[this.size];
 		final Element[] ds = new Element[this.size];
 		ds[0] = rV.getAt(0);
-		for (int i = 0; i < this.size; i++) {
-			Element c_i_1 = i == 0 ? h : cs[i - 1];
-			cs[i] = g.selfApply(rV.getAt(i)).apply(c_i_1.selfApply(ePrimeV.getAt(i)));  //   [2n]
-			if (i > 0) {
+		if (executor == null) {
+			for (int i = 0; i < this.size; i++) {
+				Element c_i_1 = i == 0 ? h : cs[i - 1];
+				cs[i] = g.selfApply(rV.getAt(i)).apply(c_i_1.selfApply(ePrimeV.getAt(i)));  //   [2n]
+				if (i > 0) {
+					ds[i] = rV.getAt(i).apply(ds[i - 1].selfApply(ePrimeV.getAt(i)));
+				}
+			}
+		} else {
+			// The chain c_i = g^r_i * c_i-1^e'_i with c_0 = h unfolds into c_i = g^d_i * h^E_i, where the exponents
+			// d_i = r_i + d_i-1 * e'_i and E_i = E_i-1 * e'_i are prefix computations in Z_q. They are cheap
+			// compared to the exponentiations, which are then independent of each other. Since E_i is a full-size
+			// exponent, this only pays off if the exponentiations are computed in parallel.
+			final Element[] es = new Element[this.size];
+			es[0] = this.cyclicGroup.getZModOrder().getElement(ePrimeV.getAt(0).convertToBigInteger()
+				   .mod(this.cyclicGroup.getOrder()));
+			for (int i = 1; i < this.size; i++) {
 				ds[i] = rV.getAt(i).apply(ds[i - 1].selfApply(ePrimeV.getAt(i)));
+				es[i] = es[i - 1].selfApply(ePrimeV.getAt(i));
 			}
+			Parallel.forEach(this.size, i -> {
+				cs[i] = this.cyclicGroup.multiSelfApply(new Element[]{g, h},                //   [2n]
+														new BigInteger[]{ds[i].convertToBigInteger(),
+																		 es[i].convertToBigInteger()});
+			}, executor);
 		}
 		final Tuple cV = Tuple.getInstance(cs);
 		final Element d = ds[ds.length - 1];
@@ -239,7 +266,7 @@ public class PermutationCommitmentProofSystem
 		// Create sigma proof
 		PreimageProofFunction f
 			   = new PreimageProofFunction(this.cyclicGroup, this.size, this.getResponseSpace(),
-										   this.getCommitmentSpace(), this.independentGenerators, cV);
+										   this.getCommitmentSpace(), this.independentGenerators, cV, executor);
 		Tuple randomElement = this.getResponseSpace().extractPrefix(4).getRandomElement(randomByteSequence);
 		Tuple randEV = ProductGroup.getInstance(ZMod.getInstance(MathUtil.powerOfTwo(this.ke + this.kc + this.kr)),
 												this.size).getRandomElement(randomByteSequence);
@@ -263,6 +290,11 @@ public class PermutationCommitmentProofSystem
 
 	@Override
 	protected boolean abstractVerify(Tuple proof, Tuple publicInput) {
+		return this.abstractVerify(proof, publicInput, null);
+	}
+
+	@Override
+	protected boolean abstractVerify(Tuple proof, Tuple publicInput, Executor executor) {
 
 		// Unfold proof
 		final Tuple cV = (Tuple) proof.getAt(1);
@@ -278,7 +310,7 @@ public class PermutationCommitmentProofSystem
 		// - p_0 = c_pi^1/prod(g_i) = prod(c_pi_i)/prod(g_i)
 		ps[0] = this.cyclicGroup.apply(publicInput).applyInverse(this.cyclicGroup.apply(gV));
 		// - p_1 = c_pi^e                                                                     [N]
-		ps[1] = computeInnerProduct(publicInput, eV);
+		ps[1] = computeInnerProduct(publicInput, eV, true, executor);
 		// - p_2...p_(N+2) = c_1 ... c_N
 		final Element[] pps = new Element[this.size];
 		for (int i = 0; i < this.size; i++) {
@@ -297,7 +329,8 @@ public class PermutationCommitmentProofSystem
 
 		// Verify preimage proof
 		PreimageProofFunction f = new PreimageProofFunction(this.cyclicGroup, this.size, this.getResponseSpace(),
-															this.getCommitmentSpace(), this.independentGenerators, cV);
+															this.getCommitmentSpace(), this.independentGenerators, cV,
+															executor);
 		final Element challenge = this.sigmaChallengeGenerator.generate(Pair.getInstance(publicInput, cV), commitment);
 		final Element left = f.apply(response);                                         // [3N+3]
 		final Element right = commitment.apply(pV.selfApply(challenge));                //  [N+3]
@@ -311,15 +344,19 @@ public class PermutationCommitmentProofSystem
 	// Helper to compute the inner product
 	// - Additive:       Sum(t1_i*t2_i)
 	// - Multiplicative: Prod(t1_i^(t2_i))
-	private static Element computeInnerProduct(Tuple t1, Tuple t2) {
+	// - The multi-exponentiation is split into one chunk per thread if an executor is given
+	// - The faster multi-exponentiation for public exponents is used if publicAmounts is true
+	private static Element computeInnerProduct(Tuple t1, Tuple t2, boolean publicAmounts, Executor executor) {
 		if (!t1.getSet().isGroup() || t1.getArity() < 1) {
 			throw new IllegalArgumentException();
 		}
-		Element innerProduct = ((Monoid) t1.getSet().getAt(0)).getIdentityElement();
-		for (int i = 0; i < t1.getArity(); i++) {
-			innerProduct = innerProduct.apply(t1.getAt(i).selfApply(t2.getAt(i)));
+		final Element[] elements = new Element[t1.getArity()];
+		final BigInteger[] amounts = new BigInteger[t1.getArity()];
+		for (int i = 0; i < elements.length; i++) {
+			elements[i] = t1.getAt(i);
+			amounts[i] = ((Element<BigInteger>) t2.getAt(i)).getValue();
 		}
-		return innerProduct;
+		return Parallel.multiSelfApply((Monoid) t1.getSet().getAt(0), elements, amounts, publicAmounts, executor);
 	}
 
 	//===================================================================================
@@ -334,13 +371,15 @@ public class PermutationCommitmentProofSystem
 		private final GeneralizedPedersenCommitmentScheme gpcs;
 		private final Element g;
 		private final Element h;
+		private final Executor executor;
 
 		protected PreimageProofFunction(CyclicGroup cyclicGroup, int size, ProductGroup domain,
-			   ProductGroup coDomain, Tuple independentGenerators, Tuple cV) {
+			   ProductGroup coDomain, Tuple independentGenerators, Tuple cV, Executor executor) {
 			super(domain, coDomain);
 			this.cyclicGroup = cyclicGroup;
 			this.size = size;
 			this.cV = cV;
+			this.executor = executor;
 			this.g = independentGenerators.getAt(0);
 			this.h = independentGenerators.getAt(1);
 
@@ -370,14 +409,20 @@ public class PermutationCommitmentProofSystem
 			for (int i = 0; i < ePrimeV.getArity(); i++) {
 				ePrimeVs[i] = zMod.getElement(((ZModElement) ePrimeV.getAt(i)).getValue().mod(zMod.getOrder()));
 			}
-			pV[1] = this.gpcs.commit(Tuple.getInstance(ePrimeVs), w);
+			if (this.executor == null) {
+				pV[1] = this.gpcs.commit(Tuple.getInstance(ePrimeVs), w);
+			} else {
+				Element product = computeInnerProduct(this.gpcs.getMessageGenerators(), Tuple.getInstance(ePrimeVs),
+													  false, this.executor);
+				pV[1] = this.gpcs.getRandomizationGenerator().selfApply(w).apply(product);
+			}
 
 			// - g^r_i * c_i-1^e'_i                [2n]
 			final Element[] ppV = new Element[this.size];
-			for (int i = 0; i < this.size; i++) {
+			Parallel.forEach(this.size, i -> {
 				Element c_i_1 = i == 0 ? this.h : this.cV.getAt(i - 1);
 				ppV[i] = g.selfApply(rV.getAt(i)).apply(c_i_1.selfApply(ePrimeV.getAt(i)));
-			}
+			}, this.executor);
 			pV[2] = Tuple.getInstance(ppV);
 
 			// - Com(0, d)                          [1]
@@ -67,6 +67,7 @@ import ch.bfh.unicrypt.math.function.abstracts.AbstractFunction;
 import ch.bfh.unicrypt.math.function.classes.ConvertFunction;
 import ch.bfh.unicrypt.math.function.classes.PermutationFunction;
 import ch.bfh.unicrypt.math.function.classes.ProductFunction;
+import java.util.concurrent.Executor;
 
 /**
  * The implementation of the re-encryption shuffle proof according to Wikström (@see Wik09 Protocol2:
@@ -143,6 +144,12 @@ public class ReEncryptionShuffleProofSystem
 	//
 	@Override
 	protected Tuple abstractGenerate(Triple privateInput, Tuple publicInput, RandomByteSequence randomByteSequence) {
+		return this.abstractGenerate(privateInput, publicInput, randomByteSequence, null);
+	}
+
+	@Override
+	protected Tuple abstractGenerate(Triple privateInput, Tuple publicInput, RandomByteSequence randomByteSequence,
+		   Executor executor) {
 
 		// Unfold private and public input
 		final PermutationElement pi = (PermutationElement) privateInput.getFirst();
@@ -152,8 +159,8 @@ public class ReEncryptionShuffleProofSystem
 		final Tuple eV = (Tuple) this.getEValuesGenerator().generate(publicInput);
 
 		// Compute private values for sigma proof
-		final Element r = computeInnerProduct(rV, eV);
-		final Element w = computeInnerProduct(sV, eV);
+		final Element r = computeInnerProduct(rV, eV, executor);
+		final Element w = computeInnerProduct(sV, eV, executor);
 		Tuple ePrimeV = PermutationFunction.getInstance(eV.getSet()).apply(eV, pi);
 
 		// Map ePrimeV to Z_q^N
@@ -165,7 +172,7 @@ public class ReEncryptionShuffleProofSystem
 		PreimageProofFunction f
 			   = new PreimageProofFunction(this.getCyclicGroup(), this.getSize(), this.getResponseSpace(),
 										   this.getCommitmentSpace(), this.getIndependentGenerators(), uPrimeV,
-										   this.encryptionScheme, this.encryptionPK);
+										   this.encryptionScheme, this.encryptionPK, executor);
 
 		Tuple randomElement = this.getResponseSpace().extractPrefix(2).getRandomElement(randomByteSequence);
 		Tuple randEV = ProductGroup.getInstance(
@@ -191,6 +198,11 @@ public class ReEncryptionShuffleProofSystem
 
 	@Override
 	protected boolean abstractVerify(Tuple proof, Tuple publicInput) {
+		return this.abstractVerify(proof, publicInput, null);
+	}
+
+	@Override
+	protected boolean abstractVerify(Tuple proof, Tuple publicInput, Executor executor) {
 
 		// Unfold proof and public input
 		final Tuple commitment = (Tuple) proof.getAt(1);
@@ -203,9 +215,9 @@ public class ReEncryptionShuffleProofSystem
 		// Compute image of preimage proof
 		final Element[] ps = new Element[2];
 		// - p_1 == c_pi^e                                                              [N]
-		ps[0] = computeInnerProduct(cPiV, eV);
+		ps[0] = computeInnerProduct(cPiV, eV, true, executor);
 		// - p_2 = u                                                                   [2N]
-		ps[1] = computeInnerProduct(uV, eV);
+		ps[1] = computeInnerProduct(uV, eV, true, executor);
 
 		final Tuple pV = Tuple.getInstance(ps);
 
@@ -213,7 +225,7 @@ public class ReEncryptionShuffleProofSystem
 		PreimageProofFunction f = new PreimageProofFunction(this.getCyclicGroup(), this.getSize(),
 															this.getResponseSpace(), this.getCommitmentSpace(),
 															this.getIndependentGenerators(), uPrimeV,
-															this.encryptionScheme, this.encryptionPK);
+															this.encryptionScheme, this.encryptionPK, executor);
 		final Element challenge = this.getSigmaChallengeGenerator().generate(publicInput, commitment);
 		final Element left = f.apply(response);                                   // [3N+3]
 		final Element right = commitment.apply(pV.selfApply(challenge));          //    [3]
@@ -232,14 +244,17 @@ public class ReEncryptionShuffleProofSystem
 		private final ReEncryptionScheme encryptionScheme;
 		private final Element encryptionPK;
 		private final GeneralizedPedersenCommitmentScheme gpcs;
+		private final Executor executor;
 
 		protected PreimageProofFunction(CyclicGroup cyclicGroup, int size, ProductGroup domain, ProductGroup coDomain,
-			   Tuple independentGenerators, Tuple uPrimeV, ReEncryptionScheme encryptionScheme, Element encryptionPK) {
+			   Tuple independentGenerators, Tuple uPrimeV, ReEncryptionScheme encryptionScheme, Element encryptionPK,
+			   Executor executor) {
 			super(domain, coDomain);
 			this.cyclicGroup = cyclicGroup;
 			this.uPrimeV = uPrimeV;
 			this.encryptionScheme = encryptionScheme;
 			this.encryptionPK = encryptionPK;
+			this.executor = executor;
 			this.gpcs = GeneralizedPedersenCommitmentScheme.getInstance(independentGenerators.getAt(0),
 																		independentGenerators.extract(1, size));
 		}
@@ -262,10 +277,16 @@ public class ReEncryptionShuffleProofSystem
 			for (int i = 0; i < ePrimeV.getArity(); i++) {
 				ePrimeVs[i] = zMod.getElement(((ZModElement) ePrimeV.getAt(i)).getValue().mod(zMod.getOrder()));
 			}
-			cV[0] = gpcs.commit(Tuple.getInstance(ePrimeVs), w);
+			if (this.executor == null) {
+				cV[0] = gpcs.commit(Tuple.getInstance(ePrimeVs), w);
+			} else {
+				Element product = computeInnerProduct(gpcs.getMessageGenerators(), Tuple.getInstance(ePrimeVs),
+													  this.executor);
+				cV[0] = gpcs.getRandomizationGenerator().selfApply(w).apply(product);
+			}
 
 			// - Prod(u'_i^(e'_i)) * Enc(1, -r)         [2n+2]
-			final Element a = computeInnerProduct(this.uPrimeV, ePrimeV);
+			final Element a = computeInnerProduct(this.uPrimeV, ePrimeV, this.executor);
 			final Element b
 				   = encryptionScheme.encrypt(encryptionPK, encryptionScheme.getMessageSpace().getIdentityElement(),
 											  r.invert());
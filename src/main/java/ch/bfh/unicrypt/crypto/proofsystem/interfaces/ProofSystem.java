@@ -44,6 +44,7 @@ package ch.bfh.unicrypt.crypto.proofsystem.interfaces;
 import ch.bfh.unicrypt.helper.random.RandomByteSequence;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Set;
+import java.util.concurrent.Executor;
 
 /**
  * This interface represents the concept of a proof system. In general, a proof system allows the generation and the
@@ -59,8 +60,34 @@ public interface ProofSystem {
 
 	public Element generate(Element privateInput, Element publicInput, RandomByteSequence randomByteSequence);
 
+	/**
+	 * Generates a proof using the given executor for the expensive computations. Proof systems, which do not support
+	 * parallel proof generation, compute the proof sequentially. For the same inputs and the same random byte
+	 * sequence, the resulting proof is the same as the one returned by
+	 * {@link ProofSystem#generate(Element, Element, RandomByteSequence)}.
+	 * <p>
+	 * @param privateInput       The private input
+	 * @param publicInput        The public input
+	 * @param randomByteSequence The given random byte sequence
+	 * @param executor           The executor for running the parallel tasks
+	 * @return The generated proof
+	 */
+	public Element generate(Element privateInput, Element publicInput, RandomByteSequence randomByteSequence,
+		   Executor executor);
+
 	public boolean verify(Element proof, Element publicInput);
 
+	/**
+	 * Verifies a proof using the given executor for the expensive computations. Proof systems, which do not support
+	 * parallel proof verification, verify the proof sequentially.
+	 * <p>
+	 * @param proof       The proof
+	 * @param publicInput The public input
+	 * @param executor    The executor for running the parallel tasks
+	 * @return {@code true} if the proof is valid, {@code false} otherwise
+	 */
+	public boolean verify(Element proof, Element publicInput, Executor executor);
+
 	public Set getPrivateInputSpace();
 
 	public Set getPublicInputSpace();
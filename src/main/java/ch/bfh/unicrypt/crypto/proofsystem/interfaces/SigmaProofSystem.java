@@ -49,6 +49,7 @@ import ch.bfh.unicrypt.math.algebra.general.classes.ProductSet;
 import ch.bfh.unicrypt.math.algebra.general.classes.Triple;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Set;
+import java.util.List;
 
 /**
  * This interface represents the concept of a sigma proof system, allowing the generation and verification of a sigma
@@ -85,4 +86,38 @@ public interface SigmaProofSystem
 	@Override
 	public ProductSet getProofSpace();
 
+	/**
+	 * Verifies a batch of proofs for the given public inputs using the library's default random byte sequence. This
+	 * is a convenience method for {@link SigmaProofSystem#verifyBatch(List, List, RandomByteSequence)}.
+	 * <p>
+	 * @param proofs       The given proofs
+	 * @param publicInputs The corresponding public inputs
+	 * @return {@code true} if all proofs are valid, {@code false} otherwise
+	 */
+	public boolean verifyBatch(List<Element> proofs, List<Element> publicInputs);
+
+	/**
+	 * Verifies a batch of proofs for the given public inputs. If the public input space is a group of known prime order
+	 * (or a product of such groups), the verification equations of all proofs are combined into a single equation
+	 * using small random exponents derived from the given random byte sequence, which is considerably faster than
+	 * verifying each proof individually. Otherwise, the proofs are verified individually.
+	 * <p>
+	 * @param proofs             The given proofs
+	 * @param publicInputs       The corresponding public inputs
+	 * @param randomByteSequence The given random byte sequence
+	 * @return {@code true} if all proofs are valid, {@code false} otherwise
+	 */
+	public boolean verifyBatch(List<Element> proofs, List<Element> publicInputs, RandomByteSequence randomByteSequence);
+
+	/**
+	 * Returns the indices of the invalid proofs in a batch of proofs. The batch is first verified as a whole using
+	 * {@link SigmaProofSystem#verifyBatch(List, List)}. Only if the batch verification fails, the proofs are verified
+	 * individually to locate the invalid ones.
+	 * <p>
+	 * @param proofs       The given proofs
+	 * @param publicInputs The corresponding public inputs
+	 * @return The (possibly empty) list of indices of the invalid proofs
+	 */
+	public List<Integer> getInvalidProofs(List<Element> proofs, List<Element> publicInputs);
+
 }
@@ -95,9 +95,15 @@ public abstract class AbstractRandomizedCommitmentScheme<MS extends Set, ME exte
 		return CompositeFunction.getInstance(
 			   SharedDomainFunction.getInstance(CompositeFunction
 					  .getInstance(AdapterFunction.getInstance(decommitmentDomain, 0, 1),
-								   this.getCommitmentFunction()),
+								   this.defaultGetPublicCommitmentFunction()),
 												SelectionFunction.getInstance(decommitmentDomain, 2)),
 			   EqualityFunction.getInstance(this.getCommitmentSpace()));
 	}
 
+	// this method is overridden in commitment schemes, which provide a faster commitment function for public inputs;
+	// it is used for decommitments, in which the message and the randomization are revealed
+	protected Function defaultGetPublicCommitmentFunction() {
+		return this.getCommitmentFunction();
+	}
+
 }
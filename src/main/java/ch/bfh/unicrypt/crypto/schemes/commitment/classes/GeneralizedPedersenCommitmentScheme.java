@@ -63,6 +63,9 @@ public class GeneralizedPedersenCommitmentScheme
 	private final Tuple messageGenerators;
 	private final int size;
 
+	// the commitment function for public inputs, which is only available after calling precompute()
+	private Function publicCommitmentFunction;
+
 	protected GeneralizedPedersenCommitmentScheme(CyclicGroup cyclicGroup, int size, Element randomizationGenerator,
 		   Tuple messageGenerators) {
 		super(ProductSet.getInstance(cyclicGroup.getZModOrder(), size), cyclicGroup, cyclicGroup.getZModOrder());
@@ -88,17 +91,47 @@ public class GeneralizedPedersenCommitmentScheme
 		return this.size;
 	}
 
+	/**
+	 * Precomputes tables for the message generators and the randomization generator. The tables are owned by this
+	 * instance and are only used for decommitments, in which the messages and the randomization are public.
+	 * Commitments are computed without the tables, since their randomizations are secret.
+	 */
+	public final void precompute() {
+		final Function[] generatorFunctions = new Function[this.size];
+		for (int i = 0; i < this.size; i++) {
+			generatorFunctions[i]
+				   = GeneratorFunction.getInstance(this.cyclicGroup.precompute(this.messageGenerators.getAt(i)));
+		}
+		this.publicCommitmentFunction = this.createCommitmentFunction(generatorFunctions,
+			   GeneratorFunction.getInstance(this.cyclicGroup.precompute(this.randomizationGenerator)));
+		// the decommitment function is created again using the precomputed tables
+		this.decommitmentFunction = null;
+	}
+
 	@Override
 	protected Function abstractGetCommitmentFunction() {
 		final Function[] generatorFunctions = new Function[this.size];
 		for (int i = 0; i < this.size; i++) {
 			generatorFunctions[i] = GeneratorFunction.getInstance(this.messageGenerators.getAt(i));
 		}
+		return this.createCommitmentFunction(generatorFunctions,
+											 GeneratorFunction.getInstance(this.randomizationGenerator));
+	}
+
+	@Override
+	protected Function defaultGetPublicCommitmentFunction() {
+		if (this.publicCommitmentFunction == null) {
+			return super.defaultGetPublicCommitmentFunction();
+		}
+		return this.publicCommitmentFunction;
+	}
+
+	private Function createCommitmentFunction(Function[] generatorFunctions, Function randomizationFunction) {
 		return CompositeFunction.getInstance(
 			   ProductFunction.getInstance(
 					  CompositeFunction.getInstance(ProductFunction.getInstance(generatorFunctions),
 													ApplyFunction.getInstance(this.cyclicGroup, this.size)),
-					  GeneratorFunction.getInstance(this.randomizationGenerator)),
+					  randomizationFunction),
 			   ApplyFunction.getInstance(this.cyclicGroup));
 	}
 
@@ -61,6 +61,9 @@ public class PedersenCommitmentScheme
 	private final Element randomizationGenerator;
 	private final Element messageGenerator;
 
+	// the commitment function for public inputs, which is only available after calling precompute()
+	private Function publicCommitmentFunction;
+
 	protected PedersenCommitmentScheme(CyclicGroup cyclicGroup, Element randomizationGenerator,
 		   Element messageGenerator) {
 		super(cyclicGroup.getZModOrder(), cyclicGroup, cyclicGroup.getZModOrder());
@@ -81,12 +84,36 @@ public class PedersenCommitmentScheme
 		return this.messageGenerator;
 	}
 
+	/**
+	 * Precomputes tables for the message generator and the randomization generator. The tables are owned by this
+	 * instance and are only used for decommitments, in which the message and the randomization are public.
+	 * Commitments are computed without the tables, since their randomizations are secret.
+	 */
+	public final void precompute() {
+		this.publicCommitmentFunction = this.createCommitmentFunction(
+			   GeneratorFunction.getInstance(this.cyclicGroup.precompute(this.messageGenerator)),
+			   GeneratorFunction.getInstance(this.cyclicGroup.precompute(this.randomizationGenerator)));
+		// the decommitment function is created again using the precomputed tables
+		this.decommitmentFunction = null;
+	}
+
 	@Override
 	protected Function abstractGetCommitmentFunction() {
-		return CompositeFunction.getInstance(
-			   ProductFunction.getInstance(GeneratorFunction.getInstance(this.messageGenerator),
-										   GeneratorFunction.getInstance(this.randomizationGenerator)),
-			   ApplyFunction.getInstance(this.getCyclicGroup()));
+		return this.createCommitmentFunction(GeneratorFunction.getInstance(this.messageGenerator),
+											 GeneratorFunction.getInstance(this.randomizationGenerator));
+	}
+
+	@Override
+	protected Function defaultGetPublicCommitmentFunction() {
+		if (this.publicCommitmentFunction == null) {
+			return super.defaultGetPublicCommitmentFunction();
+		}
+		return this.publicCommitmentFunction;
+	}
+
+	private Function createCommitmentFunction(Function messageFunction, Function randomizationFunction) {
+		return CompositeFunction.getInstance(ProductFunction.getInstance(messageFunction, randomizationFunction),
+											 ApplyFunction.getInstance(this.getCyclicGroup()));
 	}
 
 	public static PedersenCommitmentScheme getInstance(CyclicGroup cyclicGroup) {
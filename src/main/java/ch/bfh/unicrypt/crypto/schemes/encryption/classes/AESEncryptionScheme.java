@@ -47,14 +47,20 @@ import ch.bfh.unicrypt.crypto.keygenerator.classes.ByteArrayKeyGenerator;
 import ch.bfh.unicrypt.crypto.schemes.encryption.abstracts.AbstractSymmetricEncryptionScheme;
 import ch.bfh.unicrypt.helper.array.classes.ByteArray;
 import ch.bfh.unicrypt.helper.random.RandomByteSequence;
+import ch.bfh.unicrypt.helper.random.hybrid.HybridRandomByteSequence;
 import ch.bfh.unicrypt.math.algebra.concatenative.classes.ByteArrayElement;
 import ch.bfh.unicrypt.math.algebra.concatenative.classes.ByteArrayMonoid;
 import ch.bfh.unicrypt.math.algebra.general.classes.FiniteByteArrayElement;
 import ch.bfh.unicrypt.math.algebra.general.classes.FixedByteArraySet;
 import ch.bfh.unicrypt.math.algebra.general.classes.Pair;
 import ch.bfh.unicrypt.math.algebra.general.classes.ProductSet;
+import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
 import ch.bfh.unicrypt.math.function.abstracts.AbstractFunction;
 import ch.bfh.unicrypt.math.function.interfaces.Function;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
@@ -62,6 +68,7 @@ import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
 import javax.crypto.NoSuchPaddingException;
+import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 
@@ -85,9 +92,14 @@ public class AESEncryptionScheme
 
 	}
 
+	/**
+	 * The supported block cipher modes. In CBC, the initialization vector of the scheme is used for all messages. In
+	 * CTR and GCM, a fresh random initialization vector is selected for each message and prepended to the encryption.
+	 * GCM appends an authentication tag of 16 bytes to the encryption, which is checked during the decryption.
+	 */
 	public enum Mode {
 
-		CBC, ECB
+		CBC, ECB, CTR, GCM
 
 	};
 
@@ -99,21 +111,27 @@ public class AESEncryptionScheme
 	public static final ByteArrayMonoid AES_SPACE = ByteArrayMonoid.getInstance(AES_BLOCK_SIZE / Byte.SIZE);
 	public static final ByteArray DEFAULT_IV = ByteArray.getInstance(false, AES_BLOCK_SIZE / Byte.SIZE);
 
+	// the length of the authentication tag in GCM
+	private static final int GCM_TAG_LENGTH = 128; // bits
+
+	// the size of the buffer used for encrypting and decrypting streams
+	private static final int BUFFER_SIZE = 1 << 16;
+
 	private final KeyLength keyLength;
 	private final Mode mode;
 	private final ByteArray initializationVector;
-	private Cipher cipher;
+
+	// the instances of Cipher used by the different threads
+	private final transient ThreadLocal<Cipher> ciphers;
 
 	protected AESEncryptionScheme(KeyLength keyLength, Mode mode, ByteArray initializationVector) {
 		super(AES_SPACE, AES_SPACE);
 		this.keyLength = keyLength;
 		this.mode = mode;
 		this.initializationVector = initializationVector;
-		try {
-			this.cipher = Cipher.getInstance(ALGORITHM_NAME + "/" + mode + "/NoPadding");
-		} catch (NoSuchAlgorithmException | NoSuchPaddingException exception) {
-			throw new UniCryptRuntimeException(ErrorCode.JAVA_AES_FAILURE, exception);
-		}
+		this.ciphers = ThreadLocal.withInitial(() -> this.createCipher());
+		// fails early if the mode is not supported
+		this.ciphers.get();
 	}
 
 	public KeyLength getKeyLength() {
@@ -128,6 +146,72 @@ public class AESEncryptionScheme
 		return this.initializationVector;
 	}
 
+	/**
+	 * Encrypts the bytes read from the input stream until its end and writes the encryption to the output stream. The
+	 * bytes are processed in blocks, i.e., the memory usage does not depend on the length of the input. In CBC and ECB,
+	 * the total number of bytes must be a multiple of the AES block size. For a given key and message, the result is
+	 * the same as the value of {@link AESEncryptionScheme#encrypt(Element, Element)}. The streams are not closed.
+	 * <p>
+	 * @param encryptionKey The encryption key
+	 * @param input         The input stream
+	 * @param output        The output stream
+	 * @throws IOException if an I/O error occurs
+	 */
+	public void encrypt(Element encryptionKey, InputStream input, OutputStream output) throws IOException {
+		this.encrypt(encryptionKey, input, output, HybridRandomByteSequence.getInstance());
+	}
+
+	/**
+	 * Encrypts the bytes read from the input stream until its end and writes the encryption to the output stream. The
+	 * given random byte sequence is used for selecting the initialization vector in CTR and GCM.
+	 * <p>
+	 * @param encryptionKey      The encryption key
+	 * @param input              The input stream
+	 * @param output             The output stream
+	 * @param randomByteSequence The random byte sequence
+	 * @throws IOException if an I/O error occurs
+	 * @see AESEncryptionScheme#encrypt(Element, InputStream, OutputStream)
+	 */
+	public void encrypt(Element encryptionKey, InputStream input, OutputStream output,
+		   RandomByteSequence randomByteSequence) throws IOException {
+		if (!this.getEncryptionKeySpace().contains(encryptionKey) || input == null || output == null
+			   || randomByteSequence == null) {
+			throw new IllegalArgumentException();
+		}
+		ByteArray iv = this.getInitializationVector(randomByteSequence);
+		Cipher cipher = this.getCipher(Cipher.ENCRYPT_MODE, (ByteArray) encryptionKey.getValue(), iv);
+		if (this.hasRandomInitializationVector()) {
+			output.write(iv.getBytes());
+		}
+		AESEncryptionScheme.process(cipher, input, output);
+	}
+
+	/**
+	 * Decrypts the bytes read from the input stream until its end and writes the decrypted message to the output
+	 * stream. This is the inverse operation of {@link AESEncryptionScheme#encrypt(Element, InputStream, OutputStream)}.
+	 * Note that in GCM, the decrypted message is released by the underlying cipher only after checking the
+	 * authentication tag at the end of the input, i.e., the memory usage grows with the length of the input. The
+	 * streams are not closed.
+	 * <p>
+	 * @param decryptionKey The decryption key
+	 * @param input         The input stream
+	 * @param output        The output stream
+	 * @throws IOException if an I/O error occurs
+	 */
+	public void decrypt(Element decryptionKey, InputStream input, OutputStream output) throws IOException {
+		if (!this.getDecryptionKeySpace().contains(decryptionKey) || input == null || output == null) {
+			throw new IllegalArgumentException();
+		}
+		ByteArray iv = this.initializationVector;
+		if (this.hasRandomInitializationVector()) {
+			byte[] bytes = new byte[AES_BLOCK_SIZE / Byte.SIZE];
+			new DataInputStream(input).readFully(bytes);
+			iv = ByteArray.getInstance(bytes);
+		}
+		Cipher cipher = this.getCipher(Cipher.DECRYPT_MODE, (ByteArray) decryptionKey.getValue(), iv);
+		AESEncryptionScheme.process(cipher, input, output);
+	}
+
 	@Override
 	protected Function abstractGetEncryptionFunction() {
 		return new AESEncryptionFunction();
@@ -154,21 +238,13 @@ public class AESEncryptionScheme
 		protected ByteArrayElement abstractApply(Pair element, RandomByteSequence randomByteSequence) {
 			FiniteByteArrayElement key = (FiniteByteArrayElement) element.getFirst();
 			ByteArrayElement message = (ByteArrayElement) element.getSecond();
-			SecretKeySpec secretKeySpec = new SecretKeySpec(key.getValue().getBytes(), ALGORITHM_NAME);
-			byte[] encryptedBytes;
-			try {
-				if (mode == Mode.CBC) {
-					cipher.init(Cipher.ENCRYPT_MODE, secretKeySpec,
-								new IvParameterSpec(initializationVector.getBytes()));
-				} else {
-					cipher.init(Cipher.ENCRYPT_MODE, secretKeySpec);
-				}
-				encryptedBytes = cipher.doFinal(message.getValue().getBytes());
-			} catch (InvalidKeyException | IllegalBlockSizeException | BadPaddingException
-				   | InvalidAlgorithmParameterException exception) {
-				throw new UniCryptRuntimeException(ErrorCode.JAVA_AES_FAILURE, exception);
+			ByteArray iv = getInitializationVector(randomByteSequence);
+			Cipher cipher = getCipher(Cipher.ENCRYPT_MODE, key.getValue(), iv);
+			ByteArray encryption = ByteArray.getInstance(doFinal(cipher, message.getValue().getBytes()));
+			if (hasRandomInitializationVector()) {
+				encryption = iv.append(encryption);
 			}
-			return this.getCoDomain().getElement(encryptedBytes);
+			return this.getCoDomain().getElement(encryption);
 		}
 
 	}
@@ -183,22 +259,17 @@ public class AESEncryptionScheme
 		@Override
 		protected ByteArrayElement abstractApply(Pair element, RandomByteSequence randomByteSequence) {
 			FiniteByteArrayElement key = (FiniteByteArrayElement) element.getFirst();
-			ByteArrayElement encryption = (ByteArrayElement) element.getSecond();
-			SecretKeySpec secretKeySpec = new SecretKeySpec(key.getValue().getBytes(), ALGORITHM_NAME);
-			byte[] message;
-			try {
-				if (mode == Mode.CBC) {
-					cipher.init(Cipher.DECRYPT_MODE, secretKeySpec,
-								new IvParameterSpec(initializationVector.getBytes()));
-				} else {
-					cipher.init(Cipher.DECRYPT_MODE, secretKeySpec);
+			ByteArray encryption = ((ByteArrayElement) element.getSecond()).getValue();
+			ByteArray iv = initializationVector;
+			if (hasRandomInitializationVector()) {
+				if (encryption.getLength() < AES_BLOCK_SIZE / Byte.SIZE) {
+					throw new UniCryptRuntimeException(ErrorCode.JAVA_AES_FAILURE, encryption);
 				}
-				message = cipher.doFinal(encryption.getValue().getBytes());
-			} catch (InvalidKeyException | IllegalBlockSizeException | BadPaddingException
-				   | InvalidAlgorithmParameterException exception) {
-				throw new UniCryptRuntimeException(ErrorCode.JAVA_AES_FAILURE, exception);
+				iv = encryption.extractPrefix(AES_BLOCK_SIZE / Byte.SIZE);
+				encryption = encryption.removePrefix(AES_BLOCK_SIZE / Byte.SIZE);
 			}
-			return this.getCoDomain().getElement(message);
+			Cipher cipher = getCipher(Cipher.DECRYPT_MODE, key.getValue(), iv);
+			return this.getCoDomain().getElement(doFinal(cipher, encryption.getBytes()));
 		}
 
 	}
@@ -224,6 +295,82 @@ public class AESEncryptionScheme
 		return super.getSecretKeyGenerator().generateSecretKey(password, salt);
 	}
 
+	// private helper method to check if a fresh initialization vector is selected for each message
+	private boolean hasRandomInitializationVector() {
+		return this.mode == Mode.CTR || this.mode == Mode.GCM;
+	}
+
+	// private helper method to select the initialization vector for the next message (null in ECB)
+	private ByteArray getInitializationVector(RandomByteSequence randomByteSequence) {
+		if (this.hasRandomInitializationVector()) {
+			return randomByteSequence.iterator().next(AES_BLOCK_SIZE / Byte.SIZE);
+		}
+		if (this.mode == Mode.CBC) {
+			return this.initializationVector;
+		}
+		return null;
+	}
+
+	// private helper method to initialize the cipher of the current thread
+	private Cipher getCipher(int operationMode, ByteArray key, ByteArray iv) {
+		Cipher cipher = this.ciphers.get();
+		SecretKeySpec secretKeySpec = new SecretKeySpec(key.getBytes(), ALGORITHM_NAME);
+		try {
+			switch (this.mode) {
+				case ECB:
+					cipher.init(operationMode, secretKeySpec);
+					break;
+				case GCM:
+					cipher.init(operationMode, secretKeySpec, new GCMParameterSpec(GCM_TAG_LENGTH, iv.getBytes()));
+					break;
+				default:
+					cipher.init(operationMode, secretKeySpec, new IvParameterSpec(iv.getBytes()));
+			}
+		} catch (InvalidKeyException | InvalidAlgorithmParameterException exception) {
+			throw new UniCryptRuntimeException(ErrorCode.JAVA_AES_FAILURE, exception);
+		}
+		return cipher;
+	}
+
+	// private helper method to process the bytes in a single step
+	private static byte[] doFinal(Cipher cipher, byte[] bytes) {
+		try {
+			return cipher.doFinal(bytes);
+		} catch (IllegalBlockSizeException | BadPaddingException exception) {
+			throw new UniCryptRuntimeException(ErrorCode.JAVA_AES_FAILURE, exception);
+		}
+	}
+
+	// private helper method to process the bytes of a stream block by block
+	private static void process(Cipher cipher, InputStream input, OutputStream output) throws IOException {
+		byte[] buffer = new byte[BUFFER_SIZE];
+		int length;
+		while ((length = input.read(buffer)) >= 0) {
+			byte[] bytes = cipher.update(buffer, 0, length);
+			if (bytes != null) {
+				output.write(bytes);
+			}
+		}
+		try {
+			output.write(cipher.doFinal());
+		} catch (IllegalBlockSizeException | BadPaddingException exception) {
+			throw new UniCryptRuntimeException(ErrorCode.JAVA_AES_FAILURE, exception);
+		}
+	}
+
+	private Cipher createCipher() {
+		try {
+			return Cipher.getInstance(ALGORITHM_NAME + "/" + this.mode + "/NoPadding");
+		} catch (NoSuchAlgorithmException | NoSuchPaddingException exception) {
+			throw new UniCryptRuntimeException(ErrorCode.JAVA_AES_FAILURE, exception);
+		}
+	}
+
+	// the ThreadLocal instance is restored by creating a new instance
+	private Object readResolve() {
+		return AESEncryptionScheme.getInstance(this.keyLength, this.mode, this.initializationVector);
+	}
+
 	public static AESEncryptionScheme getInstance() {
 		return AESEncryptionScheme.getInstance(AESEncryptionScheme.DEFAULT_KEY_LENGTH, AESEncryptionScheme.DEFAULT_MODE,
 											   AESEncryptionScheme.DEFAULT_IV);
@@ -45,8 +45,14 @@ import ch.bfh.unicrypt.helper.aggregator.abstracts.AbstractAggregator;
 import ch.bfh.unicrypt.helper.array.classes.ByteArray;
 import ch.bfh.unicrypt.helper.sequence.Sequence;
 import ch.bfh.unicrypt.helper.sequence.SequenceIterator;
+import ch.bfh.unicrypt.helper.tree.Leaf;
+import ch.bfh.unicrypt.helper.tree.Node;
+import ch.bfh.unicrypt.helper.tree.Tree;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * The single instance of this class specifies the invertible aggregation of a tree of {@code ByteArray} values. Leaves
@@ -84,6 +90,54 @@ public class ByteArrayAggregator
 		return ByteArrayAggregator.instance;
 	}
 
+	/**
+	 * Aggregates a tree of byte arrays and passes the resulting byte array in multiple pieces to the given consumer.
+	 * The concatenation of the pieces is equal to the byte array returned by {@link #aggregate(Tree)}, but the
+	 * aggregated byte arrays of the inner nodes are never constructed. This is useful for passing the aggregated byte
+	 * array of a large tree directly to a hash digest or an output stream.
+	 * <p>
+	 * @param tree     The given tree
+	 * @param consumer The consumer of the pieces
+	 */
+	public void aggregate(Tree<ByteArray> tree, Consumer<ByteArray> consumer) {
+		if (tree == null || consumer == null) {
+			throw new IllegalArgumentException();
+		}
+		// the leaf values and the lengths of all leaves and nodes are collected in pre-order in a first pass
+		List<ByteArray> values = new ArrayList<>();
+		List<Integer> lengths = new ArrayList<>();
+		this.collect(tree, values, lengths);
+		for (int i = 0; i < values.size(); i++) {
+			ByteArray value = values.get(i);
+			ByteBuffer buffer = ByteBuffer.allocate(PREFIX_LENGTH);
+			buffer.put(value == null ? NODE_IDENTIFIER : LEAF_IDENTIFIER);
+			buffer.putInt(lengths.get(i));
+			consumer.accept(new SafeByteArray(buffer.array()));
+			if (value != null) {
+				consumer.accept(value);
+			}
+		}
+	}
+
+	// private helper method to collect the leaf values (null for nodes) and lengths in pre-order
+	private int collect(Tree<ByteArray> tree, List<ByteArray> values, List<Integer> lengths) {
+		if (tree.isLeaf()) {
+			ByteArray value = ((Leaf<ByteArray>) tree).getValue();
+			values.add(value);
+			lengths.add(value.getLength());
+			return PREFIX_LENGTH + value.getLength();
+		}
+		int index = values.size();
+		values.add(null);
+		lengths.add(0);
+		int byteLength = 0;
+		for (Tree<ByteArray> child : ((Node<ByteArray>) tree).getChildren()) {
+			byteLength = byteLength + this.collect(child, values, lengths);
+		}
+		lengths.set(index, byteLength);
+		return PREFIX_LENGTH + byteLength;
+	}
+
 	@Override
 	protected ByteArray abstractAggregateLeaf(ByteArray value) {
 		ByteBuffer buffer = ByteBuffer.allocate(PREFIX_LENGTH + value.getLength());
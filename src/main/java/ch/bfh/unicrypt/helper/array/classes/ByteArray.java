@@ -48,6 +48,7 @@ import ch.bfh.unicrypt.helper.array.interfaces.BinaryArray;
 import ch.bfh.unicrypt.helper.array.interfaces.ImmutableArray;
 import ch.bfh.unicrypt.helper.converter.classes.string.ByteArrayToString;
 import ch.bfh.unicrypt.helper.hash.HashAlgorithm;
+import ch.bfh.unicrypt.helper.hash.HashDigest;
 import ch.bfh.unicrypt.helper.math.MathUtil;
 import ch.bfh.unicrypt.helper.random.RandomByteSequence;
 import ch.bfh.unicrypt.helper.random.hybrid.HybridRandomByteSequence;
@@ -295,6 +296,20 @@ public class ByteArray
 		return new ByteArray(hash);
 	}
 
+	/**
+	 * Passes the bytes of the byte array to the given digest, which computes a hash value incrementally. This is
+	 * equivalent to {@code digest.update(this.getBytes())}, but without copying the bytes.
+	 * <p>
+	 * @param digest The given digest
+	 */
+	public void update(HashDigest digest) {
+		if (digest == null) {
+			throw new IllegalArgumentException();
+		}
+		this.normalize();
+		digest.update(this.bytes, 0, this.length);
+	}
+
 	/**
 	 * Creates a new byte array by reversing the bits of each byte. The order of the values in the array remains
 	 * unchanged. Keeping the order of the bytes in the array distinguishes this method from
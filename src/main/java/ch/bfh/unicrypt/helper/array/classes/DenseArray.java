@@ -44,6 +44,7 @@ package ch.bfh.unicrypt.helper.array.classes;
 import ch.bfh.unicrypt.helper.array.abstracts.AbstractImmutableArray;
 import ch.bfh.unicrypt.helper.array.interfaces.ImmutableArray;
 import ch.bfh.unicrypt.helper.sequence.Sequence;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
@@ -90,6 +91,10 @@ public class DenseArray<V>
 	 * @return The new sparse array
 	 */
 	public static <V> DenseArray<V> getInstance(V... values) {
+		if (values != null && Arrays.stream(values).allMatch(Sequence.NOT_NULL)) {
+			// no null values to eliminate, the Java array can be copied directly
+			return new DenseArray<>(Arrays.copyOf(values, values.length, Object[].class));
+		}
 		return DenseArray.getInstance(Sequence.getInstance(values));
 	}
 
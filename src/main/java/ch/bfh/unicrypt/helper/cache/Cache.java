@@ -42,14 +42,22 @@
 package ch.bfh.unicrypt.helper.cache;
 
 import ch.bfh.unicrypt.UniCrypt;
-import java.util.Collections;
-import java.util.LinkedHashMap;
-import java.util.Map;
-import java.util.Map.Entry;
+import java.io.Serializable;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * This class provides a thread-safe cache based on a LRU (Least Recently Used) hash map. The cache discards the least
- * recently used entries first when the maximal size of the cache is reached.
+ * This class provides a thread-safe cache with an approximate LRU (Least Recently Used) eviction policy. The cache
+ * discards entries that have not been used recently when the maximal size of the cache is reached. Lookups are
+ * lock-free, they only mark the entry as used and record the time of the access, which is measured in the number of
+ * insertions. When the cache is full, the entries are visited in insertion order and the first entry, which has not
+ * been used since its last visit or not within the last {@code maxSize} insertions, is discarded. The marks of the
+ * visited entries are cleared (CLOCK or second-chance algorithm). Note that such an entry would also be discarded by
+ * an exact LRU policy. Counters for the number of hits, misses, and evictions are provided.
  *
  * @author R. Haenni
  * @version 2.0
@@ -66,12 +74,20 @@ public class Cache<K, V>
 	public static final int SIZE_XL = 10000;
 	public static final int SIZE_XXL = 100000;
 
-	// same default values as in LinkedHashMap
-	private static final int INITIAL_CAPACITY = 16;
-	private static final float LOAD_FACTOR = 0.75F;
+	private final int maxSize;
 
-	// internal linked hash map
-	private final Map<K, V> map;
+	// internal concurrent hash map
+	private final ConcurrentMap<K, Entry<K, V>> map;
+
+	// the entries in insertion order (second-chance entries are moved to the end)
+	private final Queue<Entry<K, V>> clock;
+
+	// the number of insertions serves as logical time
+	private final AtomicLong insertions;
+
+	private final LongAdder hits;
+	private final LongAdder misses;
+	private final LongAdder evictions;
 
 	/**
 	 * Returns a new medium-sized instance of this class, an initially empty cache of size {@link Cache#SIZE_M}.
@@ -86,14 +102,25 @@ public class Cache<K, V>
 	 * @param maxSize The maximal size of the cache
 	 */
 	public Cache(int maxSize) {
-		// accessOrder = true for 'last recently used'
-		this.map = Collections.synchronizedMap(new LinkedHashMap<K, V>(INITIAL_CAPACITY, LOAD_FACTOR, true) {
-			@Override
-			protected boolean removeEldestEntry(Entry<K, V> entry) {
-				return this.size() > maxSize;
-			}
+		if (maxSize < 1) {
+			throw new IllegalArgumentException();
+		}
+		this.maxSize = maxSize;
+		this.map = new ConcurrentHashMap<>();
+		this.clock = new ConcurrentLinkedQueue<>();
+		this.insertions = new AtomicLong();
+		this.hits = new LongAdder();
+		this.misses = new LongAdder();
+		this.evictions = new LongAdder();
+	}
 
-		});
+	/**
+	 * Returns the maximal number of entries in the cache.
+	 *
+	 * @return The maximal number of entries
+	 */
+	public int getMaxSize() {
+		return this.maxSize;
 	}
 
 	/**
@@ -105,6 +132,33 @@ public class Cache<K, V>
 		return this.map.size();
 	}
 
+	/**
+	 * Returns the number of calls of {@link Cache#get(Object)}, for which the key existed in the cache.
+	 *
+	 * @return The number of cache hits
+	 */
+	public long getHitCount() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * Returns the number of calls of {@link Cache#get(Object)}, for which the key did not exist in the cache.
+	 *
+	 * @return The number of cache misses
+	 */
+	public long getMissCount() {
+		return this.misses.sum();
+	}
+
+	/**
+	 * Returns the number of entries discarded from the cache since its creation.
+	 *
+	 * @return The number of evictions
+	 */
+	public long getEvictionCount() {
+		return this.evictions.sum();
+	}
+
 	/**
 	 * Returns the value associated to the given key in the cache. Return {@code null} if the key does not exist.
 	 *
@@ -115,7 +169,19 @@ public class Cache<K, V>
 		if (key == null) {
 			throw new IllegalArgumentException();
 		}
-		return this.map.get(key);
+		Entry<K, V> entry = this.map.get(key);
+		if (entry == null) {
+			this.misses.increment();
+			return null;
+		}
+		this.hits.increment();
+		// avoid unnecessary writes to shared memory
+		long time = this.insertions.get();
+		if (!entry.used || entry.time != time) {
+			entry.used = true;
+			entry.time = time;
+		}
+		return entry.value;
 	}
 
 	/**
@@ -128,7 +194,61 @@ public class Cache<K, V>
 		if (key == null || value == null) {
 			throw new IllegalArgumentException();
 		}
-		this.map.put(key, value);
+		Entry<K, V> newEntry = new Entry<>(key, value);
+		Entry<K, V> entry = this.map.putIfAbsent(key, newEntry);
+		if (entry != null) {
+			entry.value = value;
+			entry.used = true;
+			entry.time = this.insertions.get();
+			return;
+		}
+		newEntry.time = this.insertions.incrementAndGet();
+		this.clock.add(newEntry);
+		if (this.map.size() > this.maxSize) {
+			this.evict(newEntry);
+		}
+	}
+
+	// discards entries until the maximal size is respected, concurrent calls are serialized
+	private void evict(Entry<K, V> newEntry) {
+		synchronized (this.clock) {
+			long time = this.insertions.get();
+			while (this.map.size() > this.maxSize) {
+				Entry<K, V> entry = this.clock.poll();
+				if (entry == null) {
+					return;
+				}
+				if (entry == newEntry || (entry.used && entry.time > time - this.maxSize)) {
+					// second chance
+					entry.used = false;
+					this.clock.add(entry);
+					if (entry == newEntry && this.clock.peek() == entry) {
+						// the other entries are still being inserted concurrently
+						return;
+					}
+				} else {
+					this.map.remove(entry.key, entry);
+					this.evictions.increment();
+				}
+			}
+		}
+	}
+
+	private static class Entry<K, V>
+		   implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final K key;
+		private volatile V value;
+		private volatile boolean used;
+		private volatile long time;
+
+		private Entry(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+
 	}
 
 }
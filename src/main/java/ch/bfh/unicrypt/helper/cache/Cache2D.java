@@ -42,9 +42,9 @@
 package ch.bfh.unicrypt.helper.cache;
 
 /**
- * This class provides a thread-safe 2-dimensional cache based on a LRU (Least Recently Used) hash map. Each value in
- * the cache is associated with two keys. The cache discards the least recently used entries first when the maximal size
- * of the cache is reached.
+ * This class provides a thread-safe 2-dimensional cache with an approximate LRU (Least Recently Used) eviction policy.
+ * Each value in the cache is associated with two keys. The cache discards entries that have not been used recently
+ * when the maximal size of the cache is reached. See {@link Cache} for further details.
  *
  * @param <K1> The type of the first keys
  * @param <K2> The type of the second keys
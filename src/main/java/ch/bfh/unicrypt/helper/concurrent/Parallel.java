@@ -0,0 +1,213 @@
+/*
+ * UniCrypt
+ *
+ *  UniCrypt(tm): Cryptographical framework allowing the implementation of cryptographic protocols e.g. e-voting
+ *  Copyright (c) 2016 Bern University of Applied Sciences (BFH), Research Institute for
+ *  Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *  Quellgasse 21, CH-2501 Biel, Switzerland
+ *
+ *  Licensed under Dual License consisting of:
+ *  1. GNU Affero General Public License (AGPL) v3
+ *  and
+ *  2. Commercial license
+ *
+ *
+ *  1. This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ *  2. Licensees holding valid commercial licenses for UniCrypt may use this file in
+ *   accordance with the commercial license agreement provided with the
+ *   Software or, alternatively, in accordance with the terms contained in
+ *   a written agreement between you and Bern University of Applied Sciences (BFH), Research Institute for
+ *   Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *   Quellgasse 21, CH-2501 Biel, Switzerland.
+ *
+ *
+ *   For further information contact <e-mail: unicrypt@bfh.ch>
+ *
+ *
+ * Redistributions of files must retain the above copyright notice.
+ */
+package ch.bfh.unicrypt.helper.concurrent;
+
+import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
+import ch.bfh.unicrypt.math.algebra.general.interfaces.SemiGroup;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.IntConsumer;
+
+/**
+ * This is a helper class for executing independent computations in parallel. The computations are identified by the
+ * indices {@code 0,...,n-1}. They are divided into chunks of consecutive indices, which are executed by a given
+ * {@link Executor}. The calling thread blocks until all computations are finished. Since each computation writes its
+ * result to a distinct location, the results do not depend on the number of threads or on the order of execution.
+ * <p>
+ * @author R. Haenni
+ * @version 2.0
+ */
+public final class Parallel {
+
+	// the number of chunks per thread of the executor, more chunks balance the load better
+	private static final int CHUNKS_PER_THREAD = 4;
+
+	private Parallel() {
+	}
+
+	/**
+	 * Returns the library's default executor for parallel computations, the common {@link ForkJoinPool}.
+	 * <p>
+	 * @return The default executor
+	 */
+	public static Executor getDefaultExecutor() {
+		return ForkJoinPool.commonPool();
+	}
+
+	/**
+	 * Returns the number of threads used by the given executor for executing tasks in parallel. For a
+	 * {@link ForkJoinPool}, this is its parallelism, and for a {@link ThreadPoolExecutor}, this is its core pool size.
+	 * For other executors, or if the core pool size is 0, the number of available processors is returned.
+	 * <p>
+	 * @param executor The given executor
+	 * @return The parallelism of the executor
+	 */
+	public static int getParallelism(Executor executor) {
+		if (executor == null) {
+			throw new IllegalArgumentException();
+		}
+		int processors = Runtime.getRuntime().availableProcessors();
+		if (executor instanceof ForkJoinPool) {
+			return ((ForkJoinPool) executor).getParallelism();
+		}
+		if (executor instanceof ThreadPoolExecutor) {
+			ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) executor;
+			if (threadPoolExecutor.getCorePoolSize() > 0) {
+				return threadPoolExecutor.getCorePoolSize();
+			}
+			return Math.min(threadPoolExecutor.getMaximumPoolSize(), processors);
+		}
+		return processors;
+	}
+
+	/**
+	 * Executes the given action for all indices {@code 0,...,n-1} in parallel using the given executor. The number of
+	 * chunks is derived from the parallelism of the executor, see {@link #getParallelism(Executor)}. If the executor is
+	 * {@code null}, the action is executed sequentially in the calling thread. Exceptions thrown by the action are
+	 * passed to the calling thread.
+	 * <p>
+	 * @param n        The number of indices
+	 * @param action   The action to be executed for each index
+	 * @param executor The executor or {@code null}
+	 */
+	public static void forEach(final int n, final IntConsumer action, final Executor executor) {
+		if (n < 0 || action == null) {
+			throw new IllegalArgumentException();
+		}
+		if (executor == null) {
+			for (int i = 0; i < n; i++) {
+				action.accept(i);
+			}
+			return;
+		}
+		Parallel.forEach(n, action, executor, Parallel.getParallelism(executor));
+	}
+
+	/**
+	 * Executes the given action for all indices {@code 0,...,n-1} in parallel using the given executor, which is
+	 * assumed to run the given number of threads in parallel. Exceptions thrown by the action are passed to the calling
+	 * thread.
+	 * <p>
+	 * @param n           The number of indices
+	 * @param action      The action to be executed for each index
+	 * @param executor    The executor
+	 * @param parallelism The number of threads of the executor
+	 */
+	public static void forEach(final int n, final IntConsumer action, final Executor executor, int parallelism) {
+		if (n < 0 || action == null || executor == null || parallelism < 1) {
+			throw new IllegalArgumentException();
+		}
+		int chunkCount = (int) Math.min(n, (long) CHUNKS_PER_THREAD * parallelism);
+		if (chunkCount <= 1) {
+			for (int i = 0; i < n; i++) {
+				action.accept(i);
+			}
+			return;
+		}
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[chunkCount];
+		for (int chunk = 0; chunk < chunkCount; chunk++) {
+			final int from = (int) ((long) n * chunk / chunkCount);
+			final int to = (int) ((long) n * (chunk + 1) / chunkCount);
+			futures[chunk] = CompletableFuture.runAsync(() -> {
+				for (int i = from; i < to; i++) {
+					action.accept(i);
+				}
+			}, executor);
+		}
+		try {
+			CompletableFuture.allOf(futures).join();
+		} catch (CompletionException exception) {
+			Throwable cause = exception.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw exception;
+		}
+	}
+
+	/**
+	 * Computes {@link SemiGroup#multiSelfApply(Element[], BigInteger[])} in parallel using the given executor. The
+	 * elements are divided into one chunk per thread of the executor. The partial results of the chunks are computed
+	 * in parallel and combined at the end. If the executor is {@code null}, the whole computation is executed in the
+	 * calling thread. If the amounts are public, {@link SemiGroup#multiSelfApplyPublic(Element[], BigInteger[])} is
+	 * used for computing the partial results.
+	 * <p>
+	 * @param <V>           The generic type of the element values
+	 * @param semiGroup     The semigroup
+	 * @param elements      The given array of elements
+	 * @param amounts       Corresponding amounts
+	 * @param publicAmounts {@code true}, if the amounts are public
+	 * @param executor      The executor or {@code null}
+	 * @return The result of the multi-exponentiation
+	 */
+	public static <V> Element<V> multiSelfApply(final SemiGroup<V> semiGroup, final Element[] elements,
+		   final BigInteger[] amounts, final boolean publicAmounts, final Executor executor) {
+		if (semiGroup == null || elements == null || amounts == null || elements.length != amounts.length) {
+			throw new IllegalArgumentException();
+		}
+		if (executor == null || elements.length <= 1) {
+			return publicAmounts ? semiGroup.multiSelfApplyPublic(elements, amounts)
+				   : semiGroup.multiSelfApply(elements, amounts);
+		}
+		final int n = elements.length;
+		final int chunkCount = Math.min(n, Parallel.getParallelism(executor));
+		final Element[] results = new Element[chunkCount];
+		Parallel.forEach(chunkCount, chunk -> {
+			int from = (int) ((long) n * chunk / chunkCount);
+			int to = (int) ((long) n * (chunk + 1) / chunkCount);
+			Element[] chunkElements = Arrays.copyOfRange(elements, from, to);
+			BigInteger[] chunkAmounts = Arrays.copyOfRange(amounts, from, to);
+			results[chunk] = publicAmounts ? semiGroup.multiSelfApplyPublic(chunkElements, chunkAmounts)
+				   : semiGroup.multiSelfApply(chunkElements, chunkAmounts);
+		}, executor, chunkCount);
+		return semiGroup.apply(results);
+	}
+
+}
@@ -182,7 +182,7 @@ public class ConvertMethod<W>
 			return false;
 		}
 		final ConvertMethod<?> other = (ConvertMethod<?>) obj;
-		if (this.converterMap.size() != other.converterMap.size()) {
+		if (!this.outputClass.equals(other.outputClass) || this.converterMap.size() != other.converterMap.size()) {
 			return false;
 		}
 		for (Class c : this.converterMap.keySet()) {
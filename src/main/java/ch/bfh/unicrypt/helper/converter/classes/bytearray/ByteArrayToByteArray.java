@@ -98,6 +98,15 @@ public class ByteArrayToByteArray
 		return new ByteArrayToByteArray(reverse, bitReverse);
 	}
 
+	/**
+	 * Checks if the converter leaves the byte arrays unchanged, i.e., if neither the bytes nor the bits are reversed.
+	 * <p>
+	 * @return {@code true}, if the byte arrays remain unchanged, {@code false} otherwise
+	 */
+	public boolean isIdentity() {
+		return !this.reverse && !this.bitReverse;
+	}
+
 	@Override
 	protected ByteArray abstractConvert(ByteArray byteArray) {
 		ByteArray result = this.bitReverse ? byteArray.bitReverse() : byteArray;
@@ -116,4 +125,24 @@ public class ByteArrayToByteArray
 		return result;
 	}
 
+	@Override
+	public int hashCode() {
+		int hash = 3;
+		hash = 43 * hash + (this.reverse ? 1 : 0);
+		hash = 43 * hash + (this.bitReverse ? 1 : 0);
+		return hash;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		final ByteArrayToByteArray other = (ByteArrayToByteArray) obj;
+		return this.reverse == other.reverse && this.bitReverse == other.bitReverse;
+	}
+
 }
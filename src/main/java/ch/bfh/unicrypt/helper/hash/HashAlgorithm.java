@@ -43,7 +43,6 @@ package ch.bfh.unicrypt.helper.hash;
 
 import ch.bfh.unicrypt.UniCrypt;
 import ch.bfh.unicrypt.helper.array.classes.ByteArray;
-import ch.bfh.unicrypt.helper.math.MathUtil;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
@@ -92,8 +91,14 @@ public class HashAlgorithm
 	// The name of the algorithm
 	private final String algorithmName;
 
-	// An instance of MessageDigest to execute the algorithm
-	private final MessageDigest messageDigest;
+	// A prototype instance of MessageDigest, which is cloned for each thread and each digest
+	private final transient MessageDigest messageDigest;
+
+	// The instances of MessageDigest used by the different threads to execute the algorithm
+	private final transient ThreadLocal<MessageDigest> messageDigests;
+
+	// The byte length of the hash values
+	private final int byteLength;
 
 	// The block length of the algorithm (used in HMAC)
 	private final int blockLength;
@@ -105,6 +110,8 @@ public class HashAlgorithm
 		} catch (final NoSuchAlgorithmException e) {
 			throw new IllegalArgumentException();
 		}
+		this.messageDigests = ThreadLocal.withInitial(() -> this.createMessageDigest());
+		this.byteLength = this.messageDigest.getDigestLength();
 		switch (algorithmName) {
 			case "SHA-1":
 				this.blockLength = 64;
@@ -138,18 +145,26 @@ public class HashAlgorithm
 	/**
 	 * Returns the hash value of a given Java byte array.
 	 * <p>
-	 * This method must be synchronized in order to work properly in multi-threaded environment. The underlying
-	 * messageDigest is not thread safe
+	 * This method is thread-safe without being synchronized. Since the underlying message digest is not thread-safe,
+	 * each thread uses its own instance.
 	 * <p>
 	 * @param message The given Java byte array
 	 * @return The hash value
 	 */
-	public synchronized byte[] getHashValue(byte[] message) {
+	public byte[] getHashValue(byte[] message) {
 		if (message == null) {
 			throw new IllegalArgumentException();
 		}
-		return this.messageDigest.digest(message);
+		return this.messageDigests.get().digest(message);
+	}
 
+	/**
+	 * Returns a new digest for computing hash values incrementally. Each digest must only be used by a single thread.
+	 * <p>
+	 * @return The new digest
+	 */
+	public HashDigest getDigest() {
+		return new HashDigest(this, this.createMessageDigest());
 	}
 
 	/**
@@ -188,20 +203,23 @@ public class HashAlgorithm
 		if (message == null || key == null) {
 			throw new IllegalArgumentException();
 		}
-		if (key.getLength() > this.blockLength) {
-			key = key.getHashValue(this);
-		}
-		if (key.getLength() < this.blockLength) {
-			key = key.addSuffix(this.blockLength - key.getLength());
+		return this.getHashMac(key).getHashValue(message);
+	}
+
+	/**
+	 * Returns a new HMAC (RFC 2104) for a given key. The padded key is processed only once, which makes this method
+	 * preferable over {@link HashAlgorithm#getHashValue(ByteArray, ByteArray)} for computing multiple HMAC values
+	 * with the same key.
+	 * <p>
+	 * @param key The given key
+	 * @return The new HMAC
+	 */
+	public HashMac getHashMac(ByteArray key) {
+		if (key == null) {
+			throw new IllegalArgumentException();
 		}
-		ByteArray ipad = ByteArray.getInstance(MathUtil.getByte(0x36), this.blockLength);
-		ByteArray byteArray1 = key.xor(ipad).append(message).getHashValue(this);
-		ByteArray opad = ByteArray.getInstance(MathUtil.getByte(0x5C), this.blockLength);
-		ByteArray byteArray2 = key.xor(opad);
-		// according to RFC 2104
-		return byteArray2.append(byteArray1).getHashValue(this);
-		// according to FIPS 198
-		//return byteArray2.append(byteArray1).append(message).getHashValue(this);
+		return new HashMac(this, this.blockLength, this.createMessageDigest(), this.createMessageDigest(),
+						   key.getBytes());
 	}
 
 	/**
@@ -222,7 +240,7 @@ public class HashAlgorithm
 	 * @return The byte length
 	 */
 	public int getByteLength() {
-		return this.messageDigest.getDigestLength();
+		return this.byteLength;
 	}
 
 	/**
@@ -266,6 +284,24 @@ public class HashAlgorithm
 		throw new IllegalArgumentException();
 	}
 
+	// cloning the prototype avoids the provider lookup of MessageDigest.getInstance
+	private MessageDigest createMessageDigest() {
+		try {
+			return (MessageDigest) this.messageDigest.clone();
+		} catch (CloneNotSupportedException e) {
+			try {
+				return MessageDigest.getInstance(this.algorithmName);
+			} catch (NoSuchAlgorithmException ex) {
+				throw new IllegalArgumentException(ex);
+			}
+		}
+	}
+
+	// the static instances are restored after deserialization
+	private Object readResolve() {
+		return HashAlgorithm.getInstance(this.algorithmName);
+	}
+
 	@Override
 	protected String defaultToStringContent() {
 		return this.algorithmName;
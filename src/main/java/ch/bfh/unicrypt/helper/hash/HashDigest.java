@@ -0,0 +1,153 @@
+/*
+ * UniCrypt
+ *
+ *  UniCrypt(tm): Cryptographical framework allowing the implementation of cryptographic protocols e.g. e-voting
+ *  Copyright (c) 2016 Bern University of Applied Sciences (BFH), Research Institute for
+ *  Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *  Quellgasse 21, CH-2501 Biel, Switzerland
+ *
+ *  Licensed under Dual License consisting of:
+ *  1. GNU Affero General Public License (AGPL) v3
+ *  and
+ *  2. Commercial license
+ *
+ *
+ *  1. This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ *  2. Licensees holding valid commercial licenses for UniCrypt may use this file in
+ *   accordance with the commercial license agreement provided with the
+ *   Software or, alternatively, in accordance with the terms contained in
+ *   a written agreement between you and Bern University of Applied Sciences (BFH), Research Institute for
+ *   Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *   Quellgasse 21, CH-2501 Biel, Switzerland.
+ *
+ *
+ *   For further information contact <e-mail: unicrypt@bfh.ch>
+ *
+ *
+ * Redistributions of files must retain the above copyright notice.
+ */
+package ch.bfh.unicrypt.helper.hash;
+
+import ch.bfh.unicrypt.helper.array.classes.ByteArray;
+import java.security.MessageDigest;
+
+/**
+ * Instances of this class compute hash values incrementally. The input is passed to the digest in multiple pieces by
+ * calling the {@code update} methods, and the hash value is returned by {@link HashDigest#getHashValue()}. The result
+ * is the same as if the concatenated pieces were passed to {@link HashAlgorithm#getHashValue(byte[])}. This is useful
+ * for hashing large or structured inputs without concatenating them in memory. Instances of this class are obtained by
+ * calling {@link HashAlgorithm#getDigest()}. They are not thread-safe, i.e., each thread must use its own instance.
+ * <p>
+ * @author R. Haenni
+ * @version 2.0
+ */
+public class HashDigest {
+
+	private final HashAlgorithm hashAlgorithm;
+	private final MessageDigest messageDigest;
+
+	protected HashDigest(HashAlgorithm hashAlgorithm, MessageDigest messageDigest) {
+		this.hashAlgorithm = hashAlgorithm;
+		this.messageDigest = messageDigest;
+	}
+
+	/**
+	 * Returns the hash algorithm of this digest.
+	 * <p>
+	 * @return The hash algorithm
+	 */
+	public HashAlgorithm getHashAlgorithm() {
+		return this.hashAlgorithm;
+	}
+
+	/**
+	 * Passes a single byte to the digest.
+	 * <p>
+	 * @param value The given byte
+	 * @return The digest itself
+	 */
+	public HashDigest update(byte value) {
+		this.messageDigest.update(value);
+		return this;
+	}
+
+	/**
+	 * Passes the content of a given Java byte array to the digest.
+	 * <p>
+	 * @param bytes The given Java byte array
+	 * @return The digest itself
+	 */
+	public HashDigest update(byte[] bytes) {
+		if (bytes == null) {
+			throw new IllegalArgumentException();
+		}
+		this.messageDigest.update(bytes);
+		return this;
+	}
+
+	/**
+	 * Passes a part of a given Java byte array to the digest.
+	 * <p>
+	 * @param bytes  The given Java byte array
+	 * @param offset The index of the first byte
+	 * @param length The number of bytes
+	 * @return The digest itself
+	 */
+	public HashDigest update(byte[] bytes, int offset, int length) {
+		if (bytes == null || offset < 0 || length < 0 || offset > bytes.length - length) {
+			throw new IllegalArgumentException();
+		}
+		this.messageDigest.update(bytes, offset, length);
+		return this;
+	}
+
+	/**
+	 * Passes the content of a given byte array to the digest.
+	 * <p>
+	 * @param byteArray The given byte array
+	 * @return The digest itself
+	 */
+	public HashDigest update(ByteArray byteArray) {
+		if (byteArray == null) {
+			throw new IllegalArgumentException();
+		}
+		// this call gives access to the internal byte[] representation of ByteArray
+		byteArray.update(this);
+		return this;
+	}
+
+	/**
+	 * Completes the computation and returns the hash value of all bytes passed to the digest since its creation or
+	 * since the last call of this method. The digest is reset afterwards, i.e., it can be reused for computing
+	 * another hash value.
+	 * <p>
+	 * @return The hash value
+	 */
+	public ByteArray getHashValue() {
+		return ByteArray.getInstance(this.messageDigest.digest());
+	}
+
+	/**
+	 * Resets the digest, i.e., all bytes passed to the digest are discarded.
+	 * <p>
+	 * @return The digest itself
+	 */
+	public HashDigest reset() {
+		this.messageDigest.reset();
+		return this;
+	}
+
+}
@@ -0,0 +1,184 @@
+/*
+ * UniCrypt
+ *
+ *  UniCrypt(tm): Cryptographical framework allowing the implementation of cryptographic protocols e.g. e-voting
+ *  Copyright (c) 2016 Bern University of Applied Sciences (BFH), Research Institute for
+ *  Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *  Quellgasse 21, CH-2501 Biel, Switzerland
+ *
+ *  Licensed under Dual License consisting of:
+ *  1. GNU Affero General Public License (AGPL) v3
+ *  and
+ *  2. Commercial license
+ *
+ *
+ *  1. This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ *  2. Licensees holding valid commercial licenses for UniCrypt may use this file in
+ *   accordance with the commercial license agreement provided with the
+ *   Software or, alternatively, in accordance with the terms contained in
+ *   a written agreement between you and Bern University of Applied Sciences (BFH), Research Institute for
+ *   Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *   Quellgasse 21, CH-2501 Biel, Switzerland.
+ *
+ *
+ *   For further information contact <e-mail: unicrypt@bfh.ch>
+ *
+ *
+ * Redistributions of files must retain the above copyright notice.
+ */
+package ch.bfh.unicrypt.helper.hash;
+
+import ch.bfh.unicrypt.helper.array.classes.ByteArray;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Instances of this class compute HMAC values (RFC 2104) for a fixed key. The inner and outer message digests are
+ * initialized with the padded key only once, when the instance is created. For each HMAC value, the prepared digests
+ * are cloned, which saves two compression function calls per HMAC value compared to
+ * {@link HashAlgorithm#getHashValue(ByteArray, ByteArray)}. This is useful for computing many HMAC values with the same
+ * key, for example in PBKDF2 or HMAC_DRBG. The methods operating on Java byte arrays write the result into a given
+ * target array, i.e., apart from cloning the digests no objects are created. Instances of this class are obtained by
+ * calling {@link HashAlgorithm#getHashMac(ByteArray)}. They are thread-safe, since the prepared digests are never
+ * modified.
+ * <p>
+ * @author R. Haenni
+ * @version 2.0
+ */
+public class HashMac {
+
+	private static final byte IPAD = 0x36;
+	private static final byte OPAD = 0x5C;
+
+	private final HashAlgorithm hashAlgorithm;
+	private final byte[] innerPad;
+	private final byte[] outerPad;
+	private final MessageDigest innerDigest;
+	private final MessageDigest outerDigest;
+
+	protected HashMac(HashAlgorithm hashAlgorithm, int blockLength, MessageDigest innerDigest,
+		   MessageDigest outerDigest, byte[] key) {
+		this.hashAlgorithm = hashAlgorithm;
+		if (key.length > blockLength) {
+			key = hashAlgorithm.getHashValue(key);
+		}
+		this.innerPad = new byte[blockLength];
+		this.outerPad = new byte[blockLength];
+		for (int i = 0; i < blockLength; i++) {
+			byte keyByte = i < key.length ? key[i] : 0;
+			this.innerPad[i] = (byte) (keyByte ^ IPAD);
+			this.outerPad[i] = (byte) (keyByte ^ OPAD);
+		}
+		innerDigest.update(this.innerPad);
+		outerDigest.update(this.outerPad);
+		this.innerDigest = innerDigest;
+		this.outerDigest = outerDigest;
+	}
+
+	/**
+	 * Returns the hash algorithm of this HMAC.
+	 * <p>
+	 * @return The hash algorithm
+	 */
+	public HashAlgorithm getHashAlgorithm() {
+		return this.hashAlgorithm;
+	}
+
+	/**
+	 * Returns the HMAC value of a given byte array.
+	 * <p>
+	 * @param message The given byte array
+	 * @return The HMAC value
+	 */
+	public ByteArray getHashValue(ByteArray message) {
+		if (message == null) {
+			throw new IllegalArgumentException();
+		}
+		MessageDigest digest = this.cloneDigest(this.innerDigest, this.innerPad);
+		// this call gives access to the internal byte[] representation of ByteArray
+		message.update(new HashDigest(this.hashAlgorithm, digest));
+		byte[] result = digest.digest();
+		digest = this.cloneDigest(this.outerDigest, this.outerPad);
+		digest.update(result);
+		this.digest(digest, result, 0);
+		return ByteArray.getInstance(result);
+	}
+
+	/**
+	 * Returns the HMAC value of a given Java byte array.
+	 * <p>
+	 * @param message The given Java byte array
+	 * @return The HMAC value
+	 */
+	public byte[] getHashValue(byte[] message) {
+		if (message == null) {
+			throw new IllegalArgumentException();
+		}
+		byte[] result = new byte[this.hashAlgorithm.getByteLength()];
+		this.getHashValue(message, 0, message.length, result, 0);
+		return result;
+	}
+
+	/**
+	 * Computes the HMAC value of a part of a given Java byte array and writes it into a target array. The message and
+	 * the target may overlap, i.e., the HMAC value of a previous HMAC value can be computed in place.
+	 * <p>
+	 * @param message      The given Java byte array
+	 * @param offset       The index of the first byte of the message
+	 * @param length       The number of bytes of the message
+	 * @param target       The target array
+	 * @param targetOffset The index of the first byte of the HMAC value in the target array
+	 */
+	public void getHashValue(byte[] message, int offset, int length, byte[] target, int targetOffset) {
+		int hashLength = this.hashAlgorithm.getByteLength();
+		if (message == null || offset < 0 || length < 0 || offset > message.length - length || target == null
+			   || targetOffset < 0 || targetOffset > target.length - hashLength) {
+			throw new IllegalArgumentException();
+		}
+		MessageDigest digest = this.cloneDigest(this.innerDigest, this.innerPad);
+		digest.update(message, offset, length);
+		// the inner hash value is written into the target, which is safe since the message has been processed
+		this.digest(digest, target, targetOffset);
+		digest = this.cloneDigest(this.outerDigest, this.outerPad);
+		digest.update(target, targetOffset, hashLength);
+		this.digest(digest, target, targetOffset);
+	}
+
+	private void digest(MessageDigest digest, byte[] target, int targetOffset) {
+		try {
+			digest.digest(target, targetOffset, this.hashAlgorithm.getByteLength());
+		} catch (DigestException exception) {
+			throw new IllegalArgumentException(exception);
+		}
+	}
+
+	// cloning the prepared digest is considerably faster than passing the padded key to a new digest
+	private MessageDigest cloneDigest(MessageDigest digest, byte[] pad) {
+		try {
+			return (MessageDigest) digest.clone();
+		} catch (CloneNotSupportedException e) {
+			try {
+				MessageDigest newDigest = MessageDigest.getInstance(this.hashAlgorithm.getAlgorithmName());
+				newDigest.update(pad);
+				return newDigest;
+			} catch (NoSuchAlgorithmException ex) {
+				throw new IllegalArgumentException(ex);
+			}
+		}
+	}
+
+}
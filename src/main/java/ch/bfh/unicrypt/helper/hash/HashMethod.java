@@ -42,14 +42,20 @@
 package ch.bfh.unicrypt.helper.hash;
 
 import ch.bfh.unicrypt.UniCrypt;
+import ch.bfh.unicrypt.helper.aggregator.classes.ByteArrayAggregator;
 import ch.bfh.unicrypt.helper.aggregator.interfaces.Aggregator;
 import ch.bfh.unicrypt.helper.array.classes.ByteArray;
+import ch.bfh.unicrypt.helper.concurrent.Parallel;
 import ch.bfh.unicrypt.helper.converter.classes.bytearray.ByteArrayToByteArray;
 import ch.bfh.unicrypt.helper.converter.interfaces.Converter;
 import ch.bfh.unicrypt.helper.tree.Leaf;
 import ch.bfh.unicrypt.helper.tree.Node;
 import ch.bfh.unicrypt.helper.tree.Tree;
-import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
 
 /**
  * The purpose of this class is to extend the applicability of hash algorithms from single byte array input objects to
@@ -90,8 +96,20 @@ public class HashMethod<V>
 
 	};
 
+	/**
+	 * The default minimal number of children of a node, for which the hash values of the children are computed in
+	 * parallel in {@link HashMethod#getHashValue(Tree, Executor)}.
+	 */
+	public static final int DEFAULT_PARALLEL_THRESHOLD = 1024;
+
 	private static final long serialVersionUID = 1L;
 
+	// the number of children of a large node kept in memory at the same time
+	private static final int CHUNK_SIZE = 1 << 12;
+
+	// the number of children processed sequentially by a single parallel task
+	private static final int BLOCK_SIZE = 1 << 6;
+
 	// the hash algorithm applied to the byte arrays
 	private final HashAlgorithm hashAlgorithm;
 
@@ -291,16 +309,25 @@ public class HashMethod<V>
 		}
 		switch (this.mode) {
 			case CRH: {
-				Tree<ByteArray> byteArrayTree = this.converter.convert(tree);
-				return new SafeByteArray(this.getRecursiveHashValue(byteArrayTree));
+				return this.getRecursiveHashValue(tree, new ArrayList<>(), 0);
 			}
 			case ACH: {
+				// the aggregated byte array is passed to the digest in pieces, if the converter does not modify it
+				if (this.valueAggregator instanceof ByteArrayAggregator
+					   && this.converter instanceof ByteArrayToByteArray
+					   && ((ByteArrayToByteArray) this.converter).isIdentity()) {
+					ByteArrayAggregator aggregator = (ByteArrayAggregator) this.valueAggregator;
+					return this.getStreamedHashValue((Tree<ByteArray>) tree, aggregator);
+				}
 				V value = this.valueAggregator.aggregate(tree);
 				ByteArray byteArray = this.converter.convert(value);
 				return this.hashAlgorithm.getHashValue(byteArray);
 			}
 			case CAH: {
 				Tree<ByteArray> byteArrayTree = this.converter.convert(tree);
+				if (this.byteArrayAggregator instanceof ByteArrayAggregator) {
+					return this.getStreamedHashValue(byteArrayTree, (ByteArrayAggregator) this.byteArrayAggregator);
+				}
 				ByteArray byteArray = this.byteArrayAggregator.aggregate(byteArrayTree);
 				return this.hashAlgorithm.getHashValue(byteArray);
 			}
@@ -308,6 +335,41 @@ public class HashMethod<V>
 		throw new IllegalStateException(); // impossible case
 	}
 
+	/**
+	 * Returns the hash value of a tree of values using the given executor for parallel computations. This is a
+	 * convenience method for {@link HashMethod#getHashValue(Tree, int, Executor)} using the default threshold
+	 * {@link HashMethod#DEFAULT_PARALLEL_THRESHOLD}.
+	 * <p>
+	 * @param tree     The given tree
+	 * @param executor The executor
+	 * @return The resulting hash value
+	 */
+	public final ByteArray getHashValue(Tree<V> tree, Executor executor) {
+		return this.getHashValue(tree, DEFAULT_PARALLEL_THRESHOLD, executor);
+	}
+
+	/**
+	 * Returns the hash value of a tree of values using the given executor for parallel computations. In CRH, the hash
+	 * values of the children of a node are independent of each other. If a node has at least {@code threshold}
+	 * children, they are therefore hashed in parallel. Inside the parallel computations, the hash values are computed
+	 * sequentially. The result is always the same as the result of {@link HashMethod#getHashValue(Tree)}. ACH and CAH
+	 * hash a single aggregated byte array, i.e., this method computes their hash values sequentially.
+	 * <p>
+	 * @param tree      The given tree
+	 * @param threshold The minimal number of children of a node processed in parallel
+	 * @param executor  The executor
+	 * @return The resulting hash value
+	 */
+	public final ByteArray getHashValue(Tree<V> tree, int threshold, Executor executor) {
+		if (tree == null || threshold < 1 || executor == null) {
+			throw new IllegalArgumentException();
+		}
+		if (this.mode == Mode.CRH) {
+			return this.getParallelHashValue(tree, threshold, executor, new ArrayList<>(), 0);
+		}
+		return this.getHashValue(tree);
+	}
+
 	/**
 	 * Returns that hash algorithm used in this hash method.
 	 * <p>
@@ -344,20 +406,100 @@ public class HashMethod<V>
 		return this.byteArrayAggregator;
 	}
 
-	// a private method to compute hash value recursively
-	private byte[] getRecursiveHashValue(Tree<ByteArray> tree) {
+	@Override
+	public int hashCode() {
+		int hash = 7;
+		hash = 29 * hash + this.mode.hashCode();
+		hash = 29 * hash + this.hashAlgorithm.hashCode();
+		hash = 29 * hash + this.converter.hashCode();
+		hash = 29 * hash + Objects.hashCode(this.valueAggregator);
+		hash = 29 * hash + Objects.hashCode(this.byteArrayAggregator);
+		return hash;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		final HashMethod<?> other = (HashMethod<?>) obj;
+		return this.mode == other.mode && this.hashAlgorithm.equals(other.hashAlgorithm)
+			   && this.converter.equals(other.converter) && Objects.equals(this.valueAggregator, other.valueAggregator)
+			   && Objects.equals(this.byteArrayAggregator, other.byteArrayAggregator);
+	}
+
+	// a private method to compute hash value recursively, the digests are reused on each level of the tree
+	private ByteArray getRecursiveHashValue(Tree<V> tree, List<HashDigest> digests, int level) {
 		// Case 1: tree is a leaf
 		if (tree.isLeaf()) {
-			Leaf<ByteArray> leaf = (Leaf<ByteArray>) tree;
-			return this.hashAlgorithm.getHashValue(leaf.getValue().getBytes());
+			Leaf<V> leaf = (Leaf<V>) tree;
+			return this.hashAlgorithm.getHashValue(this.converter.convert(leaf.getValue()));
 		}
 		// Case 2: tree is a node
-		Node<ByteArray> node = (Node<ByteArray>) tree;
-		ByteBuffer bb = ByteBuffer.allocate(node.getSize() * this.hashAlgorithm.getByteLength());
-		for (Tree<ByteArray> child : node.getChildren()) {
-			bb.put(this.getRecursiveHashValue(child));
+		Node<V> node = (Node<V>) tree;
+		if (digests.size() == level) {
+			digests.add(this.hashAlgorithm.getDigest());
+		}
+		HashDigest digest = digests.get(level);
+		for (Tree<V> child : node.getChildren()) {
+			digest.update(this.getRecursiveHashValue(child, digests, level + 1));
+		}
+		return digest.getHashValue();
+	}
+
+	// a private method to compute hash value recursively, the children of large nodes are processed in parallel
+	private ByteArray getParallelHashValue(Tree<V> tree, int threshold, Executor executor, List<HashDigest> digests,
+		   int level) {
+		if (tree.isLeaf()) {
+			return this.getRecursiveHashValue(tree, digests, level);
+		}
+		Node<V> node = (Node<V>) tree;
+		if (digests.size() == level) {
+			digests.add(this.hashAlgorithm.getDigest());
+		}
+		HashDigest digest = digests.get(level);
+		// Case 1: the children of a small node are processed sequentially
+		if (node.getSize() < threshold) {
+			for (Tree<V> child : node.getChildren()) {
+				digest.update(this.getParallelHashValue(child, threshold, executor, digests, level + 1));
+			}
+			return digest.getHashValue();
 		}
-		return this.hashAlgorithm.getHashValue(bb.array());
+		// Case 2: the children of a large node are processed in chunks, each chunk is divided into parallel blocks
+		Iterator<Tree<V>> iterator = node.getChildren().iterator();
+		final List<Tree<V>> children = new ArrayList<>(CHUNK_SIZE);
+		while (iterator.hasNext()) {
+			children.clear();
+			while (iterator.hasNext() && children.size() < CHUNK_SIZE) {
+				children.add(iterator.next());
+			}
+			final int size = children.size();
+			final ByteArray[] hashValues = new ByteArray[size];
+			Parallel.forEach((size + BLOCK_SIZE - 1) / BLOCK_SIZE, block -> {
+				// each block uses its own digests
+				List<HashDigest> blockDigests = new ArrayList<>();
+				for (int i = block * BLOCK_SIZE; i < Math.min(size, (block + 1) * BLOCK_SIZE); i++) {
+					hashValues[i] = this.getRecursiveHashValue(children.get(i), blockDigests, 0);
+				}
+			}, executor);
+			for (ByteArray hashValue : hashValues) {
+				digest.update(hashValue);
+			}
+		}
+		return digest.getHashValue();
+	}
+
+	// a private method to compute the hash value of an aggregated byte array without constructing it
+	private ByteArray getStreamedHashValue(Tree<ByteArray> tree, ByteArrayAggregator aggregator) {
+		HashDigest digest = this.hashAlgorithm.getDigest();
+		aggregator.aggregate(tree, byteArray -> digest.update(byteArray));
+		return digest.getHashValue();
 	}
 
 }
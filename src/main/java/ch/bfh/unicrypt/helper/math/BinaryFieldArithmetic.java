@@ -0,0 +1,423 @@
+/*
+ * UniCrypt
+ *
+ *  UniCrypt(tm): Cryptographical framework allowing the implementation of cryptographic protocols e.g. e-voting
+ *  Copyright (c) 2016 Bern University of Applied Sciences (BFH), Research Institute for
+ *  Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *  Quellgasse 21, CH-2501 Biel, Switzerland
+ *
+ *  Licensed under Dual License consisting of:
+ *  1. GNU Affero General Public License (AGPL) v3
+ *  and
+ *  2. Commercial license
+ *
+ *
+ *  1. This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ *  2. Licensees holding valid commercial licenses for UniCrypt may use this file in
+ *   accordance with the commercial license agreement provided with the
+ *   Software or, alternatively, in accordance with the terms contained in
+ *   a written agreement between you and Bern University of Applied Sciences (BFH), Research Institute for
+ *   Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *   Quellgasse 21, CH-2501 Biel, Switzerland.
+ *
+ *
+ *   For further information contact <e-mail: unicrypt@bfh.ch>
+ *
+ *
+ * Redistributions of files must retain the above copyright notice.
+ */
+package ch.bfh.unicrypt.helper.math;
+
+import ch.bfh.unicrypt.helper.array.classes.BitArray;
+import ch.bfh.unicrypt.helper.array.classes.ByteArray;
+import java.util.Arrays;
+
+/**
+ * Instances of this class provide the arithmetic of a binary field {@code GF(2^m)} for a given irreducible polynomial
+ * {@code f(x)} of degree {@code m}. The field elements are binary polynomials of degree smaller than {@code m}, which
+ * are represented by arrays of type {@code long[]} with the coefficient of {@code x^i} stored in bit {@code i%64} of
+ * word {@code i/64}. Multiplications are computed using the left-to-right comb method with windows of size 4,
+ * squarings by interleaving the bits with zeros, and inversions by the extended Euclidean algorithm for binary
+ * polynomials. For sparse polynomials such as the trinomials and pentanomials of the standard binary curves, the
+ * reduction modulo {@code f(x)} is performed word by word, otherwise bit by bit.
+ * <p>
+ * @see "Hankerson, Menezes, Vanstone: Guide to Elliptic Curve Cryptography, Section 2.3"
+ * @author R. Haenni
+ * @version 2.0
+ */
+public class BinaryFieldArithmetic {
+
+	// the window size of the comb method
+	private static final int WINDOW_SIZE = 4;
+
+	// the 16-bit values obtained from interleaving the bits of a byte with zeros
+	private static final int[] SQUARES = BinaryFieldArithmetic.computeSquares();
+
+	// the degree m of the irreducible polynomial
+	private final int degree;
+
+	// the number of words of a field element
+	private final int wordLength;
+
+	// the words representing the irreducible polynomial
+	private final long[] modulus;
+
+	// the exponents e<m of the terms x^e of the irreducible polynomial
+	private final int[] exponents;
+
+	// true if m-e>=64 for all exponents e, which allows reducing word by word
+	private final boolean sparse;
+
+	private BinaryFieldArithmetic(BitArray irreduciblePolynomial) {
+		this.degree = irreduciblePolynomial.getLength() - 1;
+		this.wordLength = MathUtil.divideUp(this.degree, Long.SIZE);
+		this.modulus = BinaryFieldArithmetic.getWords(irreduciblePolynomial);
+		int[] indices = new int[irreduciblePolynomial.countExcept()];
+		int count = 0;
+		for (int index : irreduciblePolynomial.getIndicesExcept()) {
+			indices[count++] = index;
+		}
+		this.exponents = Arrays.copyOf(indices, count - 1);
+		this.sparse = this.degree - this.exponents[count - 2] >= Long.SIZE;
+	}
+
+	/**
+	 * Returns a new instance for the given irreducible binary polynomial, which is represented by the bit array of its
+	 * coefficients. The irreducibility is not checked.
+	 * <p>
+	 * @param irreduciblePolynomial The coefficients of the irreducible polynomial
+	 * @return The new instance
+	 */
+	public static BinaryFieldArithmetic getInstance(BitArray irreduciblePolynomial) {
+		if (irreduciblePolynomial == null || irreduciblePolynomial.getLength() < 2 || !irreduciblePolynomial.getAt(
+			   irreduciblePolynomial.getLength() - 1) || !irreduciblePolynomial.getAt(0)) {
+			throw new IllegalArgumentException();
+		}
+		return new BinaryFieldArithmetic(irreduciblePolynomial);
+	}
+
+	/**
+	 * Returns the degree {@code m} of the irreducible polynomial.
+	 * <p>
+	 * @return The degree
+	 */
+	public int getDegree() {
+		return this.degree;
+	}
+
+	/**
+	 * Transforms the coefficients of a binary polynomial into the word representation used by this class.
+	 * <p>
+	 * @param coefficients The coefficients of the polynomial
+	 * @return The words representing the polynomial
+	 */
+	public static long[] getWords(BitArray coefficients) {
+		if (coefficients == null) {
+			throw new IllegalArgumentException();
+		}
+		byte[] bytes = coefficients.getByteArray().getBytes();
+		long[] words = new long[MathUtil.divideUp(bytes.length, Long.BYTES)];
+		for (int i = 0; i < bytes.length; i++) {
+			words[i / Long.BYTES] |= (bytes[i] & 0xFFL) << (Byte.SIZE * (i % Long.BYTES));
+		}
+		return words;
+	}
+
+	/**
+	 * Transforms the word representation of a binary polynomial back into the coefficients of the polynomial. The
+	 * length of the resulting bit array is the degree of the polynomial plus 1.
+	 * <p>
+	 * @param words The words representing the polynomial
+	 * @return The coefficients of the polynomial
+	 */
+	public static BitArray getCoefficients(long[] words) {
+		if (words == null) {
+			throw new IllegalArgumentException();
+		}
+		int length = BinaryFieldArithmetic.getDegree(words, words.length) + 1;
+		byte[] bytes = new byte[MathUtil.divideUp(length, Byte.SIZE)];
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[i] = (byte) (words[i / Long.BYTES] >>> (Byte.SIZE * (i % Long.BYTES)));
+		}
+		return BitArray.getInstance(ByteArray.getInstance(bytes), length);
+	}
+
+	/**
+	 * Computes the product of two binary polynomials of arbitrary degrees without any reduction.
+	 * <p>
+	 * @param a The words representing the first polynomial
+	 * @param b The words representing the second polynomial
+	 * @return The words representing the product
+	 */
+	public static long[] multiplyPolynomials(long[] a, long[] b) {
+		if (a == null || b == null) {
+			throw new IllegalArgumentException();
+		}
+		return BinaryFieldArithmetic.combMultiply(a, b, Math.max(a.length, b.length));
+	}
+
+	/**
+	 * Computes the quotient {@code q(x)} and the remainder {@code r(x)} of the division of two binary polynomials
+	 * {@code a(x) = q(x)b(x) + r(x)} of arbitrary degrees. The result is an array of length 2 containing the words of
+	 * the quotient and the remainder.
+	 * <p>
+	 * @param a The words representing the dividend
+	 * @param b The words representing the non-zero divisor
+	 * @return The words representing the quotient and the remainder
+	 */
+	public static long[][] dividePolynomials(long[] a, long[] b) {
+		if (a == null || b == null) {
+			throw new IllegalArgumentException();
+		}
+		int degreeB = BinaryFieldArithmetic.getDegree(b, b.length);
+		if (degreeB < 0) {
+			throw new ArithmeticException();
+		}
+		long[] r = a.clone();
+		int degreeR = BinaryFieldArithmetic.getDegree(r, r.length);
+		long[] q = new long[Math.max(degreeR - degreeB, 0) / Long.SIZE + 1];
+		while (degreeR >= degreeB) {
+			int j = degreeR - degreeB;
+			q[j / Long.SIZE] ^= 1L << (j % Long.SIZE);
+			BinaryFieldArithmetic.addShifted(r, b, j);
+			degreeR = BinaryFieldArithmetic.getDegree(r, degreeR / Long.SIZE + 1);
+		}
+		return new long[][]{q, r};
+	}
+
+	/**
+	 * Computes the sum of two field elements.
+	 * <p>
+	 * @param a The first field element
+	 * @param b The second field element
+	 * @return The sum
+	 */
+	public long[] add(long[] a, long[] b) {
+		long[] result = new long[this.wordLength];
+		for (int i = 0; i < this.wordLength; i++) {
+			result[i] = BinaryFieldArithmetic.getWord(a, i) ^ BinaryFieldArithmetic.getWord(b, i);
+		}
+		return result;
+	}
+
+	/**
+	 * Computes the product of two field elements.
+	 * <p>
+	 * @param a The first field element
+	 * @param b The second field element
+	 * @return The product
+	 */
+	public long[] multiply(long[] a, long[] b) {
+		return this.reduce(BinaryFieldArithmetic.combMultiply(a, b, this.wordLength));
+	}
+
+	/**
+	 * Computes the square of a field element.
+	 * <p>
+	 * @param a The field element
+	 * @return The square
+	 */
+	public long[] square(long[] a) {
+		long[] c = new long[2 * this.wordLength];
+		for (int i = 0; i < this.wordLength; i++) {
+			long word = BinaryFieldArithmetic.getWord(a, i);
+			c[2 * i] = BinaryFieldArithmetic.interleave((int) word);
+			c[2 * i + 1] = BinaryFieldArithmetic.interleave((int) (word >>> Integer.SIZE));
+		}
+		return this.reduce(c);
+	}
+
+	/**
+	 * Computes the multiplicative inverse of a non-zero field element.
+	 * <p>
+	 * @param a The field element
+	 * @return The multiplicative inverse
+	 */
+	public long[] invert(long[] a) {
+		int n = this.wordLength + 1;
+		long[] u = this.reduce(Arrays.copyOf(a, Math.max(a.length, n)));
+		u = Arrays.copyOf(u, n);
+		long[] v = Arrays.copyOf(this.modulus, n);
+		long[] g1 = new long[n];
+		long[] g2 = new long[n];
+		g1[0] = 1;
+		int degreeU = BinaryFieldArithmetic.getDegree(u, n);
+		int degreeV = this.degree;
+		if (degreeU < 0) {
+			throw new ArithmeticException();
+		}
+		// Algorithm 2.48 of the Guide to Elliptic Curve Cryptography
+		while (degreeU > 0) {
+			int j = degreeU - degreeV;
+			if (j < 0) {
+				long[] tmp = u;
+				u = v;
+				v = tmp;
+				tmp = g1;
+				g1 = g2;
+				g2 = tmp;
+				int tmpDegree = degreeU;
+				degreeU = degreeV;
+				degreeV = tmpDegree;
+				j = -j;
+			}
+			BinaryFieldArithmetic.addShifted(u, v, j);
+			BinaryFieldArithmetic.addShifted(g1, g2, j);
+			degreeU = BinaryFieldArithmetic.getDegree(u, degreeU / Long.SIZE + 1);
+		}
+		return Arrays.copyOf(g1, this.wordLength);
+	}
+
+	/**
+	 * Reduces a binary polynomial of arbitrary degree modulo the irreducible polynomial. The given array is modified.
+	 * <p>
+	 * @param c The words representing the binary polynomial
+	 * @return The reduced field element
+	 */
+	public long[] reduce(long[] c) {
+		int topWord = this.degree / Long.SIZE;
+		int topBits = this.degree % Long.SIZE;
+		if (this.sparse) {
+			// x^(64i)*t = t*x^(64i-m)*(x^e1+x^e2+...) for all words i above x^m
+			for (int i = c.length - 1; i > topWord; i--) {
+				long t = c[i];
+				if (t != 0) {
+					c[i] = 0;
+					for (int exponent : this.exponents) {
+						BinaryFieldArithmetic.addShifted(c, t, Long.SIZE * i - this.degree + exponent);
+					}
+				}
+			}
+			if (topWord < c.length) {
+				long t = c[topWord] >>> topBits;
+				if (t != 0) {
+					c[topWord] &= (1L << topBits) - 1;
+					for (int exponent : this.exponents) {
+						BinaryFieldArithmetic.addShifted(c, t, exponent);
+					}
+				}
+			}
+		} else {
+			for (int i = Long.SIZE * c.length - 1; i >= this.degree; i--) {
+				if ((c[i / Long.SIZE] >>> (i % Long.SIZE) & 1) != 0) {
+					c[i / Long.SIZE] ^= 1L << (i % Long.SIZE);
+					for (int exponent : this.exponents) {
+						int index = i - this.degree + exponent;
+						c[index / Long.SIZE] ^= 1L << (index % Long.SIZE);
+					}
+				}
+			}
+		}
+		return Arrays.copyOf(c, this.wordLength);
+	}
+
+	// private helper method to compute the product of the first n words of a and b using the comb method
+	private static long[] combMultiply(long[] a, long[] b, int n) {
+		// the products u(x)*b(x) for all polynomials u(x) of degree smaller than the window size
+		long[][] table = new long[1 << WINDOW_SIZE][n + 1];
+		for (int i = 0; i < n; i++) {
+			table[1][i] = BinaryFieldArithmetic.getWord(b, i);
+		}
+		for (int u = 2; u < table.length; u++) {
+			if ((u & 1) == 0) {
+				BinaryFieldArithmetic.shiftLeft(table[u >>> 1], table[u], 1);
+			} else {
+				for (int i = 0; i <= n; i++) {
+					table[u][i] = table[u - 1][i] ^ table[1][i];
+				}
+			}
+		}
+		long[] c = new long[2 * n];
+		for (int k = Long.SIZE / WINDOW_SIZE - 1; k >= 0; k--) {
+			for (int j = 0; j < n; j++) {
+				long[] entry = table[(int) (BinaryFieldArithmetic.getWord(a, j) >>> (WINDOW_SIZE * k)) & 0xF];
+				for (int i = 0; i <= n && j + i < c.length; i++) {
+					c[j + i] ^= entry[i];
+				}
+			}
+			if (k > 0) {
+				BinaryFieldArithmetic.shiftLeft(c, c, WINDOW_SIZE);
+			}
+		}
+		return c;
+	}
+
+	// private helper method to read a word, missing words are 0
+	private static long getWord(long[] words, int index) {
+		return index < words.length ? words[index] : 0;
+	}
+
+	// private helper method to compute the degree of a polynomial from its first n words (-1 for the zero polynomial)
+	private static int getDegree(long[] words, int n) {
+		for (int i = Math.min(n, words.length) - 1; i >= 0; i--) {
+			if (words[i] != 0) {
+				return Long.SIZE * i + Long.SIZE - 1 - Long.numberOfLeadingZeros(words[i]);
+			}
+		}
+		return -1;
+	}
+
+	// private helper method to compute target = source*x^shift for 0<shift<64, bits beyond target's length are lost
+	private static void shiftLeft(long[] source, long[] target, int shift) {
+		for (int i = target.length - 1; i > 0; i--) {
+			target[i] = source[i] << shift | source[i - 1] >>> (Long.SIZE - shift);
+		}
+		target[0] = source[0] << shift;
+	}
+
+	// private helper method to add the word t at the given bit position
+	private static void addShifted(long[] c, long t, int position) {
+		int index = position / Long.SIZE;
+		int shift = position % Long.SIZE;
+		c[index] ^= t << shift;
+		if (shift > 0 && index + 1 < c.length) {
+			c[index + 1] ^= t >>> (Long.SIZE - shift);
+		}
+	}
+
+	// private helper method to compute u = u+v*x^j, bits beyond u's length are lost
+	private static void addShifted(long[] u, long[] v, int j) {
+		int words = j / Long.SIZE;
+		int shift = j % Long.SIZE;
+		for (int i = u.length - 1; i >= words; i--) {
+			long word = BinaryFieldArithmetic.getWord(v, i - words) << shift;
+			if (shift > 0 && i - words > 0) {
+				word |= BinaryFieldArithmetic.getWord(v, i - words - 1) >>> (Long.SIZE - shift);
+			}
+			u[i] ^= word;
+		}
+	}
+
+	// private helper method to interleave the 32 bits of a value with zeros
+	private static long interleave(int value) {
+		return (long) SQUARES[value & 0xFF]
+			   | (long) SQUARES[(value >>> 8) & 0xFF] << 16
+			   | (long) SQUARES[(value >>> 16) & 0xFF] << 32
+			   | (long) SQUARES[value >>> 24] << 48;
+	}
+
+	// private helper method to compute the squares of all binary polynomials of degree smaller than 8
+	private static int[] computeSquares() {
+		int[] squares = new int[256];
+		for (int i = 0; i < 256; i++) {
+			for (int bit = 0; bit < Byte.SIZE; bit++) {
+				squares[i] |= ((i >>> bit) & 1) << (2 * bit);
+			}
+		}
+		return squares;
+	}
+
+}
@@ -0,0 +1,168 @@
+/*
+ * UniCrypt
+ *
+ *  UniCrypt(tm): Cryptographical framework allowing the implementation of cryptographic protocols e.g. e-voting
+ *  Copyright (c) 2016 Bern University of Applied Sciences (BFH), Research Institute for
+ *  Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *  Quellgasse 21, CH-2501 Biel, Switzerland
+ *
+ *  Licensed under Dual License consisting of:
+ *  1. GNU Affero General Public License (AGPL) v3
+ *  and
+ *  2. Commercial license
+ *
+ *
+ *  1. This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ *  2. Licensees holding valid commercial licenses for UniCrypt may use this file in
+ *   accordance with the commercial license agreement provided with the
+ *   Software or, alternatively, in accordance with the terms contained in
+ *   a written agreement between you and Bern University of Applied Sciences (BFH), Research Institute for
+ *   Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *   Quellgasse 21, CH-2501 Biel, Switzerland.
+ *
+ *
+ *   For further information contact <e-mail: unicrypt@bfh.ch>
+ *
+ *
+ * Redistributions of files must retain the above copyright notice.
+ */
+package ch.bfh.unicrypt.helper.math;
+
+import java.math.BigInteger;
+import java.util.function.BinaryOperator;
+
+/**
+ * Instances of this class represent precomputed tables for computing powers {@code b^e} of a fixed base {@code b} in
+ * an arbitrary semigroup. The semigroup is given implicitly by its binary operation. For a window size {@code w} and
+ * a maximal exponent bit length {@code k}, the table contains the values {@code b^(d*2^(w*j))} for all digits
+ * {@code 1<=d<2^w} and all windows {@code 0<=j<ceil(k/w)}. Computing a power then requires at most
+ * {@code ceil(k/w)-1} operations and no squarings at all. The table requires {@code ceil(k/w)*(2^w-1)} values of
+ * memory, which are computed once using approximately the same number of operations. Precomputed tables are therefore
+ * only useful for bases that are used frequently, for example for the generators of a cryptographic scheme.
+ * <p>
+ * By contract, the neutral element of the semigroup is represented by {@code null}, i.e., {@code null} is returned for
+ * the exponent zero. The binary operation is never called with {@code null} arguments. Instances of this class are
+ * immutable and can be shared among multiple threads. Note that the running time of the algorithm depends on the
+ * exponent, i.e., it does not offer any protection against timing attacks.
+ * <p>
+ * @param <T> The generic type of the semigroup values
+ * @see "Handbook of Applied Cryptography, Algorithm 14.109"
+ * @see MultiExponentiation
+ * @author R. Haenni
+ * @version 2.0
+ */
+public final class FixedBaseExponentiation<T> {
+
+	public static final int MIN_WINDOW_SIZE = 1;
+	public static final int MAX_WINDOW_SIZE = 16;
+	public static final int DEFAULT_WINDOW_SIZE = 5;
+
+	private final T base;
+	private final int bitLength;
+	private final int windowSize;
+	private final BinaryOperator<T> operation;
+	private final Object[][] table;
+
+	private FixedBaseExponentiation(T base, int bitLength, int windowSize, BinaryOperator<T> operation) {
+		this.base = base;
+		this.bitLength = bitLength;
+		this.windowSize = windowSize;
+		this.operation = operation;
+		this.table = new Object[MathUtil.divideUp(bitLength, windowSize)][(1 << windowSize) - 1];
+		T windowBase = base;
+		for (int j = 0; j < this.table.length; j++) {
+			Object[] row = this.table[j];
+			row[0] = windowBase;
+			for (int d = 1; d < row.length; d++) {
+				row[d] = operation.apply((T) row[d - 1], windowBase);
+			}
+			if (j < this.table.length - 1) {
+				windowBase = operation.apply((T) row[row.length - 1], windowBase);
+			}
+		}
+	}
+
+	/**
+	 * Returns the fixed base of the precomputed table.
+	 * <p>
+	 * @return The fixed base
+	 */
+	public T getBase() {
+		return this.base;
+	}
+
+	/**
+	 * Returns the maximal bit length of the exponents supported by the precomputed table.
+	 * <p>
+	 * @return The maximal bit length
+	 */
+	public int getBitLength() {
+		return this.bitLength;
+	}
+
+	/**
+	 * Returns the window size of the precomputed table.
+	 * <p>
+	 * @return The window size
+	 */
+	public int getWindowSize() {
+		return this.windowSize;
+	}
+
+	/**
+	 * Computes the power {@code b^e} for the fixed base {@code b} and a given exponent {@code e}. The exponent must be
+	 * non-negative and its bit length must not exceed the bit length of the precomputed table.
+	 * <p>
+	 * @param exponent The given exponent
+	 * @return The power {@code b^e} or {@code null} if the exponent is zero
+	 */
+	public T compute(BigInteger exponent) {
+		if (exponent == null || exponent.signum() < 0 || exponent.bitLength() > this.bitLength) {
+			throw new IllegalArgumentException();
+		}
+		int[] words = MultiExponentiation.getWords(exponent);
+		T result = null;
+		for (int j = 0; j < this.table.length; j++) {
+			int digit = MultiExponentiation.getDigit(words, j * this.windowSize, this.windowSize);
+			if (digit != 0) {
+				T value = (T) this.table[j][digit - 1];
+				result = (result == null) ? value : this.operation.apply(result, value);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Creates a new precomputed table for a given base, maximal exponent bit length, window size, and binary
+	 * operation.
+	 * <p>
+	 * @param <T>        The generic type of the semigroup values
+	 * @param base       The fixed base
+	 * @param bitLength  The maximal bit length of the exponents
+	 * @param windowSize The window size
+	 * @param operation  The binary operation of the semigroup
+	 * @return The new precomputed table
+	 */
+	public static <T> FixedBaseExponentiation<T> getInstance(T base, int bitLength, int windowSize,
+		   BinaryOperator<T> operation) {
+		if (base == null || operation == null || bitLength < 1 || windowSize < MIN_WINDOW_SIZE
+			   || windowSize > MAX_WINDOW_SIZE) {
+			throw new IllegalArgumentException();
+		}
+		return new FixedBaseExponentiation<>(base, bitLength, windowSize, operation);
+	}
+
+}
@@ -60,6 +60,9 @@ public final class MathUtil {
 
 	private static final int NUMBER_OF_PRIME_TESTS = 40;
 
+	// below this number of bases, individual GMP exponentiations are faster than a multi-exponentiation
+	private static final int MOD_MULTI_EXP_THRESHOLD = 4;
+
 	public static final BigInteger ZERO = BigInteger.valueOf(0);
 	public static final BigInteger ONE = BigInteger.valueOf(1);
 	public static final BigInteger TWO = BigInteger.valueOf(2);
@@ -108,6 +111,100 @@ public final class MathUtil {
 		}
 	}
 
+	/**
+	 * Computes the modular exponentiation {@code b^e mod pq} for base {@code 0<=b<pq}, exponent {@code e>=0}, and
+	 * two distinct prime factors {@code p} and {@code q} of the modulus. The exponentiation is computed modulo
+	 * {@code p} and {@code q} using the reduced exponents {@code e mod (p-1)} and {@code e mod (q-1)}, and the results
+	 * are combined using the Chinese remainder theorem. Since the sizes of the moduli and exponents are halved, this is
+	 * about 3-4 times faster than {@link MathUtil#modExp(BigInteger, BigInteger, BigInteger)} for the full modulus.
+	 * <p>
+	 * @param b    The base
+	 * @param e    The exponent
+	 * @param p    The first prime factor of the modulus
+	 * @param q    The second prime factor of the modulus
+	 * @param qInv The CRT coefficient {@code q^{-1} mod p}
+	 * @return {@code b^e mod pq}
+	 * @see "Handbook of Applied Cryptography, Note 14.75"
+	 */
+	public static BigInteger modExpCRT(BigInteger b, BigInteger e, BigInteger p, BigInteger q, BigInteger qInv) {
+		BigInteger bP = MathUtil.modExpPrime(b.mod(p), e, p);
+		BigInteger bQ = MathUtil.modExpPrime(b.mod(q), e, q);
+		// Garner's formula: bQ + q * (qInv * (bP - bQ) mod p)
+		BigInteger h = qInv.multiply(bP.subtract(bQ)).mod(p);
+		return bQ.add(q.multiply(h));
+	}
+
+	// private helper method for computing b^e mod p for a prime p and 0<=b<p using the reduced exponent e mod (p-1)
+	private static BigInteger modExpPrime(BigInteger b, BigInteger e, BigInteger p) {
+		if (e.signum() == 0) {
+			return ONE.mod(p);
+		}
+		if (b.signum() == 0) {
+			return ZERO;
+		}
+		return MathUtil.modExp(b, e.mod(p.subtract(ONE)), p);
+	}
+
+	/**
+	 * Computes the product of modular exponentiations {@code b_1^e_1 * ... * b_n^e_n mod m} for bases
+	 * {@code 0<=b_i<m}, exponents {@code e_i>=0}, and modulus {@code m>1}. For small numbers of bases, the
+	 * exponentiations are computed individually using {@link MathUtil#modExp(BigInteger, BigInteger, BigInteger)}.
+	 * Otherwise, the computation is delegated to {@link MultiExponentiation} using Barrett reduction for the modular
+	 * multiplications. The running time then depends on the exponents, so this method must only be used for public
+	 * exponents.
+	 * <p>
+	 * @param bases     The bases
+	 * @param exponents The public exponents
+	 * @param m         The modulus
+	 * @return {@code b_1^e_1 * ... * b_n^e_n mod m}
+	 * @see "Handbook of Applied Cryptography, Algorithm 14.42"
+	 */
+	public static BigInteger modMultiExp(BigInteger[] bases, BigInteger[] exponents, BigInteger m) {
+		if (bases.length < MathUtil.MOD_MULTI_EXP_THRESHOLD) {
+			BigInteger result = ONE;
+			for (int i = 0; i < bases.length; i++) {
+				result = result.multiply(MathUtil.modExp(bases[i], exponents[i], m)).mod(m);
+			}
+			return result;
+		}
+		final int k = m.bitLength();
+		final BigInteger mu = ONE.shiftLeft(2 * k).divide(m);
+		BigInteger result = MultiExponentiation.compute(bases, exponents,
+														(x, y) -> MathUtil.barrettReduce(x.multiply(y), m, mu, k),
+														x -> MathUtil.barrettReduce(x.multiply(x), m, mu, k));
+		return (result == null) ? ONE.mod(m) : result;
+	}
+
+	/**
+	 * Creates a precomputed table for computing modular exponentiations {@code b^e mod m} of a fixed base
+	 * {@code 0<=b<m} and exponents {@code 0<=e<2^k} for a given bit length {@code k}. The modular multiplications are
+	 * computed using Barrett reduction. The modulus must be greater than 1.
+	 * <p>
+	 * @param base       The fixed base
+	 * @param bitLength  The maximal bit length {@code k} of the exponents
+	 * @param windowSize The window size of the precomputed table
+	 * @param m          The modulus
+	 * @return The precomputed table
+	 * @see FixedBaseExponentiation
+	 */
+	public static FixedBaseExponentiation<BigInteger> getModExpTable(BigInteger base, int bitLength, int windowSize,
+		   BigInteger m) {
+		final int k = m.bitLength();
+		final BigInteger mu = ONE.shiftLeft(2 * k).divide(m);
+		return FixedBaseExponentiation.getInstance(base, bitLength, windowSize,
+												   (x, y) -> MathUtil.barrettReduce(x.multiply(y), m, mu, k));
+	}
+
+	// Barrett reduction of 0<=x<m^2 for mu=floor(2^(2k)/m) and k the bit length of m
+	private static BigInteger barrettReduce(BigInteger x, BigInteger m, BigInteger mu, int k) {
+		BigInteger q = x.shiftRight(k - 1).multiply(mu).shiftRight(k + 1);
+		BigInteger r = x.subtract(q.multiply(m));
+		while (r.compareTo(m) >= 0) {
+			r = r.subtract(m);
+		}
+		return r;
+	}
+
 	/**
 	 * GMP wrapper method for computing modular inverses of a positive integer {@code x>0} and a positive modulus
 	 * {@code m>0}.
@@ -291,17 +388,34 @@ public final class MathUtil {
 	}
 
 	/**
-	 * Computes the factorial of some (non-negative) integer value. Returns 1 for input 0.
+	 * Computes the factorial of some (non-negative) integer value. Returns 1 for input 0. The product {@code 1*...*x} is
+	 * computed by binary splitting, i.e., by recursively multiplying the products of the lower and upper half of the
+	 * factors. Compared to multiplying the factors one at a time, this balances the sizes of the operands and thus
+	 * benefits from the sub-quadratic multiplication algorithms of {@link BigInteger}.
 	 * <p>
 	 * @param x The input value
 	 * @return The factorial of {@code x}
 	 */
 	public static BigInteger factorial(final int x) {
-		BigInteger result = ONE;
-		for (int i = 1; i <= x; i++) {
-			result = result.multiply(BigInteger.valueOf(i));
+		if (x < 2) {
+			return ONE;
 		}
-		return result;
+		return product(2, x);
+	}
+
+	// computes from*(from+1)*...*to for 0 < from <= to
+	private static BigInteger product(final int from, final int to) {
+		// if each factor has at most bitLength bits, then the product of n factors has at most n*bitLength bits
+		final int bitLength = Integer.SIZE - Integer.numberOfLeadingZeros(to);
+		if ((long) (to - from + 1) * bitLength < Long.SIZE) {
+			long result = from;
+			for (long i = from + 1; i <= to; i++) {
+				result = result * i;
+			}
+			return BigInteger.valueOf(result);
+		}
+		final int middle = (from + to) >>> 1;
+		return product(from, middle).multiply(product(middle + 1, to));
 	}
 
 	/**
@@ -0,0 +1,354 @@
+/*
+ * UniCrypt
+ *
+ *  UniCrypt(tm): Cryptographical framework allowing the implementation of cryptographic protocols e.g. e-voting
+ *  Copyright (c) 2016 Bern University of Applied Sciences (BFH), Research Institute for
+ *  Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *  Quellgasse 21, CH-2501 Biel, Switzerland
+ *
+ *  Licensed under Dual License consisting of:
+ *  1. GNU Affero General Public License (AGPL) v3
+ *  and
+ *  2. Commercial license
+ *
+ *
+ *  1. This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ *  2. Licensees holding valid commercial licenses for UniCrypt may use this file in
+ *   accordance with the commercial license agreement provided with the
+ *   Software or, alternatively, in accordance with the terms contained in
+ *   a written agreement between you and Bern University of Applied Sciences (BFH), Research Institute for
+ *   Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *   Quellgasse 21, CH-2501 Biel, Switzerland.
+ *
+ *
+ *   For further information contact <e-mail: unicrypt@bfh.ch>
+ *
+ *
+ * Redistributions of files must retain the above copyright notice.
+ */
+package ch.bfh.unicrypt.helper.math;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
+
+/**
+ * This is a helper class for computing products of powers {@code b_1^e_1 * ... * b_n^e_n} (so-called
+ * multi-exponentiations) in an arbitrary commutative semigroup. The semigroup is given implicitly by its binary
+ * operation and optionally by a dedicated squaring operation. Two algorithms are implemented, Straus' simultaneous
+ * exponentiation with interleaved sliding windows and Pippenger's bucket method. The method
+ * {@link MultiExponentiation#compute(Object[], BigInteger[], BinaryOperator, UnaryOperator)} selects the cheaper one
+ * based on a simple cost model, which depends on the number of bases and the bit length of the largest exponent.
+ * <p>
+ * By contract, the methods of this class do not check the validity of the parameters. Exponents must be non-negative
+ * and exponents equal to zero are ignored. The neutral element of the semigroup is represented by {@code null}, i.e.,
+ * {@code null} is returned if all exponents are equal to zero. The binary operation is never called with {@code null}
+ * arguments. Note that the running time of the algorithms depends on the exponents, i.e., they do not offer any
+ * protection against timing attacks.
+ * <p>
+ * @see "Handbook of Applied Cryptography, Algorithm 14.88"
+ * @see "B. Möller, Algorithms for Multi-exponentiation, SAC 2001"
+ * @see "D. J. Bernstein, Pippenger's Exponentiation Algorithm, 2002"
+ * @author R. Haenni
+ * @version 2.0
+ */
+public final class MultiExponentiation {
+
+	private static final int MAX_STRAUS_WINDOW_SIZE = 8;
+	private static final int MAX_PIPPENGER_WINDOW_SIZE = 20;
+
+	private MultiExponentiation() {
+	}
+
+	/**
+	 * Computes the product of powers {@code b_1^e_1 * ... * b_n^e_n} using the binary operation for squarings. This is
+	 * a convenience method for
+	 * {@link MultiExponentiation#compute(Object[], BigInteger[], BinaryOperator, UnaryOperator)}.
+	 * <p>
+	 * @param <T>       The generic type of the semigroup values
+	 * @param bases     The bases {@code b_1,...,b_n}
+	 * @param exponents The non-negative exponents {@code e_1,...,e_n}
+	 * @param operation The (commutative) binary operation of the semigroup
+	 * @return The product of powers or {@code null} if all exponents are zero
+	 */
+	public static <T> T compute(final T[] bases, final BigInteger[] exponents, final BinaryOperator<T> operation) {
+		return MultiExponentiation.compute(bases, exponents, operation, value -> operation.apply(value, value));
+	}
+
+	/**
+	 * Computes the product of powers {@code b_1^e_1 * ... * b_n^e_n}. The algorithm is selected automatically based on
+	 * the number of bases and the bit length of the largest exponent.
+	 * <p>
+	 * @param <T>             The generic type of the semigroup values
+	 * @param bases           The bases {@code b_1,...,b_n}
+	 * @param exponents       The non-negative exponents {@code e_1,...,e_n}
+	 * @param operation       The (commutative) binary operation of the semigroup
+	 * @param squareOperation The squaring operation of the semigroup
+	 * @return The product of powers or {@code null} if all exponents are zero
+	 */
+	public static <T> T compute(final T[] bases, final BigInteger[] exponents, final BinaryOperator<T> operation,
+		   final UnaryOperator<T> squareOperation) {
+		int bitLength = MultiExponentiation.getMaxBitLength(exponents);
+		if (bitLength == 0) {
+			return null;
+		}
+		int n = bases.length;
+		int strausCost = MultiExponentiation.getStrausCost(n, bitLength,
+														 MultiExponentiation.getStrausWindowSize(n, bitLength));
+		int pippengerCost = MultiExponentiation.getPippengerCost(n, bitLength,
+															   MultiExponentiation.getPippengerWindowSize(n, bitLength));
+		if (strausCost <= pippengerCost) {
+			return MultiExponentiation.computeStraus(bases, exponents, operation, squareOperation);
+		}
+		return MultiExponentiation.computePippenger(bases, exponents, operation, squareOperation);
+	}
+
+	/**
+	 * Computes the product of powers {@code b_1^e_1 * ... * b_n^e_n} using Straus' algorithm with interleaved sliding
+	 * windows. For each base, a table of odd powers is precomputed, and all exponents are processed simultaneously
+	 * from left to right, such that all bases share the same squarings. This algorithm is best suited for small
+	 * numbers of bases.
+	 * <p>
+	 * @param <T>             The generic type of the semigroup values
+	 * @param bases           The bases {@code b_1,...,b_n}
+	 * @param exponents       The non-negative exponents {@code e_1,...,e_n}
+	 * @param operation       The (commutative) binary operation of the semigroup
+	 * @param squareOperation The squaring operation of the semigroup
+	 * @return The product of powers or {@code null} if all exponents are zero
+	 */
+	public static <T> T computeStraus(final T[] bases, final BigInteger[] exponents,
+		   final BinaryOperator<T> operation, final UnaryOperator<T> squareOperation) {
+		int n = bases.length;
+		int bitLength = MultiExponentiation.getMaxBitLength(exponents);
+		if (bitLength == 0) {
+			return null;
+		}
+		int windowSize = MultiExponentiation.getStrausWindowSize(n, bitLength);
+
+		// recode the exponents into (position, odd digit) pairs and precompute the tables of odd powers
+		int[][] positions = new int[n][];
+		int[][] digits = new int[n][];
+		Object[][] tables = new Object[n][];
+		for (int i = 0; i < n; i++) {
+			int[][] recoding = MultiExponentiation.getSlidingWindowRecoding(exponents[i], windowSize);
+			positions[i] = recoding[0];
+			digits[i] = recoding[1];
+			tables[i] = MultiExponentiation.getOddPowers(bases[i], MultiExponentiation.getMaxDigit(recoding[1]),
+														operation, squareOperation);
+		}
+
+		// process all exponents simultaneously from left to right
+		int[] cursors = new int[n];
+		T result = null;
+		for (int position = bitLength - 1; position >= 0; position--) {
+			if (result != null) {
+				result = squareOperation.apply(result);
+			}
+			for (int i = 0; i < n; i++) {
+				int cursor = cursors[i];
+				if (cursor < positions[i].length && positions[i][cursor] == position) {
+					T value = (T) tables[i][digits[i][cursor] >> 1];
+					result = (result == null) ? value : operation.apply(result, value);
+					cursors[i] = cursor + 1;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Computes the product of powers {@code b_1^e_1 * ... * b_n^e_n} using Pippenger's bucket method. The exponents
+	 * are split into windows of equal size. For each window, the bases are sorted into buckets according to the
+	 * corresponding digits of their exponents, and the buckets are then combined using a running sum. This algorithm
+	 * is best suited for large numbers of bases.
+	 * <p>
+	 * @param <T>             The generic type of the semigroup values
+	 * @param bases           The bases {@code b_1,...,b_n}
+	 * @param exponents       The non-negative exponents {@code e_1,...,e_n}
+	 * @param operation       The (commutative) binary operation of the semigroup
+	 * @param squareOperation The squaring operation of the semigroup
+	 * @return The product of powers or {@code null} if all exponents are zero
+	 */
+	public static <T> T computePippenger(final T[] bases, final BigInteger[] exponents,
+		   final BinaryOperator<T> operation, final UnaryOperator<T> squareOperation) {
+		int n = bases.length;
+		int bitLength = MultiExponentiation.getMaxBitLength(exponents);
+		if (bitLength == 0) {
+			return null;
+		}
+		int windowSize = MultiExponentiation.getPippengerWindowSize(n, bitLength);
+		int numberOfWindows = MathUtil.divideUp(bitLength, windowSize);
+		int[][] words = new int[n][];
+		for (int i = 0; i < n; i++) {
+			words[i] = MultiExponentiation.getWords(exponents[i]);
+		}
+		Object[] buckets = new Object[1 << windowSize];
+		T result = null;
+		for (int window = numberOfWindows - 1; window >= 0; window--) {
+			if (result != null) {
+				for (int j = 0; j < windowSize; j++) {
+					result = squareOperation.apply(result);
+				}
+			}
+			// sort the bases into the buckets
+			Arrays.fill(buckets, null);
+			for (int i = 0; i < n; i++) {
+				int digit = MultiExponentiation.getDigit(words[i], window * windowSize, windowSize);
+				if (digit != 0) {
+					T bucket = (T) buckets[digit];
+					buckets[digit] = (bucket == null) ? bases[i] : operation.apply(bucket, bases[i]);
+				}
+			}
+			// compute the product of bucket[k]^k using a running product
+			T runningProduct = null;
+			T windowProduct = null;
+			for (int k = buckets.length - 1; k > 0; k--) {
+				T bucket = (T) buckets[k];
+				if (bucket != null) {
+					runningProduct = (runningProduct == null) ? bucket : operation.apply(runningProduct, bucket);
+				}
+				if (runningProduct != null) {
+					windowProduct = (windowProduct == null) ? runningProduct : operation.apply(windowProduct,
+																							   runningProduct);
+				}
+			}
+			if (windowProduct != null) {
+				result = (result == null) ? windowProduct : operation.apply(result, windowProduct);
+			}
+		}
+		return result;
+	}
+
+	// returns the bit length of the largest exponent
+	private static int getMaxBitLength(final BigInteger[] exponents) {
+		int bitLength = 0;
+		for (BigInteger exponent : exponents) {
+			bitLength = Math.max(bitLength, exponent.bitLength());
+		}
+		return bitLength;
+	}
+
+	// the window size minimizing the estimated number of operations of Straus' algorithm
+	private static int getStrausWindowSize(final int n, final int bitLength) {
+		int bestWindowSize = 1;
+		for (int windowSize = 2; windowSize <= MAX_STRAUS_WINDOW_SIZE; windowSize++) {
+			if (getStrausCost(n, bitLength, windowSize) < getStrausCost(n, bitLength, bestWindowSize)) {
+				bestWindowSize = windowSize;
+			}
+		}
+		return bestWindowSize;
+	}
+
+	// precomputation of 2^(w-1) odd powers per base, one shared squaring per bit, one operation per window
+	private static int getStrausCost(final int n, final int bitLength, final int windowSize) {
+		return n * (1 << (windowSize - 1)) + bitLength + n * (bitLength / (windowSize + 1));
+	}
+
+	// the window size minimizing the estimated number of operations of Pippenger's algorithm
+	private static int getPippengerWindowSize(final int n, final int bitLength) {
+		int bestWindowSize = 1;
+		for (int windowSize = 2; windowSize <= MAX_PIPPENGER_WINDOW_SIZE; windowSize++) {
+			if (getPippengerCost(n, bitLength, windowSize) < getPippengerCost(n, bitLength, bestWindowSize)) {
+				bestWindowSize = windowSize;
+			}
+		}
+		return bestWindowSize;
+	}
+
+	// one operation per base and window, two operations per bucket and window, one squaring per bit
+	private static int getPippengerCost(final int n, final int bitLength, final int windowSize) {
+		long cost = (long) MathUtil.divideUp(bitLength, windowSize) * (n + (2L << windowSize)) + bitLength;
+		return (int) Math.min(cost, Integer.MAX_VALUE);
+	}
+
+	// left-to-right sliding window recoding into positions (descending) and corresponding odd digits
+	private static int[][] getSlidingWindowRecoding(final BigInteger exponent, final int windowSize) {
+		int bitLength = exponent.bitLength();
+		int[] positions = new int[bitLength];
+		int[] digits = new int[bitLength];
+		int length = 0;
+		int position = bitLength - 1;
+		while (position >= 0) {
+			if (!exponent.testBit(position)) {
+				position--;
+			} else {
+				int low = Math.max(position - windowSize + 1, 0);
+				while (!exponent.testBit(low)) {
+					low++;
+				}
+				int digit = 0;
+				for (int j = position; j >= low; j--) {
+					digit = (digit << 1) | (exponent.testBit(j) ? 1 : 0);
+				}
+				positions[length] = low;
+				digits[length] = digit;
+				length++;
+				position = low - 1;
+			}
+		}
+		return new int[][]{Arrays.copyOf(positions, length), Arrays.copyOf(digits, length)};
+	}
+
+	private static int getMaxDigit(final int[] digits) {
+		int maxDigit = 0;
+		for (int digit : digits) {
+			maxDigit = Math.max(maxDigit, digit);
+		}
+		return maxDigit;
+	}
+
+	// computes the table [b^1, b^3, b^5, ..., b^maxDigit]
+	private static <T> Object[] getOddPowers(final T base, final int maxDigit, final BinaryOperator<T> operation,
+		   final UnaryOperator<T> squareOperation) {
+		Object[] table = new Object[(maxDigit + 1) / 2];
+		if (table.length > 0) {
+			table[0] = base;
+		}
+		if (table.length > 1) {
+			T square = squareOperation.apply(base);
+			for (int k = 1; k < table.length; k++) {
+				table[k] = operation.apply((T) table[k - 1], square);
+			}
+		}
+		return table;
+	}
+
+	// little-endian 32-bit words of a non-negative integer
+	static int[] getWords(final BigInteger value) {
+		byte[] bytes = value.toByteArray();
+		int[] words = new int[MathUtil.divideUp(bytes.length, 4)];
+		for (int i = 0; i < bytes.length; i++) {
+			words[i >> 2] |= (bytes[bytes.length - 1 - i] & 0xFF) << ((i & 3) << 3);
+		}
+		return words;
+	}
+
+	// extracts the digit of the given size starting at the given bit position
+	static int getDigit(final int[] words, final int position, final int size) {
+		int wordIndex = position >>> 5;
+		if (wordIndex >= words.length) {
+			return 0;
+		}
+		int offset = position & 31;
+		long value = words[wordIndex] & 0xFFFFFFFFL;
+		if (wordIndex + 1 < words.length) {
+			value |= (words[wordIndex + 1] & 0xFFFFFFFFL) << 32;
+		}
+		return (int) (value >>> offset) & ((1 << size) - 1);
+	}
+
+}
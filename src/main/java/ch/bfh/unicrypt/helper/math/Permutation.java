@@ -217,6 +217,39 @@ public class Permutation
 		return new Permutation(vector);
 	}
 
+	/**
+	 * Computes and returns the permutation obtained from composing the permutation {@code amount} times with itself.
+	 * Negative amounts are interpreted as powers of the inverted permutation. The computation is based on the cycle
+	 * decomposition of the permutation and runs in linear time independently of the amount.
+	 * <p>
+	 * @param amount The given amount
+	 * @return The resulting permutation
+	 */
+	public Permutation power(BigInteger amount) {
+		if (amount == null) {
+			throw new IllegalArgumentException();
+		}
+		int size = this.getSize();
+		final int[] vector = new int[size];
+		final int[] cycle = new int[size];
+		final boolean[] visited = new boolean[size];
+		for (int i = 0; i < size; i++) {
+			if (visited[i]) {
+				continue;
+			}
+			int length = 0;
+			for (int j = i; !visited[j]; j = this.permutationVector[j]) {
+				visited[j] = true;
+				cycle[length++] = j;
+			}
+			int shift = amount.mod(BigInteger.valueOf(length)).intValue();
+			for (int j = 0; j < length; j++) {
+				vector[cycle[j]] = cycle[(j + shift) % length];
+			}
+		}
+		return new Permutation(vector);
+	}
+
 	@Override
 	protected String defaultToStringType() {
 		return "";
@@ -0,0 +1,320 @@
+/*
+ * UniCrypt
+ *
+ *  UniCrypt(tm): Cryptographical framework allowing the implementation of cryptographic protocols e.g. e-voting
+ *  Copyright (c) 2016 Bern University of Applied Sciences (BFH), Research Institute for
+ *  Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *  Quellgasse 21, CH-2501 Biel, Switzerland
+ *
+ *  Licensed under Dual License consisting of:
+ *  1. GNU Affero General Public License (AGPL) v3
+ *  and
+ *  2. Commercial license
+ *
+ *
+ *  1. This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ *  2. Licensees holding valid commercial licenses for UniCrypt may use this file in
+ *   accordance with the commercial license agreement provided with the
+ *   Software or, alternatively, in accordance with the terms contained in
+ *   a written agreement between you and Bern University of Applied Sciences (BFH), Research Institute for
+ *   Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *   Quellgasse 21, CH-2501 Biel, Switzerland.
+ *
+ *
+ *   For further information contact <e-mail: unicrypt@bfh.ch>
+ *
+ *
+ * Redistributions of files must retain the above copyright notice.
+ */
+package ch.bfh.unicrypt.helper.math;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Instances of this class provide the multiplication of dense polynomials over a prime field {@code Z_p}. A polynomial
+ * of degree {@code d} is represented by an array of length {@code d+1} of type {@code BigInteger[]}, with the
+ * coefficient of {@code x^i} stored at index {@code i}. The zero polynomial is represented by the empty array. Small
+ * polynomials are multiplied using the schoolbook method, medium-sized polynomials using Karatsuba's method, and large
+ * polynomials using the number-theoretic transform (NTT), provided that {@code p-1} is divisible by a sufficiently
+ * large power of 2 for the required roots of unity to exist in {@code Z_p}.
+ * <p>
+ * @see "Knuth: The Art of Computer Programming, Volume 2, Section 4.3.3"
+ * @see "von zur Gathen, Gerhard: Modern Computer Algebra, Sections 8.1 and 8.2"
+ * @author R. Haenni
+ * @version 2.0
+ */
+public class PrimeFieldPolynomialArithmetic {
+
+	// the size of the smaller polynomial, below which the schoolbook method is used
+	private static final int KARATSUBA_THRESHOLD = 32;
+
+	// the size of the smaller polynomial, above which the NTT is used (if possible)
+	private static final int NTT_THRESHOLD = 512;
+
+	// the maximal exponent s of the NTT sizes 2^s
+	private static final int MAX_NTT_EXPONENT = 30;
+
+	// the prime modulus p
+	private final BigInteger prime;
+
+	// the largest exponent s such that 2^s divides p-1 and s <= MAX_NTT_EXPONENT
+	private final int nttExponent;
+
+	// a primitive 2^s-th root of unity in Z_p
+	private final BigInteger nttRoot;
+
+	private PrimeFieldPolynomialArithmetic(BigInteger prime) {
+		this.prime = prime;
+		BigInteger primeMinusOne = prime.subtract(MathUtil.ONE);
+		this.nttExponent = Math.min(primeMinusOne.getLowestSetBit(), MAX_NTT_EXPONENT);
+		this.nttRoot = this.computeNttRoot(primeMinusOne);
+	}
+
+	/**
+	 * Returns a new instance for the given prime modulus. The primality is not checked.
+	 * <p>
+	 * @param prime The prime modulus
+	 * @return The new instance
+	 */
+	public static PrimeFieldPolynomialArithmetic getInstance(BigInteger prime) {
+		if (prime == null || prime.compareTo(MathUtil.TWO) < 0) {
+			throw new IllegalArgumentException();
+		}
+		return new PrimeFieldPolynomialArithmetic(prime);
+	}
+
+	/**
+	 * Returns the prime modulus {@code p}.
+	 * <p>
+	 * @return The prime modulus
+	 */
+	public BigInteger getPrime() {
+		return this.prime;
+	}
+
+	/**
+	 * Computes the product of two polynomials. The coefficients of the given polynomials must be elements of
+	 * {@code Z_p}, and the coefficients of the resulting polynomial are elements of {@code Z_p}. Leading zero
+	 * coefficients are not removed.
+	 * <p>
+	 * @param a The coefficients of the first polynomial
+	 * @param b The coefficients of the second polynomial
+	 * @return The coefficients of the product
+	 */
+	public BigInteger[] multiply(BigInteger[] a, BigInteger[] b) {
+		if (a == null || b == null) {
+			throw new IllegalArgumentException();
+		}
+		if (a.length == 0 || b.length == 0) {
+			return new BigInteger[0];
+		}
+		int length = a.length + b.length - 1;
+		if (Math.min(a.length, b.length) >= NTT_THRESHOLD && this.getNttSize(length) > 0) {
+			return this.multiplyNtt(a, b, this.getNttSize(length));
+		}
+		BigInteger[] result;
+		if (a.length < b.length) {
+			result = PrimeFieldPolynomialArithmetic.multiplyUnbalanced(b, a);
+		} else {
+			result = PrimeFieldPolynomialArithmetic.multiplyUnbalanced(a, b);
+		}
+		for (int i = 0; i < length; i++) {
+			result[i] = result[i].mod(this.prime);
+		}
+		return result;
+	}
+
+	/**
+	 * Computes the monic polynomial {@code (x-r_1)(x-r_2)...(x-r_n)} for given roots {@code r_1,...,r_n} in
+	 * {@code Z_p}. The factors are multiplied pairwise in a balanced binary tree, which allows the fast multiplication
+	 * methods to be applied to the large polynomials near the root of the tree.
+	 * <p>
+	 * @param roots The given roots
+	 * @return The coefficients of the resulting polynomial
+	 */
+	public BigInteger[] getPolynomialByRoots(BigInteger[] roots) {
+		if (roots == null) {
+			throw new IllegalArgumentException();
+		}
+		if (roots.length == 0) {
+			return new BigInteger[]{MathUtil.ONE};
+		}
+		return this.getPolynomialByRoots(roots, 0, roots.length);
+	}
+
+	// private helper method to compute the product of the linear factors for the roots from index 'from' to 'to'-1
+	private BigInteger[] getPolynomialByRoots(BigInteger[] roots, int from, int to) {
+		if (to - from == 1) {
+			return new BigInteger[]{roots[from].negate().mod(this.prime), MathUtil.ONE};
+		}
+		int middle = (from + to) >>> 1;
+		return this.multiply(this.getPolynomialByRoots(roots, from, middle),
+							 this.getPolynomialByRoots(roots, middle, to));
+	}
+
+	// private helper method to compute the (unreduced) product for a.length >= b.length by splitting a into blocks
+	private static BigInteger[] multiplyUnbalanced(BigInteger[] a, BigInteger[] b) {
+		int n = b.length;
+		BigInteger[] result = new BigInteger[a.length + n - 1];
+		Arrays.fill(result, MathUtil.ZERO);
+		BigInteger[] block = new BigInteger[n];
+		for (int offset = 0; offset < a.length; offset += n) {
+			int blockLength = Math.min(n, a.length - offset);
+			System.arraycopy(a, offset, block, 0, blockLength);
+			Arrays.fill(block, blockLength, n, MathUtil.ZERO);
+			BigInteger[] product = PrimeFieldPolynomialArithmetic.multiplyKaratsuba(block, 0, b, 0, n);
+			for (int i = 0; i < product.length && offset + i < result.length; i++) {
+				result[offset + i] = result[offset + i].add(product[i]);
+			}
+		}
+		return result;
+	}
+
+	// private helper method to compute the (unreduced) product of a[aOffset..aOffset+n-1] and b[bOffset..bOffset+n-1]
+	private static BigInteger[] multiplyKaratsuba(BigInteger[] a, int aOffset, BigInteger[] b, int bOffset, int n) {
+		BigInteger[] result = new BigInteger[2 * n - 1];
+		Arrays.fill(result, MathUtil.ZERO);
+		if (n < KARATSUBA_THRESHOLD) {
+			for (int i = 0; i < n; i++) {
+				if (a[aOffset + i].signum() != 0) {
+					for (int j = 0; j < n; j++) {
+						result[i + j] = result[i + j].add(a[aOffset + i].multiply(b[bOffset + j]));
+					}
+				}
+			}
+			return result;
+		}
+		// a = a0 + a1*x^h and b = b0 + b1*x^h, where a1 and b1 have size k >= h
+		int h = n / 2;
+		int k = n - h;
+		BigInteger[] low = PrimeFieldPolynomialArithmetic.multiplyKaratsuba(a, aOffset, b, bOffset, h);
+		BigInteger[] high = PrimeFieldPolynomialArithmetic.multiplyKaratsuba(a, aOffset + h, b, bOffset + h, k);
+		BigInteger[] sumA = new BigInteger[k];
+		BigInteger[] sumB = new BigInteger[k];
+		for (int i = 0; i < k; i++) {
+			sumA[i] = i < h ? a[aOffset + i].add(a[aOffset + h + i]) : a[aOffset + h + i];
+			sumB[i] = i < h ? b[bOffset + i].add(b[bOffset + h + i]) : b[bOffset + h + i];
+		}
+		// (a0+a1)(b0+b1) - a0*b0 - a1*b1 = a0*b1 + a1*b0
+		BigInteger[] middle = PrimeFieldPolynomialArithmetic.multiplyKaratsuba(sumA, 0, sumB, 0, k);
+		for (int i = 0; i < low.length; i++) {
+			result[i] = result[i].add(low[i]);
+			middle[i] = middle[i].subtract(low[i]);
+		}
+		for (int i = 0; i < high.length; i++) {
+			result[2 * h + i] = result[2 * h + i].add(high[i]);
+			middle[i] = middle[i].subtract(high[i]);
+		}
+		for (int i = 0; i < middle.length; i++) {
+			result[h + i] = result[h + i].add(middle[i]);
+		}
+		return result;
+	}
+
+	// private helper method to compute the NTT size 2^s >= length, returns 0 if no such size is supported
+	private int getNttSize(int length) {
+		int size = Integer.highestOneBit(length);
+		if (size < length) {
+			size = size << 1;
+		}
+		if (this.nttRoot == null || Integer.numberOfTrailingZeros(size) > this.nttExponent) {
+			return 0;
+		}
+		return size;
+	}
+
+	// private helper method to compute the product using the NTT of the given size
+	private BigInteger[] multiplyNtt(BigInteger[] a, BigInteger[] b, int size) {
+		BigInteger root = MathUtil.modExp(this.nttRoot,
+										  MathUtil.powerOfTwo(this.nttExponent - Integer.numberOfTrailingZeros(size)),
+										  this.prime);
+		BigInteger[] powers = this.computePowers(root, size / 2);
+		BigInteger[] transformA = this.transform(Arrays.copyOf(a, size), powers);
+		BigInteger[] transformB = this.transform(Arrays.copyOf(b, size), powers);
+		for (int i = 0; i < size; i++) {
+			transformA[i] = transformA[i].multiply(transformB[i]).mod(this.prime);
+		}
+		// the inverse transformation uses the powers of the inverse root, i.e., w^(-i) = w^(size-i)
+		BigInteger[] inversePowers = new BigInteger[size / 2];
+		inversePowers[0] = MathUtil.ONE;
+		for (int i = 1; i < size / 2; i++) {
+			inversePowers[i] = this.prime.subtract(powers[size / 2 - i]);
+		}
+		BigInteger[] result = this.transform(transformA, inversePowers);
+		BigInteger sizeInverse = MathUtil.modInv(BigInteger.valueOf(size), this.prime);
+		int length = a.length + b.length - 1;
+		BigInteger[] product = new BigInteger[length];
+		for (int i = 0; i < length; i++) {
+			product[i] = result[i].multiply(sizeInverse).mod(this.prime);
+		}
+		return product;
+	}
+
+	// private helper method to compute the iterative Cooley-Tukey transform (missing entries are treated as 0)
+	private BigInteger[] transform(BigInteger[] values, BigInteger[] powers) {
+		int size = values.length;
+		int bits = Integer.numberOfTrailingZeros(size);
+		BigInteger[] result = new BigInteger[size];
+		for (int i = 0; i < size; i++) {
+			int j = bits == 0 ? i : Integer.reverse(i) >>> (Integer.SIZE - bits);
+			result[j] = values[i] == null ? MathUtil.ZERO : values[i];
+		}
+		for (int length = 2; length <= size; length <<= 1) {
+			int half = length >>> 1;
+			int step = size / length;
+			for (int start = 0; start < size; start += length) {
+				for (int j = 0; j < half; j++) {
+					BigInteger u = result[start + j];
+					BigInteger v = result[start + j + half].multiply(powers[j * step]).mod(this.prime);
+					BigInteger sum = u.add(v);
+					BigInteger difference = u.subtract(v);
+					result[start + j] = sum.compareTo(this.prime) >= 0 ? sum.subtract(this.prime) : sum;
+					result[start + j + half] = difference.signum() < 0 ? difference.add(this.prime) : difference;
+				}
+			}
+		}
+		return result;
+	}
+
+	// private helper method to compute the powers w^0, w^1, ..., w^(n-1) of the given root w
+	private BigInteger[] computePowers(BigInteger root, int n) {
+		BigInteger[] powers = new BigInteger[Math.max(n, 1)];
+		powers[0] = MathUtil.ONE;
+		for (int i = 1; i < n; i++) {
+			powers[i] = powers[i - 1].multiply(root).mod(this.prime);
+		}
+		return powers;
+	}
+
+	// private helper method to find a primitive 2^s-th root of unity, returns null for s=0 or if p is not prime
+	private BigInteger computeNttRoot(BigInteger primeMinusOne) {
+		if (this.nttExponent == 0) {
+			return null;
+		}
+		BigInteger cofactor = primeMinusOne.shiftRight(this.nttExponent);
+		BigInteger exponent = MathUtil.powerOfTwo(this.nttExponent - 1);
+		// for half of all values x, x^cofactor is a primitive root (x is a quadratic non-residue)
+		for (int x = 2; x < 1000; x++) {
+			BigInteger root = MathUtil.modExp(BigInteger.valueOf(x), cofactor, this.prime);
+			if (MathUtil.modExp(root, exponent, this.prime).equals(primeMinusOne)) {
+				return root;
+			}
+		}
+		return null;
+	}
+
+}
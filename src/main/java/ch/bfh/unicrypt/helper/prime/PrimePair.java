@@ -41,6 +41,7 @@
  */
 package ch.bfh.unicrypt.helper.prime;
 
+import ch.bfh.unicrypt.helper.math.MathUtil;
 import ch.bfh.unicrypt.helper.random.RandomByteSequence;
 import ch.bfh.unicrypt.helper.random.hybrid.HybridRandomByteSequence;
 import ch.bfh.unicrypt.math.algebra.dualistic.classes.ZModPrimePair;
@@ -62,9 +63,13 @@ public class PrimePair
 
 	private static final long serialVersionUID = 1L;
 
+	// the inverse of the smaller prime factor modulo the larger prime factor
+	private final BigInteger crtCoefficient;
+
 	protected PrimePair(BigInteger prime1, BigInteger prime2) {
 		// the smaller prime factor is stored at index 0, the larger at index 1
 		super(prime1.multiply(prime2), new BigInteger[]{prime1.min(prime2), prime1.max(prime2)}, new Integer[]{1, 1});
+		this.crtCoefficient = MathUtil.modInv(prime1.min(prime2), prime1.max(prime2));
 	}
 
 	/**
@@ -85,6 +90,17 @@ public class PrimePair
 		return this.primeFactors.getAt(1);
 	}
 
+	/**
+	 * Returns the coefficient for combining residues modulo the two prime factors using the Chinese remainder theorem,
+	 * i.e., the inverse of the smaller prime factor modulo the larger prime factor.
+	 * <p>
+	 * @return The CRT coefficient
+	 * @see MathUtil#modExpCRT(BigInteger, BigInteger, BigInteger, BigInteger, BigInteger)
+	 */
+	public BigInteger getCRTCoefficient() {
+		return this.crtCoefficient;
+	}
+
 	/**
 	 * Creates a new prime pair from two given integer values of type {@code long}. This method is a convenience method
 	 * for {@link PrimePair#getInstance(BigInteger, BigInteger)}. Throws an exception if one of the given integers is
@@ -42,10 +42,17 @@
 package ch.bfh.unicrypt.helper.prime;
 
 import ch.bfh.unicrypt.helper.cache.Cache;
+import ch.bfh.unicrypt.helper.concurrent.Parallel;
 import ch.bfh.unicrypt.helper.math.MathUtil;
 import ch.bfh.unicrypt.helper.random.RandomByteSequence;
 import ch.bfh.unicrypt.helper.random.hybrid.HybridRandomByteSequence;
 import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Each instance of this class represents a safe prime number, i.e., a value {@code p} such that {@code (p-1)/2} is
@@ -156,10 +163,7 @@ public class SafePrime
 				while (!candidate.mod(increase).add(MathUtil.ONE).equals(increase)) {
 					candidate = candidate.add(MathUtil.TWO);
 				}
-				while (!MathUtil.isSafePrime(candidate)) {
-					candidate = candidate.add(increase);
-				}
-				safePrime = new SafePrime(candidate);
+				safePrime = new SafePrime(SafePrimeSieve.search(candidate, bitLength, true, () -> false));
 			}
 			CACHE1.put(bitLength, safePrime);
 		}
@@ -184,10 +188,7 @@ public class SafePrime
 				while (!candidate.mod(increase).add(MathUtil.ONE).equals(increase)) {
 					candidate = candidate.add(MathUtil.TWO);
 				}
-				while (!MathUtil.isSafePrime(candidate)) {
-					candidate = candidate.add(increase);
-				}
-				safePrime = new SafePrime(candidate);
+				safePrime = new SafePrime(SafePrimeSieve.search(candidate, bitLength, true, () -> false));
 			}
 			CACHE3.put(bitLength, safePrime);
 		}
@@ -214,10 +215,7 @@ public class SafePrime
 				while (!candidate.mod(increase).add(MathUtil.ONE).equals(increase)) {
 					candidate = candidate.subtract(MathUtil.TWO);
 				}
-				while (!MathUtil.isSafePrime(candidate)) {
-					candidate = candidate.subtract(increase);
-				}
-				safePrime = new SafePrime(candidate);
+				safePrime = new SafePrime(SafePrimeSieve.search(candidate, bitLength, false, () -> false));
 			}
 			CACHE2.put(bitLength, safePrime);
 		}
@@ -235,7 +233,9 @@ public class SafePrime
 	}
 
 	/**
-	 * Creates a new random safe prime of a given bit length using a given source of randomness.
+	 * Creates a new random safe prime of a given bit length using a given source of randomness. A random candidate is
+	 * selected as starting point of an incremental search, which discards most candidates cheaply by sieving with small
+	 * primes.
 	 * <p>
 	 * @param bitLength          The bit length
 	 * @param randomByteSequence The given random random byte sequence
@@ -253,10 +253,89 @@ public class SafePrime
 				return new SafePrime(MathUtil.SEVEN);
 			}
 		}
-		return new SafePrime(randomByteSequence.getRandomBigIntegerSequence(bitLength - 1)
-			   .filter(value -> MathUtil.isPrime(value))
-			   .map(value -> value.shiftLeft(1).add(MathUtil.ONE))
-			   .find(value -> value.mod(BigInteger.valueOf(12)).equals(BigInteger.valueOf(11)) && MathUtil.isPrime(value)));
+		Iterator<BigInteger> randomValues = randomByteSequence.getRandomBigIntegerSequence(bitLength - 1).iterator();
+		BigInteger safePrime = null;
+		while (safePrime == null) {
+			BigInteger candidate = SafePrime.getCandidate(randomValues.next());
+			safePrime = SafePrimeSieve.search(candidate, bitLength, true, () -> false);
+		}
+		return new SafePrime(safePrime);
+	}
+
+	/**
+	 * Creates a new random safe prime of a given bit length using the library's default random byte sequence. The
+	 * search is executed in parallel by the given executor. This is a convenience method for
+	 * {@link SafePrime#getRandomInstance(int, RandomByteSequence, Executor)}.
+	 * <p>
+	 * @param bitLength The bit length
+	 * @param executor  The executor
+	 * @return The new safe prime
+	 */
+	public static SafePrime getRandomInstance(int bitLength, Executor executor) {
+		return SafePrime.getRandomInstance(bitLength, HybridRandomByteSequence.getInstance(), executor);
+	}
+
+	/**
+	 * Creates a new random safe prime of a given bit length using a given source of randomness. The search is executed
+	 * in parallel by the given executor, i.e., one search per thread of the executor is started from a different random
+	 * candidate, and the first safe prime found is returned. The result is therefore not determined by the random byte
+	 * sequence.
+	 * <p>
+	 * @param bitLength          The bit length
+	 * @param randomByteSequence The given random random byte sequence
+	 * @param executor           The executor
+	 * @return The new safe prime
+	 */
+	public static SafePrime getRandomInstance(final int bitLength, final RandomByteSequence randomByteSequence,
+		   Executor executor) {
+		if (bitLength < 3 || randomByteSequence == null || executor == null) {
+			throw new IllegalArgumentException();
+		}
+		if (bitLength == 3) {
+			return SafePrime.getRandomInstance(bitLength, randomByteSequence);
+		}
+		int searchCount = Parallel.getParallelism(executor);
+		final Iterator<BigInteger> randomValues
+			   = randomByteSequence.getRandomBigIntegerSequence(bitLength - 1).iterator();
+		final AtomicReference<BigInteger> result = new AtomicReference<>();
+		final AtomicBoolean stopped = new AtomicBoolean(false);
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[searchCount];
+		for (int i = 0; i < searchCount; i++) {
+			futures[i] = CompletableFuture.runAsync(() -> {
+				while (!stopped.get()) {
+					BigInteger candidate;
+					synchronized (randomValues) {
+						candidate = SafePrime.getCandidate(randomValues.next());
+					}
+					BigInteger safePrime = SafePrimeSieve.search(candidate, bitLength, true, stopped::get);
+					if (safePrime != null && result.compareAndSet(null, safePrime)) {
+						stopped.set(true);
+					}
+				}
+			}, executor);
+		}
+		try {
+			CompletableFuture.anyOf(futures).join();
+		} catch (CompletionException exception) {
+			Throwable cause = exception.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw exception;
+		} finally {
+			stopped.set(true);
+		}
+		return new SafePrime(result.get());
+	}
+
+	// private helper method to derive a starting point p = 2q+1 with p mod 12 = 11 from a random value q
+	private static BigInteger getCandidate(BigInteger randomValue) {
+		BigInteger candidate = randomValue.shiftLeft(1).add(MathUtil.ONE);
+		int remainder = candidate.mod(BigInteger.valueOf(12)).intValue();
+		return candidate.add(BigInteger.valueOf((11 - remainder + 12) % 12));
 	}
 
 }
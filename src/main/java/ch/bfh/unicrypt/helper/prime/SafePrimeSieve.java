@@ -0,0 +1,201 @@
+/*
+ * UniCrypt
+ *
+ *  UniCrypt(tm): Cryptographical framework allowing the implementation of cryptographic protocols e.g. e-voting
+ *  Copyright (c) 2016 Bern University of Applied Sciences (BFH), Research Institute for
+ *  Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *  Quellgasse 21, CH-2501 Biel, Switzerland
+ *
+ *  Licensed under Dual License consisting of:
+ *  1. GNU Affero General Public License (AGPL) v3
+ *  and
+ *  2. Commercial license
+ *
+ *
+ *  1. This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ *  2. Licensees holding valid commercial licenses for UniCrypt may use this file in
+ *   accordance with the commercial license agreement provided with the
+ *   Software or, alternatively, in accordance with the terms contained in
+ *   a written agreement between you and Bern University of Applied Sciences (BFH), Research Institute for
+ *   Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *   Quellgasse 21, CH-2501 Biel, Switzerland.
+ *
+ *
+ *   For further information contact <e-mail: unicrypt@bfh.ch>
+ *
+ *
+ * Redistributions of files must retain the above copyright notice.
+ */
+package ch.bfh.unicrypt.helper.prime;
+
+import ch.bfh.unicrypt.helper.math.MathUtil;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.function.BooleanSupplier;
+
+/**
+ * This package-private helper class implements an incremental sieve for finding safe primes. Starting from a given
+ * candidate {@code p} satisfying {@code p mod 12 = 11}, the candidates {@code p, p+12, p+24, ...} (or {@code p, p-12,
+ * p-24, ...}) are examined window by window. For each small prime {@code s}, the positions of the candidates with
+ * {@code p} or {@code (p-1)/2} divisible by {@code s} are marked in the current window, which allows discarding most
+ * candidates without any arithmetic on large integers. The remaining candidates are first checked using Fermat tests
+ * to the base 2 for {@code (p-1)/2} and {@code p}, and the full primality tests of {@link MathUtil#isPrime(BigInteger)}
+ * are only applied to candidates passing both Fermat tests.
+ * <p>
+ * @see "Wiener, Safe Prime Generation with a Combined Sieve, 2003"
+ * @author R. Haenni
+ * @version 2.0
+ */
+final class SafePrimeSieve {
+
+	// the step between two consecutive candidates
+	private static final int STEP = 12;
+
+	// the number of candidates sieved at once
+	private static final int WINDOW_SIZE = 1 << 16;
+
+	// the small primes used for sieving (2 and 3 are excluded, since they never divide p or (p-1)/2)
+	private static final int[] SMALL_PRIMES = SafePrimeSieve.computeSmallPrimes(1 << 20);
+
+	// the inverses of STEP modulo the small primes
+	private static final int[] STEP_INVERSES = SafePrimeSieve.computeStepInverses(SMALL_PRIMES);
+
+	private SafePrimeSieve() {
+	}
+
+	/**
+	 * Returns the first safe prime in the sequence of candidates {@code p, p+12, p+24, ...} (or {@code p, p-12, p-24,
+	 * ...}), which does not exceed the range of integers of the given bit length. Returns {@code null} if no such safe
+	 * prime exists or if the search has been cancelled.
+	 * <p>
+	 * @param candidate  The first candidate
+	 * @param bitLength  The bit length of the safe prime
+	 * @param increasing {@code true} for examining increasing candidates, {@code false} otherwise
+	 * @param cancelled  Indicates whether the search has been cancelled
+	 * @return The first safe prime or {@code null}
+	 */
+	static BigInteger search(BigInteger candidate, int bitLength, boolean increasing, BooleanSupplier cancelled) {
+		BigInteger bound = increasing
+			   ? MathUtil.powerOfTwo(bitLength).subtract(MathUtil.ONE).subtract(candidate)
+			   : candidate.subtract(MathUtil.powerOfTwo(bitLength - 1));
+		if (bound.signum() < 0) {
+			return null;
+		}
+		long maxSteps = bound.divide(BigInteger.valueOf(STEP)).min(BigInteger.valueOf(Long.MAX_VALUE)).longValue();
+
+		// only primes smaller than 2^(bitLength-2) <= (p-1)/2 can be used, larger bit lengths justify more primes
+		long sieveBound = Math.min((long) bitLength << 8, 1L << Math.min(bitLength - 2, 62));
+		int n = 0;
+		while (n < SMALL_PRIMES.length && SMALL_PRIMES[n] < sieveBound) {
+			n++;
+		}
+		// the positions of the next candidates p with p mod s = 0 and p mod s = 1, relative to the current window
+		int[] positions0 = new int[n];
+		int[] positions1 = new int[n];
+		for (int i = 0; i < n; i++) {
+			int prime = SMALL_PRIMES[i];
+			long residue = candidate.mod(BigInteger.valueOf(prime)).longValue();
+			long inverse = increasing ? STEP_INVERSES[i] : prime - STEP_INVERSES[i];
+			positions0[i] = (int) ((prime - residue) * inverse % prime);
+			positions1[i] = (int) ((prime + 1 - residue) * inverse % prime);
+		}
+		boolean[] composite = new boolean[WINDOW_SIZE];
+		for (long window = 0; window <= maxSteps; window += WINDOW_SIZE) {
+			Arrays.fill(composite, false);
+			for (int i = 0; i < n; i++) {
+				int prime = SMALL_PRIMES[i];
+				positions0[i] = SafePrimeSieve.mark(composite, positions0[i], prime);
+				positions1[i] = SafePrimeSieve.mark(composite, positions1[i], prime);
+			}
+			int size = (int) Math.min(WINDOW_SIZE - 1, maxSteps - window) + 1;
+			for (int position = 0; position < size; position++) {
+				if (!composite[position]) {
+					if (cancelled.getAsBoolean()) {
+						return null;
+					}
+					BigInteger offset = BigInteger.valueOf(window + position).multiply(BigInteger.valueOf(STEP));
+					BigInteger value = increasing ? candidate.add(offset) : candidate.subtract(offset);
+					if (SafePrimeSieve.isSafePrime(value)) {
+						return value;
+					}
+				}
+			}
+		}
+		return null;
+	}
+
+	// private helper method to mark the positions of a prime in the window, returns the position in the next window
+	private static int mark(boolean[] composite, int position, int prime) {
+		while (position < WINDOW_SIZE) {
+			composite[position] = true;
+			position += prime;
+		}
+		return position - WINDOW_SIZE;
+	}
+
+	// private helper method to test cheap conditions before the expensive ones
+	private static boolean isSafePrime(BigInteger value) {
+		BigInteger primeFactor = value.shiftRight(1);
+		return SafePrimeSieve.isFermatProbablePrime(primeFactor) && SafePrimeSieve.isFermatProbablePrime(value)
+			   && MathUtil.isPrime(primeFactor) && MathUtil.isPrime(value);
+	}
+
+	// private helper method to perform a Fermat test to the base 2 (assuming that value is odd)
+	private static boolean isFermatProbablePrime(BigInteger value) {
+		return MathUtil.TWO.modPow(value.subtract(MathUtil.ONE), value).equals(MathUtil.ONE);
+	}
+
+	// private helper method to compute the primes 5, 7, 11, ... smaller than the given bound using Eratosthenes' sieve
+	private static int[] computeSmallPrimes(int bound) {
+		boolean[] composite = new boolean[bound];
+		int count = 0;
+		for (int i = 2; i < bound; i++) {
+			if (!composite[i]) {
+				count++;
+				for (long j = (long) i * i; j < bound; j += i) {
+					composite[(int) j] = true;
+				}
+			}
+		}
+		int[] primes = new int[count - 2];
+		int index = 0;
+		for (int i = 5; i < bound; i++) {
+			if (!composite[i]) {
+				primes[index++] = i;
+			}
+		}
+		return primes;
+	}
+
+	// private helper method to compute STEP^(s-2) mod s for all given primes s
+	private static int[] computeStepInverses(int[] primes) {
+		int[] inverses = new int[primes.length];
+		for (int i = 0; i < primes.length; i++) {
+			long prime = primes[i];
+			long result = 1;
+			long base = STEP;
+			for (long exponent = prime - 2; exponent > 0; exponent >>= 1) {
+				if ((exponent & 1) == 1) {
+					result = result * base % prime;
+				}
+				base = base * base % prime;
+			}
+			inverses[i] = (int) result;
+		}
+		return inverses;
+	}
+
+}
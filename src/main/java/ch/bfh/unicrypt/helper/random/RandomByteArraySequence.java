@@ -87,15 +87,31 @@ public abstract class RandomByteArraySequence
 
 			private final RandomByteArraySequenceIterator iterator = iterator();
 			private int currentIndex = 0;
-			private ByteArray currentByteArray = this.iterator.abstractNext();
+			private byte[] currentBytes = this.iterator.abstractNext().getBytes();
 
 			@Override
 			protected Byte abstractNext() {
-				if (this.currentIndex == this.currentByteArray.getLength()) {
+				if (this.currentIndex == this.currentBytes.length) {
 					this.currentIndex = 0;
-					this.currentByteArray = this.iterator.abstractNext();
+					this.currentBytes = this.iterator.abstractNext().getBytes();
+				}
+				return this.currentBytes[this.currentIndex++];
+			}
+
+			@Override
+			protected void abstractNextBytes(byte[] bytes, int offset, int length) {
+				// copies the remaining bytes of the current block and then as many new blocks as necessary
+				while (length > 0) {
+					if (this.currentIndex == this.currentBytes.length) {
+						this.currentIndex = 0;
+						this.currentBytes = this.iterator.abstractNext().getBytes();
+					}
+					int n = Math.min(length, this.currentBytes.length - this.currentIndex);
+					System.arraycopy(this.currentBytes, this.currentIndex, bytes, offset, n);
+					this.currentIndex += n;
+					offset += n;
+					length -= n;
 				}
-				return this.currentByteArray.getAt(this.currentIndex++);
 			}
 
 			@Override
@@ -44,6 +44,7 @@ package ch.bfh.unicrypt.helper.random;
 import ch.bfh.unicrypt.helper.array.classes.ByteArray;
 import ch.bfh.unicrypt.helper.math.MathUtil;
 import ch.bfh.unicrypt.helper.sequence.Sequence;
+import ch.bfh.unicrypt.helper.sequence.SequenceIterator;
 import java.math.BigInteger;
 
 /**
@@ -78,12 +79,8 @@ public abstract class RandomByteSequence
 
 					@Override
 					protected ByteArray abstractNext() {
-						int i = 0;
 						byte[] result = new byte[groupLength];
-						while (i < groupLength) {
-							result[i] = iterator.abstractNext();
-							i++;
-						}
+						iterator.abstractNextBytes(result, 0, groupLength);
 						return SafeByteArray.getInstance(result);
 					}
 
@@ -190,20 +187,38 @@ public abstract class RandomByteSequence
 			throw new IllegalArgumentException();
 		}
 		final int bitLength = maxValue.subtract(minValue).bitLength();
-		return this.group(MathUtil.divideUp(bitLength, 8))
-			   .map(byteArray -> {
-				   if (bitLength == 0) {
-					   return minValue;
-				   }
-				   int shift = 8 - (bitLength % 8);
-				   if (shift == 8) {
-					   shift = 0;
-				   }
-				   byte[] bytes = byteArray.getBytes();
-				   bytes[0] = MathUtil.shiftRight(MathUtil.shiftLeft(bytes[0], shift), shift);
-				   return new BigInteger(1, bytes).add(minValue);
-			   })
-			   .filter(value -> value.compareTo(maxValue) <= 0);
+		final int byteLength = MathUtil.divideUp(bitLength, 8);
+		final int shift = (8 - (bitLength % 8)) % 8;
+		final RandomByteSequence source = this;
+		// the random bytes for each candidate value are written block-wise into a fresh Java byte array, which is
+		// then passed to the BigInteger constructor without intermediate copies
+		return new Sequence<BigInteger>(Sequence.INFINITE) {
+
+			@Override
+			public SequenceIterator<BigInteger> iterator() {
+				return new SequenceIterator<BigInteger>() {
+
+					private final RandomByteSequenceIterator iterator = source.iterator();
+
+					@Override
+					public boolean hasNext() {
+						return true;
+					}
+
+					@Override
+					protected BigInteger abstractNext() {
+						byte[] bytes = new byte[byteLength];
+						this.iterator.nextBytes(bytes, 0, byteLength);
+						if (bitLength == 0) {
+							return minValue;
+						}
+						bytes[0] = MathUtil.shiftRight(MathUtil.shiftLeft(bytes[0], shift), shift);
+						return new BigInteger(1, bytes).add(minValue);
+					}
+				};
+			}
+
+		}.filter(value -> value.compareTo(maxValue) <= 0);
 	}
 
 	@Override
@@ -48,7 +48,9 @@ import ch.bfh.unicrypt.helper.sequence.SequenceIterator;
  * The purpose of this abstract sub-class of {@link SequenceIterator} is threefold. First, it adjusts the return type of
  * the method {@link SequenceIterator#next(int)} to {@link ByteArray}. Second, it sets the length of the sequence to
  * infinity. Finally, it transfers the visibility of {@link #updateBefore()}, {@link #updateAfter()}, and
- * {@link #abstractNext()} to this package.
+ * {@link #abstractNext()} to this package. In addition, it offers the method {@link #nextBytes(byte[], int, int)} for
+ * writing multiple random bytes directly into a Java byte array. Sub-classes generating the bytes block-wise should
+ * override {@link #abstractNextBytes(byte[], int, int)} to avoid creating a {@link Byte} object for each byte.
  * <p>
  * @author R. Haenni
  * @version 2.0
@@ -61,15 +63,26 @@ public abstract class RandomByteSequenceIterator
 		if (n < 0) {
 			throw new IllegalArgumentException();
 		}
-		this.updateBefore();
-		int i = 0;
 		byte[] bytes = new byte[n];
-		while (i < n && this.hasNext()) {
-			bytes[i] = this.abstractNext();
-			i++;
+		this.nextBytes(bytes, 0, n);
+		return SafeByteArray.getInstance(bytes);
+	}
+
+	/**
+	 * Writes the next {@code length} random bytes into the given Java byte array, starting at index {@code offset}.
+	 * The random bytes are the same as the ones returned by {@link #next(int)} for {@code n=length}.
+	 * <p>
+	 * @param bytes  The given Java byte array
+	 * @param offset The index of the first byte to write
+	 * @param length The number of random bytes to write
+	 */
+	public final void nextBytes(byte[] bytes, int offset, int length) {
+		if (bytes == null || offset < 0 || length < 0 || offset > bytes.length - length) {
+			throw new IllegalArgumentException();
 		}
+		this.updateBefore();
+		this.abstractNextBytes(bytes, offset, length);
 		this.updateAfter();
-		return SafeByteArray.getInstance(bytes);
 	}
 
 	@Override
@@ -88,4 +101,11 @@ public abstract class RandomByteSequenceIterator
 	@Override
 	protected abstract Byte abstractNext();
 
+	// this method is overriden in sub-classes generating the random bytes block-wise
+	protected void abstractNextBytes(byte[] bytes, int offset, int length) {
+		for (int i = offset; i < offset + length; i++) {
+			bytes[i] = this.abstractNext();
+		}
+	}
+
 }
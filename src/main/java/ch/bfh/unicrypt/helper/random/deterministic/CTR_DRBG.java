@@ -42,12 +42,9 @@
 package ch.bfh.unicrypt.helper.random.deterministic;
 
 import ch.bfh.unicrypt.helper.array.classes.ByteArray;
-import ch.bfh.unicrypt.helper.converter.classes.biginteger.ByteArrayToBigInteger;
 import ch.bfh.unicrypt.helper.hash.HashAlgorithm;
-import ch.bfh.unicrypt.helper.math.MathUtil;
 import ch.bfh.unicrypt.helper.random.RandomByteArraySequenceIterator;
 import ch.bfh.unicrypt.helper.random.RandomOracle;
-import java.math.BigInteger;
 
 /**
  * This class is a counter mode (CTR) implementation of a deterministic random bit generator. The given hash algorithm
@@ -63,12 +60,10 @@ public class CTR_DRBG
 	   extends DeterministicRandomByteArraySequence {
 
 	private final HashAlgorithm hashAlgorithm;
-	private final ByteArrayToBigInteger converter;
 
 	private CTR_DRBG(HashAlgorithm hashAlgorithm, ByteArray seed) {
 		super(seed);
 		this.hashAlgorithm = hashAlgorithm;
-		this.converter = ByteArrayToBigInteger.getInstance(seed.getLength());
 	}
 
 	@Override
@@ -76,12 +71,16 @@ public class CTR_DRBG
 
 		return new RandomByteArraySequenceIterator() {
 
-			private BigInteger counter = converter.convert(seed);
+			// the counter is kept as an unsigned big-endian byte array and incremented in place (modulo 2^bitLength)
+			private final byte[] counter = seed.getBytes();
 
 			@Override
 			public ByteArray abstractNext() {
-				ByteArray next = hashAlgorithm.getHashValue(converter.reconvert(this.counter));
-				this.counter = this.counter.add(MathUtil.ONE).mod(MathUtil.powerOfTwo(hashAlgorithm.getBitLength()));
+				ByteArray next = hashAlgorithm.getHashValue(ByteArray.getInstance(this.counter));
+				int i = this.counter.length - 1;
+				while (i >= 0 && ++this.counter[i] == 0) {
+					i--;
+				}
 				return next;
 			}
 
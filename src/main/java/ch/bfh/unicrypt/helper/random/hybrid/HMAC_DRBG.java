@@ -43,6 +43,7 @@ package ch.bfh.unicrypt.helper.random.hybrid;
 
 import ch.bfh.unicrypt.helper.array.classes.ByteArray;
 import ch.bfh.unicrypt.helper.hash.HashAlgorithm;
+import ch.bfh.unicrypt.helper.hash.HashMac;
 import ch.bfh.unicrypt.helper.math.MathUtil;
 import ch.bfh.unicrypt.helper.random.RandomByteArraySequenceIterator;
 import ch.bfh.unicrypt.helper.random.nondeterministic.NonDeterministicRandomByteSequence;
@@ -78,7 +79,9 @@ public class HMAC_DRBG
 
 		return new RandomByteArraySequenceIterator() {
 
-			private ByteArray key = ByteArray.getInstance(BYTE_ZERO, hashAlgorithm.getByteLength());
+			// the HMAC for the current key is only replaced when the key changes
+			private HashMac hashMac = hashAlgorithm.getHashMac(ByteArray.getInstance(BYTE_ZERO,
+																					 hashAlgorithm.getByteLength()));
 			private ByteArray value = ByteArray.getInstance(BYTE_ONE, hashAlgorithm.getByteLength());
 
 			{
@@ -93,17 +96,19 @@ public class HMAC_DRBG
 			}
 
 			protected void stateUpdate(ByteArray data) {
-				this.key = hashAlgorithm.getHashValue(this.value.add(BYTE_ZERO).append(data), this.key);
-				this.value = hashAlgorithm.getHashValue(this.value, this.key);
+				ByteArray key = this.hashMac.getHashValue(this.value.add(BYTE_ZERO).append(data));
+				this.hashMac = hashAlgorithm.getHashMac(key);
+				this.value = this.hashMac.getHashValue(this.value);
 				if (!data.isEmpty()) {
-					this.key = hashAlgorithm.getHashValue(this.value.add(BYTE_ONE).append(data), this.key);
-					this.value = hashAlgorithm.getHashValue(this.value, this.key);
+					key = this.hashMac.getHashValue(this.value.add(BYTE_ONE).append(data));
+					this.hashMac = hashAlgorithm.getHashMac(key);
+					this.value = this.hashMac.getHashValue(this.value);
 				}
 			}
 
 			@Override
 			public ByteArray abstractNext() {
-				return this.value = hashAlgorithm.getHashValue(this.value, this.key);
+				return this.value = this.hashMac.getHashValue(this.value);
 			}
 
 		};
@@ -104,11 +104,12 @@ public class Hash_DRBG
 		return this.converter.reconvert(sum);
 	}
 
-	// b.getLength() = seedLength/Byte.SIZE
-	private ByteArray byteArrayAddOne(ByteArray b) {
-		BigInteger i = converter.convert(b);
-		BigInteger iPlusOne = i.add(MathUtil.ONE).mod(MathUtil.powerOfTwo(this.seedLength));
-		return this.converter.reconvert(iPlusOne);
+	// bytes.length = seedLength/Byte.SIZE, the bytes are incremented in place (modulo 2^seedLength)
+	private static void byteArrayAddOne(byte[] bytes) {
+		int i = bytes.length - 1;
+		while (i >= 0 && ++bytes[i] == 0) {
+			i--;
+		}
 	}
 
 	@Override
@@ -119,7 +120,7 @@ public class Hash_DRBG
 			private ByteArray value = hashDerivationFunction(entropySource.next(minEntropy / Byte.SIZE).append(
 				   personalizationString));
 			private final ByteArray constant = hashDerivationFunction(this.value.insert(BYTE_ZERO));
-			private ByteArray data = this.value;
+			private byte[] data = this.value.getBytes();
 			private long counter = 1;
 
 			@Override
@@ -127,13 +128,13 @@ public class Hash_DRBG
 				ByteArray hash = hashAlgorithm.getHashValue(this.value.insert(BYTE_THREE));
 				this.value = byteArraySum(this.value, hash, this.constant, this.counter);
 				this.counter++;
-				this.data = this.value;
+				this.data = this.value.getBytes();
 			}
 
 			@Override
 			public ByteArray abstractNext() {
-				ByteArray next = hashAlgorithm.getHashValue(this.data);
-				this.data = byteArrayAddOne(this.data);
+				ByteArray next = hashAlgorithm.getHashValue(ByteArray.getInstance(this.data));
+				byteArrayAddOne(this.data);
 				return next;
 			}
 
@@ -88,6 +88,10 @@ public class NonDeterministicRandomByteSequence
 		return this.iterator.next(n);
 	}
 
+	public void nextBytes(byte[] bytes, int offset, int length) {
+		this.iterator.nextBytes(bytes, offset, length);
+	}
+
 	/**
 	 * Returns the default non-deterministic random byte sequence, which is an instance of {@link SecureRandom_NRBG}.
 	 * <p>
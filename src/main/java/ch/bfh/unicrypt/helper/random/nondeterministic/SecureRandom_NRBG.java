@@ -78,6 +78,11 @@ public class SecureRandom_NRBG
 					return this.secureRandom.generateSeed(1)[0];
 				}
 
+				@Override
+				protected void abstractNextBytes(byte[] bytes, int offset, int length) {
+					System.arraycopy(this.secureRandom.generateSeed(length), 0, bytes, offset, length);
+				}
+
 			};
 			SecureRandom_NRBG.instance = new SecureRandom_NRBG(iterator);
 		}
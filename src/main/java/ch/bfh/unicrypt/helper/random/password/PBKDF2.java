@@ -42,11 +42,14 @@
 package ch.bfh.unicrypt.helper.random.password;
 
 import ch.bfh.unicrypt.helper.array.classes.ByteArray;
+import ch.bfh.unicrypt.helper.concurrent.Parallel;
 import ch.bfh.unicrypt.helper.converter.classes.bytearray.StringToByteArray;
 import ch.bfh.unicrypt.helper.converter.interfaces.Converter;
 import ch.bfh.unicrypt.helper.hash.HashAlgorithm;
+import ch.bfh.unicrypt.helper.hash.HashMac;
 import ch.bfh.unicrypt.helper.math.MathUtil;
 import ch.bfh.unicrypt.helper.random.RandomByteArraySequenceIterator;
+import java.util.concurrent.Executor;
 
 /**
  * This class implements the standard PBKDF2 (password-based key derivation function) as defined in the NIST Special
@@ -65,8 +68,6 @@ public class PBKDF2
 	 */
 	public static final int DEFAULT_ROUNDS = 100000;
 
-	private static final byte BYTE_ZERO = MathUtil.getByte(0x00);
-
 	private final HashAlgorithm hashAlgorithm;
 	private final int rounds;
 
@@ -81,23 +82,48 @@ public class PBKDF2
 
 		return new RandomByteArraySequenceIterator() {
 
+			private final HashMac hashMac = hashAlgorithm.getHashMac(password);
 			private int counter = 1;
 
 			@Override
 			public ByteArray abstractNext() {
-				ByteArray result = ByteArray.getInstance(BYTE_ZERO, hashAlgorithm.getByteLength());
-				ByteArray currentHash = salt.append(MathUtil.getByteArray(counter));
-				for (int i = 1; i <= rounds; i++) {
-					currentHash = hashAlgorithm.getHashValue(currentHash, password);
-					result = result.xor(currentHash);
-				}
+				byte[] result = new byte[hashAlgorithm.getByteLength()];
+				computeBlock(this.hashMac, counter, result, 0);
 				counter++;
-				return result;
+				return ByteArray.getInstance(result);
 			}
 
 		};
 	}
 
+	// the blocks are independent of each other, i.e., they can be computed in parallel
+	@Override
+	protected ByteArray abstractDeriveKey(int length, Executor executor) {
+		final int blockLength = this.hashAlgorithm.getByteLength();
+		final HashMac hashMac = this.hashAlgorithm.getHashMac(this.password);
+		final byte[] result = new byte[MathUtil.divideUp(length, blockLength) * blockLength];
+		Parallel.forEach(result.length / blockLength, i -> {
+			this.computeBlock(hashMac, i + 1, result, i * blockLength);
+		}, executor);
+		return ByteArray.getInstance(result).extractPrefix(length);
+	}
+
+	// computes the block with the given index and writes it into the target array, the rounds are computed in place
+	// on Java byte arrays to avoid creating new objects in each round
+	private void computeBlock(HashMac hashMac, int index, byte[] target, int offset) {
+		int length = this.hashAlgorithm.getByteLength();
+		byte[] currentHash = new byte[length];
+		byte[] message = this.salt.append(MathUtil.getByteArray(index)).getBytes();
+		hashMac.getHashValue(message, 0, message.length, currentHash, 0);
+		System.arraycopy(currentHash, 0, target, offset, length);
+		for (int i = 2; i <= this.rounds; i++) {
+			hashMac.getHashValue(currentHash, 0, length, currentHash, 0);
+			for (int j = 0; j < length; j++) {
+				target[offset + j] ^= currentHash[j];
+			}
+		}
+	}
+
 	/**
 	 * Returns a new factory for constructing new instances of this class. It uses the default hash algorithm, the
 	 * default number of rounds, and the default {@link StringToByteArray} converter.
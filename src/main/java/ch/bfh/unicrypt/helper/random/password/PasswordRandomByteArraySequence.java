@@ -42,9 +42,13 @@
 package ch.bfh.unicrypt.helper.random.password;
 
 import ch.bfh.unicrypt.helper.array.classes.ByteArray;
+import ch.bfh.unicrypt.helper.concurrent.Parallel;
 import ch.bfh.unicrypt.helper.converter.interfaces.Converter;
 import ch.bfh.unicrypt.helper.random.RandomByteArraySequence;
 import ch.bfh.unicrypt.helper.random.RandomByteSequenceIterator;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * This abstract class implements the basic functionality of password-based random bit generators such {@link PBKDF2}.
@@ -79,6 +83,41 @@ public abstract class PasswordRandomByteArraySequence
 		};
 	}
 
+	/**
+	 * Derives a key of a given length from the password and salt. The key consists of the first {@code length} bytes
+	 * of the random byte sequence returned by {@link #getRandomByteSequence()}.
+	 * <p>
+	 * @param length The length of the key
+	 * @return The derived key
+	 */
+	public ByteArray deriveKey(int length) {
+		if (length < 0) {
+			throw new IllegalArgumentException();
+		}
+		return this.getRandomByteSequence().iterator().next(length);
+	}
+
+	/**
+	 * Derives a key of a given length from the password and salt using the given executor. Sub-classes, which derive
+	 * the random byte arrays independently of each other, compute them in parallel. The result is the same as the one
+	 * returned by {@link #deriveKey(int)}.
+	 * <p>
+	 * @param length   The length of the key
+	 * @param executor The executor for running the parallel tasks
+	 * @return The derived key
+	 */
+	public ByteArray deriveKey(int length, Executor executor) {
+		if (length < 0 || executor == null) {
+			throw new IllegalArgumentException();
+		}
+		return this.abstractDeriveKey(length, executor);
+	}
+
+	// this method is overriden in PBKDF2
+	protected ByteArray abstractDeriveKey(int length, Executor executor) {
+		return this.deriveKey(length);
+	}
+
 	/**
 	 * This is the abstract factory class for constructing instances of {@link PasswordRandomByteArraySequence} from a
 	 * given password and salt. Classes implementing this abstract class are responsible for the actual construction of
@@ -152,6 +191,31 @@ public abstract class PasswordRandomByteArraySequence
 			return this.abstractGetInstance(password, salt);
 		}
 
+		/**
+		 * Derives keys of a given length for multiple pairs of passwords and salts. The pairs are processed in
+		 * parallel by the given executor, i.e., this method is useful for deriving or checking many password-based
+		 * keys at once. The i-th key is the same as the one returned by
+		 * {@link PasswordRandomByteArraySequence#deriveKey(int)} for the i-th password and salt.
+		 * <p>
+		 * @param passwords The given passwords
+		 * @param salts     The given salts
+		 * @param length    The length of the keys
+		 * @param executor  The executor for running the parallel tasks
+		 * @return The list of derived keys
+		 */
+		public List<ByteArray> deriveKeys(List<ByteArray> passwords, List<ByteArray> salts, int length,
+			   Executor executor) {
+			if (passwords == null || salts == null || passwords.size() != salts.size() || length < 0
+				   || executor == null || passwords.contains(null) || salts.contains(null)) {
+				throw new IllegalArgumentException();
+			}
+			final ByteArray[] keys = new ByteArray[passwords.size()];
+			Parallel.forEach(keys.length, i -> {
+				keys[i] = this.abstractGetInstance(passwords.get(i), salts.get(i)).deriveKey(length);
+			}, executor);
+			return Arrays.asList(keys);
+		}
+
 		// this method must be implemented in each sub-class
 		protected abstract PasswordRandomByteArraySequence abstractGetInstance(ByteArray password, ByteArray salt);
 
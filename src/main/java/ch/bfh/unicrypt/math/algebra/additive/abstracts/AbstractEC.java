@@ -47,6 +47,7 @@ import ch.bfh.unicrypt.UniCryptRuntimeException;
 import ch.bfh.unicrypt.helper.converter.abstracts.AbstractBigIntegerConverter;
 import ch.bfh.unicrypt.helper.converter.interfaces.Converter;
 import ch.bfh.unicrypt.helper.math.MathUtil;
+import ch.bfh.unicrypt.helper.math.MultiExponentiation;
 import ch.bfh.unicrypt.helper.math.Point;
 import ch.bfh.unicrypt.helper.random.RandomByteSequence;
 import ch.bfh.unicrypt.helper.sequence.Sequence;
@@ -55,6 +56,7 @@ import ch.bfh.unicrypt.math.algebra.additive.interfaces.ECElement;
 import ch.bfh.unicrypt.math.algebra.dualistic.classes.ZModPrime;
 import ch.bfh.unicrypt.math.algebra.dualistic.interfaces.DualisticElement;
 import ch.bfh.unicrypt.math.algebra.dualistic.interfaces.FiniteField;
+import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Set;
 import ch.bfh.unicrypt.math.algebra.multiplicative.classes.ZStarModPrime;
 import java.math.BigInteger;
@@ -195,6 +197,16 @@ public abstract class AbstractEC<F extends FiniteField<V>, V, DE extends Dualist
 		return this.abstractAdd(element1.getX(), element1.getY(), element2.getX(), element2.getY());
 	}
 
+	@Override
+	protected EE defaultMultiSelfApplyAlgorithm(final Element[] elements, final BigInteger[] posFactors,
+		   final boolean publicFactors) {
+		// the point arithmetic does not run in constant time, so the engine is also used for secret factors
+		Element result = MultiExponentiation.compute(elements, posFactors,
+													 (element1, element2) -> this.abstractApply((EE) element1,
+																								(EE) element2));
+		return (result == null) ? this.getZeroElement() : (EE) result;
+	}
+
 	@Override
 	protected final EE abstractInvert(EE element) {
 		if (element.isZero()) {
@@ -44,17 +44,24 @@ package ch.bfh.unicrypt.math.algebra.additive.classes;
 import ch.bfh.unicrypt.ErrorCode;
 import ch.bfh.unicrypt.UniCryptRuntimeException;
 import ch.bfh.unicrypt.helper.math.MathUtil;
+import ch.bfh.unicrypt.helper.math.MultiExponentiation;
 import ch.bfh.unicrypt.helper.math.Point;
 import ch.bfh.unicrypt.helper.sequence.BigIntegerSequence;
 import ch.bfh.unicrypt.math.algebra.additive.abstracts.AbstractEC;
 import ch.bfh.unicrypt.math.algebra.additive.parameters.ECParameters;
 import ch.bfh.unicrypt.math.algebra.dualistic.classes.ZModElement;
 import ch.bfh.unicrypt.math.algebra.dualistic.classes.ZModPrime;
+import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
 import java.math.BigInteger;
+import java.util.Arrays;
 
 /**
  * y²=x³+ax+b
  * <p>
+ * Scalar multiplications are computed internally in Jacobian coordinates {@code (X,Y,Z)}, which represent the affine
+ * point {@code (X/Z²,Y/Z³)}. This avoids the modular inversion of the affine point addition in every step of the
+ * algorithm. Factors are recoded into their width-w non-adjacent form (wNAF).
+ * <p>
  * @author C. Lutz
  * @author R. Haenni
  */
@@ -63,6 +70,12 @@ public class ECZModPrime
 
 	private static final long serialVersionUID = -5442792676496187516L;
 
+	private static final int MIN_WNAF_WINDOW_SIZE = 2;
+	private static final int MAX_WNAF_WINDOW_SIZE = 6;
+
+	// the point of infinity in Jacobian coordinates
+	private static final BigInteger[] JACOBIAN_INFINITY = {MathUtil.ONE, MathUtil.ONE, MathUtil.ZERO};
+
 	protected ECZModPrime(ZModPrime finiteField, ZModElement a, ZModElement b, ZModElement gx, ZModElement gy,
 		   BigInteger subGroupOrder, BigInteger coFactor) {
 		super(finiteField, a, b, gx, gy, subGroupOrder, coFactor);
@@ -126,6 +139,197 @@ public class ECZModPrime
 		return this.abstractGetElement(Point.getInstance(x, y));
 	}
 
+	@Override
+	protected ECZModElement defaultSelfApplyAlgorithm(final ECZModElement element, final BigInteger posFactor) {
+		if (element.isZero()) {
+			return element;
+		}
+		final BigInteger p = this.getFiniteField().getModulus();
+		final int windowSize = ECZModPrime.getWindowSize(posFactor.bitLength());
+		final BigInteger[][] oddMultiples = this.getOddMultiples(element, windowSize);
+		final int[] digits = ECZModPrime.getNonAdjacentForm(posFactor, windowSize);
+		BigInteger[] result = JACOBIAN_INFINITY;
+		for (int i = digits.length - 1; i >= 0; i--) {
+			result = this.doubleJacobian(result);
+			int digit = digits[i];
+			if (digit != 0) {
+				BigInteger[] point = oddMultiples[Math.abs(digit) >> 1];
+				if (point != null) {
+					result = this.addMixed(result, point[0], (digit > 0) ? point[1] : p.subtract(point[1]).mod(p));
+				}
+			}
+		}
+		return this.getAffineElement(result);
+	}
+
+	@Override
+	protected ECZModElement defaultMultiSelfApplyAlgorithm(final Element[] elements, final BigInteger[] posFactors,
+		   final boolean publicFactors) {
+		final BigInteger[][] points = new BigInteger[elements.length][];
+		for (int i = 0; i < elements.length; i++) {
+			points[i] = ECZModPrime.getJacobianPoint((ECZModElement) elements[i]);
+		}
+		BigInteger[] result = MultiExponentiation.compute(points, posFactors, this::addJacobian, this::doubleJacobian);
+		return (result == null) ? this.getZeroElement() : this.getAffineElement(result);
+	}
+
+	// computes the odd multiples P, 3P, 5P, ..., (2^(w-1)-1)P in affine coordinates (null for the point of infinity)
+	private BigInteger[][] getOddMultiples(final ECZModElement element, final int windowSize) {
+		final BigInteger p = this.getFiniteField().getModulus();
+		final BigInteger[][] multiples = new BigInteger[1 << (windowSize - 2)][];
+		multiples[0] = ECZModPrime.getJacobianPoint(element);
+		if (multiples.length > 1) {
+			BigInteger[] twice = this.doubleJacobian(multiples[0]);
+			for (int i = 1; i < multiples.length; i++) {
+				multiples[i] = this.addJacobian(multiples[i - 1], twice);
+			}
+		}
+		// normalize all points using a single modular inversion (Montgomery's trick)
+		final BigInteger[] products = new BigInteger[multiples.length];
+		BigInteger product = MathUtil.ONE;
+		for (int i = 0; i < multiples.length; i++) {
+			if (multiples[i][2].signum() != 0) {
+				product = product.multiply(multiples[i][2]).mod(p);
+			}
+			products[i] = product;
+		}
+		BigInteger inverse = MathUtil.modInv(product, p);
+		for (int i = multiples.length - 1; i >= 0; i--) {
+			BigInteger[] point = multiples[i];
+			if (point[2].signum() == 0) {
+				multiples[i] = null;
+			} else {
+				BigInteger zInverse = (i == 0) ? inverse : inverse.multiply(products[i - 1]).mod(p);
+				inverse = inverse.multiply(point[2]).mod(p);
+				BigInteger zInverse2 = zInverse.multiply(zInverse).mod(p);
+				BigInteger zInverse3 = zInverse2.multiply(zInverse).mod(p);
+				multiples[i] = new BigInteger[]{point[0].multiply(zInverse2).mod(p),
+												point[1].multiply(zInverse3).mod(p)};
+			}
+		}
+		return multiples;
+	}
+
+	// "Guide to Elliptic Curve Cryptography", Algorithm 3.21 (general curve parameter a)
+	private BigInteger[] doubleJacobian(final BigInteger[] point) {
+		if (point[2].signum() == 0 || point[1].signum() == 0) {
+			return JACOBIAN_INFINITY;
+		}
+		final BigInteger p = this.getFiniteField().getModulus();
+		BigInteger yy = point[1].multiply(point[1]).mod(p);
+		BigInteger zz = point[2].multiply(point[2]).mod(p);
+		// S=4XY², M=3X²+aZ⁴
+		BigInteger s = point[0].multiply(yy).shiftLeft(2).mod(p);
+		BigInteger m = point[0].multiply(point[0]).multiply(MathUtil.THREE)
+			   .add(this.getA().getValue().multiply(zz.multiply(zz).mod(p))).mod(p);
+		// X'=M²-2S, Y'=M(S-X')-8Y⁴, Z'=2YZ
+		BigInteger x = m.multiply(m).subtract(s.shiftLeft(1)).mod(p);
+		BigInteger y = m.multiply(s.subtract(x)).subtract(yy.multiply(yy).shiftLeft(3)).mod(p);
+		BigInteger z = point[1].multiply(point[2]).shiftLeft(1).mod(p);
+		return new BigInteger[]{x, y, z};
+	}
+
+	// "Guide to Elliptic Curve Cryptography", Algorithm 3.22 (mixed Jacobian-affine addition)
+	private BigInteger[] addMixed(final BigInteger[] point, final BigInteger x2, final BigInteger y2) {
+		if (point[2].signum() == 0) {
+			return new BigInteger[]{x2, y2, MathUtil.ONE};
+		}
+		final BigInteger p = this.getFiniteField().getModulus();
+		BigInteger zz = point[2].multiply(point[2]).mod(p);
+		BigInteger h = x2.multiply(zz).subtract(point[0]).mod(p);
+		BigInteger r = y2.multiply(zz).mod(p).multiply(point[2]).subtract(point[1]).mod(p);
+		if (h.signum() == 0) {
+			return (r.signum() == 0) ? this.doubleJacobian(point) : JACOBIAN_INFINITY;
+		}
+		return ECZModPrime.getSum(point[0], point[1], point[2], h, r, p);
+	}
+
+	// "Guide to Elliptic Curve Cryptography", Section 3.2.2 (Jacobian-Jacobian addition)
+	private BigInteger[] addJacobian(final BigInteger[] point1, final BigInteger[] point2) {
+		if (point1[2].signum() == 0) {
+			return point2;
+		}
+		if (point2[2].signum() == 0) {
+			return point1;
+		}
+		final BigInteger p = this.getFiniteField().getModulus();
+		BigInteger zz1 = point1[2].multiply(point1[2]).mod(p);
+		BigInteger zz2 = point2[2].multiply(point2[2]).mod(p);
+		BigInteger u1 = point1[0].multiply(zz2).mod(p);
+		BigInteger s1 = point1[1].multiply(zz2).mod(p).multiply(point2[2]).mod(p);
+		BigInteger h = point2[0].multiply(zz1).subtract(u1).mod(p);
+		BigInteger r = point2[1].multiply(zz1).mod(p).multiply(point1[2]).subtract(s1).mod(p);
+		if (h.signum() == 0) {
+			return (r.signum() == 0) ? this.doubleJacobian(point1) : JACOBIAN_INFINITY;
+		}
+		return ECZModPrime.getSum(u1, s1, point1[2].multiply(point2[2]).mod(p), h, r, p);
+	}
+
+	// X3=r²-H³-2U1H², Y3=r(U1H²-X3)-S1H³, Z3=Z1Z2H
+	private static BigInteger[] getSum(final BigInteger u1, final BigInteger s1, final BigInteger z1z2,
+		   final BigInteger h, final BigInteger r, final BigInteger p) {
+		BigInteger hh = h.multiply(h).mod(p);
+		BigInteger hhh = hh.multiply(h).mod(p);
+		BigInteger v = u1.multiply(hh).mod(p);
+		BigInteger x = r.multiply(r).subtract(hhh).subtract(v.shiftLeft(1)).mod(p);
+		BigInteger y = r.multiply(v.subtract(x)).subtract(s1.multiply(hhh)).mod(p);
+		BigInteger z = z1z2.multiply(h).mod(p);
+		return new BigInteger[]{x, y, z};
+	}
+
+	private static BigInteger[] getJacobianPoint(final ECZModElement element) {
+		if (element.isZero()) {
+			return JACOBIAN_INFINITY;
+		}
+		return new BigInteger[]{element.getX().getValue(), element.getY().getValue(), MathUtil.ONE};
+	}
+
+	private ECZModElement getAffineElement(final BigInteger[] point) {
+		if (point[2].signum() == 0) {
+			return this.getZeroElement();
+		}
+		final BigInteger p = this.getFiniteField().getModulus();
+		BigInteger zInverse = MathUtil.modInv(point[2], p);
+		BigInteger zInverse2 = zInverse.multiply(zInverse).mod(p);
+		BigInteger x = point[0].multiply(zInverse2).mod(p);
+		BigInteger y = point[1].multiply(zInverse2).mod(p).multiply(zInverse).mod(p);
+		return this.abstractGetElement(Point.getInstance(this.getFiniteField().getElement(x),
+														 this.getFiniteField().getElement(y)));
+	}
+
+	// the window size minimizing the number of precomputed points plus the expected number of additions
+	private static int getWindowSize(final int bitLength) {
+		int bestWindowSize = MIN_WNAF_WINDOW_SIZE;
+		for (int windowSize = MIN_WNAF_WINDOW_SIZE + 1; windowSize <= MAX_WNAF_WINDOW_SIZE; windowSize++) {
+			if ((1 << (windowSize - 2)) + bitLength / (windowSize + 1)
+				   < (1 << (bestWindowSize - 2)) + bitLength / (bestWindowSize + 1)) {
+				bestWindowSize = windowSize;
+			}
+		}
+		return bestWindowSize;
+	}
+
+	// "Guide to Elliptic Curve Cryptography", Algorithm 3.35 (digits in little-endian order)
+	private static int[] getNonAdjacentForm(BigInteger factor, final int windowSize) {
+		final int[] digits = new int[factor.bitLength() + 1];
+		final int modulus = 1 << windowSize;
+		int length = 0;
+		while (factor.signum() > 0) {
+			int digit = 0;
+			if (factor.testBit(0)) {
+				digit = factor.intValue() & (modulus - 1);
+				if (digit >= modulus >> 1) {
+					digit = digit - modulus;
+				}
+				factor = factor.subtract(BigInteger.valueOf(digit));
+			}
+			digits[length] = digit;
+			length++;
+			factor = factor.shiftRight(1);
+		}
+		return Arrays.copyOf(digits, length);
+	}
+
 	@Override
 	protected ECZModElement abstractNegate(ZModElement x, ZModElement y) {
 		return this.abstractGetElement(Point.getInstance(x, y.negate()));
@@ -43,6 +43,7 @@ package ch.bfh.unicrypt.math.algebra.dualistic.abstracts;
 
 import ch.bfh.unicrypt.ErrorCode;
 import ch.bfh.unicrypt.UniCryptRuntimeException;
+import ch.bfh.unicrypt.helper.math.FixedBaseExponentiation;
 import ch.bfh.unicrypt.helper.random.RandomByteSequence;
 import ch.bfh.unicrypt.helper.random.deterministic.DeterministicRandomByteSequence;
 import ch.bfh.unicrypt.helper.random.hybrid.HybridRandomByteSequence;
@@ -50,6 +51,7 @@ import ch.bfh.unicrypt.helper.sequence.Sequence;
 import ch.bfh.unicrypt.math.algebra.dualistic.interfaces.CyclicRing;
 import ch.bfh.unicrypt.math.algebra.dualistic.interfaces.DualisticElement;
 import ch.bfh.unicrypt.math.algebra.general.abstracts.AbstractCyclicGroup;
+import ch.bfh.unicrypt.math.algebra.general.classes.PrecomputedBase;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
 
 /**
@@ -125,6 +127,24 @@ public abstract class AbstractCyclicRing<E extends DualisticElement<V>, V>
 		return this.abstractIsGenerator((E) element);
 	}
 
+	@Override
+	public final PrecomputedBase<V> precompute(Element base) {
+		return this.precompute(base, FixedBaseExponentiation.DEFAULT_WINDOW_SIZE);
+	}
+
+	@Override
+	public final PrecomputedBase<V> precompute(Element base, int windowSize) {
+		if (!this.contains(base)) {
+			throw new UniCryptRuntimeException(ErrorCode.INVALID_ELEMENT, this, base);
+		}
+		if (windowSize < FixedBaseExponentiation.MIN_WINDOW_SIZE
+			   || windowSize > FixedBaseExponentiation.MAX_WINDOW_SIZE) {
+			throw new UniCryptRuntimeException(ErrorCode.INVALID_ARGUMENT, this, windowSize);
+		}
+		// the additive self-application of a ring is a single multiplication, i.e., there is nothing to precompute
+		return PrecomputedBase.getInstance(this, (E) base, exponent -> this.selfApply(base, exponent));
+	}
+
 	// see Handbook of Applied Cryptography, Algorithm 4.80 and Note 4.81
 	protected Sequence<E> defaultGetRandomGenerators(RandomByteSequence randomByteSequence) {
 		return this.abstractGetRandomElements(randomByteSequence).filter(value -> isGenerator(value));
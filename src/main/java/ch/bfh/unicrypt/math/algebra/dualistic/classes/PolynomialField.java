@@ -46,6 +46,7 @@ import ch.bfh.unicrypt.UniCryptException;
 import ch.bfh.unicrypt.UniCryptRuntimeException;
 import ch.bfh.unicrypt.helper.converter.abstracts.AbstractBigIntegerConverter;
 import ch.bfh.unicrypt.helper.converter.interfaces.Converter;
+import ch.bfh.unicrypt.helper.math.BinaryFieldArithmetic;
 import ch.bfh.unicrypt.helper.math.MathUtil;
 import ch.bfh.unicrypt.helper.math.Polynomial;
 import ch.bfh.unicrypt.helper.random.hybrid.HybridRandomByteSequence;
@@ -72,6 +73,9 @@ public class PolynomialField
 
 	private final PolynomialElement irreduciblePolynomial;
 
+	// the arithmetic on words for binary fields, created lazily
+	private transient BinaryFieldArithmetic binaryFieldArithmetic;
+
 	protected PolynomialField(PrimeField primeField, PolynomialElement irreduciblePolynomial) {
 		super(primeField);
 		this.irreduciblePolynomial = irreduciblePolynomial;
@@ -177,18 +181,24 @@ public class PolynomialField
 		Polynomial<? extends DualisticElement<BigInteger>> polynomial1 = element1.getValue();
 		Polynomial<? extends DualisticElement<BigInteger>> polynomial2 = element2.getValue();
 
+		if (this.isBinary()) {
+			BinaryFieldArithmetic arithmetic = this.getBinaryFieldArithmetic();
+			long[] words1 = BinaryFieldArithmetic.getWords(polynomial1.getCoefficients());
+			long[] result;
+			if (element1 == element2) {
+				result = arithmetic.square(words1);
+			} else {
+				result = arithmetic.multiply(words1, BinaryFieldArithmetic.getWords(polynomial2.getCoefficients()));
+			}
+			return this.abstractGetElement(BinaryFieldArithmetic.getCoefficients(result));
+		}
 		if (element1.isEquivalent(this.getZeroElement()) || element2.isEquivalent(this.getZeroElement())) {
 			return this.getZeroElement();
 		}
 		final PolynomialRing ring
 			   = PolynomialRing.getInstance((Ring<Polynomial<? extends DualisticElement<BigInteger>>>) this.
 					  getSemiRing());
-		PolynomialElement result;
-		if (this.isBinary()) {
-			result = ring.abstractGetElement(multiplyBinary(polynomial1, polynomial2));
-		} else {
-			result = ring.abstractGetElement(multiplyNonBinary(polynomial1, polynomial2));
-		}
+		PolynomialElement result = ring.abstractGetElement(multiplyNonBinary(polynomial1, polynomial2));
 		return this.getElement(this.modulo(result).getValue());
 	}
 
@@ -249,12 +259,25 @@ public class PolynomialField
 		if (((AdditiveElement<Polynomial<? extends DualisticElement<BigInteger>>>) element).isZero()) {
 			throw new UniCryptRuntimeException(ErrorCode.DIVISION_BY_ZERO, this, element);
 		}
+		if (this.isBinary()) {
+			long[] words = BinaryFieldArithmetic.getWords(((PolynomialElement) element).getValue().getCoefficients());
+			return this.abstractGetElement(
+				   BinaryFieldArithmetic.getCoefficients(this.getBinaryFieldArithmetic().invert(words)));
+		}
 		// see extended Euclidean algorithm for polynomials (Algorithm 2.226)
 		Triple euclid = this.extendedEuclidean((PolynomialElement) element, this.irreduciblePolynomial);
 		return this.getElement(((PolynomialElement) euclid.getSecond()).getValue());
 
 	}
 
+	private BinaryFieldArithmetic getBinaryFieldArithmetic() {
+		if (this.binaryFieldArithmetic == null) {
+			this.binaryFieldArithmetic
+				   = BinaryFieldArithmetic.getInstance(this.irreduciblePolynomial.getValue().getCoefficients());
+		}
+		return this.binaryFieldArithmetic;
+	}
+
 	// g(x) mod this = h(x)
 	private PolynomialElement modulo(PolynomialElement g) {
 		if (g.getValue().getDegree() < this.getDegree()) {
@@ -43,6 +43,7 @@ package ch.bfh.unicrypt.math.algebra.dualistic.classes;
 
 import ch.bfh.unicrypt.ErrorCode;
 import ch.bfh.unicrypt.UniCryptRuntimeException;
+import ch.bfh.unicrypt.helper.math.BinaryFieldArithmetic;
 import ch.bfh.unicrypt.helper.math.MathUtil;
 import ch.bfh.unicrypt.helper.math.Polynomial;
 import ch.bfh.unicrypt.helper.random.hybrid.HybridRandomByteSequence;
@@ -282,6 +283,13 @@ public class PolynomialRing
 		final PolynomialRing ring
 			   = PolynomialRing.getInstance((Ring<Polynomial<? extends DualisticElement<BigInteger>>>) this.
 					  getSemiRing());
+		if (this.isBinary()) {
+			long[][] division = BinaryFieldArithmetic.dividePolynomials(
+				   BinaryFieldArithmetic.getWords(g.getValue().getCoefficients()),
+				   BinaryFieldArithmetic.getWords(h.getValue().getCoefficients()));
+			return Pair.getInstance(ring.abstractGetElement(BinaryFieldArithmetic.getCoefficients(division[0])),
+								   ring.abstractGetElement(BinaryFieldArithmetic.getCoefficients(division[1])));
+		}
 		final PolynomialElement zero = ring.getZeroElement();
 
 		PolynomialElement q = zero;
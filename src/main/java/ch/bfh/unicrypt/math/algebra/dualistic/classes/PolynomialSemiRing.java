@@ -47,8 +47,10 @@ import ch.bfh.unicrypt.UniCryptRuntimeException;
 import ch.bfh.unicrypt.helper.array.classes.BitArray;
 import ch.bfh.unicrypt.helper.converter.abstracts.AbstractBigIntegerConverter;
 import ch.bfh.unicrypt.helper.converter.interfaces.Converter;
+import ch.bfh.unicrypt.helper.math.BinaryFieldArithmetic;
 import ch.bfh.unicrypt.helper.math.MathUtil;
 import ch.bfh.unicrypt.helper.math.Polynomial;
+import ch.bfh.unicrypt.helper.math.PrimeFieldPolynomialArithmetic;
 import ch.bfh.unicrypt.helper.random.RandomByteSequence;
 import ch.bfh.unicrypt.helper.random.hybrid.HybridRandomByteSequence;
 import ch.bfh.unicrypt.helper.sequence.Sequence;
@@ -60,6 +62,7 @@ import ch.bfh.unicrypt.math.algebra.general.classes.Tuple;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Set;
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -76,6 +79,9 @@ public class PolynomialSemiRing
 
 	private final SemiRing semiRing;
 
+	// the arithmetic for dense polynomials over prime fields, created on demand
+	private transient PrimeFieldPolynomialArithmetic primeFieldPolynomialArithmetic;
+
 	protected PolynomialSemiRing(SemiRing semiRing) {
 		super(Polynomial.class);
 		this.semiRing = semiRing;
@@ -161,6 +167,15 @@ public class PolynomialSemiRing
 		DualisticElement zero = this.getSemiRing().getZeroElement();
 		DualisticElement one = this.getSemiRing().getOneElement();
 
+		if (this.isPrimeField()) {
+			BigInteger[] values = new BigInteger[roots.getArity()];
+			for (int i = 0; i < values.length; i++) {
+				values[i] = ((ZModElement) roots.getAt(i)).getValue();
+			}
+			return this.abstractGetElement(
+				   this.getPolynomial(this.getPrimeFieldPolynomialArithmetic().getPolynomialByRoots(values)));
+		}
+
 		int degree = roots.getArity();
 		DualisticElement<BigInteger>[] coeffs = new DualisticElement[degree + 1];
 		coeffs[degree] = one;
@@ -371,28 +386,20 @@ public class PolynomialSemiRing
 	protected BitArray multiplyBinary(
 		   Polynomial<? extends DualisticElement<BigInteger>> polynomial1,
 		   Polynomial<? extends DualisticElement<BigInteger>> polynomial2) {
-		BitArray c1 = polynomial1.getCoefficients();
-		BitArray c2 = polynomial2.getCoefficients();
-		if (polynomial2.getDegree() > polynomial1.getDegree()) {
-			BitArray tmp = c1;
-			c1 = c2;
-			c2 = tmp;
-		}
-		BitArray zero = BitArray.getInstance(); // an empty bitarray
-		BitArray result = zero;
-		while (!c2.equals(zero)) {
-			if (c2.getAt(0)) {
-				result = result.xor(c1, false);
-			}
-			c1 = c1.shiftRight(1);
-			c2 = c2.shiftLeft(1);
-		}
-		return result;
+		long[] words1 = BinaryFieldArithmetic.getWords(polynomial1.getCoefficients());
+		long[] words2 = BinaryFieldArithmetic.getWords(polynomial2.getCoefficients());
+		return BinaryFieldArithmetic.getCoefficients(BinaryFieldArithmetic.multiplyPolynomials(words1, words2));
 	}
 
-	protected Map<Integer, DualisticElement<BigInteger>> multiplyNonBinary(
+	protected Polynomial<? extends DualisticElement<BigInteger>> multiplyNonBinary(
 		   Polynomial<? extends DualisticElement<BigInteger>> polynomial1,
 		   Polynomial<? extends DualisticElement<BigInteger>> polynomial2) {
+		// dense multiplication pays off unless the polynomials are sparse
+		if (this.isPrimeField() && 4L * polynomial1.countCoefficients() * polynomial2.countCoefficients()
+			   >= (polynomial1.getDegree() + 1L) * (polynomial2.getDegree() + 1L)) {
+			return this.getPolynomial(this.getPrimeFieldPolynomialArithmetic().multiply(
+				   this.getCoefficientValues(polynomial1), this.getCoefficientValues(polynomial2)));
+		}
 		Map<Integer, DualisticElement<BigInteger>> coefficientMap = new HashMap();
 		for (Integer i : polynomial1.getCoefficientIndices()) {
 			for (Integer j : polynomial2.getCoefficientIndices()) {
@@ -407,7 +414,42 @@ public class PolynomialSemiRing
 				}
 			}
 		}
-		return coefficientMap;
+		return Polynomial.getInstance(coefficientMap, this.getSemiRing().getZeroElement(),
+									  this.getSemiRing().getOneElement());
+	}
+
+	// private helper method to check if the polynomials are defined over a prime field Z_p
+	private boolean isPrimeField() {
+		return this.getSemiRing() instanceof ZModPrime;
+	}
+
+	private PrimeFieldPolynomialArithmetic getPrimeFieldPolynomialArithmetic() {
+		if (this.primeFieldPolynomialArithmetic == null) {
+			this.primeFieldPolynomialArithmetic
+				   = PrimeFieldPolynomialArithmetic.getInstance(((ZModPrime) this.getSemiRing()).getModulus());
+		}
+		return this.primeFieldPolynomialArithmetic;
+	}
+
+	// private helper method to get the dense array of coefficient values of a polynomial over Z_p
+	private BigInteger[] getCoefficientValues(Polynomial<? extends DualisticElement<BigInteger>> polynomial) {
+		BigInteger[] values = new BigInteger[polynomial.getDegree() + 1];
+		Arrays.fill(values, MathUtil.ZERO);
+		for (Integer i : polynomial.getCoefficientIndices()) {
+			values[i] = polynomial.getCoefficient(i).getValue();
+		}
+		return values;
+	}
+
+	// private helper method to create a polynomial over Z_p from a dense array of coefficient values
+	private Polynomial<? extends DualisticElement<BigInteger>> getPolynomial(BigInteger[] values) {
+		ZModPrime zModPrime = (ZModPrime) this.getSemiRing();
+		ZModElement zero = zModPrime.getZeroElement();
+		ZModElement[] coefficients = new ZModElement[values.length];
+		for (int i = 0; i < values.length; i++) {
+			coefficients[i] = values[i].signum() == 0 ? zero : zModPrime.abstractGetElement(values[i]);
+		}
+		return Polynomial.getInstance(coefficients, zero, zModPrime.getOneElement());
 	}
 
 	@Override
@@ -44,6 +44,7 @@ package ch.bfh.unicrypt.math.algebra.dualistic.classes;
 import ch.bfh.unicrypt.ErrorCode;
 import ch.bfh.unicrypt.UniCryptRuntimeException;
 import ch.bfh.unicrypt.helper.cache.Cache;
+import ch.bfh.unicrypt.helper.math.MathUtil;
 import ch.bfh.unicrypt.helper.prime.Prime;
 import ch.bfh.unicrypt.helper.prime.PrimePair;
 import ch.bfh.unicrypt.math.algebra.multiplicative.classes.ZStarModPrimePair;
@@ -69,6 +70,15 @@ public class ZModPrimePair
 		return this.primePair;
 	}
 
+	@Override
+	protected ZModElement defaultPowerAlgorithm(ZModElement element, BigInteger exponent) {
+		// the two prime factors allow computing the power using the Chinese remainder theorem
+		BigInteger value = MathUtil.modExpCRT(element.getValue(), exponent, this.primePair.getLargerPrimeFactor(),
+											  this.primePair.getSmallerPrimeFactor(),
+											  this.primePair.getCRTCoefficient());
+		return this.abstractGetElement(value);
+	}
+
 	@Override
 	public ZModPrimePair getZModOrder() {
 		return ZModPrimePair.getInstance(this.getPrimePair());
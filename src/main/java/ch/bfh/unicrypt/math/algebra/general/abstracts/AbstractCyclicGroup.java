@@ -43,11 +43,13 @@ package ch.bfh.unicrypt.math.algebra.general.abstracts;
 
 import ch.bfh.unicrypt.ErrorCode;
 import ch.bfh.unicrypt.UniCryptRuntimeException;
+import ch.bfh.unicrypt.helper.math.FixedBaseExponentiation;
 import ch.bfh.unicrypt.helper.math.MathUtil;
 import ch.bfh.unicrypt.helper.random.RandomByteSequence;
 import ch.bfh.unicrypt.helper.random.deterministic.DeterministicRandomByteSequence;
 import ch.bfh.unicrypt.helper.random.hybrid.HybridRandomByteSequence;
 import ch.bfh.unicrypt.helper.sequence.Sequence;
+import ch.bfh.unicrypt.math.algebra.general.classes.PrecomputedBase;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.CyclicGroup;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
 
@@ -132,6 +134,40 @@ public abstract class AbstractCyclicGroup<E extends Element<V>, V>
 		return this.defaultIsGenerator((E) element);
 	}
 
+	@Override
+	public final PrecomputedBase<V> precompute(Element base) {
+		return this.precompute(base, FixedBaseExponentiation.DEFAULT_WINDOW_SIZE);
+	}
+
+	@Override
+	public final PrecomputedBase<V> precompute(Element base, int windowSize) {
+		if (!this.contains(base)) {
+			throw new UniCryptRuntimeException(ErrorCode.INVALID_ELEMENT, this, base);
+		}
+		if (windowSize < FixedBaseExponentiation.MIN_WINDOW_SIZE
+			   || windowSize > FixedBaseExponentiation.MAX_WINDOW_SIZE) {
+			throw new UniCryptRuntimeException(ErrorCode.INVALID_ARGUMENT, this, windowSize);
+		}
+		if (!this.isFinite() || !this.hasKnownOrder()) {
+			throw new UniCryptRuntimeException(ErrorCode.UNSUPPORTED_OPERATION, this);
+		}
+		final FixedBaseExponentiation<V> table
+			   = this.isIdentityElement(base) ? null : this.defaultPrecompute((E) base, windowSize);
+		if (table == null) {
+			return PrecomputedBase.getInstance(this, (E) base, exponent -> this.selfApply(base, exponent));
+		}
+		return PrecomputedBase.getInstance(this, (E) base,
+										   exponent -> this.abstractGetElement(table.compute(exponent)));
+	}
+
+	// this method is overriden in GStarMod, it may return null if no benefit can be obtained from a precomputed table
+	protected FixedBaseExponentiation<V> defaultPrecompute(E base, int windowSize) {
+		return FixedBaseExponentiation.getInstance(base.getValue(), this.getOrder().bitLength(), windowSize,
+												   (value1, value2) -> this.abstractApply(
+														 this.abstractGetElement(value1),
+														 this.abstractGetElement(value2)).getValue());
+	}
+
 	// see Handbook of Applied Cryptography, Algorithm 4.80 and Note 4.81
 	protected Sequence<E> defaultGetRandomGenerators(RandomByteSequence randomByteSequence) {
 		return this.abstractGetRandomElements(randomByteSequence).filter(value -> isGenerator(value));
@@ -46,6 +46,7 @@ import ch.bfh.unicrypt.UniCrypt;
 import ch.bfh.unicrypt.UniCryptRuntimeException;
 import ch.bfh.unicrypt.helper.aggregator.interfaces.Aggregator;
 import ch.bfh.unicrypt.helper.array.classes.ByteArray;
+import ch.bfh.unicrypt.helper.cache.Cache;
 import ch.bfh.unicrypt.helper.converter.classes.ConvertMethod;
 import ch.bfh.unicrypt.helper.converter.interfaces.Converter;
 import ch.bfh.unicrypt.helper.hash.HashMethod;
@@ -62,6 +63,8 @@ import ch.bfh.unicrypt.math.algebra.general.interfaces.SemiGroup;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Set;
 import ch.bfh.unicrypt.math.algebra.multiplicative.interfaces.MultiplicativeElement;
 import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * This abstract class provides a base implementation for the interface {@link Element}.
@@ -81,9 +84,15 @@ public abstract class AbstractElement<S extends Set<V>, E extends Element<V>, V>
 
 	private static final long serialVersionUID = 1L;
 
+	// the maximal length of a memoized byte array, longer byte arrays are recomputed to limit the memory usage
+	private static final int MAX_MEMO_LENGTH = 1 << 12;
+
 	protected final AbstractSet<E, V> set;
 	protected final V value;
 
+	// the memoized byte array and hash values, null if memoization is not enabled
+	private transient volatile Memo memo;
+
 	protected AbstractElement(final AbstractSet<E, V> set, V value) {
 		this.set = set;
 		this.value = value;
@@ -163,7 +172,18 @@ public abstract class AbstractElement<S extends Set<V>, E extends Element<V>, V>
 
 	@Override
 	public final ByteArray convertToByteArray() {
-		return this.defaultConvertToByteArray();
+		Memo memo = this.memo;
+		if (memo == null) {
+			return this.defaultConvertToByteArray();
+		}
+		ByteArray byteArray = memo.byteArray;
+		if (byteArray == null) {
+			byteArray = this.defaultConvertToByteArray();
+			if (byteArray.getLength() <= MAX_MEMO_LENGTH) {
+				memo.byteArray = byteArray;
+			}
+		}
+		return byteArray;
 	}
 
 	@Override
@@ -181,7 +201,34 @@ public abstract class AbstractElement<S extends Set<V>, E extends Element<V>, V>
 		if (convertMethod == null || hashMethod == null) {
 			throw new UniCryptRuntimeException(ErrorCode.NULL_POINTER, this, convertMethod, hashMethod);
 		}
-		return hashMethod.getHashValue(this.convertTo(convertMethod));
+		Memo memo = this.memo;
+		if (memo == null) {
+			return hashMethod.getHashValue(this.convertTo(convertMethod));
+		}
+		List<Object> key = Arrays.asList(convertMethod, hashMethod);
+		ByteArray hashValue = memo.hashValues.get(key);
+		if (hashValue == null) {
+			hashValue = hashMethod.getHashValue(this.convertTo(convertMethod));
+			memo.hashValues.put(key, hashValue);
+		}
+		return hashValue;
+	}
+
+	@Override
+	public final E memoize() {
+		if (this.memo == null) {
+			synchronized (this) {
+				if (this.memo == null) {
+					this.memo = new Memo();
+				}
+			}
+		}
+		return (E) this;
+	}
+
+	@Override
+	public final boolean isMemoized() {
+		return this.memo != null;
 	}
 
 	@Override
@@ -369,4 +416,15 @@ public abstract class AbstractElement<S extends Set<V>, E extends Element<V>, V>
 		return this.value.toString();
 	}
 
+	// a local class for storing the memoized results of an element
+	private static final class Memo {
+
+		// the hash values for different convert and hash methods
+		private final Cache<List<Object>, ByteArray> hashValues = new Cache<>(Cache.SIZE_XS);
+
+		// the byte array obtained from the default converter
+		private volatile ByteArray byteArray;
+
+	}
+
 }
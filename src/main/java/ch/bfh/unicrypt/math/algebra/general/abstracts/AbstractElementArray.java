@@ -0,0 +1,111 @@
+/*
+ * UniCrypt
+ *
+ *  UniCrypt(tm): Cryptographical framework allowing the implementation of cryptographic protocols e.g. e-voting
+ *  Copyright (c) 2016 Bern University of Applied Sciences (BFH), Research Institute for
+ *  Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *  Quellgasse 21, CH-2501 Biel, Switzerland
+ *
+ *  Licensed under Dual License consisting of:
+ *  1. GNU Affero General Public License (AGPL) v3
+ *  and
+ *  2. Commercial license
+ *
+ *
+ *  1. This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ *  2. Licensees holding valid commercial licenses for UniCrypt may use this file in
+ *   accordance with the commercial license agreement provided with the
+ *   Software or, alternatively, in accordance with the terms contained in
+ *   a written agreement between you and Bern University of Applied Sciences (BFH), Research Institute for
+ *   Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *   Quellgasse 21, CH-2501 Biel, Switzerland.
+ *
+ *
+ *   For further information contact <e-mail: unicrypt@bfh.ch>
+ *
+ *
+ * Redistributions of files must retain the above copyright notice.
+ */
+package ch.bfh.unicrypt.math.algebra.general.abstracts;
+
+import ch.bfh.unicrypt.helper.array.classes.DenseArray;
+import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
+import ch.bfh.unicrypt.math.algebra.general.interfaces.Set;
+
+/**
+ * This abstract class serves as a base implementation for dense arrays of elements, which all belong to the same set,
+ * but which are not kept as element objects. Subclasses define the representation of the elements, for example in a
+ * single byte array or in a memory-mapped file, and the elements are restored from this representation whenever they
+ * are accessed. Tuples and product sets recognize such arrays, i.e., they are not converted or validated again.
+ * Subclasses must therefore guarantee that every element of the underlying representation belongs to the common set,
+ * for example by validating elements from an untrusted source when the array is created.
+ * <p>
+ * @see ch.bfh.unicrypt.math.algebra.general.classes.Tuple
+ * @author R. Haenni
+ * @version 2.0
+ */
+public abstract class AbstractElementArray
+	   extends DenseArray<Element> {
+
+	private static final long serialVersionUID = 1L;
+
+	protected final Set set;
+
+	protected AbstractElementArray(Set set, int length, int rangeOffset, boolean reverse) {
+		super(null, length, rangeOffset, reverse);
+		this.set = set;
+	}
+
+	/**
+	 * Returns the common set of all elements in the array.
+	 * <p>
+	 * @return The common set
+	 */
+	public final Set getSet() {
+		return this.set;
+	}
+
+	@Override
+	protected final Element abstractGetAt(int index) {
+		if (this.reverse) {
+			index = this.length - index - 1;
+		}
+		return this.abstractGetElementAt(this.rangeOffset + index);
+	}
+
+	@Override
+	protected final DenseArray<Element> abstractExtract(int index, int length) {
+		int offset = this.rangeOffset + (this.reverse ? this.length - index - length : index);
+		return this.abstractGetInstance(length, offset, this.reverse);
+	}
+
+	@Override
+	protected final DenseArray<Element> abstractReverse() {
+		return this.abstractGetInstance(this.length, this.rangeOffset, !this.reverse);
+	}
+
+	// helper method for restoring an element of a given set from a value, which is known to be contained in the set
+	protected static <V> Element<V> restoreElement(Set<V> set, V value) {
+		return AbstractSet.getElementUnchecked((AbstractSet<Element<V>, V>) set, value);
+	}
+
+	// returns the element at the given position of the underlying representation
+	protected abstract Element abstractGetElementAt(int position);
+
+	// returns a new array sharing the same underlying representation
+	protected abstract AbstractElementArray abstractGetInstance(int length, int rangeOffset, boolean reverse);
+
+}
@@ -47,6 +47,7 @@ import ch.bfh.unicrypt.helper.math.MathUtil;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Group;
 import java.math.BigInteger;
+import java.util.Arrays;
 
 /**
  * This abstract class provides a base implementation for the interface {@link Group}.
@@ -143,6 +144,38 @@ public abstract class AbstractGroup<E extends Element<V>, V>
 		return this.invert(result);
 	}
 
+	@Override
+	protected E defaultMultiSelfApply(final Element[] elements, final BigInteger[] amounts,
+		   final boolean publicAmounts) {
+		// negative amounts are replaced by inverted elements, amounts equal to zero are removed
+		final boolean reduceAmounts = this.isFinite() && this.hasKnownOrder();
+		final Element[] newElements = new Element[elements.length];
+		final BigInteger[] newAmounts = new BigInteger[amounts.length];
+		int length = 0;
+		for (int i = 0; i < elements.length; i++) {
+			if (amounts[i] == null) {
+				throw new UniCryptRuntimeException(ErrorCode.NULL_POINTER, this);
+			}
+			if (!this.contains(elements[i])) {
+				throw new UniCryptRuntimeException(ErrorCode.INVALID_ELEMENT, this, elements[i]);
+			}
+			BigInteger amount = amounts[i].abs();
+			if (reduceAmounts) {
+				amount = amount.mod(this.getOrder());
+			}
+			if (amount.signum() > 0) {
+				newElements[length] = (amounts[i].signum() > 0) ? elements[i] : this.abstractInvert((E) elements[i]);
+				newAmounts[length] = amount;
+				length++;
+			}
+		}
+		if (length == 0) {
+			return this.getIdentityElement();
+		}
+		return this.defaultMultiSelfApplyAlgorithm(Arrays.copyOf(newElements, length),
+												   Arrays.copyOf(newAmounts, length), publicAmounts);
+	}
+
 	protected abstract E abstractInvert(E element);
 
 }
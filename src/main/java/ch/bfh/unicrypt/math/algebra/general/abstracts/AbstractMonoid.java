@@ -49,6 +49,7 @@ import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Monoid;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.SemiGroup;
 import java.math.BigInteger;
+import java.util.Arrays;
 
 /**
  * This abstract class provides a base implementation for the interface {@link Monoid}.
@@ -109,11 +110,33 @@ public abstract class AbstractMonoid<E extends Element<V>, V>
 	}
 
 	@Override
-	protected E defaultMultiSelfApply(final Element[] elements, BigInteger[] amounts) {
-		if (elements.length == 0) {
+	protected E defaultMultiSelfApply(final Element[] elements, final BigInteger[] amounts,
+		   final boolean publicAmounts) {
+		// amounts equal to zero are removed
+		final Element[] newElements = new Element[elements.length];
+		final BigInteger[] newAmounts = new BigInteger[amounts.length];
+		int length = 0;
+		for (int i = 0; i < elements.length; i++) {
+			if (amounts[i] == null) {
+				throw new UniCryptRuntimeException(ErrorCode.NULL_POINTER, this);
+			}
+			if (!this.contains(elements[i])) {
+				throw new UniCryptRuntimeException(ErrorCode.INVALID_ELEMENT, this, elements[i]);
+			}
+			if (amounts[i].signum() < 0) {
+				throw new UniCryptRuntimeException(ErrorCode.INVALID_AMOUNT, this, amounts[i]);
+			}
+			if (amounts[i].signum() > 0) {
+				newElements[length] = elements[i];
+				newAmounts[length] = amounts[i];
+				length++;
+			}
+		}
+		if (length == 0) {
 			return this.getIdentityElement();
 		}
-		return super.defaultMultiSelfApply(elements, amounts);
+		return this.defaultMultiSelfApplyAlgorithm(Arrays.copyOf(newElements, length),
+												   Arrays.copyOf(newAmounts, length), publicAmounts);
 	}
 
 	protected abstract E abstractGetIdentityElement();
@@ -140,7 +140,18 @@ public abstract class AbstractSemiGroup<E extends Element<V>, V>
 		if (elements.length != amounts.length) {
 			throw new UniCryptRuntimeException(ErrorCode.INCOMPATIBLE_ARGUMENTS, this, elements, amounts);
 		}
-		return this.defaultMultiSelfApply(elements, amounts);
+		return this.defaultMultiSelfApply(elements, amounts, false);
+	}
+
+	@Override
+	public final E multiSelfApplyPublic(final Element[] elements, final BigInteger[] amounts) {
+		if (elements == null || amounts == null) {
+			throw new UniCryptRuntimeException(ErrorCode.NULL_POINTER, this, elements, amounts);
+		}
+		if (elements.length != amounts.length) {
+			throw new UniCryptRuntimeException(ErrorCode.INCOMPATIBLE_ARGUMENTS, this, elements, amounts);
+		}
+		return this.defaultMultiSelfApply(elements, amounts, true);
 	}
 
 	// this method is overriden in AbstractMonoid
@@ -169,16 +180,36 @@ public abstract class AbstractSemiGroup<E extends Element<V>, V>
 		return result;
 	}
 
-	// this method is overriden in AbstractMonoid
-	protected E defaultMultiSelfApply(final Element[] elements, final BigInteger[] amounts) {
+	// this method is overriden in AbstractMonoid and AbstractGroup
+	protected E defaultMultiSelfApply(final Element[] elements, final BigInteger[] amounts,
+		   final boolean publicAmounts) {
 		if (elements.length == 0) {
 			throw new UniCryptRuntimeException(ErrorCode.INVALID_LENGTH, this, elements, amounts);
 		}
-		Element[] results = new Element[elements.length];
 		for (int i = 0; i < elements.length; i++) {
-			results[i] = this.selfApply(elements[i], amounts[i]);
+			if (amounts[i] == null) {
+				throw new UniCryptRuntimeException(ErrorCode.NULL_POINTER, this);
+			}
+			if (!this.contains(elements[i])) {
+				throw new UniCryptRuntimeException(ErrorCode.INVALID_ELEMENT, this, elements[i]);
+			}
+			if (amounts[i].signum() <= 0) {
+				throw new UniCryptRuntimeException(ErrorCode.INVALID_AMOUNT, this, amounts[i]);
+			}
 		}
-		return this.apply(results);
+		return this.defaultMultiSelfApplyAlgorithm(elements, amounts, publicAmounts);
+	}
+
+	// this method is overriden in GStarMod, ZStarMod, and AbstractEC, algorithms whose running time depends on the
+	// amounts must only be used if publicAmounts is true
+	protected E defaultMultiSelfApplyAlgorithm(final Element[] elements, final BigInteger[] positiveAmounts,
+		   final boolean publicAmounts) {
+		E result = null;
+		for (int i = 0; i < elements.length; i++) {
+			E value = this.defaultSelfApplyAlgorithm((E) elements[i], positiveAmounts[i]);
+			result = (result == null) ? value : this.abstractApply(result, value);
+		}
+		return result;
 	}
 
 	protected abstract E abstractApply(E element1, E element2);
@@ -174,12 +174,18 @@ public abstract class AbstractSet<E extends Element<V>, V>
 
 	@Override
 	public final boolean isFinite() {
-		return !this.getOrder().equals(Set.INFINITE);
+		if (this.order == null) {
+			return this.defaultIsFinite();
+		}
+		return !this.order.equals(Set.INFINITE);
 	}
 
 	@Override
 	public final boolean hasKnownOrder() {
-		return !this.getOrder().equals(Set.UNKNOWN);
+		if (this.order == null) {
+			return this.defaultHasKnownOrder();
+		}
+		return !this.order.equals(Set.UNKNOWN);
 	}
 
 	@Override
@@ -484,6 +490,22 @@ public abstract class AbstractSet<E extends Element<V>, V>
 		return converter;
 	}
 
+	// helper method for restoring an element of a given set from a value, which is known to be contained in the set;
+	// it is used in AbstractElementArray
+	protected static <E extends Element<V>, V> E getElementUnchecked(AbstractSet<E, V> set, V value) {
+		return set.abstractGetElement(value);
+	}
+
+	// this method is overriden in sets with expensive orders such as PermutationGroup, and in ProductSet
+	protected boolean defaultIsFinite() {
+		return !this.getOrder().equals(Set.INFINITE);
+	}
+
+	// this method is overriden in sets with expensive orders such as PermutationGroup, and in ProductSet
+	protected boolean defaultHasKnownOrder() {
+		return !this.getOrder().equals(Set.UNKNOWN);
+	}
+
 	// this method is only called for sets of unknown order
 	protected BigInteger defaultGetOrderLowerBound() {
 		return MathUtil.ONE;
@@ -0,0 +1,203 @@
+/*
+ * UniCrypt
+ *
+ *  UniCrypt(tm): Cryptographical framework allowing the implementation of cryptographic protocols e.g. e-voting
+ *  Copyright (c) 2016 Bern University of Applied Sciences (BFH), Research Institute for
+ *  Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *  Quellgasse 21, CH-2501 Biel, Switzerland
+ *
+ *  Licensed under Dual License consisting of:
+ *  1. GNU Affero General Public License (AGPL) v3
+ *  and
+ *  2. Commercial license
+ *
+ *
+ *  1. This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ *  2. Licensees holding valid commercial licenses for UniCrypt may use this file in
+ *   accordance with the commercial license agreement provided with the
+ *   Software or, alternatively, in accordance with the terms contained in
+ *   a written agreement between you and Bern University of Applied Sciences (BFH), Research Institute for
+ *   Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *   Quellgasse 21, CH-2501 Biel, Switzerland.
+ *
+ *
+ *   For further information contact <e-mail: unicrypt@bfh.ch>
+ *
+ *
+ * Redistributions of files must retain the above copyright notice.
+ */
+package ch.bfh.unicrypt.math.algebra.general.classes;
+
+import ch.bfh.unicrypt.helper.array.classes.DenseArray;
+import ch.bfh.unicrypt.math.algebra.general.abstracts.AbstractElementArray;
+import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
+import ch.bfh.unicrypt.math.algebra.general.interfaces.Set;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * This class is a compact implementation of a dense array of elements, which all belong to the same set. Instead of
+ * keeping an object for each element, the {@link BigInteger} values of the elements are stored consecutively in a
+ * single byte array, and the elements are restored from these values when they are accessed. This reduces the memory
+ * footprint and the number of objects of tuples with many elements considerably. The common set must be either a set
+ * with values of type {@link BigInteger} or a (possibly nested) product set of such sets, for example the set of
+ * ElGamal ciphertexts. Since restoring the elements on each access is slower than keeping them as objects, instances
+ * of this class are only created on request using {@link Tuple#getCompactInstance(DenseArray)}.
+ * <p>
+ * @see Tuple
+ * @author R. Haenni
+ * @version 2.0
+ */
+class CompactElementArray
+	   extends AbstractElementArray {
+
+	private static final long serialVersionUID = 1L;
+
+	// the number of BigInteger values per element
+	private final int valueCount;
+
+	// the position of the i-th BigInteger value in the byte array (with an additional entry for the end position)
+	private final int[] offsets;
+
+	// the two's-complement representations of all BigInteger values
+	private final byte[] bytes;
+
+	private CompactElementArray(Set set, int valueCount, int[] offsets, byte[] bytes, int length, int rangeOffset,
+		   boolean reverse) {
+		super(set, length, rangeOffset, reverse);
+		this.valueCount = valueCount;
+		this.offsets = offsets;
+		this.bytes = bytes;
+	}
+
+	/**
+	 * Checks if elements of a given set can be stored compactly. This is the case for sets with values of type
+	 * {@link BigInteger} and for non-empty product sets of such sets.
+	 * <p>
+	 * @param set The given set
+	 * @return {@code true} if the elements of the set can be stored compactly, {@code false} otherwise
+	 */
+	public static boolean isSupported(Set set) {
+		if (set.isProduct()) {
+			ProductSet productSet = (ProductSet) set;
+			if (productSet.isEmpty()) {
+				return false;
+			}
+			for (Set componentSet : productSet) {
+				if (!CompactElementArray.isSupported(componentSet)) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return set.getValueClass() == BigInteger.class;
+	}
+
+	/**
+	 * Creates a new compact array from a given dense array of elements of a common set. The common set must be
+	 * supported, see {@link CompactElementArray#isSupported(Set)}. If some element (or some nested element) does not
+	 * belong exactly to the corresponding set, the compact representation is not possible and {@code null} is
+	 * returned.
+	 * <p>
+	 * @param set      The common set of the elements
+	 * @param elements The given dense array of elements
+	 * @return The new compact array or {@code null}
+	 */
+	public static CompactElementArray getInstance(Set set, DenseArray<Element> elements) {
+		int valueCount = CompactElementArray.countValues(set);
+		BigInteger[] values = new BigInteger[elements.getLength() * valueCount];
+		int index = 0;
+		for (Element element : elements) {
+			index = CompactElementArray.collectValues(set, element, values, index);
+			if (index < 0) {
+				return null;
+			}
+		}
+		int[] offsets = new int[values.length + 1];
+		long totalLength = 0;
+		for (int i = 0; i < values.length; i++) {
+			offsets[i] = (int) totalLength;
+			// the length of BigInteger.toByteArray()
+			totalLength = totalLength + values[i].bitLength() / Byte.SIZE + 1;
+			if (totalLength > Integer.MAX_VALUE) {
+				return null;
+			}
+		}
+		offsets[values.length] = (int) totalLength;
+		byte[] bytes = new byte[(int) totalLength];
+		for (int i = 0; i < values.length; i++) {
+			byte[] valueBytes = values[i].toByteArray();
+			System.arraycopy(valueBytes, 0, bytes, offsets[i], valueBytes.length);
+		}
+		return new CompactElementArray(set, valueCount, offsets, bytes, elements.getLength(), 0, false);
+	}
+
+	@Override
+	protected Element abstractGetElementAt(int position) {
+		return this.getElement(this.set, new int[]{position * this.valueCount});
+	}
+
+	@Override
+	protected AbstractElementArray abstractGetInstance(int length, int rangeOffset, boolean reverse) {
+		return new CompactElementArray(this.set, this.valueCount, this.offsets, this.bytes, length, rangeOffset,
+									   reverse);
+	}
+
+	// restores an element recursively, the value index is incremented for each BigInteger value
+	private Element getElement(Set currentSet, int[] valueIndex) {
+		if (currentSet.isProduct()) {
+			ProductSet productSet = (ProductSet) currentSet;
+			Element[] elements = new Element[productSet.getArity()];
+			for (int i = 0; i < elements.length; i++) {
+				elements[i] = this.getElement(productSet.getAt(i), valueIndex);
+			}
+			return productSet.abstractGetElement(DenseArray.getInstance(elements));
+		}
+		int i = valueIndex[0]++;
+		BigInteger value = new BigInteger(Arrays.copyOfRange(this.bytes, this.offsets[i], this.offsets[i + 1]));
+		return AbstractElementArray.restoreElement(currentSet, value);
+	}
+
+	// returns the number of BigInteger values of an element of the given set
+	private static int countValues(Set set) {
+		if (set.isProduct()) {
+			int result = 0;
+			for (Set componentSet : (ProductSet) set) {
+				result = result + CompactElementArray.countValues(componentSet);
+			}
+			return result;
+		}
+		return 1;
+	}
+
+	// collects the BigInteger values of an element recursively and returns the next free index, or -1 if the element
+	// does not belong exactly to the given set
+	private static int collectValues(Set set, Element element, BigInteger[] values, int index) {
+		if (!set.equals(element.getSet())) {
+			return -1;
+		}
+		if (set.isProduct()) {
+			Tuple tuple = (Tuple) element;
+			for (int i = 0; i < tuple.getArity() && index >= 0; i++) {
+				index = CompactElementArray.collectValues(((ProductSet) set).getAt(i), tuple.getAt(i), values, index);
+			}
+			return index;
+		}
+		values[index] = (BigInteger) element.getValue();
+		return index + 1;
+	}
+
+}
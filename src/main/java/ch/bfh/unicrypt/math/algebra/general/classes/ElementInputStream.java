@@ -0,0 +1,346 @@
+/*
+ * UniCrypt
+ *
+ *  UniCrypt(tm): Cryptographical framework allowing the implementation of cryptographic protocols e.g. e-voting
+ *  Copyright (c) 2016 Bern University of Applied Sciences (BFH), Research Institute for
+ *  Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *  Quellgasse 21, CH-2501 Biel, Switzerland
+ *
+ *  Licensed under Dual License consisting of:
+ *  1. GNU Affero General Public License (AGPL) v3
+ *  and
+ *  2. Commercial license
+ *
+ *
+ *  1. This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ *  2. Licensees holding valid commercial licenses for UniCrypt may use this file in
+ *   accordance with the commercial license agreement provided with the
+ *   Software or, alternatively, in accordance with the terms contained in
+ *   a written agreement between you and Bern University of Applied Sciences (BFH), Research Institute for
+ *   Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *   Quellgasse 21, CH-2501 Biel, Switzerland.
+ *
+ *
+ *   For further information contact <e-mail: unicrypt@bfh.ch>
+ *
+ *
+ * Redistributions of files must retain the above copyright notice.
+ */
+package ch.bfh.unicrypt.math.algebra.general.classes;
+
+import ch.bfh.unicrypt.ErrorCode;
+import ch.bfh.unicrypt.UniCryptException;
+import ch.bfh.unicrypt.UniCryptRuntimeException;
+import ch.bfh.unicrypt.helper.array.classes.ByteArray;
+import ch.bfh.unicrypt.helper.array.classes.DenseArray;
+import ch.bfh.unicrypt.helper.converter.classes.ConvertMethod;
+import ch.bfh.unicrypt.helper.sequence.Sequence;
+import ch.bfh.unicrypt.helper.sequence.SequenceIterator;
+import ch.bfh.unicrypt.helper.tree.Tree;
+import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
+import ch.bfh.unicrypt.math.algebra.general.interfaces.Set;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Instances of this class read elements from an underlying input stream, which have been written by an
+ * {@link ElementOutputStream} using the same convert method, or which have been obtained from
+ * {@code element.convertTo(convertMethod, ByteArrayAggregator.getInstance())}. Since the structure of an element is
+ * given by its set, the set is required for reading the element. The components of a tuple can also be read lazily
+ * one after another, which allows processing tuples of arbitrary size without reading them into memory.
+ * <p>
+ * @see ElementOutputStream
+ * @author R. Haenni
+ * @version 2.0
+ */
+public class ElementInputStream
+	   extends FilterInputStream {
+
+	// the initial size of the byte arrays for reading leaves
+	private static final int BLOCK_SIZE = 1 << 16;
+
+	private final ConvertMethod<ByteArray> convertMethod;
+	private final byte[] prefix;
+
+	// the number of bytes read so far, used for checking the lengths given in the prefixes
+	private long position;
+
+	protected ElementInputStream(InputStream inputStream, ConvertMethod<ByteArray> convertMethod) {
+		super(new PushbackInputStream(inputStream));
+		this.convertMethod = convertMethod;
+		this.prefix = new byte[ElementOutputStream.PREFIX_LENGTH];
+		this.position = 0;
+	}
+
+	/**
+	 * Creates a new element input stream for a given input stream. The elements are converted using the default
+	 * convert method, i.e., the bytes read for a tuple correspond to {@link Element#convertToByteArray()}.
+	 * <p>
+	 * @param inputStream The given input stream
+	 * @return The new element input stream
+	 */
+	public static ElementInputStream getInstance(InputStream inputStream) {
+		return ElementInputStream.getInstance(inputStream, ConvertMethod.getInstance());
+	}
+
+	/**
+	 * Creates a new element input stream for a given input stream and a given convert method.
+	 * <p>
+	 * @param inputStream   The given input stream
+	 * @param convertMethod The convert method used to convert the byte arrays back into elements
+	 * @return The new element input stream
+	 */
+	public static ElementInputStream getInstance(InputStream inputStream, ConvertMethod<ByteArray> convertMethod) {
+		if (inputStream == null || convertMethod == null) {
+			throw new UniCryptRuntimeException(ErrorCode.NULL_POINTER, inputStream, convertMethod);
+		}
+		return new ElementInputStream(inputStream, convertMethod);
+	}
+
+	/**
+	 * Returns the convert method used to convert the byte arrays back into elements.
+	 * <p>
+	 * @return The convert method
+	 */
+	public ConvertMethod<ByteArray> getConvertMethod() {
+		return this.convertMethod;
+	}
+
+	/**
+	 * Reads the next element of the given set from the underlying input stream.
+	 * <p>
+	 * @param set The given set
+	 * @return The element read from the stream
+	 * @throws IOException        if an I/O error occurs or if the end of the stream is reached
+	 * @throws UniCryptException if the bytes read do not represent an element of the given set
+	 */
+	public Element readElement(Set set) throws IOException, UniCryptException {
+		if (set == null) {
+			throw new UniCryptRuntimeException(ErrorCode.NULL_POINTER, this);
+		}
+		if (set.isProduct()) {
+			ProductSet productSet = (ProductSet) set;
+			long endPosition = this.readNodePrefix();
+			Element[] elements = new Element[productSet.getArity()];
+			for (int i = 0; i < elements.length; i++) {
+				elements[i] = this.readElement(productSet.getAt(i));
+			}
+			this.checkPosition(endPosition);
+			return productSet.abstractGetElement(DenseArray.getInstance(elements));
+		}
+		int length = this.readPrefix(ElementOutputStream.LEAF_IDENTIFIER);
+		byte[] bytes = this.readBytes(length);
+		try {
+			return set.getElementFrom(Tree.getInstance(ByteArray.getInstance(bytes)), this.convertMethod);
+		} catch (UniCryptException exception) {
+			throw exception;
+		} catch (Exception exception) {
+			throw new UniCryptException(ErrorCode.ELEMENT_CONVERSION_FAILURE, exception);
+		}
+	}
+
+	/**
+	 * Reads the components of the next tuple of the given product set lazily from the underlying input stream. The
+	 * prefix of the tuple is read immediately, whereas each component is read when the resulting sequence is iterated.
+	 * The sequence can therefore only be iterated once, and it must be iterated completely before reading further
+	 * elements from the stream. Errors occurring during the iteration are thrown as {@link UniCryptRuntimeException}.
+	 * <p>
+	 * @param productSet The given product set
+	 * @return The sequence of components read from the stream
+	 * @throws IOException        if an I/O error occurs or if the end of the stream is reached
+	 * @throws UniCryptException if the bytes read do not represent the prefix of a tuple
+	 */
+	public Sequence<Element> readComponents(final ProductSet productSet) throws IOException, UniCryptException {
+		if (productSet == null) {
+			throw new UniCryptRuntimeException(ErrorCode.NULL_POINTER, this);
+		}
+		final long endPosition = this.readNodePrefix();
+		return new Sequence<Element>(BigInteger.valueOf(productSet.getArity())) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public SequenceIterator<Element> iterator() {
+				return new SequenceIterator<Element>() {
+
+					private int currentIndex = 0;
+
+					@Override
+					public boolean hasNext() {
+						return this.currentIndex < productSet.getArity();
+					}
+
+					@Override
+					public Element abstractNext() {
+						try {
+							Element element = readElement(productSet.getAt(this.currentIndex++));
+							if (this.currentIndex == productSet.getArity()) {
+								checkPosition(endPosition);
+							}
+							return element;
+						} catch (IOException | UniCryptException exception) {
+							throw new UniCryptRuntimeException(ErrorCode.ELEMENT_CONVERSION_FAILURE, exception,
+															   productSet);
+						}
+					}
+				};
+			}
+
+		};
+	}
+
+	/**
+	 * Reads elements of the given set lazily from the underlying input stream until the end of the stream is reached.
+	 * The resulting sequence can only be iterated once. Errors occurring during the iteration are thrown as
+	 * {@link UniCryptRuntimeException}.
+	 * <p>
+	 * @param set The given set
+	 * @return The sequence of elements read from the stream
+	 */
+	public Sequence<Element> readElements(final Set set) {
+		if (set == null) {
+			throw new UniCryptRuntimeException(ErrorCode.NULL_POINTER, this);
+		}
+		return new Sequence<Element>() {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public SequenceIterator<Element> iterator() {
+				return new SequenceIterator<Element>() {
+
+					@Override
+					public boolean hasNext() {
+						try {
+							return !isAtEnd();
+						} catch (IOException exception) {
+							throw new UniCryptRuntimeException(ErrorCode.ELEMENT_CONVERSION_FAILURE, exception, set);
+						}
+					}
+
+					@Override
+					public Element abstractNext() {
+						try {
+							return readElement(set);
+						} catch (IOException | UniCryptException exception) {
+							throw new UniCryptRuntimeException(ErrorCode.ELEMENT_CONVERSION_FAILURE, exception, set);
+						}
+					}
+				};
+			}
+
+		};
+	}
+
+	@Override
+	public int read() throws IOException {
+		int result = this.in.read();
+		if (result >= 0) {
+			this.position++;
+		}
+		return result;
+	}
+
+	@Override
+	public int read(byte[] bytes, int offset, int length) throws IOException {
+		int result = this.in.read(bytes, offset, length);
+		if (result > 0) {
+			this.position = this.position + result;
+		}
+		return result;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		long result = this.in.skip(n);
+		this.position = this.position + result;
+		return result;
+	}
+
+	@Override
+	public boolean markSupported() {
+		return false;
+	}
+
+	// checks whether the end of the underlying stream has been reached
+	private boolean isAtEnd() throws IOException {
+		int next = this.in.read();
+		if (next < 0) {
+			return true;
+		}
+		((PushbackInputStream) this.in).unread(next);
+		return false;
+	}
+
+	// reads the prefix of a node and returns the position after the node
+	private long readNodePrefix() throws IOException, UniCryptException {
+		int length = this.readPrefix(ElementOutputStream.NODE_IDENTIFIER);
+		return this.position + length;
+	}
+
+	// reads a prefix with the given identifier and returns the length contained in the prefix
+	private int readPrefix(byte identifier) throws IOException, UniCryptException {
+		this.readBytes(this.prefix);
+		int length = ((this.prefix[1] & 0xFF) << 24) | ((this.prefix[2] & 0xFF) << 16) | ((this.prefix[3] & 0xFF) << 8)
+			   | (this.prefix[4] & 0xFF);
+		if (this.prefix[0] != identifier || length < 0) {
+			throw new UniCryptException(ErrorCode.ELEMENT_CONVERSION_FAILURE);
+		}
+		return length;
+	}
+
+	private void checkPosition(long endPosition) throws UniCryptException {
+		if (this.position != endPosition) {
+			throw new UniCryptException(ErrorCode.ELEMENT_CONVERSION_FAILURE);
+		}
+	}
+
+	private void readBytes(byte[] bytes) throws IOException {
+		this.readBytes(bytes, 0, bytes.length);
+	}
+
+	private void readBytes(byte[] bytes, int offset, int length) throws IOException {
+		while (length > 0) {
+			int result = this.read(bytes, offset, length);
+			if (result < 0) {
+				throw new EOFException();
+			}
+			offset = offset + result;
+			length = length - result;
+		}
+	}
+
+	// the length is taken from an untrusted prefix, so the byte array only grows with the bytes actually read
+	private byte[] readBytes(int length) throws IOException {
+		byte[] bytes = new byte[Math.min(length, BLOCK_SIZE)];
+		int offset = 0;
+		while (offset < length) {
+			if (offset == bytes.length) {
+				bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * bytes.length));
+			}
+			int blockLength = bytes.length - offset;
+			this.readBytes(bytes, offset, blockLength);
+			offset = offset + blockLength;
+		}
+		return bytes;
+	}
+
+}
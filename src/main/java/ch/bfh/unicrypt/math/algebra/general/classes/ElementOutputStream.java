@@ -0,0 +1,213 @@
+/*
+ * UniCrypt
+ *
+ *  UniCrypt(tm): Cryptographical framework allowing the implementation of cryptographic protocols e.g. e-voting
+ *  Copyright (c) 2016 Bern University of Applied Sciences (BFH), Research Institute for
+ *  Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *  Quellgasse 21, CH-2501 Biel, Switzerland
+ *
+ *  Licensed under Dual License consisting of:
+ *  1. GNU Affero General Public License (AGPL) v3
+ *  and
+ *  2. Commercial license
+ *
+ *
+ *  1. This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ *  2. Licensees holding valid commercial licenses for UniCrypt may use this file in
+ *   accordance with the commercial license agreement provided with the
+ *   Software or, alternatively, in accordance with the terms contained in
+ *   a written agreement between you and Bern University of Applied Sciences (BFH), Research Institute for
+ *   Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *   Quellgasse 21, CH-2501 Biel, Switzerland.
+ *
+ *
+ *   For further information contact <e-mail: unicrypt@bfh.ch>
+ *
+ *
+ * Redistributions of files must retain the above copyright notice.
+ */
+package ch.bfh.unicrypt.math.algebra.general.classes;
+
+import ch.bfh.unicrypt.ErrorCode;
+import ch.bfh.unicrypt.UniCryptRuntimeException;
+import ch.bfh.unicrypt.helper.aggregator.classes.ByteArrayAggregator;
+import ch.bfh.unicrypt.helper.array.classes.ByteArray;
+import ch.bfh.unicrypt.helper.converter.classes.ConvertMethod;
+import ch.bfh.unicrypt.helper.tree.Leaf;
+import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Instances of this class write elements to an underlying output stream. The bytes written for an element are exactly
+ * the same as the ones obtained from {@code element.convertTo(convertMethod, ByteArrayAggregator.getInstance())}, but
+ * the tree of byte arrays is never constructed in memory. The components of a tuple are converted and written one after
+ * another, i.e., apart from the lengths of the nested tuples, the memory consumption is independent of the tuple's
+ * size. Each leaf is converted twice, once for computing the lengths and once for writing it. Elements written to the
+ * stream can be read back using {@link ElementInputStream}. Several elements can be written to the same stream.
+ * <p>
+ * @see ByteArrayAggregator
+ * @see ElementInputStream
+ * @author R. Haenni
+ * @version 2.0
+ */
+public class ElementOutputStream
+	   extends FilterOutputStream {
+
+	// the format of the prefixes is defined by ByteArrayAggregator
+	static final byte LEAF_IDENTIFIER = (byte) 0x00;
+	static final byte NODE_IDENTIFIER = (byte) 0x01;
+	static final int PREFIX_LENGTH = 1 + Integer.SIZE / Byte.SIZE;
+
+	private final ConvertMethod<ByteArray> convertMethod;
+	private final byte[] prefix;
+
+	protected ElementOutputStream(OutputStream outputStream, ConvertMethod<ByteArray> convertMethod) {
+		super(outputStream);
+		this.convertMethod = convertMethod;
+		this.prefix = new byte[PREFIX_LENGTH];
+	}
+
+	/**
+	 * Creates a new element output stream for a given output stream. The elements are converted using the default
+	 * convert method, i.e., the bytes written for a tuple correspond to {@link Element#convertToByteArray()}.
+	 * <p>
+	 * @param outputStream The given output stream
+	 * @return The new element output stream
+	 */
+	public static ElementOutputStream getInstance(OutputStream outputStream) {
+		return ElementOutputStream.getInstance(outputStream, ConvertMethod.getInstance());
+	}
+
+	/**
+	 * Creates a new element output stream for a given output stream and a given convert method.
+	 * <p>
+	 * @param outputStream  The given output stream
+	 * @param convertMethod The convert method used to convert the elements into byte arrays
+	 * @return The new element output stream
+	 */
+	public static ElementOutputStream getInstance(OutputStream outputStream, ConvertMethod<ByteArray> convertMethod) {
+		if (outputStream == null || convertMethod == null) {
+			throw new UniCryptRuntimeException(ErrorCode.NULL_POINTER, outputStream, convertMethod);
+		}
+		return new ElementOutputStream(outputStream, convertMethod);
+	}
+
+	/**
+	 * Returns the convert method used to convert the elements into byte arrays.
+	 * <p>
+	 * @return The convert method
+	 */
+	public ConvertMethod<ByteArray> getConvertMethod() {
+		return this.convertMethod;
+	}
+
+	/**
+	 * Writes the given element to the underlying output stream.
+	 * <p>
+	 * @param element The given element
+	 * @throws IOException if an I/O error occurs
+	 */
+	public void writeElement(Element element) throws IOException {
+		if (element == null) {
+			throw new UniCryptRuntimeException(ErrorCode.NULL_POINTER, this);
+		}
+		if (element.isTuple()) {
+			// the lengths of all nested tuples are required in advance, they are computed in a single pass
+			List<Long> lengths = new ArrayList<>();
+			this.computeLengths(element, lengths);
+			this.writeElement(element, lengths.iterator());
+		} else {
+			this.writeLeaf(element);
+		}
+	}
+
+	/**
+	 * Writes the elements of the given iterable to the underlying output stream, one after another.
+	 * <p>
+	 * @param elements The given elements
+	 * @throws IOException if an I/O error occurs
+	 */
+	public void writeElements(Iterable<? extends Element> elements) throws IOException {
+		if (elements == null) {
+			throw new UniCryptRuntimeException(ErrorCode.NULL_POINTER, this);
+		}
+		for (Element element : elements) {
+			this.writeElement(element);
+		}
+	}
+
+	@Override
+	public void write(byte[] bytes, int offset, int length) throws IOException {
+		// the default implementation of FilterOutputStream writes the bytes one by one
+		this.out.write(bytes, offset, length);
+	}
+
+	private void writeElement(Element element, Iterator<Long> lengths) throws IOException {
+		if (element.isTuple()) {
+			this.writePrefix(NODE_IDENTIFIER, lengths.next() - PREFIX_LENGTH);
+			for (Element child : (Tuple) element) {
+				this.writeElement(child, lengths);
+			}
+		} else {
+			this.writeLeaf(element);
+		}
+	}
+
+	private void writeLeaf(Element element) throws IOException {
+		byte[] bytes = this.convert(element).getBytes();
+		this.writePrefix(LEAF_IDENTIFIER, bytes.length);
+		this.out.write(bytes);
+	}
+
+	// computes the total number of bytes written for the given element (including the prefix) and adds the lengths of
+	// all nested tuples in pre-order to the given list
+	private long computeLengths(Element element, List<Long> lengths) {
+		long length = PREFIX_LENGTH;
+		if (element.isTuple()) {
+			int index = lengths.size();
+			lengths.add(null);
+			for (Element child : (Tuple) element) {
+				length = length + this.computeLengths(child, lengths);
+			}
+			if (length - PREFIX_LENGTH > Integer.MAX_VALUE) {
+				throw new UniCryptRuntimeException(ErrorCode.INVALID_LENGTH, this, element);
+			}
+			lengths.set(index, length);
+		} else {
+			length = length + this.convert(element).getLength();
+		}
+		return length;
+	}
+
+	private ByteArray convert(Element element) {
+		return ((Leaf<ByteArray>) element.convertTo(this.convertMethod)).getValue();
+	}
+
+	private void writePrefix(byte identifier, long length) throws IOException {
+		this.prefix[0] = identifier;
+		this.prefix[1] = (byte) (length >>> 24);
+		this.prefix[2] = (byte) (length >>> 16);
+		this.prefix[3] = (byte) (length >>> 8);
+		this.prefix[4] = (byte) length;
+		this.out.write(this.prefix);
+	}
+
+}
@@ -0,0 +1,397 @@
+/*
+ * UniCrypt
+ *
+ *  UniCrypt(tm): Cryptographical framework allowing the implementation of cryptographic protocols e.g. e-voting
+ *  Copyright (c) 2016 Bern University of Applied Sciences (BFH), Research Institute for
+ *  Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *  Quellgasse 21, CH-2501 Biel, Switzerland
+ *
+ *  Licensed under Dual License consisting of:
+ *  1. GNU Affero General Public License (AGPL) v3
+ *  and
+ *  2. Commercial license
+ *
+ *
+ *  1. This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ *  2. Licensees holding valid commercial licenses for UniCrypt may use this file in
+ *   accordance with the commercial license agreement provided with the
+ *   Software or, alternatively, in accordance with the terms contained in
+ *   a written agreement between you and Bern University of Applied Sciences (BFH), Research Institute for
+ *   Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *   Quellgasse 21, CH-2501 Biel, Switzerland.
+ *
+ *
+ *   For further information contact <e-mail: unicrypt@bfh.ch>
+ *
+ *
+ * Redistributions of files must retain the above copyright notice.
+ */
+package ch.bfh.unicrypt.math.algebra.general.classes;
+
+import ch.bfh.unicrypt.ErrorCode;
+import ch.bfh.unicrypt.UniCryptRuntimeException;
+import ch.bfh.unicrypt.helper.array.classes.DenseArray;
+import ch.bfh.unicrypt.helper.math.Point;
+import ch.bfh.unicrypt.math.algebra.additive.classes.ECZModPrime;
+import ch.bfh.unicrypt.math.algebra.dualistic.classes.ZMod;
+import ch.bfh.unicrypt.math.algebra.dualistic.classes.ZModElement;
+import ch.bfh.unicrypt.math.algebra.general.abstracts.AbstractElementArray;
+import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
+import ch.bfh.unicrypt.math.algebra.general.interfaces.Set;
+import ch.bfh.unicrypt.math.algebra.multiplicative.classes.GStarMod;
+import ch.bfh.unicrypt.math.algebra.multiplicative.classes.ZStarMod;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class implements a dense array of elements of a common set, which are stored outside the Java heap in a
+ * memory-mapped file. Each element is stored with a fixed number of bytes, which allows accessing the elements in
+ * arbitrary order. Elements are restored from the file when they are accessed, i.e., the memory consumption on the
+ * heap is independent of the array's length. The array can be used for constructing tuples using
+ * {@link Tuple#getInstance(ch.bfh.unicrypt.helper.array.classes.DenseArray)}, which allows processing vectors of
+ * elements that do not fit into the heap, for example the input and output vectors of a mix.
+ * <p>
+ * Supported sets are {@link ZMod}, {@link ZStarMod}, and {@link GStarMod}, for which each element is stored with the
+ * byte length of the modulus, {@link ECZModPrime}, for which both coordinates are stored together with an additional
+ * byte for the point of infinity, and non-empty product sets of supported sets. Files are created by writing the
+ * elements sequentially using {@link MappedElementArray#getInstance(Set, Path, Iterable)}. The mapping is released
+ * when the array is garbage collected.
+ * <p>
+ * @see Tuple
+ * @author R. Haenni
+ * @version 2.0
+ */
+public class MappedElementArray
+	   extends AbstractElementArray {
+
+	private static final long serialVersionUID = 1L;
+
+	// the number of bytes written to the file at once
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	// the path is stored as a string, since paths are not serializable
+	private final String fileName;
+	private final int elementLength;
+	private final int segmentLength;
+	private transient MappedByteBuffer[] segments;
+
+	private MappedElementArray(Set set, String fileName, int elementLength, MappedByteBuffer[] segments, int length,
+		   int rangeOffset, boolean reverse) {
+		super(set, length, rangeOffset, reverse);
+		this.fileName = fileName;
+		this.elementLength = elementLength;
+		this.segmentLength = Integer.MAX_VALUE / elementLength;
+		this.segments = segments;
+	}
+
+	/**
+	 * Returns the path of the file containing the elements.
+	 * <p>
+	 * @return The path of the file
+	 */
+	public Path getPath() {
+		return Paths.get(this.fileName);
+	}
+
+	/**
+	 * Checks if elements of a given set can be stored in a file.
+	 * <p>
+	 * @param set The given set
+	 * @return {@code true} if the elements of the set can be stored, {@code false} otherwise
+	 */
+	public static boolean isSupported(Set set) {
+		if (set == null) {
+			throw new UniCryptRuntimeException(ErrorCode.NULL_POINTER);
+		}
+		return MappedElementArray.computeElementLength(set) > 0;
+	}
+
+	/**
+	 * Returns the fixed number of bytes used for storing an element of a given set.
+	 * <p>
+	 * @param set The given set
+	 * @return The number of bytes per element
+	 */
+	public static int getElementLength(Set set) {
+		if (set == null) {
+			throw new UniCryptRuntimeException(ErrorCode.NULL_POINTER);
+		}
+		int elementLength = MappedElementArray.computeElementLength(set);
+		if (elementLength <= 0) {
+			throw new UniCryptRuntimeException(ErrorCode.UNSUPPORTED_OPERATION, set);
+		}
+		return elementLength;
+	}
+
+	/**
+	 * Maps an existing file containing the elements of a given set. The length of the array is derived from the size
+	 * of the file. Since the elements of the array are not validated again when they are accessed or when the array is
+	 * used in a tuple, each element of the file is validated once by this method, which requires a full pass over the
+	 * file.
+	 * <p>
+	 * @param set  The common set of the elements
+	 * @param path The path of the existing file
+	 * @return The new array
+	 * @throws IOException if an I/O error occurs
+	 */
+	public static MappedElementArray getInstance(Set set, Path path) throws IOException {
+		if (set == null || path == null) {
+			throw new UniCryptRuntimeException(ErrorCode.NULL_POINTER, set, path);
+		}
+		return MappedElementArray.getInstance(set, path, true);
+	}
+
+	// maps a file and validates its elements if necessary
+	private static MappedElementArray getInstance(Set set, Path path, boolean validate) throws IOException {
+		int elementLength = MappedElementArray.getElementLength(set);
+		long size;
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			size = channel.size();
+		}
+		if (size % elementLength != 0 || size / elementLength > Integer.MAX_VALUE) {
+			throw new UniCryptRuntimeException(ErrorCode.INVALID_LENGTH, set, path, size);
+		}
+		String fileName = path.toAbsolutePath().toString();
+		int length = (int) (size / elementLength);
+		MappedByteBuffer[] segments = MappedElementArray.map(fileName, elementLength, length);
+		if (validate) {
+			for (MappedByteBuffer segment : segments) {
+				ByteBuffer buffer = segment.duplicate();
+				while (buffer.hasRemaining()) {
+					MappedElementArray.getElement(set, buffer, true);
+				}
+			}
+		}
+		return new MappedElementArray(set, fileName, elementLength, segments, length, 0, false);
+	}
+
+	/**
+	 * Writes the elements of a given set sequentially to a file and maps the file afterwards. An existing file is
+	 * overwritten. The elements are obtained one after another from the given iterable, which allows writing elements
+	 * that are computed on demand, for example by a {@link ch.bfh.unicrypt.helper.sequence.Sequence}.
+	 * <p>
+	 * @param set      The common set of the elements
+	 * @param path     The path of the file
+	 * @param elements The elements to write
+	 * @return The new array
+	 * @throws IOException if an I/O error occurs
+	 */
+	public static MappedElementArray getInstance(Set set, Path path, Iterable<? extends Element> elements)
+		   throws IOException {
+		if (set == null || path == null || elements == null) {
+			throw new UniCryptRuntimeException(ErrorCode.NULL_POINTER, set, path, elements);
+		}
+		int elementLength = MappedElementArray.getElementLength(set);
+		ByteBuffer buffer = ByteBuffer.allocate(Math.max(BUFFER_SIZE - BUFFER_SIZE % elementLength, elementLength));
+		long length = 0;
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+													 StandardOpenOption.TRUNCATE_EXISTING)) {
+			for (Element element : elements) {
+				if (element == null || !set.contains(element)) {
+					throw new UniCryptRuntimeException(ErrorCode.INVALID_ELEMENT, set, element);
+				}
+				if (length == Integer.MAX_VALUE) {
+					throw new UniCryptRuntimeException(ErrorCode.INVALID_LENGTH, set, path);
+				}
+				MappedElementArray.putElement(set, element, buffer);
+				if (!buffer.hasRemaining()) {
+					MappedElementArray.flush(buffer, channel);
+				}
+				length++;
+			}
+			MappedElementArray.flush(buffer, channel);
+		}
+		// the elements have been validated before writing them
+		return MappedElementArray.getInstance(set, path, false);
+	}
+
+	@Override
+	protected Element abstractGetElementAt(int position) {
+		ByteBuffer buffer = this.getSegments()[position / this.segmentLength].duplicate();
+		buffer.position((position % this.segmentLength) * this.elementLength);
+		return MappedElementArray.getElement(this.set, buffer, false);
+	}
+
+	@Override
+	protected AbstractElementArray abstractGetInstance(int length, int rangeOffset, boolean reverse) {
+		return new MappedElementArray(this.set, this.fileName, this.elementLength, this.getSegments(), length,
+									  rangeOffset, reverse);
+	}
+
+	// the segments are mapped again after deserialization
+	private MappedByteBuffer[] getSegments() {
+		if (this.segments == null) {
+			try {
+				int fileLength = this.rangeOffset + this.length;
+				this.segments = MappedElementArray.map(this.fileName, this.elementLength, fileLength);
+			} catch (IOException exception) {
+				throw new UniCryptRuntimeException(ErrorCode.IMPOSSIBLE_STATE, exception, this.fileName);
+			}
+		}
+		return this.segments;
+	}
+
+	// maps the file in segments of at most Integer.MAX_VALUE bytes, each containing a whole number of elements
+	private static MappedByteBuffer[] map(String fileName, int elementLength, int length) throws IOException {
+		int segmentLength = Integer.MAX_VALUE / elementLength;
+		MappedByteBuffer[] segments = new MappedByteBuffer[(int) (((long) length + segmentLength - 1) / segmentLength)];
+		try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+			for (int i = 0; i < segments.length; i++) {
+				long offset = (long) i * segmentLength;
+				long size = Math.min(segmentLength, length - offset) * elementLength;
+				segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset * elementLength, size);
+			}
+		}
+		return segments;
+	}
+
+	private static void flush(ByteBuffer buffer, FileChannel channel) throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+
+	// returns the number of bytes of an element of the given set, or 0 if the set is not supported
+	private static int computeElementLength(Set set) {
+		if (set.isProduct()) {
+			ProductSet productSet = (ProductSet) set;
+			long result = 0;
+			for (Set componentSet : productSet) {
+				int componentLength = MappedElementArray.computeElementLength(componentSet);
+				if (componentLength == 0) {
+					return 0;
+				}
+				result = result + componentLength;
+			}
+			return result > Integer.MAX_VALUE ? 0 : (int) result;
+		}
+		if (set instanceof ECZModPrime) {
+			return 1 + 2 * MappedElementArray.getByteLength(((ECZModPrime) set).getFiniteField().getModulus());
+		}
+		BigInteger modulus = MappedElementArray.getModulus(set);
+		if (modulus == null) {
+			return 0;
+		}
+		return MappedElementArray.getByteLength(modulus);
+	}
+
+	private static BigInteger getModulus(Set set) {
+		if (set instanceof ZMod) {
+			return ((ZMod) set).getModulus();
+		}
+		if (set instanceof ZStarMod) {
+			return ((ZStarMod) set).getModulus();
+		}
+		if (set instanceof GStarMod) {
+			return ((GStarMod) set).getModulus();
+		}
+		return null;
+	}
+
+	private static int getByteLength(BigInteger modulus) {
+		return Math.max(1, (modulus.subtract(BigInteger.ONE).bitLength() + Byte.SIZE - 1) / Byte.SIZE);
+	}
+
+	private static void putElement(Set set, Element element, ByteBuffer buffer) {
+		if (set.isProduct()) {
+			ProductSet productSet = (ProductSet) set;
+			Tuple tuple = (Tuple) element;
+			for (int i = 0; i < productSet.getArity(); i++) {
+				MappedElementArray.putElement(productSet.getAt(i), tuple.getAt(i), buffer);
+			}
+		} else if (set instanceof ECZModPrime) {
+			ECZModPrime ec = (ECZModPrime) set;
+			int byteLength = MappedElementArray.getByteLength(ec.getFiniteField().getModulus());
+			Point<ZModElement> point = (Point<ZModElement>) element.getValue();
+			if (point.getX() == null) {
+				buffer.put((byte) 0);
+				buffer.put(new byte[2 * byteLength]);
+			} else {
+				buffer.put((byte) 1);
+				MappedElementArray.putValue(point.getX().getValue(), byteLength, buffer);
+				MappedElementArray.putValue(point.getY().getValue(), byteLength, buffer);
+			}
+		} else {
+			int byteLength = MappedElementArray.getByteLength(MappedElementArray.getModulus(set));
+			MappedElementArray.putValue((BigInteger) element.getValue(), byteLength, buffer);
+		}
+	}
+
+	// writes a non-negative value with a fixed number of bytes (big-endian)
+	private static void putValue(BigInteger value, int byteLength, ByteBuffer buffer) {
+		byte[] bytes = value.toByteArray();
+		// the two's-complement representation may contain an additional leading zero byte
+		int offset = Math.max(0, bytes.length - byteLength);
+		for (int i = bytes.length - offset; i < byteLength; i++) {
+			buffer.put((byte) 0);
+		}
+		buffer.put(bytes, offset, bytes.length - offset);
+	}
+
+	// reads an element, which is either validated or known to be contained in the set
+	private static Element getElement(Set set, ByteBuffer buffer, boolean validate) {
+		if (set.isProduct()) {
+			ProductSet productSet = (ProductSet) set;
+			Element[] elements = new Element[productSet.getArity()];
+			for (int i = 0; i < elements.length; i++) {
+				elements[i] = MappedElementArray.getElement(productSet.getAt(i), buffer, validate);
+			}
+			return productSet.abstractGetElement(DenseArray.getInstance(elements));
+		}
+		if (set instanceof ECZModPrime) {
+			ECZModPrime ec = (ECZModPrime) set;
+			ZMod finiteField = ec.getFiniteField();
+			int byteLength = MappedElementArray.getByteLength(finiteField.getModulus());
+			byte flag = buffer.get();
+			if (flag == 0) {
+				buffer.position(buffer.position() + 2 * byteLength);
+				return ec.getZeroElement();
+			}
+			BigInteger x = MappedElementArray.getValue(byteLength, buffer);
+			BigInteger y = MappedElementArray.getValue(byteLength, buffer);
+			if (validate) {
+				if (flag != 1) {
+					throw new UniCryptRuntimeException(ErrorCode.INVALID_ELEMENT, set, flag);
+				}
+				return ec.getElement(finiteField.getElement(x), finiteField.getElement(y));
+			}
+			Element<BigInteger> xElement = restoreElement(finiteField, x);
+			Element<BigInteger> yElement = restoreElement(finiteField, y);
+			return restoreElement(ec, Point.getInstance((ZModElement) xElement, (ZModElement) yElement));
+		}
+		int byteLength = MappedElementArray.getByteLength(MappedElementArray.getModulus(set));
+		BigInteger value = MappedElementArray.getValue(byteLength, buffer);
+		if (validate) {
+			return set.getElement(value);
+		}
+		return restoreElement(set, value);
+	}
+
+	private static BigInteger getValue(int byteLength, ByteBuffer buffer) {
+		byte[] bytes = new byte[byteLength];
+		buffer.get(bytes);
+		return new BigInteger(1, bytes);
+	}
+
+}
@@ -53,6 +53,7 @@ import ch.bfh.unicrypt.helper.random.RandomByteSequenceIterator;
 import ch.bfh.unicrypt.helper.sequence.Sequence;
 import ch.bfh.unicrypt.helper.sequence.SequenceIterator;
 import ch.bfh.unicrypt.math.algebra.general.abstracts.AbstractGroup;
+import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Set;
 import java.math.BigInteger;
 
@@ -75,6 +76,7 @@ public class PermutationGroup
 	   extends AbstractGroup<PermutationElement, Permutation> {
 
 	private static final long serialVersionUID = 1L;
+	private static final int BUFFER_SIZE = 4096;
 
 	private final int size;
 
@@ -98,6 +100,50 @@ public class PermutationGroup
 		return "" + this.getSize();
 	}
 
+	// Durstenfeld's version of the Fisher–Yates shuffle algorithm. The random index for position i is drawn from
+	// [0,...,i] by rejection sampling, in the same way as RandomByteSequence.getRandomIntegerSequence(i), but on
+	// primitive values. The random bytes are fetched block-wise into a buffer. A block never exceeds the number of bytes
+	// required by the remaining positions. For pure byte streams such as CTR_DRBG (the default deterministic sequence),
+	// the resulting permutations are therefore the same as by drawing the indices one by one. Generators that update
+	// their state after each request, such as Hash_DRBG or HMAC_DRBG, produce different bytes for block-wise requests,
+	// so their permutations differ from the ones obtained in earlier versions.
+	private int[] getRandomPermutationVector(RandomByteSequenceIterator iterator) {
+		long remainingBytes = 0;
+		for (int i = 0; i < this.size; i++) {
+			remainingBytes += MathUtil.divideUp(Integer.SIZE - Integer.numberOfLeadingZeros(i), Byte.SIZE);
+		}
+		byte[] buffer = new byte[(int) Math.min(BUFFER_SIZE, remainingBytes)];
+		int position = 0;
+		int limit = 0;
+		int[] permutationVector = new int[this.size];
+		for (int i = 0; i < this.size; i++) {
+			int bitLength = Integer.SIZE - Integer.numberOfLeadingZeros(i);
+			int byteLength = MathUtil.divideUp(bitLength, Byte.SIZE);
+			int mask = (int) ((1L << bitLength) - 1);
+			remainingBytes -= byteLength;
+			int randomIndex;
+			do {
+				if (limit - position < byteLength) {
+					// move the remaining bytes to the front and fetch as many new bytes as possible
+					int available = limit - position;
+					System.arraycopy(buffer, position, buffer, 0, available);
+					int length = (int) Math.min(buffer.length - available, byteLength - available + remainingBytes);
+					iterator.nextBytes(buffer, available, length);
+					position = 0;
+					limit = available + length;
+				}
+				randomIndex = 0;
+				for (int j = 0; j < byteLength; j++) {
+					randomIndex = (randomIndex << Byte.SIZE) | (buffer[position++] & 0xFF);
+				}
+				randomIndex = randomIndex & mask;
+			} while (randomIndex > i);
+			permutationVector[i] = permutationVector[randomIndex];
+			permutationVector[randomIndex] = i;
+		}
+		return permutationVector;
+	}
+
 	@Override
 	protected Sequence<PermutationElement> abstractGetRandomElements(final RandomByteSequence randomByteSequence) {
 		final RandomByteSequenceIterator iterator = randomByteSequence.iterator();
@@ -109,24 +155,7 @@ public class PermutationGroup
 
 					@Override
 					protected PermutationElement abstractNext() {
-						// Durstenfeld's version of the Fisher–Yates shuffle algorithm
-						int[] permutationVector = new int[size];
-						int randomIndex;
-						for (int i = 0; i < size; i++) {
-							// the following lines are necessary to use the existing random integer generation on the
-							// same iterator
-							randomIndex = new RandomByteSequence() {
-
-								@Override
-								public RandomByteSequenceIterator iterator() {
-									return iterator;
-								}
-
-							}.getRandomIntegerSequence(i).get();
-							permutationVector[i] = permutationVector[randomIndex];
-							permutationVector[randomIndex] = i;
-						}
-						return abstractGetElement(Permutation.getInstance(permutationVector));
+						return abstractGetElement(Permutation.getInstance(getRandomPermutationVector(iterator)));
 					}
 
 					@Override
@@ -170,6 +199,40 @@ public class PermutationGroup
 		return MathUtil.factorial(this.getSize());
 	}
 
+	@Override
+	protected boolean defaultIsFinite() {
+		return true;
+	}
+
+	@Override
+	protected boolean defaultHasKnownOrder() {
+		return true;
+	}
+
+	@Override
+	protected PermutationElement defaultSelfApply(final PermutationElement element, final BigInteger amount) {
+		// the exponent is reduced by the cycle lengths, which avoids computing the group order
+		return this.abstractGetElement(element.getValue().power(amount));
+	}
+
+	@Override
+	protected PermutationElement defaultMultiSelfApply(final Element[] elements, final BigInteger[] amounts,
+		   final boolean publicAmounts) {
+		// the powers are computed as in defaultSelfApply and combined in the given order, which avoids computing the
+		// group order for reducing the amounts
+		Permutation result = Permutation.getInstance(this.getSize());
+		for (int i = 0; i < elements.length; i++) {
+			if (amounts[i] == null) {
+				throw new UniCryptRuntimeException(ErrorCode.NULL_POINTER, this);
+			}
+			if (!this.contains(elements[i])) {
+				throw new UniCryptRuntimeException(ErrorCode.INVALID_ELEMENT, this, elements[i]);
+			}
+			result = result.compose(((PermutationElement) elements[i]).getValue().power(amounts[i]));
+		}
+		return this.abstractGetElement(result);
+	}
+
 	@Override
 	protected PermutationElement abstractGetIdentityElement() {
 		return this.abstractGetElement(Permutation.getInstance(this.getSize()));
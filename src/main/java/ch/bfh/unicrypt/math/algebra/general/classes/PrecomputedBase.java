@@ -0,0 +1,135 @@
+/*
+ * UniCrypt
+ *
+ *  UniCrypt(tm): Cryptographical framework allowing the implementation of cryptographic protocols e.g. e-voting
+ *  Copyright (c) 2016 Bern University of Applied Sciences (BFH), Research Institute for
+ *  Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *  Quellgasse 21, CH-2501 Biel, Switzerland
+ *
+ *  Licensed under Dual License consisting of:
+ *  1. GNU Affero General Public License (AGPL) v3
+ *  and
+ *  2. Commercial license
+ *
+ *
+ *  1. This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ *  2. Licensees holding valid commercial licenses for UniCrypt may use this file in
+ *   accordance with the commercial license agreement provided with the
+ *   Software or, alternatively, in accordance with the terms contained in
+ *   a written agreement between you and Bern University of Applied Sciences (BFH), Research Institute for
+ *   Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *   Quellgasse 21, CH-2501 Biel, Switzerland.
+ *
+ *
+ *   For further information contact <e-mail: unicrypt@bfh.ch>
+ *
+ *
+ * Redistributions of files must retain the above copyright notice.
+ */
+package ch.bfh.unicrypt.math.algebra.general.classes;
+
+import ch.bfh.unicrypt.ErrorCode;
+import ch.bfh.unicrypt.UniCryptRuntimeException;
+import ch.bfh.unicrypt.helper.math.FixedBaseExponentiation;
+import ch.bfh.unicrypt.math.algebra.general.interfaces.CyclicGroup;
+import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
+import java.math.BigInteger;
+import java.util.function.Function;
+
+/**
+ * Instances of this class represent a fixed base of a cyclic group together with precomputed values for computing
+ * its powers. They are created by {@link CyclicGroup#precompute(Element, int)} and owned by the caller, i.e., the
+ * cyclic group itself is not affected. Powers are computed by {@link #selfApplyPublic(BigInteger)}, whose running time
+ * depends on the exponent. Instances of this class must therefore only be used for public exponents, for example when
+ * verifying proofs. Instances of this class are immutable and can be shared among multiple threads.
+ * <p>
+ * @param <V> The generic type of the values of the cyclic group
+ * @see FixedBaseExponentiation
+ * @author R. Haenni
+ * @version 2.0
+ */
+public final class PrecomputedBase<V> {
+
+	private final CyclicGroup<V> cyclicGroup;
+	private final Element<V> base;
+	private final Function<BigInteger, Element<V>> function;
+
+	private PrecomputedBase(CyclicGroup<V> cyclicGroup, Element<V> base, Function<BigInteger, Element<V>> function) {
+		this.cyclicGroup = cyclicGroup;
+		this.base = base;
+		this.function = function;
+	}
+
+	/**
+	 * Returns the cyclic group of the fixed base.
+	 * <p>
+	 * @return The cyclic group
+	 */
+	public CyclicGroup<V> getCyclicGroup() {
+		return this.cyclicGroup;
+	}
+
+	/**
+	 * Returns the fixed base.
+	 * <p>
+	 * @return The fixed base
+	 */
+	public Element<V> getBase() {
+		return this.base;
+	}
+
+	/**
+	 * Computes the same result as {@code getCyclicGroup().selfApply(getBase(), exponent)} using the precomputed
+	 * values. The running time depends on the exponent, i.e., this method must not be used for secret exponents.
+	 * <p>
+	 * @param exponent The given public exponent
+	 * @return The power of the fixed base
+	 */
+	public Element<V> selfApplyPublic(BigInteger exponent) {
+		if (exponent == null) {
+			throw new UniCryptRuntimeException(ErrorCode.NULL_POINTER, this);
+		}
+		BigInteger reducedExponent = exponent.abs().mod(this.cyclicGroup.getOrder());
+		if (reducedExponent.signum() == 0) {
+			return this.cyclicGroup.getIdentityElement();
+		}
+		Element<V> result = this.function.apply(reducedExponent);
+		return (exponent.signum() > 0) ? result : this.cyclicGroup.invert(result);
+	}
+
+	/**
+	 * Creates a new instance for a given cyclic group, a fixed base, and a function computing the powers of the base.
+	 * The function is only called for exponents {@code 0<e<q}, where {@code q} denotes the order of the cyclic group.
+	 * This method is meant to be called by implementations of {@link CyclicGroup#precompute(Element, int)}.
+	 * <p>
+	 * @param <V>         The generic type of the values of the cyclic group
+	 * @param cyclicGroup The cyclic group
+	 * @param base        The fixed base
+	 * @param function    The function computing the powers of the base
+	 * @return The new instance
+	 */
+	public static <V> PrecomputedBase<V> getInstance(CyclicGroup<V> cyclicGroup, Element<V> base,
+		   Function<BigInteger, Element<V>> function) {
+		if (cyclicGroup == null || base == null || function == null) {
+			throw new UniCryptRuntimeException(ErrorCode.NULL_POINTER, cyclicGroup, base, function);
+		}
+		if (!cyclicGroup.contains(base)) {
+			throw new UniCryptRuntimeException(ErrorCode.INVALID_ELEMENT, cyclicGroup, base);
+		}
+		return new PrecomputedBase<>(cyclicGroup, base, function);
+	}
+
+}
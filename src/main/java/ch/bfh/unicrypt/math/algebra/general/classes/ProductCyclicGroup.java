@@ -44,6 +44,7 @@ package ch.bfh.unicrypt.math.algebra.general.classes;
 import ch.bfh.unicrypt.ErrorCode;
 import ch.bfh.unicrypt.UniCryptRuntimeException;
 import ch.bfh.unicrypt.helper.array.classes.DenseArray;
+import ch.bfh.unicrypt.helper.math.FixedBaseExponentiation;
 import ch.bfh.unicrypt.helper.random.RandomByteSequence;
 import ch.bfh.unicrypt.helper.random.RandomByteSequenceIterator;
 import ch.bfh.unicrypt.helper.random.deterministic.DeterministicRandomByteSequence;
@@ -193,6 +194,30 @@ public class ProductCyclicGroup
 		return this.defaultGetRandomGenerators(randomByteSequence);
 	}
 
+	@Override
+	public final PrecomputedBase<DenseArray<Element>> precompute(Element base) {
+		return this.precompute(base, FixedBaseExponentiation.DEFAULT_WINDOW_SIZE);
+	}
+
+	@Override
+	public final PrecomputedBase<DenseArray<Element>> precompute(Element base, int windowSize) {
+		if (!this.contains(base)) {
+			throw new UniCryptRuntimeException(ErrorCode.INVALID_ELEMENT, this, base);
+		}
+		// the powers are computed component-wise using the precomputed tables of the components
+		final PrecomputedBase[] precomputedBases = new PrecomputedBase[this.getArity()];
+		for (int i : this.getAllIndices()) {
+			precomputedBases[i] = this.getAt(i).precompute(((Tuple) base).getAt(i), windowSize);
+		}
+		return PrecomputedBase.getInstance(this, (Tuple) base, exponent -> {
+			final Element[] results = new Element[precomputedBases.length];
+			for (int i = 0; i < results.length; i++) {
+				results[i] = precomputedBases[i].selfApplyPublic(exponent);
+			}
+			return this.abstractGetElement(DenseArray.getInstance(results));
+		});
+	}
+
 	protected Sequence<Tuple> defaultGetRandomGenerators(RandomByteSequence randomByteSequence) {
 		final RandomByteSequenceIterator iterator = randomByteSequence.iterator();
 		final int tupleLenght = this.getLength();
@@ -179,11 +179,11 @@ public class ProductMonoid
 	}
 
 	@Override
-	protected Tuple defaultMultiSelfApply(final Element[] elements, BigInteger[] amounts) {
+	protected Tuple defaultMultiSelfApply(final Element[] elements, BigInteger[] amounts, boolean publicAmounts) {
 		if (elements.length == 0) {
 			return this.getIdentityElement();
 		}
-		return super.defaultMultiSelfApply(elements, amounts);
+		return super.defaultMultiSelfApply(elements, amounts, publicAmounts);
 	}
 
 }
@@ -225,7 +225,18 @@ public class ProductSemiGroup
 		if (elements.length != amounts.length) {
 			throw new UniCryptRuntimeException(ErrorCode.INVALID_LENGTH, this, elements, amounts);
 		}
-		return this.defaultMultiSelfApply(elements, amounts);
+		return this.defaultMultiSelfApply(elements, amounts, false);
+	}
+
+	@Override
+	public final Tuple multiSelfApplyPublic(final Element[] elements, final BigInteger[] amounts) {
+		if (elements == null || amounts == null) {
+			throw new UniCryptRuntimeException(ErrorCode.NULL_POINTER, this, elements, amounts);
+		}
+		if (elements.length != amounts.length) {
+			throw new UniCryptRuntimeException(ErrorCode.INVALID_LENGTH, this, elements, amounts);
+		}
+		return this.defaultMultiSelfApply(elements, amounts, true);
 	}
 
 	protected Tuple abstractApply(Tuple tuple1, Tuple tuple2) {
@@ -249,15 +260,27 @@ public class ProductSemiGroup
 		return this.abstractGetElement(DenseArray.getInstance(results));
 	}
 
-	protected Tuple defaultMultiSelfApply(final Element[] elements, final BigInteger[] amounts) {
+	// the product of powers is computed component-wise using the multi-exponentiation of each component
+	protected Tuple defaultMultiSelfApply(final Element[] elements, final BigInteger[] amounts,
+		   final boolean publicAmounts) {
 		if (elements.length == 0) {
 			throw new UniCryptRuntimeException(ErrorCode.INVALID_LENGTH, this, elements, amounts);
 		}
-		Element[] results = new Element[elements.length];
-		for (int i = 0; i < elements.length; i++) {
-			results[i] = this.selfApply(elements[i], amounts[i]);
+		for (Element element : elements) {
+			if (!this.contains(element)) {
+				throw new UniCryptRuntimeException(ErrorCode.INVALID_ELEMENT, this, element);
+			}
+		}
+		final Element[] results = new Element[this.getArity()];
+		for (int i : this.getAllIndices()) {
+			final Element[] components = new Element[elements.length];
+			for (int j = 0; j < elements.length; j++) {
+				components[j] = ((Tuple) elements[j]).getAt(i);
+			}
+			results[i] = publicAmounts ? this.getAt(i).multiSelfApplyPublic(components, amounts)
+				   : this.getAt(i).multiSelfApply(components, amounts);
 		}
-		return this.apply(results);
+		return this.abstractGetElement(DenseArray.getInstance(results));
 	}
 
 }
@@ -60,6 +60,7 @@ import ch.bfh.unicrypt.helper.sequence.Sequence;
 import ch.bfh.unicrypt.helper.sequence.SequenceIterator;
 import ch.bfh.unicrypt.helper.tree.Node;
 import ch.bfh.unicrypt.helper.tree.Tree;
+import ch.bfh.unicrypt.math.algebra.general.abstracts.AbstractElementArray;
 import ch.bfh.unicrypt.math.algebra.general.abstracts.AbstractSet;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Group;
@@ -179,6 +180,11 @@ public class ProductSet
 		if (value == null || value.getLength() != this.getLength()) {
 			return false;
 		}
+		// the elements of an element array are known to belong to its set
+		if (value instanceof AbstractElementArray && this.isUniform() && !this.isEmpty()
+			   && this.getFirst().equals(((AbstractElementArray) value).getSet())) {
+			return true;
+		}
 		for (int i : this.getAllIndices()) {
 			if (!this.getAt(i).contains(value.getAt(i))) {
 				return false;
@@ -507,6 +513,36 @@ public class ProductSet
 		return this.sets.iterator();
 	}
 
+	@Override
+	protected boolean defaultIsFinite() {
+		if (!this.isEmpty() && this.isUniform()) {
+			return this.getFirst().isFinite();
+		}
+		for (Set set : this.sets) {
+			if (!set.isFinite()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	protected boolean defaultHasKnownOrder() {
+		// the order of a product set with an infinite set is known to be infinite
+		if (!this.isFinite()) {
+			return true;
+		}
+		if (!this.isEmpty() && this.isUniform()) {
+			return this.getFirst().hasKnownOrder();
+		}
+		for (Set set : this.sets) {
+			if (!set.hasKnownOrder()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	@Override
 	protected BigInteger defaultGetOrderLowerBound() {
 		if (this.isUniform()) {
@@ -54,6 +54,7 @@ import ch.bfh.unicrypt.helper.converter.classes.ConvertMethod;
 import ch.bfh.unicrypt.helper.sequence.Sequence;
 import ch.bfh.unicrypt.helper.tree.Tree;
 import ch.bfh.unicrypt.math.algebra.general.abstracts.AbstractElement;
+import ch.bfh.unicrypt.math.algebra.general.abstracts.AbstractElementArray;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Set;
 import java.math.BigInteger;
@@ -311,7 +312,9 @@ public class Tuple
 			throw new UniCryptRuntimeException(ErrorCode.NULL_POINTER);
 		}
 		ProductSet productSet;
-		if (elements.isUniform() && !elements.isEmpty()) {
+		if (elements instanceof AbstractElementArray) {
+			productSet = ProductSet.getInstance(((AbstractElementArray) elements).getSet(), elements.getLength());
+		} else if (elements.isUniform() && !elements.isEmpty()) {
 			productSet = ProductSet.getInstance(elements.getFirst().getSet(), elements.getLength());
 		} else {
 			Set[] sets = new Set[elements.getLength()];
@@ -335,18 +338,40 @@ public class Tuple
 		return Tuple.getInstance(DenseArray.getInstance(element, arity));
 	}
 
-	// helper method to distinguish between pairs, triples and tuples
-	private static Tuple getInstance(ProductSet productSet, DenseArray<? extends Element> elements) {
-		if (elements.getLength() == 1) {
-			return new Singleton(productSet, elements);
-		}
-		if (elements.getLength() == 2) {
-			return new Pair(productSet, elements);
+	/**
+	 * This is a static factory method to construct a tuple of elements of a common set, which stores the values of its
+	 * elements compactly rather than as element objects (see {@link CompactElementArray}). This reduces the memory
+	 * footprint of large tuples considerably, but the elements need to be restored whenever they are accessed. If the
+	 * elements do not belong to a common set or if the common set is not supported, a regular tuple is returned.
+	 * <p>
+	 * @param elements The array of input elements
+	 * @return The corresponding tuple element
+	 */
+	public static Tuple getCompactInstance(DenseArray<? extends Element> elements) {
+		if (elements == null) {
+			throw new UniCryptRuntimeException(ErrorCode.NULL_POINTER);
 		}
-		if (elements.getLength() == 3) {
-			return new Triple(productSet, elements);
+		if (!elements.isEmpty() && !(elements instanceof AbstractElementArray)) {
+			Set set = elements.getFirst().getSet();
+			if (CompactElementArray.isSupported(set)) {
+				// null is returned if some element does not belong exactly to the common set
+				CompactElementArray compactElements
+					   = CompactElementArray.getInstance(set, (DenseArray<Element>) elements);
+				if (compactElements != null) {
+					return Tuple.getInstance(compactElements);
+				}
+			}
 		}
-		return new Tuple(productSet, elements);
+		return Tuple.getInstance(elements);
+	}
+
+	public static Tuple getCompactInstance(Element... elements) {
+		return Tuple.getCompactInstance(DenseArray.getInstance(elements));
+	}
+
+	// helper method to distinguish between pairs, triples and tuples
+	private static Tuple getInstance(ProductSet productSet, DenseArray<? extends Element> elements) {
+		return productSet.abstractGetElement((DenseArray<Element>) elements);
 	}
 
 }
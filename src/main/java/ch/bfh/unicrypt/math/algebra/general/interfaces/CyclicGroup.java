@@ -44,6 +44,8 @@ package ch.bfh.unicrypt.math.algebra.general.interfaces;
 import ch.bfh.unicrypt.helper.random.RandomByteSequence;
 import ch.bfh.unicrypt.helper.random.deterministic.DeterministicRandomByteSequence;
 import ch.bfh.unicrypt.helper.sequence.Sequence;
+import ch.bfh.unicrypt.math.algebra.general.classes.PrecomputedBase;
+import java.math.BigInteger;
 
 /**
  * This interface represents the mathematical concept a cyclic group. Every element of a cyclic group can be written as
@@ -128,4 +130,28 @@ public interface CyclicGroup<V>
 	 */
 	public boolean isGenerator(Element element);
 
+	/**
+	 * Precomputes a table of powers of the given base using a default window size. This is a convenience method for
+	 * {@link CyclicGroup#precompute(Element, int)}.
+	 * <p>
+	 * @param base The given base
+	 * @return The base together with the precomputed table
+	 */
+	public PrecomputedBase<V> precompute(Element base);
+
+	/**
+	 * Precomputes a table of powers of the given base for a given window size. The table is returned to the caller
+	 * and the cyclic group itself remains unchanged. Powers computed with the table by
+	 * {@link PrecomputedBase#selfApplyPublic(BigInteger)} are considerably faster than regular exponentiations, but
+	 * their running time depends on the exponent. The table must therefore only be used for public exponents. Larger
+	 * window sizes lead to faster computations, but the size of the table grows exponentially with the window size.
+	 * Cyclic groups, for which no benefit can be obtained from precomputed tables, return an instance computing the
+	 * powers by {@link SemiGroup#selfApply(Element, BigInteger)}.
+	 * <p>
+	 * @param base       The given base
+	 * @param windowSize The window size
+	 * @return The base together with the precomputed table
+	 */
+	public PrecomputedBase<V> precompute(Element base, int windowSize);
+
 }
@@ -229,6 +229,25 @@ public interface Element<V> {
 	 */
 	public <W> ByteArray getHashValue(ConvertMethod<W> convertMethod, HashMethod<W> hashMethod);
 
+	/**
+	 * Enables memoization for this element. Since elements are immutable, the results of
+	 * {@link Element#convertToByteArray()} and {@link Element#getHashValue(ConvertMethod, HashMethod)} can be stored
+	 * in the element and returned in subsequent calls. This is useful for elements such as generators or public keys,
+	 * which are hashed repeatedly. Hash values are stored for a small number of convert and hash methods, and byte
+	 * arrays are only stored up to a maximal length. Memoization is not inherited by the elements of a tuple.
+	 * <p>
+	 * @return The element itself
+	 */
+	public Element<V> memoize();
+
+	/**
+	 * Checks if memoization is enabled for this element.
+	 * <p>
+	 * @return {@code true} if memoization is enabled, {@code false} otherwise
+	 * @see Element#memoize()
+	 */
+	public boolean isMemoized();
+
 	/**
 	 * Checks if this element is mathematically equivalent to another element. For this, they need to belong to
 	 * equivalent sets and their values must be equal.
@@ -146,4 +146,16 @@ public interface SemiGroup<V>
 	 */
 	public Element<V> multiSelfApply(Element[] elements, BigInteger[] amounts);
 
+	/**
+	 * Computes the same result as {@link #multiSelfApply(Element[], BigInteger[])}, but the amounts are assumed to be
+	 * public. Implementations may therefore use faster algorithms, whose running time depends on the amounts. This
+	 * method is meant for verifying proofs and other computations on public values, it must not be used for secret
+	 * amounts.
+	 * <p>
+	 * @param elements The given array of elements
+	 * @param amounts  Corresponding public amounts
+	 * @return The result of this operation
+	 */
+	public Element<V> multiSelfApplyPublic(Element[] elements, BigInteger[] amounts);
+
 }
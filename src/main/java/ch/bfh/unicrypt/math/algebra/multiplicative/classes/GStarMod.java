@@ -50,12 +50,14 @@ import ch.bfh.unicrypt.helper.converter.classes.bytearray.BigIntegerToByteArray;
 import ch.bfh.unicrypt.helper.converter.classes.bytearray.StringToByteArray;
 import ch.bfh.unicrypt.helper.converter.interfaces.Converter;
 import ch.bfh.unicrypt.helper.hash.HashMethod;
+import ch.bfh.unicrypt.helper.math.FixedBaseExponentiation;
 import ch.bfh.unicrypt.helper.math.MathUtil;
 import ch.bfh.unicrypt.helper.prime.Factorization;
 import ch.bfh.unicrypt.helper.prime.SpecialFactorization;
 import ch.bfh.unicrypt.helper.random.RandomByteSequence;
 import ch.bfh.unicrypt.helper.sequence.Sequence;
 import ch.bfh.unicrypt.helper.tree.Tree;
+import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Set;
 import ch.bfh.unicrypt.math.algebra.multiplicative.abstracts.AbstractMultiplicativeCyclicGroup;
 import java.math.BigInteger;
@@ -80,6 +82,9 @@ public class GStarMod
 
 	private static final long serialVersionUID = 1L;
 
+	// below this bit length of the modulus, fixed-base precomputation does not pay off
+	private static final int MIN_PRECOMPUTATION_BITLENGTH = 1536;
+
 	protected final BigInteger modulus;
 	private final SpecialFactorization modulusFactorization;
 	private final Factorization orderFactorization;
@@ -192,6 +197,29 @@ public class GStarMod
 		return this.abstractGetElement(MathUtil.modExp(element.getValue(), posExponent, this.modulus));
 	}
 
+	@Override
+	protected GStarModElement defaultMultiSelfApplyAlgorithm(final Element[] elements, final BigInteger[] posExponents,
+		   final boolean publicExponents) {
+		// secret exponents are handled by the constant-time modular exponentiation of each base
+		if (!publicExponents) {
+			return super.defaultMultiSelfApplyAlgorithm(elements, posExponents, publicExponents);
+		}
+		final BigInteger[] values = new BigInteger[elements.length];
+		for (int i = 0; i < elements.length; i++) {
+			values[i] = ((GStarModElement) elements[i]).getValue();
+		}
+		return this.abstractGetElement(MathUtil.modMultiExp(values, posExponents, this.modulus));
+	}
+
+	@Override
+	protected FixedBaseExponentiation<BigInteger> defaultPrecompute(final GStarModElement base, final int windowSize) {
+		// for small moduli, GMP's modular exponentiation is faster than a precomputed table
+		if (this.modulus.bitLength() < GStarMod.MIN_PRECOMPUTATION_BITLENGTH) {
+			return null;
+		}
+		return MathUtil.getModExpTable(base.getValue(), this.getOrder().bitLength(), windowSize, this.modulus);
+	}
+
 	@Override
 	protected String defaultToStringContent() {
 		return this.getModulus().toString() + "," + this.getOrder().toString();
@@ -51,6 +51,7 @@ import ch.bfh.unicrypt.helper.prime.Factorization;
 import ch.bfh.unicrypt.helper.random.RandomByteSequence;
 import ch.bfh.unicrypt.helper.random.hybrid.HybridRandomByteSequence;
 import ch.bfh.unicrypt.helper.sequence.Sequence;
+import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Set;
 import ch.bfh.unicrypt.math.algebra.multiplicative.abstracts.AbstractMultiplicativeGroup;
 import java.math.BigInteger;
@@ -125,6 +126,20 @@ public class ZStarMod
 		return this.abstractGetElement(MathUtil.modExp(element.getValue(), posExponent, this.modulus));
 	}
 
+	@Override
+	protected ZStarModElement defaultMultiSelfApplyAlgorithm(final Element[] elements, final BigInteger[] posExponents,
+		   final boolean publicExponents) {
+		// secret exponents are handled by the constant-time modular exponentiation of each base
+		if (!publicExponents) {
+			return super.defaultMultiSelfApplyAlgorithm(elements, posExponents, publicExponents);
+		}
+		final BigInteger[] values = new BigInteger[elements.length];
+		for (int i = 0; i < elements.length; i++) {
+			values[i] = ((ZStarModElement) elements[i]).getValue();
+		}
+		return this.abstractGetElement(MathUtil.modMultiExp(values, posExponents, this.modulus));
+	}
+
 	@Override
 	protected BigInteger defaultGetOrderUpperBound() {
 		return this.getModulus().subtract(MathUtil.ONE);
@@ -44,11 +44,13 @@ package ch.bfh.unicrypt.math.algebra.multiplicative.classes;
 import ch.bfh.unicrypt.ErrorCode;
 import ch.bfh.unicrypt.UniCryptRuntimeException;
 import ch.bfh.unicrypt.helper.cache.Cache;
+import ch.bfh.unicrypt.helper.math.FixedBaseExponentiation;
 import ch.bfh.unicrypt.helper.prime.Prime;
 import ch.bfh.unicrypt.helper.random.RandomByteSequence;
 import ch.bfh.unicrypt.helper.random.deterministic.DeterministicRandomByteSequence;
 import ch.bfh.unicrypt.helper.random.hybrid.HybridRandomByteSequence;
 import ch.bfh.unicrypt.helper.sequence.Sequence;
+import ch.bfh.unicrypt.math.algebra.general.classes.PrecomputedBase;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
 import ch.bfh.unicrypt.math.algebra.multiplicative.interfaces.MultiplicativeCyclicGroup;
 import java.math.BigInteger;
@@ -124,6 +126,24 @@ public class ZStarModPrime
 		throw new UniCryptRuntimeException(ErrorCode.NOT_YET_IMPLEMENTED, this);
 	}
 
+	@Override
+	public final PrecomputedBase<BigInteger> precompute(Element base) {
+		return this.precompute(base, FixedBaseExponentiation.DEFAULT_WINDOW_SIZE);
+	}
+
+	@Override
+	public final PrecomputedBase<BigInteger> precompute(Element base, int windowSize) {
+		if (!this.contains(base)) {
+			throw new UniCryptRuntimeException(ErrorCode.INVALID_ELEMENT, this, base);
+		}
+		if (windowSize < FixedBaseExponentiation.MIN_WINDOW_SIZE
+			   || windowSize > FixedBaseExponentiation.MAX_WINDOW_SIZE) {
+			throw new UniCryptRuntimeException(ErrorCode.INVALID_ARGUMENT, this, windowSize);
+		}
+		// precomputed tables are not yet supported, self-applications are computed as in ZStarMod
+		return PrecomputedBase.getInstance(this, (ZStarModElement) base, exponent -> this.selfApply(base, exponent));
+	}
+
 	public static ZStarModPrime getInstance(final long modulus) {
 		return ZStarModPrime.getInstance(BigInteger.valueOf(modulus));
 	}
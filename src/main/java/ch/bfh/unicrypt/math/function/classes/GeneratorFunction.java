@@ -46,6 +46,7 @@ import ch.bfh.unicrypt.UniCryptRuntimeException;
 import ch.bfh.unicrypt.helper.random.RandomByteSequence;
 import ch.bfh.unicrypt.math.algebra.dualistic.classes.ZMod;
 import ch.bfh.unicrypt.math.algebra.dualistic.classes.ZModElement;
+import ch.bfh.unicrypt.math.algebra.general.classes.PrecomputedBase;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.CyclicGroup;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
 import ch.bfh.unicrypt.math.function.abstracts.AbstractFunction;
@@ -61,9 +62,17 @@ public class GeneratorFunction
 
 	private Element generator;
 
+	// the optional precomputed table for the generator, which is not serialized
+	private transient PrecomputedBase precomputedBase;
+
 	public GeneratorFunction(ZMod domain, CyclicGroup coDomain, Element generator) {
+		this(domain, coDomain, generator, null);
+	}
+
+	private GeneratorFunction(ZMod domain, CyclicGroup coDomain, Element generator, PrecomputedBase precomputedBase) {
 		super(domain, coDomain);
 		this.generator = generator;
+		this.precomputedBase = precomputedBase;
 	}
 
 	public Element getGenerator() {
@@ -77,6 +86,9 @@ public class GeneratorFunction
 
 	@Override
 	protected Element abstractApply(ZModElement element, RandomByteSequence randomByteSequence) {
+		if (this.precomputedBase != null) {
+			return this.precomputedBase.selfApplyPublic(element.getValue());
+		}
 		return generator.selfApply(element);
 	}
 
@@ -91,6 +103,26 @@ public class GeneratorFunction
 		return new GeneratorFunction(cyclicGroup.getZModOrder(), cyclicGroup, generator);
 	}
 
+	/**
+	 * Returns a new generator function, which computes the powers of the generator using the given precomputed table.
+	 * Since the running time of the precomputed table depends on the input, the function must only be applied to
+	 * public inputs, for example when verifying a proof or a decommitment.
+	 * <p>
+	 * @param precomputedBase The precomputed table of the generator
+	 * @return The new generator function
+	 */
+	public static GeneratorFunction getInstance(PrecomputedBase precomputedBase) {
+		if (precomputedBase == null) {
+			throw new UniCryptRuntimeException(ErrorCode.NULL_POINTER);
+		}
+		Element generator = precomputedBase.getBase();
+		if (!generator.isGenerator()) {
+			throw new UniCryptRuntimeException(ErrorCode.INVALID_ARGUMENT, generator);
+		}
+		CyclicGroup cyclicGroup = precomputedBase.getCyclicGroup();
+		return new GeneratorFunction(cyclicGroup.getZModOrder(), cyclicGroup, generator, precomputedBase);
+	}
+
 	public static GeneratorFunction getInstance(CyclicGroup cyclicGroup) {
 		if (cyclicGroup == null) {
 			throw new UniCryptRuntimeException(ErrorCode.NULL_POINTER);
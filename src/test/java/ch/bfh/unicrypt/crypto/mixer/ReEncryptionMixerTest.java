@@ -45,7 +45,9 @@ import ch.bfh.unicrypt.crypto.mixer.classes.ReEncryptionMixer;
 import ch.bfh.unicrypt.crypto.schemes.encryption.classes.ElGamalEncryptionScheme;
 import ch.bfh.unicrypt.helper.math.Permutation;
 import ch.bfh.unicrypt.helper.prime.SafePrime;
+import ch.bfh.unicrypt.helper.random.deterministic.DeterministicRandomByteSequence;
 import ch.bfh.unicrypt.math.algebra.dualistic.classes.ZMod;
+import ch.bfh.unicrypt.math.algebra.general.classes.MappedElementArray;
 import ch.bfh.unicrypt.math.algebra.general.classes.PermutationElement;
 import ch.bfh.unicrypt.math.algebra.general.classes.PermutationGroup;
 import ch.bfh.unicrypt.math.algebra.general.classes.ProductGroup;
@@ -53,7 +55,14 @@ import ch.bfh.unicrypt.math.algebra.general.classes.Tuple;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.CyclicGroup;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
 import ch.bfh.unicrypt.math.algebra.multiplicative.classes.GStarModSafePrime;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import org.junit.Test;
 
 /**
@@ -180,4 +189,79 @@ public class ReEncryptionMixerTest {
 		}
 	}
 
+	@Test
+	public void testReEncryptionMixerParallel() {
+
+		CyclicGroup G_q = GStarModSafePrime.getInstance(SafePrime.getRandomInstance(160));
+		Element g = G_q.getDefaultGenerator();
+		Element pk = g.selfApply(G_q.getZModOrder().getElement(7));
+		int size = 50;
+
+		ElGamalEncryptionScheme es = ElGamalEncryptionScheme.getInstance(g);
+		Tuple messages = ProductGroup.getInstance(G_q, size).getRandomElement();
+		Element[] ciphertexts = new Element[size];
+		for (int i = 0; i < size; i++) {
+			ciphertexts[i] = es.encrypt(pk, messages.getAt(i));
+		}
+
+		ReEncryptionMixer mixer = ReEncryptionMixer.getInstance(es, pk, size);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			Tuple shuffledCiphertexts1 = mixer.shuffle(Tuple.getInstance(ciphertexts),
+													   DeterministicRandomByteSequence.getInstance());
+			Tuple shuffledCiphertexts2 = mixer.shuffle(Tuple.getInstance(ciphertexts),
+													   DeterministicRandomByteSequence.getInstance(), executor);
+			assertEquals(shuffledCiphertexts1, shuffledCiphertexts2);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testReEncryptionMixerMapped() throws Exception {
+
+		CyclicGroup G_q = GStarModSafePrime.getInstance(SafePrime.getRandomInstance(160));
+		Element g = G_q.getDefaultGenerator();
+		Element pk = g.selfApply(G_q.getZModOrder().getElement(7));
+		// larger than a single chunk
+		int size = 5000;
+
+		ElGamalEncryptionScheme es = ElGamalEncryptionScheme.getInstance(g);
+		Tuple messages = ProductGroup.getInstance(G_q, size).getRandomElement();
+		Element[] ciphertexts = new Element[size];
+		for (int i = 0; i < size; i++) {
+			ciphertexts[i] = es.encrypt(pk, messages.getAt(i));
+		}
+
+		ReEncryptionMixer mixer = ReEncryptionMixer.getInstance(es, pk, size);
+		PermutationElement permutation = mixer.getPermutationGroup().getRandomElement();
+		Tuple randomizations = mixer.generateRandomizations();
+		Path inputPath = Files.createTempFile("input", ".bin");
+		Path outputPath = Files.createTempFile("output", ".bin");
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			MappedElementArray array = MappedElementArray.getInstance(mixer.getShuffleSpace(), inputPath,
+																	  Arrays.asList(ciphertexts));
+			Tuple mappedCiphertexts = Tuple.getInstance(array);
+			assertEquals(Tuple.getInstance(ciphertexts), mappedCiphertexts);
+			Tuple shuffledCiphertexts1 = mixer.shuffle(Tuple.getInstance(ciphertexts), permutation, randomizations);
+			Tuple shuffledCiphertexts2 = mixer.shuffle(mappedCiphertexts, permutation, randomizations, outputPath,
+													   executor);
+			assertEquals(shuffledCiphertexts1, shuffledCiphertexts2);
+			assertEquals(size * MappedElementArray.getElementLength(mixer.getShuffleSpace()), Files.size(outputPath));
+
+			// the input file must not be overwritten while it is mapped
+			try {
+				mixer.shuffle(mappedCiphertexts, permutation, randomizations, inputPath, executor);
+				fail();
+			} catch (IllegalArgumentException exception) {
+			}
+			assertEquals(Tuple.getInstance(ciphertexts), mappedCiphertexts);
+		} finally {
+			executor.shutdown();
+			Files.delete(inputPath);
+			Files.delete(outputPath);
+		}
+	}
+
 }
@@ -54,6 +54,10 @@ import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
 import ch.bfh.unicrypt.math.algebra.multiplicative.classes.GStarMod;
 import ch.bfh.unicrypt.math.algebra.multiplicative.classes.GStarModSafePrime;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import org.junit.Test;
 
@@ -129,4 +133,37 @@ public class ElGamalValidityProofSystemTest {
 		}
 	}
 
+	@Test
+	public void TestElGamalValidityProof_Batch() {
+
+		GStarMod G_q = this.G_q2;
+		ElGamalEncryptionScheme elGamalES = ElGamalEncryptionScheme.getInstance(G_q.getElement(2));
+		Subset plaintexts = Subset.getInstance(G_q, new Element[]{G_q.getElement(4), G_q.getElement(2), G_q.getElement(8), G_q.getElement(16)});
+		Element publicKey = G_q.getElement(4);
+
+		SigmaChallengeGenerator scg = ElGamalEncryptionValidityProofSystem.createNonInteractiveChallengeGenerator(elGamalES, plaintexts.getOrder().intValue(), proverId);
+		ElGamalEncryptionValidityProofSystem pg = ElGamalEncryptionValidityProofSystem.getInstance(scg, elGamalES, publicKey, plaintexts);
+
+		// Valid proofs
+		List<Element> proofs = new ArrayList<>();
+		List<Element> publicInputs = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			int index = i % 4;
+			Element secret = G_q.getZModOrder().getRandomElement();
+			Pair publicInput = elGamalES.encrypt(publicKey, plaintexts.getElements().get(index), secret);
+			proofs.add(pg.generate(pg.createPrivateInput(secret, index), publicInput));
+			publicInputs.add(publicInput);
+		}
+		assertTrue(pg.verifyBatch(proofs, publicInputs));
+		assertTrue(pg.getInvalidProofs(proofs, publicInputs).isEmpty());
+
+		// Invalid proof -> wrong index
+		Element secret = G_q.getZModOrder().getElement(3);
+		Pair publicInput = Pair.getInstance(G_q.getElement(8), G_q.getElement(128));   // (2^3, 4^3*2)
+		proofs.set(5, pg.generate(pg.createPrivateInput(secret, 2), publicInput));
+		publicInputs.set(5, publicInput);
+		assertTrue(!pg.verifyBatch(proofs, publicInputs));
+		assertEquals(Arrays.asList(5), pg.getInvalidProofs(proofs, publicInputs));
+	}
+
 }
@@ -46,6 +46,8 @@ import ch.bfh.unicrypt.crypto.proofsystem.challengegenerator.interfaces.SigmaCha
 import ch.bfh.unicrypt.crypto.proofsystem.classes.PlainPreimageProofSystem;
 import ch.bfh.unicrypt.crypto.schemes.encryption.classes.ElGamalEncryptionScheme;
 import ch.bfh.unicrypt.helper.math.Alphabet;
+import ch.bfh.unicrypt.helper.prime.Factorization;
+import ch.bfh.unicrypt.helper.prime.Prime;
 import ch.bfh.unicrypt.math.algebra.concatenative.classes.StringElement;
 import ch.bfh.unicrypt.math.algebra.concatenative.classes.StringMonoid;
 import ch.bfh.unicrypt.math.algebra.dualistic.classes.ZMod;
@@ -57,6 +59,11 @@ import ch.bfh.unicrypt.math.algebra.multiplicative.classes.GStarModSafePrime;
 import ch.bfh.unicrypt.math.function.classes.GeneratorFunction;
 import ch.bfh.unicrypt.math.function.interfaces.Function;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import org.junit.Test;
 
@@ -112,6 +119,74 @@ public class PlainPreimageProofSystemTest {
 		assertTrue(!v);
 	}
 
+	@Test
+	public void testPreimageProof_Batch() {
+
+		// Proof generator
+		GeneratorFunction f = GeneratorFunction.getInstance(this.G_q2.getElement(4));
+		SigmaChallengeGenerator scg = FiatShamirSigmaChallengeGenerator.getInstance(f, this.proverId);
+		PlainPreimageProofSystem pg = PlainPreimageProofSystem.getInstance(scg, f);
+
+		// Valid proofs
+		List<Element> proofs = new ArrayList<>();
+		List<Element> publicInputs = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			Element privateInput = this.G_q2.getZModOrder().getRandomElement();
+			Element publicInput = f.apply(privateInput);
+			proofs.add(pg.generate(privateInput, publicInput));
+			publicInputs.add(publicInput);
+		}
+		assertTrue(pg.verifyBatch(proofs, publicInputs));
+		assertTrue(pg.getInvalidProofs(proofs, publicInputs).isEmpty());
+		assertTrue(pg.verifyBatch(new ArrayList<>(), new ArrayList<>()));
+
+		// Invalid proof -> wrong private value
+		Element privateInput = this.G_q2.getZModOrder().getElement(4);
+		Element publicInput = this.G_q2.getElement(64);
+		proofs.set(7, pg.generate(privateInput, publicInput));
+		publicInputs.set(7, publicInput);
+		assertTrue(!pg.verifyBatch(proofs, publicInputs));
+		assertEquals(Arrays.asList(7), pg.getInvalidProofs(proofs, publicInputs));
+
+		// Invalid proof -> swapped public inputs
+		proofs.remove(7);
+		publicInputs.remove(7);
+		Collections.swap(publicInputs, 0, 8);
+		assertTrue(!pg.verifyBatch(proofs, publicInputs));
+		assertEquals(Arrays.asList(0, 8), pg.getInvalidProofs(proofs, publicInputs));
+	}
+
+	@Test
+	public void testPreimageProof_BatchCompositeOrder() {
+
+		// Proof generator in G_23 of order 22, i.e., 5^11 = -1 has order 2
+		GStarMod G_p = GStarMod.getInstance(Prime.getInstance(23),
+											Factorization.getInstance(BigInteger.valueOf(2), BigInteger.valueOf(11)));
+		GeneratorFunction f = GeneratorFunction.getInstance(G_p.getElement(5));
+		SigmaChallengeGenerator scg = FiatShamirSigmaChallengeGenerator.getInstance(f, this.proverId);
+		PlainPreimageProofSystem pg = PlainPreimageProofSystem.getInstance(scg, f);
+
+		List<Element> proofs = new ArrayList<>();
+		List<Element> publicInputs = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			Element privateInput = f.getDomain().getRandomElement();
+			Element publicInput = f.apply(privateInput);
+			proofs.add(pg.generate(privateInput, publicInput));
+			publicInputs.add(publicInput);
+		}
+		assertTrue(pg.verifyBatch(proofs, publicInputs));
+
+		// Invalid proof -> response shifted by 11, which multiplies f(s) by -1 and would pass a combined equation for
+		// every even random exponent
+		Triple proof = (Triple) proofs.get(2);
+		Element response = proof.getThird().apply(f.getDomain().getElement(11));
+		proofs.set(2, pg.getProofSpace().getElement(proof.getFirst(), proof.getSecond(), response));
+		for (int i = 0; i < 20; i++) {
+			assertTrue(!pg.verifyBatch(proofs, publicInputs));
+		}
+		assertEquals(Arrays.asList(2), pg.getInvalidProofs(proofs, publicInputs));
+	}
+
 	@Test
 	public void testPreimageProof2() {
 
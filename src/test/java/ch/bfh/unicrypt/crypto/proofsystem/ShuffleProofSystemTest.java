@@ -65,6 +65,8 @@ import ch.bfh.unicrypt.math.algebra.multiplicative.classes.GStarMod;
 import ch.bfh.unicrypt.math.algebra.multiplicative.classes.GStarModSafePrime;
 import ch.bfh.unicrypt.math.function.classes.PermutationFunction;
 import java.math.BigInteger;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import static org.junit.Assert.assertTrue;
 import org.junit.Test;
 
@@ -288,4 +290,59 @@ public class ShuffleProofSystemTest {
 
 	}
 
+	@Test
+	public void testProofOfShuffle_Parallel() {
+
+		final GStarMod G_q = GStarModSafePrime.getInstance(new BigInteger(P2, 10));
+		final ZMod Z_q = G_q.getZModOrder();
+		final DeterministicRandomByteSequence rbs = DeterministicRandomByteSequence.getInstance();
+
+		final int size = 20;
+		final Element encryptionPK = G_q.getElement(4);
+		final Element g = G_q.getIndependentGenerators(rbs).get(0);
+
+		PermutationElement pi = PermutationGroup.getInstance(size).getRandomElement();
+		PermutationCommitmentScheme pcs = PermutationCommitmentScheme.getInstance(G_q, size, rbs);
+		Tuple sV = pcs.getRandomizationSpace().getRandomElement();
+		Tuple cPiV = pcs.commit(pi, sV);
+
+		Tuple rV = ProductGroup.getInstance(Z_q, size).getRandomElement();
+		Tuple uV = ProductGroup.getInstance(ProductGroup.getInstance(G_q, 2), size).getRandomElement();
+		Element[] uPrimes = new Element[size];
+		for (int i = 0; i < size; i++) {
+			uPrimes[i] = uV.getAt(i).apply(Tuple.getInstance(g.selfApply(rV.getAt(i)), encryptionPK.selfApply(rV.getAt(i))));
+		}
+		Tuple uPrimeV = PermutationFunction.getInstance(ProductGroup.getInstance(G_q, 2), size).apply(Tuple.getInstance(uPrimes), pi);
+
+		PermutationCommitmentProofSystem pcpg = PermutationCommitmentProofSystem.getInstance(G_q, size);
+		ElGamalEncryptionScheme encryptionScheme = ElGamalEncryptionScheme.getInstance(g);
+		ReEncryptionShuffleProofSystem spg = ReEncryptionShuffleProofSystem.getInstance(size, encryptionScheme, encryptionPK);
+
+		Pair privateInputPermutation = Pair.getInstance(pi, sV);
+		Tuple privateInput = Tuple.getInstance(pi, sV, rV);
+		Tuple publicInput = Tuple.getInstance(cPiV, uV, uPrimeV);
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			Tuple proofPermutation1 = pcpg.generate(privateInputPermutation, cPiV, DeterministicRandomByteSequence.getInstance());
+			Tuple proofPermutation2 = pcpg.generate(privateInputPermutation, cPiV, DeterministicRandomByteSequence.getInstance(), executor);
+			assertTrue(proofPermutation1.isEquivalent(proofPermutation2));
+			assertTrue(pcpg.verify(proofPermutation1, cPiV, executor));
+			assertTrue(pcpg.verify(proofPermutation2, cPiV));
+
+			Tuple proofShuffle1 = spg.generate(privateInput, publicInput, DeterministicRandomByteSequence.getInstance());
+			Tuple proofShuffle2 = spg.generate(privateInput, publicInput, DeterministicRandomByteSequence.getInstance(), executor);
+			assertTrue(proofShuffle1.isEquivalent(proofShuffle2));
+			assertTrue(spg.verify(proofShuffle1, publicInput, executor));
+			assertTrue(spg.verify(proofShuffle2, publicInput));
+
+			// invalid proofs are rejected by the parallel verification
+			Tuple otherPrivateInput = Tuple.getInstance(pi, sV, ProductGroup.getInstance(Z_q, size).getRandomElement());
+			Tuple invalidProof = spg.generate(otherPrivateInput, publicInput, DeterministicRandomByteSequence.getInstance(), executor);
+			assertTrue(!spg.verify(invalidProof, publicInput, executor));
+		} finally {
+			executor.shutdown();
+		}
+	}
+
 }
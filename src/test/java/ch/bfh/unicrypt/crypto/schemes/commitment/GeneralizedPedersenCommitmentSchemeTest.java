@@ -46,6 +46,8 @@ import ch.bfh.unicrypt.crypto.schemes.commitment.classes.GeneralizedPedersenComm
 import ch.bfh.unicrypt.helper.array.classes.ByteArray;
 import ch.bfh.unicrypt.helper.random.RandomOracle;
 import ch.bfh.unicrypt.helper.random.deterministic.DeterministicRandomByteSequence;
+import ch.bfh.unicrypt.math.algebra.additive.classes.ECZModPrime;
+import ch.bfh.unicrypt.math.algebra.additive.parameters.ECZModPrimeParameters;
 import ch.bfh.unicrypt.math.algebra.dualistic.classes.ZMod;
 import ch.bfh.unicrypt.math.algebra.general.classes.Tuple;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
@@ -117,6 +119,24 @@ public class GeneralizedPedersenCommitmentSchemeTest {
 		assertEquals(c, cc);
 	}
 
+	@Test
+	public void testGeneralizedPedersenCommitment_Precompute() {
+		ECZModPrime ec = ECZModPrime.getInstance(ECZModPrimeParameters.SECP160r1);
+		GeneralizedPedersenCommitmentScheme gpcs1 = GeneralizedPedersenCommitmentScheme.getInstance(ec, 3);
+		GeneralizedPedersenCommitmentScheme gpcs2 = GeneralizedPedersenCommitmentScheme.getInstance(ec, 3);
+		Element messages = gpcs1.getMessageSpace().getRandomElement();
+		Element otherMessages = gpcs1.getMessageSpace().getRandomElement();
+		Element r = gpcs1.getRandomizationSpace().getRandomElement();
+		Element c = gpcs1.commit(messages, r);
+		assertTrue(gpcs2.decommit(messages, r, c).getValue());
+
+		// the precomputed tables are only used for decommitments
+		gpcs2.precompute();
+		assertEquals(c, gpcs2.commit(messages, r));
+		assertTrue(gpcs2.decommit(messages, r, c).getValue());
+		assertTrue(!gpcs2.decommit(otherMessages, r, c).getValue());
+	}
+
 	@Test(expected = UniCryptRuntimeException.class)
 	public void testGeneralizedPedersenCommitment_Exception() {
 		// Commitment size does not match with number of messages
@@ -0,0 +1,75 @@
+/*
+ * UniCrypt
+ *
+ *  UniCrypt(tm) : Cryptographical framework allowing the implementation of cryptographic protocols e.g. e-voting
+ *  Copyright (C) 2014 Bern University of Applied Sciences (BFH), Research Institute for
+ *  Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *  Quellgasse 21, CH-2501 Biel, Switzerland
+ *
+ *  Licensed under Dual License consisting of:
+ *  1. GNU Affero General Public License (AGPL) v3
+ *  and
+ *  2. Commercial license
+ *
+ *
+ *  1. This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ *  2. Licensees holding valid commercial licenses for UniCrypt may use this file in
+ *   accordance with the commercial license agreement provided with the
+ *   Software or, alternatively, in accordance with the terms contained in
+ *   a written agreement between you and Bern University of Applied Sciences (BFH), Research Institute for
+ *   Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *   Quellgasse 21, CH-2501 Biel, Switzerland.
+ *
+ *
+ *   For further information contact <e-mail: unicrypt@bfh.ch>
+ *
+ *
+ * Redistributions of files must retain the above copyright notice.
+ */
+package ch.bfh.unicrypt.crypto.schemes.commitment;
+
+import ch.bfh.unicrypt.crypto.schemes.commitment.classes.PedersenCommitmentScheme;
+import ch.bfh.unicrypt.math.algebra.additive.classes.ECZModPrime;
+import ch.bfh.unicrypt.math.algebra.additive.parameters.ECZModPrimeParameters;
+import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
+import ch.bfh.unicrypt.math.algebra.multiplicative.classes.GStarModSafePrime;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class PedersenCommitmentSchemeTest {
+
+	@Test
+	public void testPedersenCommitment_Precompute() {
+		// precomputed tables are used for elliptic curves, but not for small multiplicative groups
+		ECZModPrime ec = ECZModPrime.getInstance(ECZModPrimeParameters.SECP160r1);
+		for (PedersenCommitmentScheme pcs : new PedersenCommitmentScheme[]{PedersenCommitmentScheme.getInstance(ec),
+			PedersenCommitmentScheme.getInstance(GStarModSafePrime.getInstance(1019))}) {
+			Element message = pcs.getMessageSpace().getRandomElement();
+			Element r = pcs.getRandomizationSpace().getRandomElement();
+			Element c = pcs.commit(message, r);
+			assertTrue(pcs.decommit(message, r, c).getValue());
+
+			// the precomputed tables are only used for decommitments
+			pcs.precompute();
+			assertEquals(c, pcs.commit(message, r));
+			assertTrue(pcs.decommit(message, r, c).getValue());
+			assertTrue(!pcs.decommit(message.apply(pcs.getMessageSpace().getOneElement()), r, c).getValue());
+			assertTrue(!pcs.decommit(message, r.apply(pcs.getRandomizationSpace().getOneElement()), c).getValue());
+		}
+	}
+
+}
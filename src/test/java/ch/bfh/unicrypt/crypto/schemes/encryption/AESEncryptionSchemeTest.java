@@ -42,8 +42,20 @@
 package ch.bfh.unicrypt.crypto.schemes.encryption;
 
 import ch.bfh.unicrypt.crypto.schemes.encryption.classes.AESEncryptionScheme;
+import ch.bfh.unicrypt.UniCryptRuntimeException;
+import ch.bfh.unicrypt.crypto.schemes.encryption.classes.AESEncryptionScheme.KeyLength;
+import ch.bfh.unicrypt.crypto.schemes.encryption.classes.AESEncryptionScheme.Mode;
 import ch.bfh.unicrypt.helper.array.classes.ByteArray;
+import ch.bfh.unicrypt.helper.random.deterministic.DeterministicRandomByteSequence;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.Assert;
 import static org.junit.Assert.assertFalse;
 import org.junit.Test;
@@ -167,4 +179,94 @@ public class AESEncryptionSchemeTest {
 		assertFalse(message.equals(expectedMessage));
 	}
 
+	@Test
+	public void testCTRAndGCM() {
+		for (Mode mode : new Mode[]{Mode.CTR, Mode.GCM}) {
+			for (KeyLength keyLength : KeyLength.values()) {
+				AESEncryptionScheme aes = AESEncryptionScheme.getInstance(keyLength, mode,
+																		  AESEncryptionScheme.DEFAULT_IV);
+				Element key = aes.getSecretKeyGenerator().generateSecretKey();
+				for (int length : new int[]{0, 16, 80, 1600}) {
+					Element message = aes.getMessageSpace().getRandomElement(length);
+					Element encryption1 = aes.encrypt(key, message);
+					Element encryption2 = aes.encrypt(key, message);
+					// fresh initialization vector for each message
+					Assert.assertFalse(encryption1.equals(encryption2));
+					int expectedLength = length + (mode == Mode.GCM ? 32 : 16);
+					Assert.assertEquals(expectedLength, ((ByteArray) encryption1.getValue()).getLength());
+					Assert.assertEquals(message, aes.decrypt(key, encryption1));
+					Assert.assertEquals(message, aes.decrypt(key, encryption2));
+				}
+			}
+		}
+	}
+
+	@Test(expected = UniCryptRuntimeException.class)
+	public void testGCMTampered() {
+		AESEncryptionScheme aes = AESEncryptionScheme.getInstance(KeyLength.KEY128, Mode.GCM,
+																  AESEncryptionScheme.DEFAULT_IV);
+		Element key = aes.getSecretKeyGenerator().generateSecretKey();
+		Element message = aes.getMessageSpace().getRandomElement(160);
+		byte[] bytes = ((ByteArray) aes.encrypt(key, message).getValue()).getBytes();
+		bytes[20] ^= 1;
+		aes.decrypt(key, aes.getEncryptionSpace().getElement(ByteArray.getInstance(bytes)));
+	}
+
+	@Test
+	public void testStreams() throws IOException {
+		for (Mode mode : Mode.values()) {
+			AESEncryptionScheme aes = AESEncryptionScheme.getInstance(KeyLength.KEY256, mode,
+																	  AESEncryptionScheme.DEFAULT_IV);
+			// a second instance is needed in GCM, which refuses to reuse the same key and initialization vector
+			AESEncryptionScheme aes2 = AESEncryptionScheme.getInstance(KeyLength.KEY256, mode,
+																	   AESEncryptionScheme.DEFAULT_IV);
+			for (int length : new int[]{0, 16, 4096, 100000}) {
+				Element key = aes.getSecretKeyGenerator().generateSecretKey();
+				Element<ByteArray> message = aes.getMessageSpace().getRandomElement(length);
+				byte[] bytes = message.getValue().getBytes();
+
+				ByteArrayOutputStream encryptionStream = new ByteArrayOutputStream();
+				aes.encrypt(key, new ByteArrayInputStream(bytes), encryptionStream,
+							DeterministicRandomByteSequence.getInstance());
+				ByteArray encryption = ByteArray.getInstance(encryptionStream.toByteArray());
+				Element expected = aes2.getEncryptionFunction().apply(new Element[]{key, message},
+																	  DeterministicRandomByteSequence.getInstance());
+				Assert.assertEquals(expected.getValue(), encryption);
+
+				ByteArrayOutputStream messageStream = new ByteArrayOutputStream();
+				aes.decrypt(key, new ByteArrayInputStream(encryption.getBytes()), messageStream);
+				Assert.assertArrayEquals(bytes, messageStream.toByteArray());
+			}
+		}
+	}
+
+	@Test
+	public void testConcurrentEncryption() throws Exception {
+		for (Mode mode : Mode.values()) {
+			final AESEncryptionScheme aes = AESEncryptionScheme.getInstance(KeyLength.KEY128, mode,
+																			AESEncryptionScheme.DEFAULT_IV);
+			final Element key = aes.getSecretKeyGenerator().generateSecretKey();
+			ExecutorService executor = Executors.newFixedThreadPool(4);
+			try {
+				List<Future<Boolean>> results = new ArrayList<>();
+				for (int i = 0; i < 16; i++) {
+					results.add(executor.submit(() -> {
+						for (int j = 0; j < 50; j++) {
+							Element message = aes.getMessageSpace().getRandomElement(320);
+							if (!message.equals(aes.decrypt(key, aes.encrypt(key, message)))) {
+								return false;
+							}
+						}
+						return true;
+					}));
+				}
+				for (Future<Boolean> result : results) {
+					Assert.assertTrue(result.get());
+				}
+			} finally {
+				executor.shutdown();
+			}
+		}
+	}
+
 }
@@ -42,6 +42,8 @@
 package ch.bfh.unicrypt.crypto.schemes.encryption;
 
 import ch.bfh.unicrypt.crypto.schemes.encryption.classes.RSAEncryptionScheme;
+import ch.bfh.unicrypt.helper.prime.PrimePair;
+import ch.bfh.unicrypt.math.algebra.dualistic.classes.ZMod;
 import ch.bfh.unicrypt.math.algebra.dualistic.classes.ZModPrimePair;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
 import static org.junit.Assert.assertEquals;
@@ -65,4 +67,23 @@ public class RSAEncryptionSchemeTest {
 		assertEquals(decryption,message);
 	}
 
+	@Test
+	public void CRTDecryptionTest() {
+		ZModPrimePair zModPrimePair = ZModPrimePair.getInstance(PrimePair.getRandomInstance(256));
+		ZMod zMod = ZMod.getInstance(zModPrimePair.getModulus());
+		RSAEncryptionScheme rsa1 = RSAEncryptionScheme.getInstance(zModPrimePair);
+		RSAEncryptionScheme rsa2 = RSAEncryptionScheme.getInstance(zMod);
+		Element prKey1 = rsa1.getKeyPairGenerator().generatePrivateKey();
+		Element puKey1 = rsa1.getKeyPairGenerator().generatePublicKey(prKey1);
+		Element prKey2 = zMod.getElement(prKey1.convertToBigInteger());
+		for (int i = 0; i < 10; i++) {
+			Element message = rsa1.getMessageSpace().getRandomElement();
+			Element encryption = rsa1.encrypt(puKey1, message);
+			Element decryption1 = rsa1.decrypt(prKey1, encryption);
+			Element decryption2 = rsa2.decrypt(prKey2, zMod.getElement(encryption.convertToBigInteger()));
+			assertEquals(message, decryption1);
+			assertEquals(decryption1.convertToBigInteger(), decryption2.convertToBigInteger());
+		}
+	}
+
 }
@@ -46,6 +46,9 @@ import ch.bfh.unicrypt.helper.array.classes.ByteArray;
 import ch.bfh.unicrypt.helper.tree.Leaf;
 import ch.bfh.unicrypt.helper.tree.Node;
 import ch.bfh.unicrypt.helper.tree.Tree;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -131,4 +134,24 @@ public class ByteArrayAggregatorTest {
 		Assert.assertEquals(n8, agr.aggregate(agr.disaggregate(n8)));
 	}
 
+	@Test
+	public void ByteArrayAggregatorTestPieces() {
+
+		ByteArrayAggregator agr = ByteArrayAggregator.getInstance();
+
+		Leaf<ByteArray> b0 = Tree.getInstance(ByteArray.getInstance());
+		Leaf<ByteArray> b1 = Tree.getInstance(ByteArray.getInstance(1));
+		Leaf<ByteArray> b2 = Tree.getInstance(ByteArray.getInstance(1, 2));
+
+		Node<ByteArray> c1 = Tree.getInstance();
+		Node<ByteArray> c2 = Tree.getInstance(b0, b1, b2, b0);
+		Node<ByteArray> c3 = Tree.getInstance(c1, c2, b1, Tree.getInstance(c2, c1));
+
+		for (Tree<ByteArray> tree : Arrays.asList(b0, b2, c1, c2, c3)) {
+			List<ByteArray> pieces = new ArrayList<>();
+			agr.aggregate(tree, piece -> pieces.add(piece));
+			Assert.assertEquals(agr.aggregate(tree), ByteArray.getInstance(pieces.toArray(new ByteArray[0])));
+		}
+	}
+
 }
@@ -41,6 +41,12 @@
  */
 package ch.bfh.unicrypt.helper.cache;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -75,4 +81,63 @@ public class CacheTest {
 
 	}
 
+	@Test
+	public void counterTest() {
+
+		Cache<Integer, Integer> cache = new Cache<>(10);
+		for (int i = 0; i < 10; i++) {
+			cache.put(i, i);
+		}
+		assertEquals(0, cache.getEvictionCount());
+
+		// recently used entries survive
+		assertNotNull(cache.get(0));
+		cache.put(10, 10);
+		assertNotNull(cache.get(0));
+		assertNull(cache.get(1));
+		assertEquals(10, cache.getSize());
+		assertEquals(1, cache.getEvictionCount());
+		assertEquals(2, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+
+		for (int i = 11; i < 30; i++) {
+			cache.put(i, i);
+		}
+		assertEquals(10, cache.getSize());
+		assertEquals(20, cache.getEvictionCount());
+	}
+
+	@Test
+	public void concurrentTest() throws InterruptedException, ExecutionException {
+
+		final Cache<Integer, Integer> cache = new Cache<>(100);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Integer>> futures = new ArrayList<>();
+			for (int t = 0; t < 4; t++) {
+				final int offset = t;
+				futures.add(executor.submit(() -> {
+					int mismatches = 0;
+					for (int i = 0; i < 10000; i++) {
+						int key = (i * 7 + offset) % 500;
+						Integer value = cache.get(key);
+						if (value == null) {
+							cache.put(key, key);
+						} else if (value != key) {
+							mismatches++;
+						}
+					}
+					return mismatches;
+				}));
+			}
+			for (Future<Integer> future : futures) {
+				assertEquals((Integer) 0, future.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertEquals(100, cache.getSize());
+		assertEquals(40000, cache.getHitCount() + cache.getMissCount());
+	}
+
 }
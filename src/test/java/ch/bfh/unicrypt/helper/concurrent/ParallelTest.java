@@ -0,0 +1,122 @@
+/*
+ * UniCrypt
+ *
+ *  UniCrypt(tm): Cryptographical framework allowing the implementation of cryptographic protocols e.g. e-voting
+ *  Copyright (c) 2016 Bern University of Applied Sciences (BFH), Research Institute for
+ *  Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *  Quellgasse 21, CH-2501 Biel, Switzerland
+ *
+ *  Licensed under Dual License consisting of:
+ *  1. GNU Affero General Public License (AGPL) v3
+ *  and
+ *  2. Commercial license
+ *
+ *
+ *  1. This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ *  2. Licensees holding valid commercial licenses for UniCrypt may use this file in
+ *   accordance with the commercial license agreement provided with the
+ *   Software or, alternatively, in accordance with the terms contained in
+ *   a written agreement between you and Bern University of Applied Sciences (BFH), Research Institute for
+ *   Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *   Quellgasse 21, CH-2501 Biel, Switzerland.
+ *
+ *
+ *   For further information contact <e-mail: unicrypt@bfh.ch>
+ *
+ *
+ * Redistributions of files must retain the above copyright notice.
+ */
+package ch.bfh.unicrypt.helper.concurrent;
+
+import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
+import ch.bfh.unicrypt.math.algebra.multiplicative.classes.GStarModSafePrime;
+import java.math.BigInteger;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ *
+ * @author R. Haenni
+ */
+public class ParallelTest {
+
+	@Test
+	public void testForEach() {
+		for (int n : new int[]{0, 1, 2, 7, 1000}) {
+			final AtomicIntegerArray counts = new AtomicIntegerArray(n);
+			Parallel.forEach(n, i -> counts.incrementAndGet(i), Parallel.getDefaultExecutor());
+			for (int i = 0; i < n; i++) {
+				assertEquals(1, counts.get(i));
+			}
+		}
+	}
+
+	@Test
+	public void testParallelism() {
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		ForkJoinPool forkJoinPool = new ForkJoinPool(5);
+		try {
+			assertEquals(3, Parallel.getParallelism(executor));
+			assertEquals(5, Parallel.getParallelism(forkJoinPool));
+			final AtomicIntegerArray counts = new AtomicIntegerArray(100);
+			Parallel.forEach(100, i -> counts.incrementAndGet(i), executor, 1);
+			for (int i = 0; i < 100; i++) {
+				assertEquals(1, counts.get(i));
+			}
+		} finally {
+			executor.shutdown();
+			forkJoinPool.shutdown();
+		}
+	}
+
+	@Test
+	public void testMultiSelfApply() {
+		GStarModSafePrime group = GStarModSafePrime.getInstance(1019);
+		for (int n : new int[]{1, 2, 7, 100}) {
+			Element[] elements = new Element[n];
+			BigInteger[] amounts = new BigInteger[n];
+			for (int i = 0; i < n; i++) {
+				elements[i] = group.getDefaultGenerator().selfApply(i + 1);
+				amounts[i] = BigInteger.valueOf(3 * i + 2);
+			}
+			Element expected = group.multiSelfApply(elements, amounts);
+			for (boolean publicAmounts : new boolean[]{false, true}) {
+				assertEquals(expected, Parallel.multiSelfApply(group, elements, amounts, publicAmounts, null));
+				assertEquals(expected, Parallel.multiSelfApply(group, elements, amounts, publicAmounts,
+															   Parallel.getDefaultExecutor()));
+			}
+		}
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void testException() {
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Parallel.forEach(100, i -> {
+				if (i == 77) {
+					throw new ArithmeticException();
+				}
+			}, executor);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+}
@@ -43,7 +43,11 @@ package ch.bfh.unicrypt.helper.hash;
 
 import ch.bfh.unicrypt.helper.aggregator.classes.ByteArrayAggregator;
 import ch.bfh.unicrypt.helper.array.classes.ByteArray;
+import ch.bfh.unicrypt.helper.converter.classes.bytearray.ByteArrayToByteArray;
 import ch.bfh.unicrypt.helper.tree.Tree;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -104,4 +108,48 @@ public class ByteArrayHashMethodTest {
 
 	}
 
+	@Test
+	public void ByteArrayHashMethodTest3() {
+
+		ByteArrayAggregator aggregator = ByteArrayAggregator.getInstance();
+		ByteArrayToByteArray converter = ByteArrayToByteArray.getInstance(true);
+		HashMethod<ByteArray> hashMethod1 = HashMethod.getInstance(hashAlgorithm, converter, aggregator);
+		HashMethod<ByteArray> hashMethod2 = HashMethod.getInstance(hashAlgorithm, aggregator, converter);
+
+		for (Tree<ByteArray> tree : Arrays.asList(t1, t2, t3, t4, t5)) {
+			ByteArray b1 = aggregator.aggregate(converter.convert(tree));
+			ByteArray b2 = converter.convert(aggregator.aggregate(tree));
+			Assert.assertEquals(hashAlgorithm.getHashValue(b1), hashMethod1.getHashValue(tree));
+			Assert.assertEquals(hashAlgorithm.getHashValue(b2), hashMethod2.getHashValue(tree));
+		}
+	}
+
+	@Test
+	public void ByteArrayHashMethodTest4() {
+
+		// a large node with nested children, more than a single chunk
+		Tree<ByteArray>[] children = new Tree[5000];
+		for (int i = 0; i < children.length; i++) {
+			ByteArray bytes = ByteArray.getInstance(i % 128, i / 128);
+			children[i] = i % 3 == 0 ? Tree.getInstance(bytes) : Tree.getInstance(Tree.getInstance(bytes), t5);
+		}
+		Tree<ByteArray> t6 = Tree.getInstance(t3, Tree.getInstance(children));
+
+		HashMethod<ByteArray> hashMethod1 = HashMethod.getInstance(hashAlgorithm);
+		HashMethod<ByteArray> hashMethod2 = HashMethod.getInstance(hashAlgorithm, ByteArrayAggregator.getInstance());
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			for (Tree<ByteArray> tree : Arrays.asList(t1, t2, t3, t4, t5, t6)) {
+				for (int threshold : new int[]{1, 2, 3, HashMethod.DEFAULT_PARALLEL_THRESHOLD}) {
+					ByteArray hash1 = hashMethod1.getHashValue(tree, threshold, executor);
+					ByteArray hash2 = hashMethod2.getHashValue(tree, threshold, executor);
+					Assert.assertEquals(hashMethod1.getHashValue(tree), hash1);
+					Assert.assertEquals(hashMethod2.getHashValue(tree), hash2);
+				}
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
 }
@@ -189,4 +189,52 @@ public class HashAlgorithmTest {
 
 	}
 
+	@Test
+	public void HashAlgorithmTest_Digest() {
+		ByteArray message = ByteArray.getInstance("61|62|63|64|65|66|67".toUpperCase());
+		for (HashAlgorithm hashAlgorithm : new HashAlgorithm[]{HashAlgorithm.SHA1, HashAlgorithm.SHA256,
+			HashAlgorithm.SHA512}) {
+			ByteArray expected = message.getHashValue(hashAlgorithm);
+			HashDigest digest = hashAlgorithm.getDigest();
+			digest.update(message.extractPrefix(2)).update(message.getAt(2));
+			digest.update(message.getBytes(), 3, 2).update(message.extractSuffix(2));
+			Assert.assertEquals(expected, digest.getHashValue());
+			// the digest is reset after computing the hash value
+			Assert.assertEquals(expected, digest.update(message.getBytes()).getHashValue());
+			Assert.assertEquals(ByteArray.getInstance().getHashValue(hashAlgorithm), digest.getHashValue());
+			Assert.assertEquals(expected, digest.update(new byte[]{1, 2}).reset().update(message).getHashValue());
+		}
+	}
+
+	@Test
+	public void HashAlgorithmTest_Concurrent() throws InterruptedException {
+		final byte[][] messages = new byte[50][];
+		final byte[][] hashValues = new byte[messages.length][];
+		for (int i = 0; i < messages.length; i++) {
+			messages[i] = new byte[i * 37];
+			Arrays.fill(messages[i], (byte) i);
+			hashValues[i] = HashAlgorithm.SHA256.getHashValue(messages[i]);
+		}
+		final boolean[] failures = new boolean[4];
+		Thread[] threads = new Thread[failures.length];
+		for (int t = 0; t < threads.length; t++) {
+			final int index = t;
+			threads[t] = new Thread(() -> {
+				for (int k = 0; k < 200; k++) {
+					int i = (k * 7 + index) % messages.length;
+					if (!Arrays.equals(hashValues[i], HashAlgorithm.SHA256.getHashValue(messages[i]))) {
+						failures[index] = true;
+					}
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		for (boolean failure : failures) {
+			Assert.assertFalse(failure);
+		}
+	}
+
 }
@@ -0,0 +1,105 @@
+/*
+ * UniCrypt
+ *
+ *  UniCrypt(tm): Cryptographical framework allowing the implementation of cryptographic protocols e.g. e-voting
+ *  Copyright (c) 2016 Bern University of Applied Sciences (BFH), Research Institute for
+ *  Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *  Quellgasse 21, CH-2501 Biel, Switzerland
+ *
+ *  Licensed under Dual License consisting of:
+ *  1. GNU Affero General Public License (AGPL) v3
+ *  and
+ *  2. Commercial license
+ *
+ *
+ *  1. This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ *  2. Licensees holding valid commercial licenses for UniCrypt may use this file in
+ *   accordance with the commercial license agreement provided with the
+ *   Software or, alternatively, in accordance with the terms contained in
+ *   a written agreement between you and Bern University of Applied Sciences (BFH), Research Institute for
+ *   Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *   Quellgasse 21, CH-2501 Biel, Switzerland.
+ *
+ *
+ *   For further information contact <e-mail: unicrypt@bfh.ch>
+ *
+ *
+ * Redistributions of files must retain the above copyright notice.
+ */
+package ch.bfh.unicrypt.helper.hash;
+
+import ch.bfh.unicrypt.helper.array.classes.ByteArray;
+import ch.bfh.unicrypt.helper.math.MathUtil;
+import java.util.Arrays;
+import java.util.Random;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ *
+ * @author R. Haenni
+ */
+public class HashMacTest {
+
+	// test vector taken from RFC 4231 (test case 6, key larger than the block size)
+	@Test
+	public void HashMacTest_SHA256() {
+		ByteArray key = ByteArray.getInstance(MathUtil.getByte(0xAA), 131);
+		ByteArray data = ByteArray.getInstance("Test Using Larger Than Block-Size Key - Hash Key First".getBytes());
+		ByteArray hash = ByteArray.getInstance("60|e4|31|59|1e|e0|b6|7f|0d|8a|26|aa|cb|f5|b7|7f|8e|0b|c6|21|37|28|c5|14|05|46|04|0f|0e|e3|7f|54".toUpperCase());
+		HashMac hashMac = HashAlgorithm.SHA256.getHashMac(key);
+		Assert.assertEquals(hash, hashMac.getHashValue(data));
+		Assert.assertEquals(hash, hashMac.getHashValue(data));
+		Assert.assertArrayEquals(hash.getBytes(), hashMac.getHashValue(data.getBytes()));
+		Assert.assertEquals(hash, HashAlgorithm.SHA256.getHashValue(data, key));
+	}
+
+	@Test
+	public void HashMacTest_Compare() throws Exception {
+		Random random = new Random(0);
+		String[][] names = {{"SHA-1", "HmacSHA1"}, {"SHA-256", "HmacSHA256"}, {"SHA-512", "HmacSHA512"}};
+		for (String[] name : names) {
+			HashAlgorithm hashAlgorithm = HashAlgorithm.getInstance(name[0]);
+			for (int keyLength : new int[]{1, 20, 64, 128, 200}) {
+				byte[] key = new byte[keyLength];
+				random.nextBytes(key);
+				Mac mac = Mac.getInstance(name[1]);
+				mac.init(new SecretKeySpec(key, name[1]));
+				HashMac hashMac = hashAlgorithm.getHashMac(ByteArray.getInstance(key));
+				for (int length : new int[]{0, 1, 32, 100}) {
+					byte[] message = new byte[length];
+					random.nextBytes(message);
+					byte[] expected = mac.doFinal(message);
+					Assert.assertArrayEquals(expected, hashMac.getHashValue(message));
+
+					// part of a larger array, result written at an offset
+					byte[] buffer = new byte[length + expected.length + 10];
+					System.arraycopy(message, 0, buffer, 5, length);
+					hashMac.getHashValue(buffer, 5, length, buffer, 3);
+					Assert.assertArrayEquals(expected, Arrays.copyOfRange(buffer, 3, 3 + expected.length));
+				}
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void HashMacTest_Exception() {
+		HashAlgorithm.SHA256.getHashMac(ByteArray.getInstance()).getHashValue(new byte[10], 0, 10, new byte[40], 10);
+	}
+
+}
@@ -0,0 +1,174 @@
+/*
+ * UniCrypt
+ *
+ *  UniCrypt(tm): Cryptographical framework allowing the implementation of cryptographic protocols e.g. e-voting
+ *  Copyright (c) 2016 Bern University of Applied Sciences (BFH), Research Institute for
+ *  Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *  Quellgasse 21, CH-2501 Biel, Switzerland
+ *
+ *  Licensed under Dual License consisting of:
+ *  1. GNU Affero General Public License (AGPL) v3
+ *  and
+ *  2. Commercial license
+ *
+ *
+ *  1. This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ *  2. Licensees holding valid commercial licenses for UniCrypt may use this file in
+ *   accordance with the commercial license agreement provided with the
+ *   Software or, alternatively, in accordance with the terms contained in
+ *   a written agreement between you and Bern University of Applied Sciences (BFH), Research Institute for
+ *   Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *   Quellgasse 21, CH-2501 Biel, Switzerland.
+ *
+ *
+ *   For further information contact <e-mail: unicrypt@bfh.ch>
+ *
+ *
+ * Redistributions of files must retain the above copyright notice.
+ */
+package ch.bfh.unicrypt.helper.math;
+
+import ch.bfh.unicrypt.helper.array.classes.BitArray;
+import java.math.BigInteger;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ *
+ * @author R. Haenni
+ */
+public class BinaryFieldArithmeticTest {
+
+	// x^163+x^7+x^6+x^3+1 and x^113+x^9+1 (sparse), x^8+x^4+x^3+x+1 (dense)
+	private static final BigInteger[] MODULI = {
+		BigInteger.ZERO.setBit(163).setBit(7).setBit(6).setBit(3).setBit(0),
+		BigInteger.ZERO.setBit(8).setBit(4).setBit(3).setBit(1).setBit(0),
+		BigInteger.ZERO.setBit(113).setBit(9).setBit(0)};
+
+	@Test
+	public void testWords() {
+		Random random = new Random(1);
+		for (int length = 0; length < 200; length++) {
+			BigInteger value = new BigInteger(length, random).setBit(length);
+			BitArray coefficients = BinaryFieldArithmeticTest.getCoefficients(value);
+			long[] words = BinaryFieldArithmetic.getWords(coefficients);
+			Assert.assertEquals(value, BinaryFieldArithmeticTest.getValue(words));
+			Assert.assertEquals(coefficients, BinaryFieldArithmetic.getCoefficients(words));
+		}
+	}
+
+	@Test
+	public void testArithmetic() {
+		Random random = new Random(2);
+		for (BigInteger modulus : MODULI) {
+			BinaryFieldArithmetic arithmetic
+				   = BinaryFieldArithmetic.getInstance(BinaryFieldArithmeticTest.getCoefficients(modulus));
+			int m = modulus.bitLength() - 1;
+			Assert.assertEquals(m, arithmetic.getDegree());
+			for (int i = 0; i < 100; i++) {
+				BigInteger a = new BigInteger(m, random);
+				BigInteger b = new BigInteger(m, random);
+				long[] wa = BinaryFieldArithmeticTest.getWords(a);
+				long[] wb = BinaryFieldArithmeticTest.getWords(b);
+				Assert.assertEquals(a.xor(b), BinaryFieldArithmeticTest.getValue(arithmetic.add(wa, wb)));
+				BigInteger product = BinaryFieldArithmeticTest.mod(BinaryFieldArithmeticTest.multiply(a, b), modulus);
+				Assert.assertEquals(product, BinaryFieldArithmeticTest.getValue(arithmetic.multiply(wa, wb)));
+				BigInteger square = BinaryFieldArithmeticTest.mod(BinaryFieldArithmeticTest.multiply(a, a), modulus);
+				Assert.assertEquals(square, BinaryFieldArithmeticTest.getValue(arithmetic.square(wa)));
+				if (a.signum() != 0) {
+					long[] inverse = arithmetic.invert(wa);
+					Assert.assertEquals(BigInteger.ONE,
+										BinaryFieldArithmeticTest.getValue(arithmetic.multiply(wa, inverse)));
+				}
+				BigInteger c = new BigInteger(3 * m, random);
+				long[] wc = BinaryFieldArithmeticTest.getWords(c);
+				Assert.assertEquals(BinaryFieldArithmeticTest.mod(c, modulus),
+									BinaryFieldArithmeticTest.getValue(arithmetic.reduce(wc)));
+			}
+		}
+	}
+
+	@Test
+	public void testPolynomials() {
+		Random random = new Random(3);
+		for (int i = 0; i < 200; i++) {
+			BigInteger a = new BigInteger(random.nextInt(300), random);
+			BigInteger b = new BigInteger(random.nextInt(200), random).setBit(random.nextInt(3));
+			long[] wa = BinaryFieldArithmeticTest.getWords(a);
+			long[] wb = BinaryFieldArithmeticTest.getWords(b);
+			BigInteger product = BinaryFieldArithmeticTest.multiply(a, b);
+			Assert.assertEquals(product,
+								BinaryFieldArithmeticTest.getValue(BinaryFieldArithmetic.multiplyPolynomials(wa, wb)));
+			long[][] division = BinaryFieldArithmetic.dividePolynomials(wa, wb);
+			BigInteger q = BinaryFieldArithmeticTest.getValue(division[0]);
+			BigInteger r = BinaryFieldArithmeticTest.getValue(division[1]);
+			Assert.assertTrue(r.bitLength() < b.bitLength());
+			Assert.assertEquals(a, BinaryFieldArithmeticTest.multiply(q, b).xor(r));
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testGetInstance() {
+		BinaryFieldArithmetic.getInstance(BitArray.getInstance("0011"));
+	}
+
+	// private helper method for computing carry-less products
+	private static BigInteger multiply(BigInteger a, BigInteger b) {
+		BigInteger result = BigInteger.ZERO;
+		for (int i = 0; i < b.bitLength(); i++) {
+			if (b.testBit(i)) {
+				result = result.xor(a.shiftLeft(i));
+			}
+		}
+		return result;
+	}
+
+	// private helper method for computing carry-less remainders
+	private static BigInteger mod(BigInteger a, BigInteger modulus) {
+		while (a.bitLength() >= modulus.bitLength()) {
+			a = a.xor(modulus.shiftLeft(a.bitLength() - modulus.bitLength()));
+		}
+		return a;
+	}
+
+	private static long[] getWords(BigInteger value) {
+		long[] words = new long[value.bitLength() / Long.SIZE + 1];
+		for (int i = 0; i < words.length; i++) {
+			words[i] = value.shiftRight(Long.SIZE * i).longValue();
+		}
+		return words;
+	}
+
+	private static BigInteger getValue(long[] words) {
+		BigInteger result = BigInteger.ZERO;
+		for (int i = 0; i < Long.SIZE * words.length; i++) {
+			if ((words[i / Long.SIZE] >>> (i % Long.SIZE) & 1) != 0) {
+				result = result.setBit(i);
+			}
+		}
+		return result;
+	}
+
+	private static BitArray getCoefficients(BigInteger value) {
+		boolean[] bits = new boolean[value.bitLength()];
+		for (int i = 0; i < bits.length; i++) {
+			bits[i] = value.testBit(i);
+		}
+		return BitArray.getInstance(bits);
+	}
+
+}
@@ -0,0 +1,99 @@
+/*
+ * UniCrypt
+ *
+ *  UniCrypt(tm): Cryptographical framework allowing the implementation of cryptographic protocols e.g. e-voting
+ *  Copyright (c) 2016 Bern University of Applied Sciences (BFH), Research Institute for
+ *  Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *  Quellgasse 21, CH-2501 Biel, Switzerland
+ *
+ *  Licensed under Dual License consisting of:
+ *  1. GNU Affero General Public License (AGPL) v3
+ *  and
+ *  2. Commercial license
+ *
+ *
+ *  1. This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ *  2. Licensees holding valid commercial licenses for UniCrypt may use this file in
+ *   accordance with the commercial license agreement provided with the
+ *   Software or, alternatively, in accordance with the terms contained in
+ *   a written agreement between you and Bern University of Applied Sciences (BFH), Research Institute for
+ *   Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *   Quellgasse 21, CH-2501 Biel, Switzerland.
+ *
+ *
+ *   For further information contact <e-mail: unicrypt@bfh.ch>
+ *
+ *
+ * Redistributions of files must retain the above copyright notice.
+ */
+package ch.bfh.unicrypt.helper.math;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.function.BinaryOperator;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ *
+ * @author R. Haenni
+ */
+public class FixedBaseExponentiationTest {
+
+	private static final BigInteger MODULUS = new BigInteger("1000000007");
+	private static final BinaryOperator<BigInteger> MULTIPLY = (x, y) -> x.multiply(y).mod(MODULUS);
+
+	@Test
+	public void testCompute() {
+		Random random = new Random(0);
+		BigInteger base = BigInteger.valueOf(5);
+		for (int windowSize : new int[]{1, 2, 3, 5, 8}) {
+			for (int bitLength : new int[]{1, 7, 30, 64, 100}) {
+				FixedBaseExponentiation<BigInteger> table
+					   = FixedBaseExponentiation.getInstance(base, bitLength, windowSize, MULTIPLY);
+				Assert.assertNull(table.compute(MathUtil.ZERO));
+				Assert.assertEquals(base, table.compute(MathUtil.ONE));
+				for (int i = 0; i < 20; i++) {
+					BigInteger exponent = new BigInteger(bitLength, random);
+					BigInteger result = table.compute(exponent);
+					Assert.assertEquals(base.modPow(exponent, MODULUS), result == null ? MathUtil.ONE : result);
+				}
+				BigInteger maxExponent = MathUtil.ONE.shiftLeft(bitLength).subtract(MathUtil.ONE);
+				Assert.assertEquals(base.modPow(maxExponent, MODULUS), table.compute(maxExponent));
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testExponentTooLarge() {
+		FixedBaseExponentiation<BigInteger> table
+			   = FixedBaseExponentiation.getInstance(MathUtil.TWO, 10, 4, MULTIPLY);
+		table.compute(MathUtil.ONE.shiftLeft(10));
+	}
+
+	@Test
+	public void testModExpTable() {
+		Random random = new Random(1);
+		BigInteger modulus = BigInteger.probablePrime(512, random);
+		BigInteger base = new BigInteger(511, random);
+		FixedBaseExponentiation<BigInteger> table = MathUtil.getModExpTable(base, 512, 6, modulus);
+		for (int i = 0; i < 20; i++) {
+			BigInteger exponent = new BigInteger(512, random);
+			Assert.assertEquals(base.modPow(exponent, modulus), table.compute(exponent));
+		}
+	}
+
+}
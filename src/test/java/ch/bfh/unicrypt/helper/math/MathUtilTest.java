@@ -144,6 +144,11 @@ public class MathUtilTest {
 		Assert.assertEquals(MathUtil.factorial(2), TWO);
 		Assert.assertEquals(MathUtil.factorial(3), SIX);
 		Assert.assertEquals(MathUtil.factorial(4), BigInteger.valueOf(24));
+		BigInteger result = ONE;
+		for (int i = 1; i <= 1000; i++) {
+			result = result.multiply(BigInteger.valueOf(i));
+			Assert.assertEquals(result, MathUtil.factorial(i));
+		}
 	}
 
 	@Test
@@ -752,4 +757,21 @@ public class MathUtilTest {
 		}
 	}
 
+	@Test
+	public void testModExpCRT() {
+		BigInteger p = BigInteger.valueOf(1019);
+		BigInteger q = BigInteger.valueOf(467);
+		BigInteger n = p.multiply(q);
+		BigInteger qInv = q.modInverse(p);
+		BigInteger[] bases = {ZERO, ONE, TWO, p, q, p.multiply(TWO), q.multiply(THREE), n.subtract(ONE),
+			BigInteger.valueOf(123456)};
+		BigInteger[] exponents = {ZERO, ONE, TWO, p.subtract(ONE), q.subtract(ONE), n, BigInteger.valueOf(65537),
+			BigInteger.valueOf(1234567891)};
+		for (BigInteger b : bases) {
+			for (BigInteger e : exponents) {
+				Assert.assertEquals(b.modPow(e, n), MathUtil.modExpCRT(b, e, p, q, qInv));
+			}
+		}
+	}
+
 }
@@ -0,0 +1,108 @@
+/*
+ * UniCrypt
+ *
+ *  UniCrypt(tm): Cryptographical framework allowing the implementation of cryptographic protocols e.g. e-voting
+ *  Copyright (c) 2016 Bern University of Applied Sciences (BFH), Research Institute for
+ *  Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *  Quellgasse 21, CH-2501 Biel, Switzerland
+ *
+ *  Licensed under Dual License consisting of:
+ *  1. GNU Affero General Public License (AGPL) v3
+ *  and
+ *  2. Commercial license
+ *
+ *
+ *  1. This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ *  2. Licensees holding valid commercial licenses for UniCrypt may use this file in
+ *   accordance with the commercial license agreement provided with the
+ *   Software or, alternatively, in accordance with the terms contained in
+ *   a written agreement between you and Bern University of Applied Sciences (BFH), Research Institute for
+ *   Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *   Quellgasse 21, CH-2501 Biel, Switzerland.
+ *
+ *
+ *   For further information contact <e-mail: unicrypt@bfh.ch>
+ *
+ *
+ * Redistributions of files must retain the above copyright notice.
+ */
+package ch.bfh.unicrypt.helper.math;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ *
+ * @author R. Haenni
+ */
+public class MultiExponentiationTest {
+
+	private static final BigInteger MODULUS = new BigInteger("1000000007");
+	private static final BinaryOperator<BigInteger> MULTIPLY = (x, y) -> x.multiply(y).mod(MODULUS);
+	private static final UnaryOperator<BigInteger> SQUARE = x -> x.multiply(x).mod(MODULUS);
+
+	@Test
+	public void testEmpty() {
+		Assert.assertNull(MultiExponentiation.compute(new BigInteger[0], new BigInteger[0], MULTIPLY));
+		Assert.assertNull(MultiExponentiation.compute(new BigInteger[]{MathUtil.TWO}, new BigInteger[]{MathUtil.ZERO},
+													  MULTIPLY));
+	}
+
+	@Test
+	public void testCompute() {
+		Random random = new Random(0);
+		for (int n : new int[]{1, 2, 3, 5, 10, 50, 200}) {
+			for (int bitLength : new int[]{1, 8, 64, 200}) {
+				BigInteger[] bases = new BigInteger[n];
+				BigInteger[] exponents = new BigInteger[n];
+				BigInteger expected = MathUtil.ONE;
+				for (int i = 0; i < n; i++) {
+					bases[i] = new BigInteger(30, random).mod(MODULUS);
+					exponents[i] = (i % 7 == 3) ? MathUtil.ZERO : new BigInteger(bitLength, random);
+					expected = expected.multiply(bases[i].modPow(exponents[i], MODULUS)).mod(MODULUS);
+				}
+				BigInteger result1 = MultiExponentiation.compute(bases, exponents, MULTIPLY, SQUARE);
+				BigInteger result2 = MultiExponentiation.computeStraus(bases, exponents, MULTIPLY, SQUARE);
+				BigInteger result3 = MultiExponentiation.computePippenger(bases, exponents, MULTIPLY, SQUARE);
+				Assert.assertEquals(expected, result1 == null ? MathUtil.ONE : result1);
+				Assert.assertEquals(expected, result2 == null ? MathUtil.ONE : result2);
+				Assert.assertEquals(expected, result3 == null ? MathUtil.ONE : result3);
+			}
+		}
+	}
+
+	@Test
+	public void testModMultiExp() {
+		Random random = new Random(1);
+		BigInteger modulus = BigInteger.probablePrime(512, random);
+		for (int n : new int[]{0, 1, 3, 4, 20}) {
+			BigInteger[] bases = new BigInteger[n];
+			BigInteger[] exponents = new BigInteger[n];
+			BigInteger expected = MathUtil.ONE;
+			for (int i = 0; i < n; i++) {
+				bases[i] = new BigInteger(511, random);
+				exponents[i] = new BigInteger(511, random);
+				expected = expected.multiply(bases[i].modPow(exponents[i], modulus)).mod(modulus);
+			}
+			Assert.assertEquals(expected, MathUtil.modMultiExp(bases, exponents, modulus));
+		}
+	}
+
+}
@@ -126,4 +126,23 @@ public class PermutationTest {
 
 	}
 
+	@Test
+	public void testPower() {
+		Permutation p0 = Permutation.getInstance(0);
+		Assert.assertEquals(p0, p0.power(BigInteger.TEN));
+
+		Permutation p1 = Permutation.getInstance(new int[]{1, 3, 5, 2, 0, 4, 7, 6, 8});
+		Permutation identity = Permutation.getInstance(9);
+		Permutation p = identity;
+		for (int i = 0; i < 40; i++) {
+			Assert.assertEquals(p, p1.power(BigInteger.valueOf(i)));
+			Assert.assertEquals(p.invert(), p1.power(BigInteger.valueOf(-i)));
+			p = p1.compose(p);
+		}
+		// the cycle lengths are 6, 2, and 1
+		Assert.assertEquals(identity, p1.power(BigInteger.valueOf(6)));
+		Assert.assertEquals(identity, p1.power(BigInteger.valueOf(6).pow(100)));
+		Assert.assertEquals(p1, p1.power(BigInteger.valueOf(6).pow(100).add(BigInteger.ONE)));
+	}
+
 }
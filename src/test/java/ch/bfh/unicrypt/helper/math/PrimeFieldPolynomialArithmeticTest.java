@@ -0,0 +1,138 @@
+/*
+ * UniCrypt
+ *
+ *  UniCrypt(tm): Cryptographical framework allowing the implementation of cryptographic protocols e.g. e-voting
+ *  Copyright (c) 2016 Bern University of Applied Sciences (BFH), Research Institute for
+ *  Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *  Quellgasse 21, CH-2501 Biel, Switzerland
+ *
+ *  Licensed under Dual License consisting of:
+ *  1. GNU Affero General Public License (AGPL) v3
+ *  and
+ *  2. Commercial license
+ *
+ *
+ *  1. This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ *  2. Licensees holding valid commercial licenses for UniCrypt may use this file in
+ *   accordance with the commercial license agreement provided with the
+ *   Software or, alternatively, in accordance with the terms contained in
+ *   a written agreement between you and Bern University of Applied Sciences (BFH), Research Institute for
+ *   Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *   Quellgasse 21, CH-2501 Biel, Switzerland.
+ *
+ *
+ *   For further information contact <e-mail: unicrypt@bfh.ch>
+ *
+ *
+ * Redistributions of files must retain the above copyright notice.
+ */
+package ch.bfh.unicrypt.helper.math;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ *
+ * @author R. Haenni
+ */
+public class PrimeFieldPolynomialArithmeticTest {
+
+	// p-1 is divisible by 2^32, which allows the NTT
+	private static final BigInteger NTT_PRIME
+		   = new BigInteger("73eda753299d7d483339d80809a1d80553bda402fffe5bfeffffffff00000001", 16);
+
+	// p-1 is divisible by 2^2 only
+	private static final BigInteger OTHER_PRIME = MathUtil.powerOfTwo(255).subtract(BigInteger.valueOf(19));
+
+	@Test
+	public void testMultiply() {
+		Random random = new Random(1);
+		for (BigInteger prime : new BigInteger[]{MathUtil.SEVEN, NTT_PRIME, OTHER_PRIME}) {
+			PrimeFieldPolynomialArithmetic arithmetic = PrimeFieldPolynomialArithmetic.getInstance(prime);
+			Assert.assertEquals(prime, arithmetic.getPrime());
+			for (int n : new int[]{0, 1, 2, 31, 32, 33, 100, 513, 700}) {
+				for (int m : new int[]{1, 5, n, 2 * n + 3}) {
+					BigInteger[] a = PrimeFieldPolynomialArithmeticTest.getRandomPolynomial(n, prime, random);
+					BigInteger[] b = PrimeFieldPolynomialArithmeticTest.getRandomPolynomial(m, prime, random);
+					BigInteger[] expected = PrimeFieldPolynomialArithmeticTest.multiply(a, b, prime);
+					Assert.assertArrayEquals(expected, arithmetic.multiply(a, b));
+					Assert.assertArrayEquals(expected, arithmetic.multiply(b, a));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testGetPolynomialByRoots() {
+		Random random = new Random(2);
+		for (BigInteger prime : new BigInteger[]{MathUtil.SEVEN, NTT_PRIME, OTHER_PRIME}) {
+			PrimeFieldPolynomialArithmetic arithmetic = PrimeFieldPolynomialArithmetic.getInstance(prime);
+			BigInteger[] one = arithmetic.getPolynomialByRoots(new BigInteger[0]);
+			Assert.assertArrayEquals(new BigInteger[]{MathUtil.ONE}, one);
+			for (int n : new int[]{1, 2, 3, 50, 600}) {
+				BigInteger[] roots = PrimeFieldPolynomialArithmeticTest.getRandomPolynomial(n, prime, random);
+				BigInteger[] polynomial = arithmetic.getPolynomialByRoots(roots);
+				Assert.assertEquals(n + 1, polynomial.length);
+				Assert.assertEquals(MathUtil.ONE, polynomial[n]);
+				for (BigInteger root : Arrays.copyOf(roots, Math.min(n, 10))) {
+					BigInteger value = PrimeFieldPolynomialArithmeticTest.evaluate(polynomial, root, prime);
+					Assert.assertEquals(MathUtil.ZERO, value);
+				}
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testGetInstance() {
+		PrimeFieldPolynomialArithmetic.getInstance(MathUtil.ONE);
+	}
+
+	private static BigInteger[] getRandomPolynomial(int length, BigInteger prime, Random random) {
+		BigInteger[] result = new BigInteger[length];
+		for (int i = 0; i < length; i++) {
+			result[i] = new BigInteger(prime.bitLength() + 8, random).mod(prime);
+		}
+		return result;
+	}
+
+	// private helper method for computing products using the schoolbook method
+	private static BigInteger[] multiply(BigInteger[] a, BigInteger[] b, BigInteger prime) {
+		if (a.length == 0 || b.length == 0) {
+			return new BigInteger[0];
+		}
+		BigInteger[] result = new BigInteger[a.length + b.length - 1];
+		Arrays.fill(result, MathUtil.ZERO);
+		for (int i = 0; i < a.length; i++) {
+			for (int j = 0; j < b.length; j++) {
+				result[i + j] = result[i + j].add(a[i].multiply(b[j])).mod(prime);
+			}
+		}
+		return result;
+	}
+
+	// private helper method for evaluating polynomials using Horner's method
+	private static BigInteger evaluate(BigInteger[] polynomial, BigInteger x, BigInteger prime) {
+		BigInteger result = MathUtil.ZERO;
+		for (int i = polynomial.length - 1; i >= 0; i--) {
+			result = result.multiply(x).add(polynomial[i]).mod(prime);
+		}
+		return result;
+	}
+
+}
@@ -42,7 +42,10 @@
 package ch.bfh.unicrypt.helper.prime;
 
 import ch.bfh.unicrypt.helper.math.MathUtil;
+import ch.bfh.unicrypt.helper.random.deterministic.DeterministicRandomByteSequence;
 import java.math.BigInteger;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -194,4 +197,56 @@ public class SafePrimeTest {
 		assertEquals(107, p.getValue().intValue());
 	}
 
+	@Test
+	public void testSieve() {
+		// compare with a search without sieving, including bit lengths with more than one window of candidates
+		BigInteger increase = BigInteger.valueOf(12);
+		for (int bits = 4; bits <= 100; bits++) {
+			BigInteger candidate = MathUtil.powerOfTwo(bits - 1).add(MathUtil.ONE);
+			while (!candidate.mod(increase).equals(BigInteger.valueOf(11))) {
+				candidate = candidate.add(MathUtil.TWO);
+			}
+			while (!MathUtil.isSafePrime(candidate)) {
+				candidate = candidate.add(increase);
+			}
+			assertEquals(candidate, SafePrime.getSmallestInstance(bits).getValue());
+
+			candidate = MathUtil.powerOfTwo(bits).subtract(MathUtil.ONE);
+			while (!candidate.mod(increase).equals(BigInteger.valueOf(11))) {
+				candidate = candidate.subtract(MathUtil.TWO);
+			}
+			while (!MathUtil.isSafePrime(candidate)) {
+				candidate = candidate.subtract(increase);
+			}
+			assertEquals(candidate, SafePrime.getLargestInstance(bits).getValue());
+		}
+	}
+
+	@Test
+	public void testGetRandomInstance_random() {
+		for (int bits : new int[]{7, 8, 16, 17, 64, 100, 256}) {
+			SafePrime p1 = SafePrime.getRandomInstance(bits, DeterministicRandomByteSequence.getInstance());
+			SafePrime p2 = SafePrime.getRandomInstance(bits, DeterministicRandomByteSequence.getInstance());
+			assertEquals(p1, p2);
+			assertEquals(bits, p1.getValue().bitLength());
+			assertTrue(MathUtil.isSafePrime(p1.getValue()));
+		}
+	}
+
+	@Test
+	public void testGetRandomInstance_parallel() {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			for (int bits : new int[]{3, 4, 10, 64, 256}) {
+				for (int i = 0; i < 5; i++) {
+					SafePrime p = SafePrime.getRandomInstance(bits, executor);
+					assertEquals(bits, p.getValue().bitLength());
+					assertTrue(MathUtil.isSafePrime(p.getValue()));
+				}
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
 }
@@ -46,7 +46,12 @@ import ch.bfh.unicrypt.helper.converter.classes.bytearray.StringToByteArray;
 import ch.bfh.unicrypt.helper.converter.interfaces.Converter;
 import ch.bfh.unicrypt.helper.hash.HashAlgorithm;
 import ch.bfh.unicrypt.helper.random.password.PBKDF2;
+import ch.bfh.unicrypt.helper.random.password.PasswordRandomByteArraySequence;
 import ch.bfh.unicrypt.helper.sequence.SequenceIterator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -85,4 +90,44 @@ public class PBKD2ByteArraySequenceTest {
 		Assert.assertEquals(expected, si.next(25));
 	}
 
+	@Test
+	public void deriveKeyTest() {
+		Converter<String, ByteArray> converter = StringToByteArray.getInstance();
+		ByteArray password = converter.convert("passwordPASSWORDpassword");
+		ByteArray salt = converter.convert("saltSALTsaltSALTsaltSALTsaltSALTsalt");
+		ByteArray expected = ByteArray.getInstance("3d|2e|ec|4f|e4|1c|84|9b|80|c8|d8|36|62|c0|e4|4a|8b|29|1a|96|4c|f2|f0|70|38".toUpperCase());
+
+		PasswordRandomByteArraySequence pbkdf2 = PBKDF2.getFactory(HashAlgorithm.SHA1, 4096).getInstance(password, salt);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			Assert.assertEquals(expected, pbkdf2.deriveKey(25));
+			Assert.assertEquals(expected, pbkdf2.deriveKey(25, executor));
+			Assert.assertEquals(pbkdf2.deriveKey(100), pbkdf2.deriveKey(100, executor));
+			Assert.assertEquals(0, pbkdf2.deriveKey(0, executor).getLength());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void deriveKeysTest() {
+		PasswordRandomByteArraySequence.Factory factory = PBKDF2.getFactory(100);
+		List<ByteArray> passwords = new ArrayList<>();
+		List<ByteArray> salts = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			passwords.add(ByteArray.getInstance(i, i + 1));
+			salts.add(ByteArray.getInstance(i % 3));
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<ByteArray> keys = factory.deriveKeys(passwords, salts, 40, executor);
+			Assert.assertEquals(20, keys.size());
+			for (int i = 0; i < 20; i++) {
+				Assert.assertEquals(factory.getInstance(passwords.get(i), salts.get(i)).deriveKey(40), keys.get(i));
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
 }
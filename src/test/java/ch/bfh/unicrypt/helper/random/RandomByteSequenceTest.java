@@ -0,0 +1,101 @@
+/*
+ * UniCrypt
+ *
+ *  UniCrypt(tm): Cryptographical framework allowing the implementation of cryptographic protocols e.g. e-voting
+ *  Copyright (c) 2016 Bern University of Applied Sciences (BFH), Research Institute for
+ *  Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *  Quellgasse 21, CH-2501 Biel, Switzerland
+ *
+ *  Licensed under Dual License consisting of:
+ *  1. GNU Affero General Public License (AGPL) v3
+ *  and
+ *  2. Commercial license
+ *
+ *
+ *  1. This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ *  2. Licensees holding valid commercial licenses for UniCrypt may use this file in
+ *   accordance with the commercial license agreement provided with the
+ *   Software or, alternatively, in accordance with the terms contained in
+ *   a written agreement between you and Bern University of Applied Sciences (BFH), Research Institute for
+ *   Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *   Quellgasse 21, CH-2501 Biel, Switzerland.
+ *
+ *
+ *   For further information contact <e-mail: unicrypt@bfh.ch>
+ *
+ *
+ * Redistributions of files must retain the above copyright notice.
+ */
+package ch.bfh.unicrypt.helper.random;
+
+import ch.bfh.unicrypt.helper.array.classes.ByteArray;
+import ch.bfh.unicrypt.helper.random.deterministic.CTR_DRBG;
+import ch.bfh.unicrypt.helper.random.deterministic.DeterministicRandomByteSequence;
+import ch.bfh.unicrypt.helper.random.deterministic.OFB_DRBG;
+import ch.bfh.unicrypt.helper.random.nondeterministic.NonDeterministicRandomByteSequence;
+import java.util.Arrays;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ *
+ * @author R. Haenni
+ */
+public class RandomByteSequenceTest {
+
+	@Test
+	public void nextBytesTest() {
+		for (DeterministicRandomByteSequence rbs : new DeterministicRandomByteSequence[]{
+			DeterministicRandomByteSequence.getInstance(CTR_DRBG.getFactory()),
+			DeterministicRandomByteSequence.getInstance(OFB_DRBG.getFactory())}) {
+			ByteArray expected = rbs.iterator().next(1000);
+
+			// the bulk method returns the same bytes, independently of how the calls are split
+			RandomByteSequenceIterator iterator = rbs.iterator();
+			byte[] bytes = new byte[1010];
+			iterator.nextBytes(bytes, 5, 7);
+			iterator.nextBytes(bytes, 12, 0);
+			iterator.nextBytes(bytes, 12, 64);
+			iterator.nextBytes(bytes, 76, 929);
+			Assert.assertEquals(expected, ByteArray.getInstance(Arrays.copyOfRange(bytes, 5, 1005)));
+			Assert.assertEquals(0, bytes[0]);
+			Assert.assertEquals(0, bytes[1009]);
+
+			// mixing single bytes and bulk calls
+			iterator = rbs.iterator();
+			Assert.assertEquals(expected.getAt(0), iterator.next());
+			iterator.nextBytes(bytes, 0, 100);
+			Assert.assertEquals(expected.extract(1, 100), ByteArray.getInstance(Arrays.copyOf(bytes, 100)));
+			Assert.assertEquals(expected.getAt(101), iterator.next());
+		}
+	}
+
+	@Test
+	public void nextBytesNonDeterministicTest() {
+		NonDeterministicRandomByteSequence rbs = NonDeterministicRandomByteSequence.getInstance();
+		byte[] bytes = new byte[100];
+		rbs.nextBytes(bytes, 10, 80);
+		Assert.assertEquals(0, bytes[9]);
+		Assert.assertEquals(0, bytes[90]);
+		Assert.assertEquals(50, rbs.next(50).getLength());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nextBytesExceptionTest() {
+		DeterministicRandomByteSequence.getInstance().iterator().nextBytes(new byte[10], 5, 6);
+	}
+
+}
@@ -1,10 +1,12 @@
 package ch.bfh.unicrypt.math.algebra.additive;
 
+import ch.bfh.unicrypt.helper.math.Point;
 import ch.bfh.unicrypt.math.algebra.additive.classes.ECZModElement;
 import ch.bfh.unicrypt.math.algebra.additive.classes.ECZModPrime;
 import ch.bfh.unicrypt.math.algebra.additive.parameters.ECZModPrimeParameters;
 import ch.bfh.unicrypt.math.algebra.dualistic.classes.ZModElement;
 import ch.bfh.unicrypt.math.algebra.dualistic.classes.ZModPrime;
+import ch.bfh.unicrypt.math.algebra.general.classes.PrecomputedBase;
 import java.math.BigInteger;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -86,4 +88,66 @@ public class ECZModPrimeTest {
 
 	}
 
+	@Test
+	public void multiSelfApplyTest() throws Exception {
+		ECZModPrime ec = ECZModPrime.getInstance(ECZModPrimeParameters.SECP192r1);
+		for (int n : new int[]{1, 2, 5, 40}) {
+			ECZModElement[] elements = new ECZModElement[n];
+			BigInteger[] factors = new BigInteger[n];
+			ECZModElement expected = ec.getZeroElement();
+			for (int i = 0; i < n; i++) {
+				elements[i] = ec.getRandomElement();
+				factors[i] = ec.getZModOrder().getRandomElement().getValue().subtract(ec.getOrder().shiftRight(1));
+				expected = expected.add(elements[i].times(factors[i]));
+			}
+			assertEquals(expected, ec.multiSelfApply(elements, factors));
+		}
+		ECZModElement element = ec.getRandomElement();
+		assertEquals(ec.getZeroElement(), ec.multiSelfApply(new ECZModElement[]{element, element.negate()},
+															 new BigInteger[]{BigInteger.TEN, BigInteger.TEN}));
+	}
+
+	@Test
+	public void precomputeTest() throws Exception {
+		ECZModPrime ec = ECZModPrime.getInstance(ECZModPrimeParameters.SECP160r1);
+		ECZModElement generator = ec.getDefaultGenerator();
+		BigInteger[] factors = new BigInteger[20];
+		ECZModElement[] expected = new ECZModElement[factors.length];
+		for (int i = 0; i < factors.length; i++) {
+			factors[i] = ec.getZModOrder().getRandomElement().getValue().subtract(ec.getOrder().shiftRight(1));
+			expected[i] = generator.times(factors[i]);
+		}
+		PrecomputedBase<Point<ZModElement>> precomputedBase = ec.precompute(generator, 4);
+		for (int i = 0; i < factors.length; i++) {
+			assertEquals(expected[i], precomputedBase.selfApplyPublic(factors[i]));
+		}
+		assertEquals(ec.getZeroElement(), precomputedBase.selfApplyPublic(ec.getOrder()));
+		assertEquals(generator.negate(), precomputedBase.selfApplyPublic(BigInteger.ONE.negate()));
+		assertEquals(ec.getZeroElement(), ec.precompute(ec.getZeroElement()).selfApplyPublic(BigInteger.TEN));
+	}
+
+	@Test
+	public void jacobianTimesTest() throws Exception {
+		for (ECZModPrimeParameters parameters : new ECZModPrimeParameters[]{ECZModPrimeParameters.TEST23,
+			ECZModPrimeParameters.TEST29, ECZModPrimeParameters.SECP192k1, ECZModPrimeParameters.SECP256r1,
+			ECZModPrimeParameters.SECP521r1}) {
+			ECZModPrime ec = ECZModPrime.getInstance(parameters);
+			for (int i = 0; i < 10; i++) {
+				ECZModElement element = ec.getRandomElement();
+				BigInteger factor = ec.getZModOrder().getRandomElement().getValue();
+				// affine double-and-add as reference
+				ECZModElement expected = ec.getZeroElement();
+				for (int j = factor.bitLength() - 1; j >= 0; j--) {
+					expected = expected.add(expected);
+					if (factor.testBit(j)) {
+						expected = expected.add(element);
+					}
+				}
+				assertEquals(expected, element.times(factor));
+				assertEquals(ec.getZeroElement(), element.times(ec.getOrder()));
+				assertEquals(element.negate(), element.times(ec.getOrder().subtract(BigInteger.ONE)));
+			}
+		}
+	}
+
 }
@@ -0,0 +1,166 @@
+/*
+ * UniCrypt
+ *
+ *  UniCrypt(tm): Cryptographical framework allowing the implementation of cryptographic protocols e.g. e-voting
+ *  Copyright (c) 2016 Bern University of Applied Sciences (BFH), Research Institute for
+ *  Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *  Quellgasse 21, CH-2501 Biel, Switzerland
+ *
+ *  Licensed under Dual License consisting of:
+ *  1. GNU Affero General Public License (AGPL) v3
+ *  and
+ *  2. Commercial license
+ *
+ *
+ *  1. This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ *  2. Licensees holding valid commercial licenses for UniCrypt may use this file in
+ *   accordance with the commercial license agreement provided with the
+ *   Software or, alternatively, in accordance with the terms contained in
+ *   a written agreement between you and Bern University of Applied Sciences (BFH), Research Institute for
+ *   Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *   Quellgasse 21, CH-2501 Biel, Switzerland.
+ *
+ *
+ *   For further information contact <e-mail: unicrypt@bfh.ch>
+ *
+ *
+ * Redistributions of files must retain the above copyright notice.
+ */
+package ch.bfh.unicrypt.math.algebra.general;
+
+import ch.bfh.unicrypt.UniCryptException;
+import ch.bfh.unicrypt.helper.aggregator.classes.ByteArrayAggregator;
+import ch.bfh.unicrypt.helper.array.classes.ByteArray;
+import ch.bfh.unicrypt.helper.converter.classes.ConvertMethod;
+import ch.bfh.unicrypt.helper.converter.classes.bytearray.BigIntegerToByteArray;
+import ch.bfh.unicrypt.helper.converter.classes.bytearray.StringToByteArray;
+import ch.bfh.unicrypt.helper.random.deterministic.DeterministicRandomByteSequence;
+import ch.bfh.unicrypt.math.algebra.concatenative.classes.ByteArrayMonoid;
+import ch.bfh.unicrypt.math.algebra.concatenative.classes.StringMonoid;
+import ch.bfh.unicrypt.math.algebra.dualistic.classes.ZMod;
+import ch.bfh.unicrypt.math.algebra.general.classes.ElementInputStream;
+import ch.bfh.unicrypt.math.algebra.general.classes.ElementOutputStream;
+import ch.bfh.unicrypt.math.algebra.general.classes.ProductGroup;
+import ch.bfh.unicrypt.math.algebra.general.classes.ProductSet;
+import ch.bfh.unicrypt.math.algebra.general.classes.Tuple;
+import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
+import ch.bfh.unicrypt.math.algebra.multiplicative.classes.GStarModSafePrime;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ *
+ * @author R. Haenni
+ */
+public class ElementStreamTest {
+
+	private static final GStarModSafePrime G_Q = GStarModSafePrime.getInstance(1019);
+
+	@Test
+	public void testWriteElement() throws Exception {
+		ProductGroup pairs = ProductGroup.getInstance(G_Q, 2);
+		ProductSet productSet = ProductSet.getInstance(ZMod.getInstance(7), StringMonoid.getInstance(), pairs);
+		Tuple tuple = productSet.getElement(ZMod.getInstance(7).getElement(3), StringMonoid.getInstance()
+			   .getElement("UniCrypt"), pairs.getRandomElement(DeterministicRandomByteSequence.getInstance()));
+		Tuple largeTuple = Tuple.getInstance(pairs.getRandomElements(DeterministicRandomByteSequence.getInstance())
+			   .limit(100));
+		ConvertMethod<ByteArray> convertMethod = ConvertMethod.getInstance(
+			   BigIntegerToByteArray.getInstance(ByteOrder.LITTLE_ENDIAN),
+			   StringToByteArray.getInstance(StandardCharsets.UTF_16));
+		for (Element element : new Element[]{G_Q.getDefaultGenerator(), tuple, largeTuple, Tuple.getInstance()}) {
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+			ElementOutputStream.getInstance(outputStream).writeElement(element);
+			Assert.assertEquals(element.convertTo(ConvertMethod.getInstance(), ByteArrayAggregator.getInstance()),
+								ByteArray.getInstance(outputStream.toByteArray()));
+
+			outputStream = new ByteArrayOutputStream();
+			ElementOutputStream.getInstance(outputStream, convertMethod).writeElement(element);
+			Assert.assertEquals(element.convertTo(convertMethod, ByteArrayAggregator.getInstance()),
+								ByteArray.getInstance(outputStream.toByteArray()));
+
+			ElementInputStream inputStream = ElementInputStream.getInstance(
+				   new ByteArrayInputStream(outputStream.toByteArray()), convertMethod);
+			Assert.assertEquals(element, inputStream.readElement(element.getSet()));
+			Assert.assertEquals(-1, inputStream.read());
+		}
+	}
+
+	@Test
+	public void testReadLazily() throws Exception {
+		ProductGroup pairs = ProductGroup.getInstance(G_Q, 2);
+		Tuple largeTuple = Tuple.getInstance(pairs.getRandomElements(DeterministicRandomByteSequence.getInstance())
+			   .limit(100));
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		ElementOutputStream elementOutputStream = ElementOutputStream.getInstance(outputStream);
+		elementOutputStream.writeElement(largeTuple);
+		elementOutputStream.writeElements(largeTuple);
+		elementOutputStream.close();
+
+		ElementInputStream inputStream = ElementInputStream.getInstance(
+			   new ByteArrayInputStream(outputStream.toByteArray()));
+		int i = 0;
+		for (Element element : inputStream.readComponents(largeTuple.getSet())) {
+			Assert.assertEquals(largeTuple.getAt(i++), element);
+		}
+		Assert.assertEquals(100, i);
+		i = 0;
+		for (Element element : inputStream.readElements(pairs)) {
+			Assert.assertEquals(largeTuple.getAt(i++), element);
+		}
+		Assert.assertEquals(100, i);
+	}
+
+	@Test(expected = UniCryptException.class)
+	public void testReadInvalidElement() throws Exception {
+		ByteArray byteArray = Tuple.getInstance(G_Q.getDefaultGenerator(), G_Q.getDefaultGenerator())
+			   .convertToByteArray();
+		ElementInputStream.getInstance(new ByteArrayInputStream(byteArray.getBytes())).readElement(G_Q);
+	}
+
+	@Test(expected = IOException.class)
+	public void testReadIncompleteElement() throws Exception {
+		ByteArray byteArray = Tuple.getInstance(G_Q.getDefaultGenerator(), G_Q.getDefaultGenerator())
+			   .convertToByteArray();
+		ElementInputStream.getInstance(new ByteArrayInputStream(byteArray.removeSuffix(1).getBytes()))
+			   .readElement(ProductGroup.getInstance(G_Q, 2));
+	}
+
+	@Test
+	public void testReadLargeElement() throws Exception {
+		byte[] bytes = new byte[200000];
+		Arrays.fill(bytes, (byte) 0x55);
+		Element element = ByteArrayMonoid.getInstance().getElement(ByteArray.getInstance(bytes));
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		ElementOutputStream.getInstance(outputStream).writeElement(element);
+		ElementInputStream inputStream = ElementInputStream.getInstance(
+			   new ByteArrayInputStream(outputStream.toByteArray()));
+		Assert.assertEquals(element, inputStream.readElement(ByteArrayMonoid.getInstance()));
+	}
+
+	@Test(expected = IOException.class)
+	public void testReadForgedLength() throws Exception {
+		// a leaf prefix announcing 2^31-1 bytes must not allocate them in advance
+		byte[] bytes = new byte[]{0x00, 0x7F, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x01, 0x02};
+		ElementInputStream.getInstance(new ByteArrayInputStream(bytes)).readElement(StringMonoid.getInstance());
+	}
+
+}
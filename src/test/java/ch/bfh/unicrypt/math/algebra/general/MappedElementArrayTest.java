@@ -0,0 +1,132 @@
+/*
+ * UniCrypt
+ *
+ *  UniCrypt(tm): Cryptographical framework allowing the implementation of cryptographic protocols e.g. e-voting
+ *  Copyright (c) 2016 Bern University of Applied Sciences (BFH), Research Institute for
+ *  Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *  Quellgasse 21, CH-2501 Biel, Switzerland
+ *
+ *  Licensed under Dual License consisting of:
+ *  1. GNU Affero General Public License (AGPL) v3
+ *  and
+ *  2. Commercial license
+ *
+ *
+ *  1. This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ *  2. Licensees holding valid commercial licenses for UniCrypt may use this file in
+ *   accordance with the commercial license agreement provided with the
+ *   Software or, alternatively, in accordance with the terms contained in
+ *   a written agreement between you and Bern University of Applied Sciences (BFH), Research Institute for
+ *   Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *   Quellgasse 21, CH-2501 Biel, Switzerland.
+ *
+ *
+ *   For further information contact <e-mail: unicrypt@bfh.ch>
+ *
+ *
+ * Redistributions of files must retain the above copyright notice.
+ */
+package ch.bfh.unicrypt.math.algebra.general;
+
+import ch.bfh.unicrypt.UniCryptRuntimeException;
+import ch.bfh.unicrypt.helper.random.deterministic.DeterministicRandomByteSequence;
+import ch.bfh.unicrypt.math.algebra.additive.classes.ECZModPrime;
+import ch.bfh.unicrypt.math.algebra.additive.parameters.ECZModPrimeParameters;
+import ch.bfh.unicrypt.math.algebra.concatenative.classes.StringMonoid;
+import ch.bfh.unicrypt.math.algebra.dualistic.classes.ZMod;
+import ch.bfh.unicrypt.math.algebra.general.classes.MappedElementArray;
+import ch.bfh.unicrypt.math.algebra.general.classes.ProductGroup;
+import ch.bfh.unicrypt.math.algebra.general.classes.ProductSet;
+import ch.bfh.unicrypt.math.algebra.general.classes.Tuple;
+import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
+import ch.bfh.unicrypt.math.algebra.general.interfaces.Set;
+import ch.bfh.unicrypt.math.algebra.multiplicative.classes.GStarModSafePrime;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ *
+ * @author R. Haenni
+ */
+public class MappedElementArrayTest {
+
+	@Test
+	public void testGetInstance() throws Exception {
+		ECZModPrime ec = ECZModPrime.getInstance(ECZModPrimeParameters.SECP160r1);
+		ProductGroup pairs = ProductGroup.getInstance(GStarModSafePrime.getInstance(1019), 2);
+		ProductSet productSet = ProductSet.getInstance(ZMod.getInstance(256), ec);
+		for (Set set : new Set[]{ZMod.getInstance(1), pairs, productSet}) {
+			List<Element> elements = new ArrayList<>();
+			for (Object element : set.getRandomElements(DeterministicRandomByteSequence.getInstance()).limit(100)) {
+				elements.add((Element) element);
+			}
+			if (set == productSet) {
+				elements.add(productSet.getElement(ZMod.getInstance(256).getElement(255), ec.getZeroElement()));
+			}
+			Path path = Files.createTempFile("elements", ".bin");
+			try {
+				MappedElementArray array = MappedElementArray.getInstance(set, path, elements);
+				Assert.assertEquals(elements.size(), array.getLength());
+				Assert.assertEquals(elements.size() * MappedElementArray.getElementLength(set), Files.size(path));
+				for (int i = 0; i < elements.size(); i++) {
+					Assert.assertEquals(elements.get(i), array.getAt(i));
+				}
+				Tuple tuple = Tuple.getInstance(array);
+				Assert.assertEquals(Tuple.getInstance(elements.toArray(new Element[0])), tuple);
+				Assert.assertEquals(elements.get(elements.size() - 3), tuple.reverse().extract(1, 5).getAt(1));
+				Assert.assertEquals(tuple, Tuple.getInstance(MappedElementArray.getInstance(set, path)));
+			} finally {
+				Files.delete(path);
+			}
+		}
+	}
+
+	@Test(expected = UniCryptRuntimeException.class)
+	public void testGetInstanceInvalidValue() throws Exception {
+		// 4 is a quadratic residue modulo 1019, but 2 is not
+		MappedElementArrayTest.getInstance(GStarModSafePrime.getInstance(1019), new byte[]{0, 4, 0, 2});
+	}
+
+	@Test(expected = UniCryptRuntimeException.class)
+	public void testGetInstanceInvalidPoint() throws Exception {
+		// the point (0,0) is not on the curve
+		ECZModPrime ec = ECZModPrime.getInstance(ECZModPrimeParameters.SECP160r1);
+		byte[] bytes = new byte[MappedElementArray.getElementLength(ec)];
+		bytes[0] = 1;
+		MappedElementArrayTest.getInstance(ec, bytes);
+	}
+
+	private static MappedElementArray getInstance(Set set, byte[] bytes) throws Exception {
+		Path path = Files.createTempFile("elements", ".bin");
+		try {
+			Files.write(path, bytes);
+			return MappedElementArray.getInstance(set, path);
+		} finally {
+			Files.delete(path);
+		}
+	}
+
+	@Test(expected = UniCryptRuntimeException.class)
+	public void testUnsupportedSet() throws Exception {
+		Assert.assertFalse(MappedElementArray.isSupported(StringMonoid.getInstance()));
+		MappedElementArray.getElementLength(StringMonoid.getInstance());
+	}
+
+}
@@ -0,0 +1,170 @@
+/*
+ * UniCrypt
+ *
+ *  UniCrypt(tm): Cryptographical framework allowing the implementation of cryptographic protocols e.g. e-voting
+ *  Copyright (c) 2016 Bern University of Applied Sciences (BFH), Research Institute for
+ *  Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *  Quellgasse 21, CH-2501 Biel, Switzerland
+ *
+ *  Licensed under Dual License consisting of:
+ *  1. GNU Affero General Public License (AGPL) v3
+ *  and
+ *  2. Commercial license
+ *
+ *
+ *  1. This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ *  2. Licensees holding valid commercial licenses for UniCrypt may use this file in
+ *   accordance with the commercial license agreement provided with the
+ *   Software or, alternatively, in accordance with the terms contained in
+ *   a written agreement between you and Bern University of Applied Sciences (BFH), Research Institute for
+ *   Security in the Information Society (RISIS), E-Voting Group (EVG)
+ *   Quellgasse 21, CH-2501 Biel, Switzerland.
+ *
+ *
+ *   For further information contact <e-mail: unicrypt@bfh.ch>
+ *
+ *
+ * Redistributions of files must retain the above copyright notice.
+ */
+package ch.bfh.unicrypt.math.algebra.general;
+
+import ch.bfh.unicrypt.helper.math.MathUtil;
+import ch.bfh.unicrypt.helper.math.Permutation;
+import ch.bfh.unicrypt.helper.random.RandomByteSequence;
+import ch.bfh.unicrypt.helper.random.RandomByteSequenceIterator;
+import ch.bfh.unicrypt.helper.random.deterministic.DeterministicRandomByteSequence;
+import ch.bfh.unicrypt.math.algebra.dualistic.classes.ZMod;
+import ch.bfh.unicrypt.math.algebra.general.classes.PermutationElement;
+import ch.bfh.unicrypt.math.algebra.general.classes.PermutationGroup;
+import ch.bfh.unicrypt.math.algebra.general.classes.ProductGroup;
+import ch.bfh.unicrypt.math.algebra.general.classes.Tuple;
+import java.math.BigInteger;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ *
+ * @author R. Haenni
+ */
+public class PermutationGroupTest {
+
+	@Test
+	public void orderTest() {
+		PermutationGroup group = PermutationGroup.getInstance(5);
+		Assert.assertTrue(group.isFinite());
+		Assert.assertTrue(group.hasKnownOrder());
+		Assert.assertEquals(BigInteger.valueOf(120), group.getOrder());
+
+		// no factorial computation is required for these calls
+		PermutationGroup largeGroup = PermutationGroup.getInstance(1000000);
+		ProductGroup productGroup = ProductGroup.getInstance(largeGroup, ZMod.getInstance(7));
+		Assert.assertTrue(largeGroup.isFinite());
+		Assert.assertTrue(largeGroup.hasKnownOrder());
+		Assert.assertTrue(productGroup.isFinite());
+		Assert.assertTrue(productGroup.hasKnownOrder());
+		int[] vector = new int[largeGroup.getSize()];
+		for (int i = 0; i < vector.length; i++) {
+			vector[i] = (i + 1) % vector.length;
+		}
+		PermutationElement element = largeGroup.getElement(Permutation.getInstance(vector));
+		Assert.assertEquals(largeGroup.getIdentityElement(), element.selfApply(MathUtil.ZERO));
+		Assert.assertEquals(element, element.selfApply(MathUtil.ONE));
+		Assert.assertEquals(element.invert(), element.selfApply(MathUtil.ONE.negate()));
+	}
+
+	@Test
+	public void selfApplyTest() {
+		PermutationGroup group = PermutationGroup.getInstance(6);
+		for (PermutationElement element : group.getElements()) {
+			PermutationElement power = group.getIdentityElement();
+			for (int i = 0; i < 15; i++) {
+				Assert.assertEquals(power, element.selfApply(i));
+				Assert.assertEquals(power.invert(), element.selfApply(-i));
+				power = power.apply(element);
+			}
+			Assert.assertEquals(group.getIdentityElement(), element.selfApply(group.getOrder()));
+		}
+	}
+
+	@Test
+	public void multiSelfApplyTest() {
+		PermutationGroup group = PermutationGroup.getInstance(6);
+		PermutationElement[] elements = new PermutationElement[4];
+		int index = 0;
+		for (PermutationElement element : group.getRandomElements(DeterministicRandomByteSequence.getInstance())
+			   .limit(elements.length)) {
+			elements[index++] = element;
+		}
+		BigInteger[] amounts = {BigInteger.valueOf(7), MathUtil.ZERO, BigInteger.valueOf(-3),
+			group.getOrder().add(MathUtil.TWO)};
+		PermutationElement product = group.getIdentityElement();
+		for (int i = 0; i < elements.length; i++) {
+			product = product.apply(elements[i].selfApply(amounts[i]));
+		}
+		Assert.assertEquals(product, group.multiSelfApply(elements, amounts));
+		Assert.assertEquals(product, group.multiSelfApplyPublic(elements, amounts));
+	}
+
+	@Test(timeout = 1000)
+	public void largeMultiSelfApplyTest() {
+		// no factorial computation is required for reducing the amounts
+		PermutationGroup group = PermutationGroup.getInstance(200001);
+		int[] vector = new int[group.getSize()];
+		for (int i = 0; i < vector.length; i++) {
+			vector[i] = (i + 1) % vector.length;
+		}
+		PermutationElement element = group.getElement(Permutation.getInstance(vector));
+		PermutationElement[] elements = {element, element};
+		BigInteger[] amounts = {BigInteger.valueOf(5), BigInteger.valueOf(-5)};
+		Assert.assertEquals(group.getIdentityElement(), group.multiSelfApply(elements, amounts));
+		Assert.assertEquals(group.getIdentityElement(), group.multiSelfApplyPublic(elements, amounts));
+
+		ZMod zMod = ZMod.getInstance(7);
+		ProductGroup productGroup = ProductGroup.getInstance(group, zMod);
+		Tuple tuple = productGroup.getElement(element, zMod.getElement(3));
+		Tuple[] tuples = {tuple, tuple};
+		BigInteger[] positiveAmounts = {BigInteger.valueOf(2), BigInteger.valueOf(3)};
+		Tuple expected = productGroup.getElement(element.selfApply(5), zMod.getElement(1));
+		Assert.assertEquals(expected, productGroup.multiSelfApply(tuples, positiveAmounts));
+		Assert.assertEquals(expected, productGroup.multiSelfApplyPublic(tuples, positiveAmounts));
+	}
+
+	@Test
+	public void randomElementTest() {
+		// the random permutation must be the same as the one obtained from drawing the indices one by one
+		for (int size : new int[]{0, 1, 2, 10, 300, 5000}) {
+			PermutationGroup group = PermutationGroup.getInstance(size);
+			final RandomByteSequenceIterator iterator = DeterministicRandomByteSequence.getInstance().iterator();
+			RandomByteSequence randomByteSequence = new RandomByteSequence() {
+
+				@Override
+				public RandomByteSequenceIterator iterator() {
+					return iterator;
+				}
+
+			};
+			int[] vector = new int[size];
+			for (int i = 0; i < size; i++) {
+				int randomIndex = randomByteSequence.getRandomIntegerSequence(i).get();
+				vector[i] = vector[randomIndex];
+				vector[randomIndex] = i;
+			}
+			Assert.assertEquals(group.getElement(Permutation.getInstance(vector)),
+							  group.getRandomElement(DeterministicRandomByteSequence.getInstance()));
+		}
+	}
+
+}
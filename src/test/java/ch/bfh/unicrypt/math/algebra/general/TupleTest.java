@@ -41,9 +41,20 @@
  */
 package ch.bfh.unicrypt.math.algebra.general;
 
+import ch.bfh.unicrypt.helper.aggregator.classes.ByteArrayAggregator;
+import ch.bfh.unicrypt.helper.array.classes.ByteArray;
+import ch.bfh.unicrypt.helper.converter.classes.ConvertMethod;
+import ch.bfh.unicrypt.helper.hash.HashAlgorithm;
+import ch.bfh.unicrypt.helper.hash.HashMethod;
+import ch.bfh.unicrypt.helper.random.deterministic.DeterministicRandomByteSequence;
+import ch.bfh.unicrypt.math.algebra.dualistic.classes.Z;
 import ch.bfh.unicrypt.math.algebra.dualistic.classes.ZMod;
+import ch.bfh.unicrypt.math.algebra.general.abstracts.AbstractElementArray;
+import ch.bfh.unicrypt.math.algebra.general.classes.ProductGroup;
 import ch.bfh.unicrypt.math.algebra.general.classes.Tuple;
 import ch.bfh.unicrypt.math.algebra.general.interfaces.Element;
+import ch.bfh.unicrypt.math.algebra.multiplicative.classes.GStarModSafePrime;
+import java.math.BigInteger;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -66,4 +77,81 @@ public class TupleTest {
 		}
 	}
 
+	@Test
+	public void largeTupleTest() throws Exception {
+		// compact tuples are only created on request
+		GStarModSafePrime group = GStarModSafePrime.getInstance(1019);
+		ProductGroup pairs = ProductGroup.getInstance(group, 2);
+		int n = 200;
+		Tuple[] elements = new Tuple[n];
+		int index = 0;
+		for (Tuple pair : pairs.getRandomElements(DeterministicRandomByteSequence.getInstance()).limit(n)) {
+			elements[index++] = pair;
+		}
+		Assert.assertFalse(Tuple.getInstance(elements).getValue() instanceof AbstractElementArray);
+		Tuple tuple = Tuple.getCompactInstance(elements);
+		Assert.assertTrue(tuple.getValue() instanceof AbstractElementArray);
+		Assert.assertEquals(Tuple.getInstance(elements), tuple);
+		ProductGroup productGroup = ProductGroup.getInstance(pairs, n);
+		Assert.assertEquals(productGroup, tuple.getSet());
+		Assert.assertTrue(productGroup.contains(tuple));
+		Assert.assertEquals(tuple, productGroup.getElement(elements));
+		for (int i = 0; i < n; i++) {
+			Assert.assertEquals(elements[i], tuple.getAt(i));
+			Assert.assertEquals(elements[i].getAt(1), tuple.getAt(i, 1));
+		}
+		Assert.assertEquals(Tuple.getInstance(elements[10], elements[11], elements[12]), tuple.extract(10, 3));
+		Assert.assertEquals(elements[n - 1], tuple.reverse().getFirst());
+		Assert.assertEquals(elements[9], tuple.reverse().extractSuffix(20).reverse().getAt(9));
+		Assert.assertEquals(elements[n - 10], tuple.reverse().extractPrefix(20).getAt(9));
+		Assert.assertEquals(elements[5], tuple.removeAt(3).getAt(4));
+		Assert.assertEquals(tuple, productGroup.getElementFrom(tuple.convertToBigInteger()));
+		Assert.assertEquals(tuple, productGroup.getElementFrom(tuple.convertToByteArray()));
+		Tuple square = tuple.apply(tuple);
+		for (int i = 0; i < n; i++) {
+			Assert.assertEquals(elements[i].apply(elements[i]), square.getAt(i));
+		}
+		Assert.assertEquals(productGroup.getIdentityElement(), tuple.apply(tuple.invert()));
+
+		// negative values
+		Z z = Z.getInstance();
+		Element[] integers = new Element[n];
+		for (int i = 0; i < n; i++) {
+			integers[i] = z.getElement(BigInteger.valueOf(i - n / 2).shiftLeft(i));
+		}
+		Tuple integerTuple = Tuple.getCompactInstance(integers);
+		Assert.assertTrue(integerTuple.getValue() instanceof AbstractElementArray);
+		for (int i = 0; i < n; i++) {
+			Assert.assertEquals(integers[i], integerTuple.getAt(i));
+		}
+	}
+
+	@Test
+	public void memoizeTest() {
+		GStarModSafePrime group = GStarModSafePrime.getInstance(1019);
+		ProductGroup productGroup = ProductGroup.getInstance(group, 2);
+		Tuple tuple1 = productGroup.getRandomElement(DeterministicRandomByteSequence.getInstance());
+		Tuple tuple2 = productGroup.getElement(tuple1.getAt(0), tuple1.getAt(1));
+		ConvertMethod<ByteArray> convertMethod = ConvertMethod.getInstance();
+		HashMethod<ByteArray> hashMethod1 = HashMethod.getInstance(HashAlgorithm.SHA512);
+		HashMethod<ByteArray> hashMethod2 = HashMethod.getInstance(ByteArrayAggregator.getInstance());
+
+		Assert.assertFalse(tuple1.isMemoized());
+		Assert.assertSame(tuple1, tuple1.memoize());
+		Assert.assertTrue(tuple1.isMemoized());
+		Assert.assertFalse(tuple1.getAt(0).isMemoized());
+		for (int i = 0; i < 2; i++) {
+			Assert.assertEquals(tuple2.convertToByteArray(), tuple1.convertToByteArray());
+			Assert.assertEquals(tuple2.getHashValue(), tuple1.getHashValue());
+			Assert.assertEquals(tuple2.getHashValue(convertMethod, hashMethod1),
+								tuple1.getHashValue(convertMethod, hashMethod1));
+			Assert.assertEquals(tuple2.getHashValue(convertMethod, hashMethod2),
+								tuple1.getHashValue(convertMethod, hashMethod2));
+		}
+		Assert.assertSame(tuple1.convertToByteArray(), tuple1.convertToByteArray());
+		Assert.assertSame(tuple1.getHashValue(), tuple1.getHashValue());
+		Assert.assertNotEquals(tuple1.getHashValue(), tuple1.getHashValue(convertMethod, hashMethod1));
+		Assert.assertEquals(tuple2, tuple1);
+	}
+
 }
@@ -42,9 +42,12 @@
 package ch.bfh.unicrypt.math.algebra.multiplicative;
 
 import ch.bfh.unicrypt.helper.prime.Prime;
+import ch.bfh.unicrypt.helper.prime.SafePrime;
 import ch.bfh.unicrypt.helper.sequence.Sequence;
 import ch.bfh.unicrypt.math.algebra.multiplicative.classes.GStarMod;
 import ch.bfh.unicrypt.math.algebra.multiplicative.classes.GStarModElement;
+import ch.bfh.unicrypt.math.algebra.multiplicative.classes.GStarModSafePrime;
+import java.math.BigInteger;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -63,4 +66,24 @@ public class GStarModTest {
 		});
 	}
 
+	@Test
+	public void testMultiSelfApply() {
+		GStarMod group = GStarModSafePrime.getInstance(SafePrime.getRandomInstance(256));
+		for (int n : new int[]{1, 3, 10, 100}) {
+			GStarModElement[] elements = new GStarModElement[n];
+			BigInteger[] amounts = new BigInteger[n];
+			GStarModElement expected = group.getIdentityElement();
+			for (int i = 0; i < n; i++) {
+				elements[i] = group.getRandomElement();
+				amounts[i] = BigInteger.valueOf(i - n / 2).multiply(group.getZModOrder().getRandomElement().getValue());
+				expected = expected.apply(elements[i].selfApply(amounts[i]));
+			}
+			Assert.assertEquals(expected, group.multiSelfApply(elements, amounts));
+			Assert.assertEquals(expected, group.multiSelfApplyPublic(elements, amounts));
+		}
+		Assert.assertEquals(group.getIdentityElement(), group.multiSelfApply(new GStarModElement[0], new BigInteger[0]));
+		Assert.assertEquals(group.getIdentityElement(),
+							group.multiSelfApplyPublic(new GStarModElement[0], new BigInteger[0]));
+	}
+
 }